@@ -2,17 +2,61 @@ package com.orderSystem.config;
 
 import com.orderSystem.connector.DataConnectorInterface;
 import com.orderSystem.connector.HttpDataConnector;
+import com.orderSystem.connector.ResilientDataConnector;
+import com.orderSystem.connector.ResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
+@EnableConfigurationProperties(ConnectorProperties.class)
 public class ConnectorConfig {
 
     @Bean
     @Primary
-    public DataConnectorInterface dataConnector() {
-        return new HttpDataConnector();
+    public DataConnectorInterface dataConnector(ConnectorProperties properties) {
+        ConnectorProperties.Cache cache = properties.getCache();
+        DataConnectorInterface connector = new HttpDataConnector(new ResponseCache(cache.getMaxEntries(),
+            cache.isEnabled(), cache.getTtl(), cache.getMaxEntrySize().toBytes()),
+            properties.isCompressRequests(), properties.isAcceptSmile());
+
+        ConnectorProperties.Resilience resilience = properties.getResilience();
+        if (!resilience.isEnabled()) {
+            return connector;
+        }
+        return new ResilientDataConnector(connector, new ResilientDataConnector.Policy(
+            resilience.getMaxAttempts(), resilience.getInitialBackoff(), resilience.getMaxBackoff(),
+            resilience.getAttemptTimeout(), resilience.getFailureThreshold(), resilience.getOpenDuration(),
+            resilience.isHedge(), resilience.getHedgeMinDelay()));
+    }
+
+    @Bean
+    public MeterBinder connectorResilienceMetrics(DataConnectorInterface dataConnector) {
+        return registry -> {
+            if (!(dataConnector instanceof ResilientDataConnector connector)) {
+                return;
+            }
+            FunctionCounter.builder("order.connector.retries", connector, c -> c.getStats().retries())
+                .description("외부 요청 재시도 횟수")
+                .register(registry);
+            FunctionCounter.builder("order.connector.short-circuited", connector,
+                    c -> c.getStats().shortCircuited())
+                .description("회로 차단으로 보내지 않은 외부 요청 수")
+                .register(registry);
+            FunctionCounter.builder("order.connector.hedges", connector, c -> c.getStats().hedges())
+                .description("보낸 헤지 요청 수")
+                .register(registry);
+            FunctionCounter.builder("order.connector.hedge-wins", connector, c -> c.getStats().hedgeWins())
+                .description("헤지 요청이 원래 요청보다 먼저 응답한 횟수")
+                .register(registry);
+            Gauge.builder("order.connector.open-circuits", connector, c -> c.getStats().openCircuits())
+                .description("열려 있는 호스트별 회로 차단기 수")
+                .register(registry);
+        };
     }
 
     // 향후 다른 연결자 추가 가능
@@ -21,4 +65,4 @@ public class ConnectorConfig {
     // public DataConnectorInterface ftpConnector() {
     //     return new FtpDataConnector();
     // }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.orderSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 외부 시스템 연결자 설정입니다 (order.connector.*).
+ */
+@ConfigurationProperties(prefix = "order.connector")
+public class ConnectorProperties {
+
+    /** URL별 응답 검증자와 응답 본문 캐시 설정 */
+    private Cache cache = new Cache();
+
+    /** 재시도·회로 차단·헤지 요청 설정 */
+    private Resilience resilience = new Resilience();
+
+    /** 1KB 이상의 sendData 요청 본문을 gzip으로 압축해 보낼지 여부 (Content-Encoding: gzip) */
+    private boolean compressRequests = true;
+
+    /** 스트림 응답을 Smile로 요청할지 여부 (Accept 헤더로 요청하며, 상대가 지원하지 않으면 JSON으로 받음) */
+    private boolean acceptSmile = false;
+
+    public static class Cache {
+
+        /** 응답 본문 보관 여부 (꺼도 ETag / Last-Modified는 기억해 조건부 요청에 사용) */
+        private boolean enabled = false;
+
+        /** 기억할 최대 URL 수 (가장 오래 쓰이지 않은 URL부터 버림) */
+        private int maxEntries = 1024;
+
+        /** 보관한 응답을 다시 확인하지 않고 쓰는 시간 */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /** 보관할 응답 본문의 최대 크기 */
+        private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public DataSize getMaxEntrySize() {
+            return maxEntrySize;
+        }
+
+        public void setMaxEntrySize(DataSize maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+        }
+    }
+
+    public static class Resilience {
+
+        /** 연결자를 재시도·회로 차단·헤지 요청으로 감쌀지 여부 */
+        private boolean enabled = true;
+
+        /** 가져오기 요청당 최대 시도 횟수 (1이면 재시도하지 않음) */
+        private int maxAttempts = 3;
+
+        /** 첫 재시도 전 대기 시간 (재시도마다 두 배, 절반은 무작위) */
+        private Duration initialBackoff = Duration.ofMillis(200);
+
+        /** 재시도 전 최대 대기 시간 */
+        private Duration maxBackoff = Duration.ofSeconds(5);
+
+        /** 시도 하나가 응답 헤더를 받기까지 기다리는 시간 (0이면 제한 없음) */
+        private Duration attemptTimeout = Duration.ofSeconds(10);
+
+        /** 호스트별 회로 차단기를 여는 연속 실패 수 */
+        private int failureThreshold = 5;
+
+        /** 회로 차단기가 열려 있는 시간 (지나면 시험 요청 하나를 보냄) */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /** 가져오기 응답이 호스트의 p95 응답 시간 안에 오지 않으면 같은 요청을 하나 더 보낼지 여부 */
+        private boolean hedge = false;
+
+        /** 헤지 요청을 보내기 전 최소 대기 시간 */
+        private Duration hedgeMinDelay = Duration.ofMillis(50);
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getAttemptTimeout() {
+            return attemptTimeout;
+        }
+
+        public void setAttemptTimeout(Duration attemptTimeout) {
+            this.attemptTimeout = attemptTimeout;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public boolean isHedge() {
+            return hedge;
+        }
+
+        public void setHedge(boolean hedge) {
+            this.hedge = hedge;
+        }
+
+        public Duration getHedgeMinDelay() {
+            return hedgeMinDelay;
+        }
+
+        public void setHedgeMinDelay(Duration hedgeMinDelay) {
+            this.hedgeMinDelay = hedgeMinDelay;
+        }
+    }
+
+    // Getters and Setters
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Resilience getResilience() {
+        return resilience;
+    }
+
+    public void setResilience(Resilience resilience) {
+        this.resilience = resilience;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public boolean isAcceptSmile() {
+        return acceptSmile;
+    }
+
+    public void setAcceptSmile(boolean acceptSmile) {
+        this.acceptSmile = acceptSmile;
+    }
+}
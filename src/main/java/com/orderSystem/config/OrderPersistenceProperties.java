@@ -0,0 +1,92 @@
+package com.orderSystem.config;
+
+import com.orderSystem.repository.OrderWriteAheadLog;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 주문 저장소 영속화 설정입니다 (order.persistence.*).
+ */
+@ConfigurationProperties(prefix = "order.persistence")
+public class OrderPersistenceProperties {
+
+    /** 영속화 모드 사용 여부 */
+    private boolean enabled = false;
+
+    /** 로그 세그먼트를 저장할 디렉터리 */
+    private String directory = "data/orders";
+
+    /** 세그먼트 교체 기준 크기 */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** group commit 버퍼 크기 (두 개를 번갈아 사용) */
+    private DataSize bufferSize = DataSize.ofMegabytes(4);
+
+    /** ASYNC 모드의 최대 flush 간격 */
+    private Duration flushInterval = Duration.ofMillis(10);
+
+    /** 쓰기 반환 시점 (ASYNC: 버퍼 기록 후, SYNC: fsync 후) */
+    private OrderWriteAheadLog.Durability durability = OrderWriteAheadLog.Durability.ASYNC;
+
+    /** 백그라운드 스냅샷 주기 (0이면 비활성화) */
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public OrderWriteAheadLog.Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(OrderWriteAheadLog.Durability durability) {
+        this.durability = durability;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+}
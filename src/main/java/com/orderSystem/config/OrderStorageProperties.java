@@ -0,0 +1,79 @@
+package com.orderSystem.config;
+
+import com.orderSystem.repository.OrderChangeFeed;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 주문 저장 엔진 설정입니다 (order.storage.*).
+ * 보조 인덱스 사용 여부(order.storage.secondary-indexes)는 OrderRepository가 직접 읽습니다.
+ */
+@ConfigurationProperties(prefix = "order.storage")
+public class OrderStorageProperties {
+
+    public enum Engine {
+        /** 주문 객체를 힙의 ConcurrentHashMap에 보관 */
+        HEAP,
+        /** 주문을 힙 밖 바이너리 레코드로 보관 */
+        OFF_HEAP
+    }
+
+    /** 저장 엔진 종류 */
+    private Engine engine = Engine.HEAP;
+
+    /** OFF_HEAP 엔진의 세그먼트 수 (2의 거듭제곱, 쓰기 동시성 단위) */
+    private int offHeapSegments = 256;
+
+    /** OFF_HEAP 엔진의 세그먼트별 최대 레코드 청크 크기 */
+    private DataSize offHeapChunkSize = DataSize.ofMegabytes(4);
+
+    /** 역직렬화 시 공유 인스턴스로 바꿔 끼울 고객명의 최대 종류 수 (넘으면 그대로 보관) */
+    private int customerNameDictionarySize = 100_000;
+
+    /**
+     * 변경 피드가 보관할 최근 변경 이벤트 수 (2의 거듭제곱, 넘으면 오래된 것부터 덮어씀).
+     * 증분 전송 간격 동안의 변경 수보다 커야 전체 전송으로 바뀌지 않습니다 (초당 1,000건이면 약 4분).
+     */
+    private int changeFeedCapacity = OrderChangeFeed.DEFAULT_CAPACITY;
+
+    // Getters and Setters
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(Engine engine) {
+        this.engine = engine;
+    }
+
+    public int getOffHeapSegments() {
+        return offHeapSegments;
+    }
+
+    public void setOffHeapSegments(int offHeapSegments) {
+        this.offHeapSegments = offHeapSegments;
+    }
+
+    public DataSize getOffHeapChunkSize() {
+        return offHeapChunkSize;
+    }
+
+    public void setOffHeapChunkSize(DataSize offHeapChunkSize) {
+        this.offHeapChunkSize = offHeapChunkSize;
+    }
+
+    public int getCustomerNameDictionarySize() {
+        return customerNameDictionarySize;
+    }
+
+    public void setCustomerNameDictionarySize(int customerNameDictionarySize) {
+        this.customerNameDictionarySize = customerNameDictionarySize;
+    }
+
+    public int getChangeFeedCapacity() {
+        return changeFeedCapacity;
+    }
+
+    public void setChangeFeedCapacity(int changeFeedCapacity) {
+        this.changeFeedCapacity = changeFeedCapacity;
+    }
+}
@@ -0,0 +1,450 @@
+package com.orderSystem.config;
+
+import com.orderSystem.connector.WireFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 시스템 동기화 설정입니다 (order.sync.*).
+ */
+@ConfigurationProperties(prefix = "order.sync")
+public class OrderSyncProperties {
+
+    /** 동기화 작업(가져오기 파싱·저장, 전송)을 실행할 스레드 수 */
+    private int workerThreads = 8;
+
+    /** 실행을 기다릴 수 있는 동기화 작업 수 (넘으면 503으로 거부) */
+    private int queueCapacity = 100;
+
+    /** 외부에서 주문을 가져올 때의 설정 */
+    private Pull pull = new Pull();
+
+    /** 외부로 주문을 전송할 때의 설정 */
+    private Push push = new Push();
+
+    /** 가져온 주문 배열을 받기·파싱·저장 단계로 나눠 동시에 처리할 때의 설정 */
+    private Pipeline pipeline = new Pipeline();
+
+    /** 동기화 작업(sync-from, sync-to를 202로 받아 뒤에서 실행)의 설정 */
+    private Jobs jobs = new Jobs();
+
+    /** 설정한 소스에서 주기적으로 증분 동기화할 때의 설정 */
+    private Schedule schedule = new Schedule();
+
+    public static class Pull {
+
+        /** 여러 소스 동기화에서 동시에 가져올 최대 소스 수 (모든 요청 공통) */
+        private int concurrency = 8;
+
+        /** 같은 호스트(호스트:포트)에서 동시에 가져올 최대 소스 수 */
+        private int perHostConcurrency = 2;
+
+        /** 페이지 동기화에서 현재 페이지를 처리하는 동안 미리 요청해 둘 최대 페이지 수 */
+        private int prefetchPages = 2;
+
+        /** 같은 URL의 동기화가 성공한 뒤 이 시간 안에 다시 요청하면 가져오지 않고 그 결과를 돌려줌 (0이면 끔) */
+        private Duration recentSyncWindow = Duration.ZERO;
+
+        /** 이름으로 한꺼번에 동기화할 소스 URL 묶음 */
+        private Map<String, List<String>> sourceGroups = new LinkedHashMap<>();
+
+        // Getters and Setters
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getPerHostConcurrency() {
+            return perHostConcurrency;
+        }
+
+        public void setPerHostConcurrency(int perHostConcurrency) {
+            this.perHostConcurrency = perHostConcurrency;
+        }
+
+        public int getPrefetchPages() {
+            return prefetchPages;
+        }
+
+        public void setPrefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+        }
+
+        public Duration getRecentSyncWindow() {
+            return recentSyncWindow;
+        }
+
+        public void setRecentSyncWindow(Duration recentSyncWindow) {
+            this.recentSyncWindow = recentSyncWindow;
+        }
+
+        public Map<String, List<String>> getSourceGroups() {
+            return sourceGroups;
+        }
+
+        public void setSourceGroups(Map<String, List<String>> sourceGroups) {
+            this.sourceGroups = sourceGroups;
+        }
+    }
+
+    public static class Push {
+
+        /** 요청 하나에 담을 주문 수 */
+        private int batchSize = 5_000;
+
+        /** 동시에 전송할 최대 묶음 수 (메모리 사용량은 batchSize × concurrency에 비례) */
+        private int concurrency = 4;
+
+        /** 요청 본문을 gzip으로 압축해 보낼지 여부 (Content-Encoding: gzip) */
+        private boolean gzip = true;
+
+        /** 요청 본문 형식 (JSON 또는 SMILE, 대상 시스템이 받을 수 있어야 함) */
+        private WireFormat format = WireFormat.JSON;
+
+        /** 실패한 묶음만 다시 보내는 최대 횟수 */
+        private int maxRetries = 2;
+
+        /** 재전송 전 대기 시간 (재시도마다 배수로 증가) */
+        private Duration retryBackoff = Duration.ofMillis(500);
+
+        /** 대상별 전송 워터마크(증분 전송 기준 순번)를 기록할 디렉터리 (영속화 모드에서만 사용) */
+        private String watermarkDirectory = "data/sync";
+
+        // Getters and Setters
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        public void setGzip(boolean gzip) {
+            this.gzip = gzip;
+        }
+
+        public WireFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(WireFormat format) {
+            this.format = format;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+
+        public String getWatermarkDirectory() {
+            return watermarkDirectory;
+        }
+
+        public void setWatermarkDirectory(String watermarkDirectory) {
+            this.watermarkDirectory = watermarkDirectory;
+        }
+    }
+
+    public static class Pipeline {
+
+        /** 가져온 주문 배열을 파이프라인으로 처리할지 여부 (끄면 한 스레드에서 차례로 파싱·저장) */
+        private boolean enabled = true;
+
+        /** 파싱 스레드 수 (0이면 CPU 코어 수) */
+        private int parserThreads = 0;
+
+        /** 동기화 하나에서 저장을 기다릴 수 있는 묶음 수 (메모리 ∝ chunk-size × queue-capacity) */
+        private int queueCapacity = 16;
+
+        /** 응답을 잘라 파싱 스레드에 넘길 묶음 하나의 크기 */
+        private DataSize chunkSize = DataSize.ofKilobytes(256);
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getParserThreads() {
+            return parserThreads;
+        }
+
+        public void setParserThreads(int parserThreads) {
+            this.parserThreads = parserThreads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public DataSize getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(DataSize chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class Jobs {
+
+        /** 동시에 실행할 동기화 작업 수 */
+        private int threads = 2;
+
+        /** 실행을 기다릴 수 있는 동기화 작업 수 (넘으면 503으로 거부) */
+        private int queueCapacity = 16;
+
+        /** 진행 상황을 조회할 수 있도록 남겨 둘 끝난 작업 수 (오래된 것부터 지움) */
+        private int retained = 100;
+
+        // Getters and Setters
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getRetained() {
+            return retained;
+        }
+
+        public void setRetained(int retained) {
+            this.retained = retained;
+        }
+    }
+
+    public static class Schedule {
+
+        /** 예약 동기화 사용 여부 */
+        private boolean enabled = false;
+
+        /** 예약 동기화를 실행할 스레드 수 (동시에 동기화할 수 있는 소스 수) */
+        private int threads = 2;
+
+        /** 소스별 since 워터마크를 기록할 디렉터리 */
+        private String watermarkDirectory = "data/sync";
+
+        /** 동기화할 소스 목록 */
+        private List<ScheduledSource> sources = new ArrayList<>();
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public String getWatermarkDirectory() {
+            return watermarkDirectory;
+        }
+
+        public void setWatermarkDirectory(String watermarkDirectory) {
+            this.watermarkDirectory = watermarkDirectory;
+        }
+
+        public List<ScheduledSource> getSources() {
+            return sources;
+        }
+
+        public void setSources(List<ScheduledSource> sources) {
+            this.sources = sources;
+        }
+    }
+
+    public static class ScheduledSource {
+
+        /** 워터마크를 기억할 이름 (소스마다 달라야 함) */
+        private String name;
+
+        /** 외부 시스템 URL */
+        private String url;
+
+        /** 동기화 간격 */
+        private Duration interval = Duration.ofMinutes(5);
+
+        /** 간격에 더할 무작위 편차 비율 (0.1이면 ±10%) */
+        private double jitter = 0.1;
+
+        /** 워터마크(마지막으로 성공한 가져오기를 시작한 시각, ISO-8601)를 보낼 쿼리 파라미터 이름 */
+        private String sinceParam = "since";
+
+        /** 시계 차이로 빠지는 주문이 없도록 워터마크를 앞당겨 보낼 시간 */
+        private Duration overlap = Duration.ofSeconds(5);
+
+        /** 받은 주문이 없거나 실패할 때 간격을 두 배씩 늘려 물러날 수 있는 최대 간격 */
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(double jitter) {
+            this.jitter = jitter;
+        }
+
+        public String getSinceParam() {
+            return sinceParam;
+        }
+
+        public void setSinceParam(String sinceParam) {
+            this.sinceParam = sinceParam;
+        }
+
+        public Duration getOverlap() {
+            return overlap;
+        }
+
+        public void setOverlap(Duration overlap) {
+            this.overlap = overlap;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+
+    // Getters and Setters
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Pull getPull() {
+        return pull;
+    }
+
+    public void setPull(Pull pull) {
+        this.pull = pull;
+    }
+
+    public Push getPush() {
+        return push;
+    }
+
+    public void setPush(Push push) {
+        this.push = push;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    public void setPipeline(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Jobs jobs) {
+        this.jobs = jobs;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public void setSchedule(Schedule schedule) {
+        this.schedule = schedule;
+    }
+}
@@ -0,0 +1,40 @@
+package com.orderSystem.config;
+
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.repository.OrderSnapshotScheduler;
+import com.orderSystem.repository.OrderSnapshotStore;
+import com.orderSystem.repository.OrderWriteAheadLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(OrderPersistenceProperties.class)
+@ConditionalOnProperty(prefix = "order.persistence", name = "enabled", havingValue = "true")
+public class PersistenceConfig {
+
+    @Bean(destroyMethod = "close")
+    public OrderWriteAheadLog orderWriteAheadLog(OrderPersistenceProperties properties) throws IOException {
+        return new OrderWriteAheadLog(
+            Path.of(properties.getDirectory()),
+            properties.getSegmentSize().toBytes(),
+            (int) properties.getBufferSize().toBytes(),
+            properties.getFlushInterval(),
+            properties.getDurability());
+    }
+
+    @Bean
+    public OrderSnapshotStore orderSnapshotStore(OrderPersistenceProperties properties) throws IOException {
+        return new OrderSnapshotStore(Path.of(properties.getDirectory()));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public OrderSnapshotScheduler orderSnapshotScheduler(OrderRepository orderRepository,
+        OrderPersistenceProperties properties) {
+        return new OrderSnapshotScheduler(orderRepository, properties.getSnapshotInterval());
+    }
+}
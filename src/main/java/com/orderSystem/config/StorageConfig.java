@@ -0,0 +1,67 @@
+package com.orderSystem.config;
+
+import com.orderSystem.repository.HeapOrderStore;
+import com.orderSystem.repository.OffHeapOrderStore;
+import com.orderSystem.repository.OrderChangeFeed;
+import com.orderSystem.repository.OrderStore;
+import com.orderSystem.util.StringDictionary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OrderStorageProperties.class)
+public class StorageConfig {
+
+    /**
+     * 고객명 사전입니다. DataTransformService가 역직렬화한 고객명을 공유 인스턴스로 바꾸는 데 쓰고,
+     * OFF_HEAP 엔진은 같은 사전의 코드로 고객명을 저장합니다.
+     */
+    @Bean
+    public StringDictionary customerNameDictionary(OrderStorageProperties properties) {
+        return new StringDictionary(properties.getCustomerNameDictionarySize());
+    }
+
+    @Bean
+    public OrderStore orderStore(OrderStorageProperties properties, StringDictionary customerNameDictionary) {
+        if (properties.getEngine() == OrderStorageProperties.Engine.OFF_HEAP) {
+            return new OffHeapOrderStore(
+                properties.getOffHeapSegments(),
+                (int) properties.getOffHeapChunkSize().toBytes(),
+                customerNameDictionary);
+        }
+        return new HeapOrderStore();
+    }
+
+    @Bean
+    public OrderChangeFeed orderChangeFeed(OrderStorageProperties properties) {
+        return new OrderChangeFeed(properties.getChangeFeedCapacity());
+    }
+
+    @Bean
+    public MeterBinder orderChangeFeedMetrics(OrderChangeFeed orderChangeFeed) {
+        return registry -> Gauge.builder("order.changes.sequence", orderChangeFeed, OrderChangeFeed::lastSequence)
+            .description("변경 피드에 마지막으로 게시된 순번")
+            .register(registry);
+    }
+
+    @Bean
+    public MeterBinder customerNameDictionaryMetrics(StringDictionary customerNameDictionary) {
+        return registry -> {
+            Gauge.builder("order.customer-names.size", customerNameDictionary, StringDictionary::size)
+                .description("고객명 사전에 등록된 문자열 수")
+                .register(registry);
+            Gauge.builder("order.customer-names.hit-ratio", customerNameDictionary,
+                    dictionary -> dictionary.getStats().hitRatio())
+                .description("고객명 사전 적중률")
+                .register(registry);
+            Gauge.builder("order.customer-names.saved", customerNameDictionary,
+                    dictionary -> dictionary.getStats().savedBytes())
+                .description("중복 고객명 문자열을 보관하지 않아 절감한 힙 추정치")
+                .baseUnit("bytes")
+                .register(registry);
+        };
+    }
+}
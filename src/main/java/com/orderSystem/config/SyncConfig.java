@@ -0,0 +1,142 @@
+package com.orderSystem.config;
+
+import com.orderSystem.repository.PushWatermarkStore;
+import com.orderSystem.repository.SyncWatermarkStore;
+import com.orderSystem.service.DataTransformService;
+import com.orderSystem.service.OrderIngestPipeline;
+import com.orderSystem.service.OrderSyncService;
+import com.orderSystem.service.ScheduledSyncService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(OrderSyncProperties.class)
+public class SyncConfig {
+
+    /**
+     * 동기화 작업을 실행하는 실행기입니다. 외부 응답을 기다리는 일은 HTTP 클라이언트가 비동기로 처리하고,
+     * 받은 본문의 파싱·저장과 전송만 여기서 실행하므로 느린 외부 시스템이 요청 스레드를 붙잡지 않습니다.
+     * 대기열이 가득 차면 작업을 거부합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor orderSyncExecutor(OrderSyncProperties properties) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            properties.getWorkerThreads(), properties.getWorkerThreads(),
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "order-sync-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 가져온 주문 배열을 받기·파싱·저장 단계로 나눠 처리하는 파이프라인입니다. 파싱 스레드는 모든 동기화가 함께 씁니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "order.sync.pipeline", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public OrderIngestPipeline orderIngestPipeline(DataTransformService transformer, OrderSyncProperties properties) {
+        OrderSyncProperties.Pipeline pipeline = properties.getPipeline();
+        int parserThreads = pipeline.getParserThreads() > 0
+            ? pipeline.getParserThreads() : Runtime.getRuntime().availableProcessors();
+        return new OrderIngestPipeline(transformer, parserThreads, pipeline.getQueueCapacity(),
+            Math.toIntExact(pipeline.getChunkSize().toBytes()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.sync.pipeline", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public MeterBinder orderIngestPipelineMetrics(OrderIngestPipeline pipeline) {
+        return registry -> {
+            FunctionCounter.builder("order.ingest.fetched.bytes", pipeline, p -> p.getStats().fetchedBytes())
+                .description("파이프라인 받기 단계가 읽은 바이트 수")
+                .baseUnit("bytes")
+                .register(registry);
+            FunctionCounter.builder("order.ingest.fetched.chunks", pipeline, p -> p.getStats().fetchedChunks())
+                .description("파이프라인 받기 단계가 잘라 넘긴 묶음 수")
+                .register(registry);
+            Gauge.builder("order.ingest.parse.queue", pipeline, p -> p.getStats().parseQueueDepth())
+                .description("파싱을 기다리거나 파싱 중인 묶음 수")
+                .register(registry);
+            FunctionCounter.builder("order.ingest.parsed", pipeline, p -> p.getStats().parsedOrders())
+                .description("파이프라인에서 파싱한 주문 수")
+                .register(registry);
+            FunctionCounter.builder("order.ingest.rejected", pipeline, p -> p.getStats().rejectedOrders())
+                .description("파이프라인 검증에서 거부한 주문 수")
+                .register(registry);
+            Gauge.builder("order.ingest.store.queue", pipeline, p -> p.getStats().storeQueueDepth())
+                .description("저장 단계로 넘어가기를 기다리는 묶음 수")
+                .register(registry);
+            FunctionCounter.builder("order.ingest.stored", pipeline, p -> p.getStats().storedOrders())
+                .description("파이프라인 저장 단계가 저장한 주문 수")
+                .register(registry);
+            Gauge.builder("order.ingest.active", pipeline, p -> p.getStats().activeRuns())
+                .description("실행 중인 파이프라인 수")
+                .register(registry);
+        };
+    }
+
+    /**
+     * 202로 받은 동기화 작업(sync-from, sync-to)을 처음부터 끝까지 실행하는 실행기입니다.
+     * 작업 하나가 스레드 하나를 차지하므로 {@link #orderSyncExecutor}와 나눠 두어, 오래 걸리는 작업이
+     * 다른 동기화 요청의 파싱·저장을 막지 않게 합니다. 대기열이 가득 차면 작업을 거부합니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor syncJobExecutor(OrderSyncProperties properties) {
+        OrderSyncProperties.Jobs jobs = properties.getJobs();
+        AtomicInteger threadSequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            jobs.getThreads(), jobs.getThreads(),
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(jobs.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "order-sync-job-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 증분 전송(mode=delta)의 대상별 워터마크를 order.sync.push.watermark-directory에 기록해 재시작 뒤에도 이어 씁니다.
+     * 변경 피드 순번은 영속화 모드에서만 재시작 뒤에도 이어지므로, 그 밖에는 기록해도 쓸 수 없어 만들지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "order.persistence", name = "enabled", havingValue = "true")
+    public PushWatermarkStore pushWatermarkStore(OrderSyncProperties properties) throws IOException {
+        return new PushWatermarkStore(Path.of(properties.getPush().getWatermarkDirectory()));
+    }
+
+    /**
+     * order.sync.schedule.sources에 설정한 소스들을 주기적으로 증분 동기화합니다.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "order.sync.schedule", name = "enabled", havingValue = "true")
+    public ScheduledSyncService scheduledSyncService(OrderSyncService orderSyncService,
+        OrderSyncProperties properties) throws IOException {
+        OrderSyncProperties.Schedule schedule = properties.getSchedule();
+        List<ScheduledSyncService.Source> sources = schedule.getSources().stream()
+            .map(source -> new ScheduledSyncService.Source(source.getName(), source.getUrl(), source.getInterval(),
+                source.getJitter(), source.getSinceParam(), source.getOverlap(), source.getMaxBackoff()))
+            .toList();
+        return new ScheduledSyncService(orderSyncService,
+            new SyncWatermarkStore(Path.of(schedule.getWatermarkDirectory())), sources, schedule.getThreads());
+    }
+}
@@ -0,0 +1,97 @@
+package com.orderSystem.connector;
+
+import java.time.Duration;
+
+/**
+ * 한 호스트에 대한 회로 차단기입니다.
+ *
+ * <p>재시도할 만한 실패(네트워크 오류, 5xx 등)가 failureThreshold번 연속되면 열려(OPEN) openDuration 동안
+ * 요청을 보내지 않고 바로 실패시킵니다. 그 시간이 지나면 반쯤 열린(HALF_OPEN) 상태에서 요청 하나만 시험 삼아
+ * 보내고, 성공하면 닫고(CLOSED) 실패하면 다시 엽니다.</p>
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        /** 정상 - 모든 요청을 보냄 */
+        CLOSED,
+        /** 차단 - 요청을 보내지 않음 */
+        OPEN,
+        /** 시험 요청 하나의 결과를 기다리는 중 */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    /**
+     * @param failureThreshold 차단기를 여는 연속 실패 수
+     * @param openDuration     열린 뒤 시험 요청을 보내기까지의 시간
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold <= 0 || openDuration.isNegative()) {
+            throw new IllegalArgumentException(String.format(
+                "잘못된 회로 차단 설정입니다: failureThreshold=%d, openDuration=%s", failureThreshold, openDuration));
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인합니다. true를 받았으면 결과를 {@link #onSuccess()} 또는
+     * {@link #onFailure()}로 반드시 알려야 합니다.
+     *
+     * @return 요청을 보내도 되면 true
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * 요청이 성공했거나, 호스트가 응답은 한 실패(4xx 등)였을 때 호출합니다.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * 재시도할 만한 실패였을 때 호출합니다.
+     */
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return 현재 상태 (열린 시간이 지났어도 다음 요청 전까지는 OPEN)
+     */
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,120 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.exception.DataConnectorException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 응답의 Content-Encoding(gzip, deflate)을 풀어 원래 본문을 돌려줍니다.
+ */
+final class ContentEncoding {
+
+    /** 요청에 실어 보내는 Accept-Encoding 값 */
+    static final String ACCEPTED = "gzip, deflate";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private ContentEncoding() {
+    }
+
+    /**
+     * 압축된 응답 스트림을 푸는 스트림을 만듭니다. gzip 헤더는 처음 읽을 때 읽으므로,
+     * HTTP 클라이언트 스레드에서 호출해도 본문을 기다리며 막히지 않습니다.
+     *
+     * @param body     응답 본문 스트림
+     * @param encoding Content-Encoding 응답 헤더 (없으면 null)
+     * @return 압축을 푼 본문 스트림
+     * @throws DataConnectorException 지원하지 않는 인코딩인 경우
+     */
+    static InputStream decode(InputStream body, String encoding) throws DataConnectorException {
+        String normalized = normalize(encoding);
+        if (normalized == null) {
+            return body;
+        }
+        return new LazyDecodingInputStream(body, normalized);
+    }
+
+    /**
+     * 압축된 응답 본문 전체를 풉니다.
+     *
+     * @param body     응답 본문
+     * @param encoding Content-Encoding 응답 헤더 (없으면 null)
+     * @return 압축을 푼 본문
+     * @throws DataConnectorException 지원하지 않는 인코딩이거나 압축을 풀 수 없는 경우
+     */
+    static byte[] decode(byte[] body, String encoding) throws DataConnectorException {
+        if (normalize(encoding) == null) {
+            return body;
+        }
+        try (InputStream decoded = decode(new ByteArrayInputStream(body), encoding)) {
+            return decoded.readAllBytes();
+        } catch (IOException e) {
+            throw new DataConnectorException("응답 압축 해제 실패 (" + encoding + "): " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return gzip 또는 deflate (압축하지 않은 응답이면 null)
+     */
+    private static String normalize(String encoding) throws DataConnectorException {
+        if (encoding == null) {
+            return null;
+        }
+        String normalized = encoding.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "", "identity" -> null;
+            case "gzip", "x-gzip" -> "gzip";
+            case "deflate" -> "deflate";
+            default -> throw new DataConnectorException("지원하지 않는 Content-Encoding입니다: " + encoding);
+        };
+    }
+
+    private static final class LazyDecodingInputStream extends InputStream {
+        private final InputStream body;
+        private final String encoding;
+        private InputStream decoded;
+
+        private LazyDecodingInputStream(InputStream body, String encoding) {
+            this.body = body;
+            this.encoding = encoding;
+        }
+
+        private InputStream decoded() throws IOException {
+            if (decoded == null) {
+                decoded = encoding.equals("gzip")
+                    ? new GZIPInputStream(body, BUFFER_SIZE)
+                    : new InflaterInputStream(body);
+            }
+            return decoded;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoded().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return decoded().read(buffer, offset, length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoded == null ? 0 : decoded.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoded != null) {
+                decoded.close();
+            } else {
+                body.close();
+            }
+        }
+    }
+}
@@ -2,8 +2,31 @@ package com.orderSystem.connector;
 
 import com.orderSystem.exception.DataConnectorException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 시스템 연결자입니다.
+ *
+ * <p>*Async 메서드는 요청 스레드를 붙잡지 않는 비동기 계약으로, 실패하면 {@link DataConnectorException}으로
+ * 예외 완료되는 future를 반환합니다. 기본 구현은 호출 스레드에서 동기 메서드를 실행한 뒤 완료된 future를
+ * 반환하므로, 실제 비동기 I/O가 필요한 구현체는 재정의해야 합니다.</p>
+ */
 public interface DataConnectorInterface {
 
+    /**
+     * 요청 본문을 출력 스트림에 쓰는 함수입니다. 출력 스트림은 닫지 않아야 합니다.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
     /**
      * 외부 시스템에서 데이터를 가져옵니다.
      *
@@ -13,6 +36,21 @@ public interface DataConnectorInterface {
      */
     String fetchData(String url) throws DataConnectorException;
 
+    /**
+     * 외부 시스템에서 데이터를 스트림으로 가져옵니다.
+     * 응답 본문 전체를 메모리에 적재하지 않으므로 대용량 데이터 수신에 사용합니다.
+     * 반환된 스트림은 호출자가 닫아야 합니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return JSON 형식의 데이터 스트림
+     * @throws DataConnectorException 통신 오류 시 발생
+     */
+    default InputStream fetchStream(String url) throws DataConnectorException {
+        String data = fetchData(url);
+        byte[] bytes = data == null ? new byte[0] : data.getBytes(StandardCharsets.UTF_8);
+        return new ByteArrayInputStream(bytes);
+    }
+
     /**
      * 외부 시스템으로 데이터를 전송합니다.
      *
@@ -22,4 +60,114 @@ public interface DataConnectorInterface {
      * @throws DataConnectorException 통신 오류 시 발생
      */
     boolean sendData(String url, String data) throws DataConnectorException;
-}
\ No newline at end of file
+
+    /**
+     * 요청 본문을 만들면서 외부 시스템으로 전송합니다.
+     * 구현체는 body가 쓰는 내용을 바로 요청 본문으로 흘려보내므로 본문 전체를 메모리에 올리지 않습니다.
+     * 기본 구현은 본문을 모두 만든 뒤 {@link #sendData(String, String)}로 전송하며 압축하지 않습니다.
+     *
+     * @param url  외부 시스템 URL
+     * @param body JSON 요청 본문을 쓰는 함수
+     * @param gzip 본문을 gzip으로 압축해 보낼지 여부
+     * @return 전송 성공 여부
+     * @throws DataConnectorException 통신 오류 또는 본문 작성 실패 시 발생
+     */
+    default boolean sendStream(String url, BodyWriter body, boolean gzip) throws DataConnectorException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            body.writeTo(buffer);
+        } catch (IOException e) {
+            throw new DataConnectorException("요청 본문 작성 실패: " + e.getMessage(), e);
+        }
+        return sendData(url, buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 본문을 지정한 형식으로 만들면서 외부 시스템으로 전송합니다. 상대 시스템이 그 형식을 받을 수 있어야 합니다.
+     * 기본 구현은 JSON만 지원하며 {@link #sendStream(String, BodyWriter, boolean)}로 전송합니다.
+     *
+     * @param url    외부 시스템 URL
+     * @param body   요청 본문을 쓰는 함수
+     * @param gzip   본문을 gzip으로 압축해 보낼지 여부
+     * @param format 요청 본문 형식 (Content-Type)
+     * @return 전송 성공 여부
+     * @throws DataConnectorException 통신 오류, 본문 작성 실패 또는 지원하지 않는 형식인 경우 발생
+     */
+    default boolean sendStream(String url, BodyWriter body, boolean gzip, WireFormat format)
+        throws DataConnectorException {
+        if (format != WireFormat.JSON) {
+            throw new DataConnectorException("이 연결자는 " + format + " 형식 전송을 지원하지 않습니다.");
+        }
+        return sendStream(url, body, gzip);
+    }
+
+    /**
+     * 외부 시스템에서 데이터를 비동기로 가져옵니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return JSON 형식의 데이터를 담을 future
+     */
+    default CompletableFuture<String> fetchDataAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetchData(url));
+        } catch (DataConnectorException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 외부 시스템에서 데이터 스트림을 비동기로 가져옵니다. future는 응답 헤더를 받으면 완료되며,
+     * 본문은 스트림을 읽으면서 받습니다. 반환된 스트림은 호출자가 닫아야 합니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return JSON 형식의 데이터 스트림을 담을 future
+     */
+    default CompletableFuture<InputStream> fetchStreamAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetchStream(url));
+        } catch (DataConnectorException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 지난번에 받은 응답과 같으면 본문을 받지 않는 조건부 가져오기입니다. 응답이 바뀌지 않았으면
+     * (예: 304 Not Modified) null로 완료됩니다. 받은 응답을 처리하지 못했으면 {@link #invalidate(String)}를
+     * 호출해 다음 요청에서 전체 응답을 받아야 합니다. 기본 구현은 항상 새로 가져옵니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return JSON 형식의 데이터 스트림을 담을 future (바뀌지 않았으면 null)
+     */
+    default CompletableFuture<InputStream> fetchStreamIfModifiedAsync(String url) {
+        return fetchStreamAsync(url);
+    }
+
+    /**
+     * 이 URL에 대해 기억한 응답 정보를 버립니다. 다음 조건부 가져오기는 전체 응답을 받습니다.
+     *
+     * @param url 외부 시스템 URL
+     */
+    default void invalidate(String url) {
+    }
+
+    /**
+     * 모든 URL에 대해 기억한 응답 정보를 버립니다 (예: 받은 주문을 저장한 저장소를 비웠을 때).
+     */
+    default void invalidateAll() {
+    }
+
+    /**
+     * 외부 시스템으로 데이터를 비동기로 전송합니다.
+     *
+     * @param url  외부 시스템 URL
+     * @param data JSON 형식의 데이터
+     * @return 전송 성공 여부를 담을 future
+     */
+    default CompletableFuture<Boolean> sendDataAsync(String url, String data) {
+        try {
+            return CompletableFuture.completedFuture(sendData(url, data));
+        } catch (DataConnectorException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -3,68 +3,368 @@ package com.orderSystem.connector;
 import com.orderSystem.exception.DataConnectorException;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
 
 @Component
 public class HttpDataConnector implements DataConnectorInterface {
 
+    private static final int ERROR_BODY_LIMIT = 1024;
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_BUFFER_SIZE = 16 * 1024;
+    // 이보다 작은 본문은 압축해도 헤더 비용 때문에 거의 줄지 않습니다.
+    private static final int MIN_COMPRESS_SIZE = 1024;
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int DEFAULT_CACHE_ENTRIES = 1024;
+
     private final HttpClient httpClient;
+    private final ResponseCache cache;
+    private final boolean compressRequests;
+    private final String streamAccept;
 
+    /**
+     * 검증자만 기억하고 응답 본문은 보관하지 않습니다.
+     */
     public HttpDataConnector() {
+        this(new ResponseCache(DEFAULT_CACHE_ENTRIES));
+    }
+
+    /**
+     * 1KB 이상의 sendData 본문은 gzip으로 압축해 보내고, 스트림 응답은 JSON으로 요청합니다.
+     *
+     * @param cache URL별 검증자와 응답 본문을 보관할 캐시
+     */
+    public HttpDataConnector(ResponseCache cache) {
+        this(cache, true, false);
+    }
+
+    /**
+     * @param cache            URL별 검증자와 응답 본문을 보관할 캐시
+     * @param compressRequests 1KB 이상의 sendData 본문을 gzip으로 압축해 보낼지 여부
+     * @param acceptSmile      스트림 응답을 Smile로 요청할지 여부 (상대가 지원하지 않으면 JSON으로 받음)
+     */
+    public HttpDataConnector(ResponseCache cache, boolean compressRequests, boolean acceptSmile) {
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(10))
             .build();
+        this.cache = cache;
+        this.compressRequests = compressRequests;
+        this.streamAccept = acceptSmile
+            ? WireFormat.SMILE.getMediaType() + ", " + WireFormat.JSON.getMediaType() + ";q=0.9"
+            : WireFormat.JSON.getMediaType();
     }
 
     @Override
     public String fetchData(String url) throws DataConnectorException {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
-                .timeout(Duration.ofSeconds(30))
-                .GET()
-                .build();
+        return await(fetchDataAsync(url));
+    }
 
-            HttpResponse<String> response = httpClient.send(request,
-                HttpResponse.BodyHandlers.ofString());
+    @Override
+    public InputStream fetchStream(String url) throws DataConnectorException {
+        return await(fetchStreamAsync(url));
+    }
 
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return response.body();
-            } else {
-                throw new DataConnectorException(
-                    "HTTP 요청 실패: " + response.statusCode() + " - " + response.body());
-            }
+    @Override
+    public boolean sendData(String url, String data) throws DataConnectorException {
+        return await(sendDataAsync(url, data));
+    }
 
-        } catch (IOException | InterruptedException e) {
-            throw new DataConnectorException("네트워크 오류: " + e.getMessage(), e);
+    /**
+     * {@link HttpClient#sendAsync}로 요청하므로 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+     * 응답 캐시가 본문을 보관하고 있으면 ttl 동안은 요청 없이 쓰고, 이후에는 조건부 요청으로 다시 확인합니다.
+     * 압축된 응답은 풀어서 돌려주고 보관합니다.
+     */
+    @Override
+    public CompletableFuture<String> fetchDataAsync(String url) {
+        ResponseCache.Entry cached = cachedBody(url);
+        if (cached != null && cache.isFresh(cached)) {
+            cache.hit();
+            return CompletableFuture.completedFuture(new String(cached.body(), StandardCharsets.UTF_8));
         }
+
+        HttpRequest request = getRequest(url, cached, WireFormat.JSON.getMediaType());
+        return translate(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                if (response.statusCode() == HTTP_NOT_MODIFIED && cached != null) {
+                    cache.revalidated(url);
+                    return new String(cached.body(), StandardCharsets.UTF_8);
+                }
+                byte[] decoded;
+                try {
+                    decoded = ContentEncoding.decode(response.body(), contentEncoding(response));
+                } catch (DataConnectorException e) {
+                    throw new CompletionException(e);
+                }
+                String body = new String(decoded, StandardCharsets.UTF_8);
+                if (isSuccessful(response.statusCode())) {
+                    cache.storeBody(url, etag(response), lastModified(response), decoded);
+                    return body;
+                }
+                throw new CompletionException(new DataConnectorException(
+                    "HTTP 요청 실패: " + response.statusCode() + " - " + body, response.statusCode()));
+            }));
     }
 
+    /**
+     * 응답 헤더를 받으면 완료됩니다. 압축된 응답은 읽으면서 풀고, 오류 응답은 메시지 용도로 본문 앞부분만 사용합니다.
+     * Smile을 요청하도록 설정했으면 상대가 고른 형식(Smile 또는 JSON) 그대로 돌려줍니다.
+     */
     @Override
-    public boolean sendData(String url, String data) throws DataConnectorException {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
+    public CompletableFuture<InputStream> fetchStreamAsync(String url) {
+        return fetchStream(url, false);
+    }
+
+    /**
+     * 이 URL에서 지난번 받은 응답의 ETag / Last-Modified를 If-None-Match / If-Modified-Since로 보내고,
+     * 304 응답이면 본문 없이 null로 완료합니다. 응답 캐시의 ttl 안이면 요청하지 않고 null로 완료합니다.
+     */
+    @Override
+    public CompletableFuture<InputStream> fetchStreamIfModifiedAsync(String url) {
+        return fetchStream(url, true);
+    }
+
+    @Override
+    public void invalidate(String url) {
+        cache.invalidate(url);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * @return 응답 캐시 (통계 확인용)
+     */
+    public ResponseCache getResponseCache() {
+        return cache;
+    }
+
+    /**
+     * @param ifModified true이면 검증자만 있어도 조건부로 요청하고 304를 null로 알립니다.
+     *                   false이면 보관한 본문이 있을 때만 조건부로 요청하고 304에는 보관한 본문을 돌려줍니다.
+     */
+    private CompletableFuture<InputStream> fetchStream(String url, boolean ifModified) {
+        ResponseCache.Entry cached = ifModified ? cache.get(url) : cachedBody(url);
+        if (cached != null && cache.isFresh(cached)) {
+            cache.hit();
+            return CompletableFuture.completedFuture(ifModified ? null : new ByteArrayInputStream(cached.body()));
+        }
+
+        // 오류 응답은 본문을 모두 받은 뒤 완료되도록 바이트 배열로 받아, 이후 처리에서 읽기를 기다리지 않게 합니다.
+        HttpResponse.BodyHandler<InputStream> handler = responseInfo -> isSuccessful(responseInfo.statusCode())
+            ? HttpResponse.BodySubscribers.ofInputStream()
+            : HttpResponse.BodySubscribers.mapping(
+                HttpResponse.BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+
+        return translate(httpClient.sendAsync(getRequest(url, cached, streamAccept), handler)
+            .thenApply(response -> {
+                if (response.statusCode() == HTTP_NOT_MODIFIED && cached != null && cached.hasValidators()) {
+                    cache.revalidated(url);
+                    return ifModified ? null : new ByteArrayInputStream(cached.body());
+                }
+                if (isSuccessful(response.statusCode())) {
+                    if (ifModified) {
+                        cache.storeValidators(url, etag(response), lastModified(response));
+                    } else {
+                        // 본문을 보관하지 않는 요청이므로 이전에 보관한 본문은 더 이상 맞지 않습니다.
+                        // 검증자는 조건부 가져오기가 처리를 마친 응답을 가리키므로 남겨 둡니다.
+                        cache.dropBody(url);
+                    }
+                    try {
+                        return ContentEncoding.decode(response.body(), contentEncoding(response));
+                    } catch (DataConnectorException e) {
+                        closeQuietly(response.body());
+                        throw new CompletionException(e);
+                    }
+                }
+                String errorBody;
+                try (InputStream body = ContentEncoding.decode(response.body(), contentEncoding(response))) {
+                    errorBody = new String(body.readNBytes(ERROR_BODY_LIMIT), StandardCharsets.UTF_8);
+                } catch (DataConnectorException | IOException e) {
+                    errorBody = "";
+                }
+                throw new CompletionException(new DataConnectorException(
+                    "HTTP 요청 실패: " + response.statusCode() + " - " + errorBody, response.statusCode()));
+            }));
+    }
+
+    private ResponseCache.Entry cachedBody(String url) {
+        ResponseCache.Entry cached = cache.get(url);
+        return cached != null && cached.body() != null ? cached : null;
+    }
+
+    private static HttpRequest getRequest(String url, ResponseCache.Entry validators, String accept) {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Accept", accept)
+            .header("Accept-Encoding", ContentEncoding.ACCEPTED)
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+        if (validators != null && validators.etag() != null) {
+            request.header("If-None-Match", validators.etag());
+        }
+        if (validators != null && validators.lastModified() != null) {
+            request.header("If-Modified-Since", validators.lastModified());
+        }
+        return request.build();
+    }
+
+    private static String etag(HttpResponse<?> response) {
+        return response.headers().firstValue("ETag").orElse(null);
+    }
+
+    private static String lastModified(HttpResponse<?> response) {
+        return response.headers().firstValue("Last-Modified").orElse(null);
+    }
+
+    private static String contentEncoding(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Encoding").orElse(null);
+    }
+
+    /**
+     * 압축하도록 설정했으면 1KB 이상의 본문을 gzip으로 압축해 보냅니다 (Content-Encoding: gzip).
+     */
+    @Override
+    public CompletableFuture<Boolean> sendDataAsync(String url, String data) {
+        byte[] body = data.getBytes(StandardCharsets.UTF_8);
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .timeout(Duration.ofSeconds(30));
+        if (compressRequests && body.length >= MIN_COMPRESS_SIZE) {
+            body = gzip(body);
+            request.header("Content-Encoding", "gzip");
+        }
+        request.POST(HttpRequest.BodyPublishers.ofByteArray(body));
+
+        return translate(httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+            .thenApply(response -> isSuccessful(response.statusCode())));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream compressed = new GZIPOutputStream(buffer, GZIP_BUFFER_SIZE)) {
+            compressed.write(body);
+        } catch (IOException e) {
+            // 메모리 버퍼에 쓰므로 발생하지 않습니다.
+            throw new IllegalStateException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public boolean sendStream(String url, BodyWriter body, boolean gzip) throws DataConnectorException {
+        return sendStream(url, body, gzip, WireFormat.JSON);
+    }
+
+    /**
+     * 요청 본문을 파이프로 흘려보내며 전송합니다. HTTP 클라이언트가 파이프를 읽는 동안 호출 스레드가 본문을 쓰므로,
+     * 메모리에는 파이프 버퍼(64KB)만큼만 머뭅니다.
+     */
+    @Override
+    public boolean sendStream(String url, BodyWriter body, boolean gzip, WireFormat format)
+        throws DataConnectorException {
+        PipedInputStream requestBody = new PipedInputStream(PIPE_BUFFER_SIZE);
+        CompletableFuture<HttpResponse<Void>> response;
+        try (PipedOutputStream pipe = new PipedOutputStream(requestBody)) {
+            HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
-                .header("Content-Type", "application/json")
+                .header("Content-Type", format.getMediaType())
                 .header("Accept", "application/json")
                 .timeout(Duration.ofSeconds(30))
-                .POST(HttpRequest.BodyPublishers.ofString(data))
-                .build();
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> requestBody));
+            if (gzip) {
+                request.header("Content-Encoding", "gzip");
+            }
+
+            response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+            // 서버가 본문을 다 읽기 전에 응답하거나 연결이 끊기면 쓰는 쪽이 막히지 않도록 파이프를 닫습니다.
+            response.whenComplete((result, error) -> closeQuietly(requestBody));
+
+            try {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(pipe, GZIP_BUFFER_SIZE);
+                    body.writeTo(compressed);
+                    compressed.finish();
+                } else {
+                    body.writeTo(pipe);
+                }
+            } catch (IOException e) {
+                if (!response.isDone()) {
+                    // 읽는 쪽을 닫아 요청을 중단시키고, 잘린 본문이 정상 종료로 전달되지 않게 합니다.
+                    closeQuietly(requestBody);
+                    throw new DataConnectorException("요청 본문 작성 실패: " + e.getMessage(), e);
+                }
+                // 서버가 먼저 응답한 경우이므로 아래에서 응답 결과를 따릅니다.
+            }
+        } catch (IOException e) {
+            throw new DataConnectorException("네트워크 오류: " + e.getMessage(), e);
+        }
+
+        return await(translate(response.thenApply(result -> isSuccessful(result.statusCode()))));
+    }
 
-            HttpResponse<String> response = httpClient.send(request,
-                HttpResponse.BodyHandlers.ofString());
+    private static boolean isSuccessful(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
 
-            return response.statusCode() >= 200 && response.statusCode() < 300;
+    /**
+     * 네트워크 오류 등으로 예외 완료된 future를 {@link DataConnectorException}으로 완료되도록 바꿉니다.
+     */
+    private static <T> CompletableFuture<T> translate(CompletableFuture<T> future) {
+        return future.handle((result, error) -> {
+            if (error == null) {
+                return result;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+            if (cause instanceof DataConnectorException) {
+                throw new CompletionException(cause);
+            }
+            throw new CompletionException(new DataConnectorException("네트워크 오류: " + cause.getMessage(), cause));
+        });
+    }
 
-        } catch (IOException | InterruptedException e) {
+    /**
+     * 동기 메서드가 비동기 요청의 완료를 기다립니다.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws DataConnectorException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataConnectorException connectorException) {
+                throw connectorException;
+            }
+            throw new DataConnectorException("네트워크 오류: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
             throw new DataConnectorException("네트워크 오류: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 닫기 실패는 전송 결과에 영향을 주지 않습니다.
+        }
+    }
+}
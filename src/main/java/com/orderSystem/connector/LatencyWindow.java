@@ -0,0 +1,41 @@
+package com.orderSystem.connector;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 capacity개를 기억해 백분위수를 계산합니다.
+ */
+final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /**
+     * @param percentile  백분위 (0 초과 1 이하, 예: 0.95)
+     * @param minSamples  계산에 필요한 최소 표본 수
+     * @return 백분위 응답 시간 (나노초, 표본이 부족하면 -1)
+     */
+    long percentile(double percentile, int minSamples) {
+        long[] copy;
+        synchronized (this) {
+            if (size < minSamples || size == 0) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.max(0, Math.min(index, copy.length - 1))];
+    }
+}
@@ -0,0 +1,132 @@
+package com.orderSystem.connector;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 주문 목록을 여러 페이지로 나눠 주는 외부 시스템입니다. 페이지 위치로 각 페이지의 요청 URL을 만듭니다.
+ *
+ * <p>파라미터 이름의 기본값은 offset 방식이 offset/limit, page 방식이 page/size, cursor 방식이 cursor/limit이며,
+ * 주문 배열과 다음 커서는 응답 JSON 안의 위치(JSON Pointer)로 찾습니다. 주문 배열 위치의 기본값은
+ * offset·page 방식이 최상위 배열(""), cursor 방식이 "/items"이고, 다음 커서 위치의 기본값은 "/nextCursor"입니다.</p>
+ */
+public final class PagedSource {
+
+    /** 페이지 하나는 파싱한 뒤 한꺼번에 저장하므로 메모리에 올라가는 크기를 제한합니다. */
+    public static final int MAX_PAGE_SIZE = 10_000;
+
+    private final Pagination pagination;
+    private final String url;
+    private final int pageSize;
+    private final long firstPage;
+    private final String pageParam;
+    private final String sizeParam;
+    private final String itemsPath;
+    private final String cursorPath;
+
+    /**
+     * 페이지 요청 위치입니다.
+     *
+     * @param page   0부터 시작하는 페이지 순번
+     * @param cursor 이 페이지를 요청할 커서 (cursor 방식의 첫 페이지나 다른 방식이면 null)
+     */
+    public record Position(long page, String cursor) {
+
+        public static final Position FIRST = new Position(0, null);
+    }
+
+    public PagedSource(Pagination pagination, String url, int pageSize) {
+        this(pagination, url, pageSize, 0, null, null, null, null);
+    }
+
+    /**
+     * @param pagination 페이지 방식
+     * @param url        목록 URL (쿼리 문자열을 포함할 수 있음)
+     * @param pageSize   페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE})
+     * @param firstPage  page 방식의 첫 페이지 번호 (0 또는 1 등)
+     * @param pageParam  위치 파라미터 이름 (null이면 기본값)
+     * @param sizeParam  크기 파라미터 이름 (null이면 기본값)
+     * @param itemsPath  주문 배열의 JSON Pointer (null이면 기본값)
+     * @param cursorPath 다음 커서의 JSON Pointer (null이면 기본값, cursor 방식에서만 사용)
+     * @throws IllegalArgumentException 값이 올바르지 않은 경우
+     */
+    public PagedSource(Pagination pagination, String url, int pageSize, long firstPage,
+        String pageParam, String sizeParam, String itemsPath, String cursorPath) {
+        if (pagination == null) {
+            throw new IllegalArgumentException("페이지 방식이 필요합니다.");
+        }
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("외부 시스템 URL이 필요합니다.");
+        }
+        if (URI.create(url.trim()).getHost() == null) {
+            throw new IllegalArgumentException("올바르지 않은 외부 시스템 URL입니다: " + url);
+        }
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + pageSize);
+        }
+        if (firstPage < 0) {
+            throw new IllegalArgumentException("첫 페이지 번호는 0 이상이어야 합니다: " + firstPage);
+        }
+        this.pagination = pagination;
+        this.url = url.trim();
+        this.pageSize = pageSize;
+        this.firstPage = firstPage;
+        this.pageParam = pageParam != null ? pageParam : switch (pagination) {
+            case OFFSET -> "offset";
+            case PAGE -> "page";
+            case CURSOR -> "cursor";
+        };
+        this.sizeParam = sizeParam != null ? sizeParam : pagination == Pagination.PAGE ? "size" : "limit";
+        this.itemsPath = itemsPath != null ? itemsPath : pagination == Pagination.CURSOR ? "/items" : "";
+        this.cursorPath = cursorPath != null ? cursorPath : "/nextCursor";
+    }
+
+    /**
+     * 페이지의 요청 URL을 만듭니다.
+     *
+     * @param position 페이지 위치
+     * @return 요청 URL
+     */
+    public String pageUrl(Position position) {
+        StringBuilder pageUrl = new StringBuilder(url).append(url.indexOf('?') < 0 ? '?' : '&');
+        switch (pagination) {
+            case OFFSET -> pageUrl.append(pageParam).append('=').append(position.page() * pageSize).append('&');
+            case PAGE -> pageUrl.append(pageParam).append('=').append(firstPage + position.page()).append('&');
+            case CURSOR -> {
+                if (position.cursor() != null) {
+                    pageUrl.append(pageParam).append('=')
+                        .append(URLEncoder.encode(position.cursor(), StandardCharsets.UTF_8)).append('&');
+                }
+            }
+        }
+        return pageUrl.append(sizeParam).append('=').append(pageSize).toString();
+    }
+
+    /**
+     * 재개 위치를 구분하는 키입니다. 같은 목록을 다른 방식이나 크기로 가져오면 위치가 달라지므로 함께 포함합니다.
+     */
+    public String getKey() {
+        return pagination + " " + firstPage + " " + pageSize + " " + url;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String getItemsPath() {
+        return itemsPath;
+    }
+
+    public String getCursorPath() {
+        return cursorPath;
+    }
+}
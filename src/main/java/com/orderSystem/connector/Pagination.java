@@ -0,0 +1,33 @@
+package com.orderSystem.connector;
+
+import java.util.Locale;
+
+/**
+ * 외부 시스템이 주문 목록을 나눠 주는 방식입니다.
+ */
+public enum Pagination {
+    /** ?offset=0&limit=n, ?offset=n&limit=n ... (짧은 페이지가 오면 끝) */
+    OFFSET,
+    /** ?page=0&size=n, ?page=1&size=n ... (짧은 페이지가 오면 끝) */
+    PAGE,
+    /** ?limit=n, ?cursor=다음커서&limit=n ... (응답의 다음 커서가 없으면 끝) */
+    CURSOR;
+
+    /**
+     * 요청 값(offset, page, cursor)을 대소문자 구분 없이 변환합니다.
+     *
+     * @param value 요청 값
+     * @return 페이지 방식
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static Pagination from(String value) {
+        if (value != null) {
+            for (Pagination pagination : values()) {
+                if (pagination.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return pagination;
+                }
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 페이지 방식입니다 (offset, page 또는 cursor): " + value);
+    }
+}
@@ -0,0 +1,434 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.exception.DataConnectorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 다른 연결자를 감싸 일시적인 실패를 견디게 하는 연결자입니다.
+ *
+ * <ul>
+ *   <li>재시도: 가져오기(GET)가 네트워크 오류, 시간 초과, 408/429/5xx로 실패하면 지수 백오프에 지터를 더한 만큼
+ *       기다렸다가 최대 maxAttempts번까지 다시 요청합니다. 기다리는 동안 스레드를 쓰지 않습니다.</li>
+ *   <li>회로 차단: 호스트별 {@link CircuitBreaker}가 열려 있으면 요청하지 않고 바로 실패합니다.</li>
+ *   <li>헤지 요청: 켜 두면 가져오기 응답이 그 호스트의 최근 p95 응답 시간 안에 오지 않을 때 같은 요청을 하나 더 보내고
+ *       먼저 온 응답을 씁니다. 늦게 온 응답 스트림은 닫습니다.</li>
+ * </ul>
+ *
+ * <p>전송은 대상 시스템이 받았는지 알 수 없으므로 재시도하거나 헤지하지 않고 회로 차단만 적용합니다
+ * (묶음 전송은 {@code OrderBatchPusher}가 실패한 묶음을 다시 보냅니다). 스트림은 응답 헤더를 받으면 성공으로 보며,
+ * 본문을 읽는 중의 실패는 재시도하지 않습니다.</p>
+ */
+public class ResilientDataConnector implements DataConnectorInterface {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientDataConnector.class);
+
+    private static final int LATENCY_SAMPLES = 256;
+    private static final int MIN_HEDGE_SAMPLES = 20;
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    /**
+     * 재시도·회로 차단·헤지 설정입니다.
+     *
+     * @param maxAttempts      가져오기 요청당 최대 시도 횟수 (1이면 재시도하지 않음)
+     * @param initialBackoff   첫 재시도 전 대기 시간 (재시도마다 두 배, 절반은 무작위)
+     * @param maxBackoff       재시도 전 최대 대기 시간
+     * @param attemptTimeout   시도 하나가 응답 헤더를 받기까지 기다리는 시간 (0이면 연결자의 시간 제한만 따름)
+     * @param failureThreshold 회로 차단기를 여는 연속 실패 수
+     * @param openDuration     회로 차단기가 열려 있는 시간
+     * @param hedge            헤지 요청 사용 여부
+     * @param hedgeMinDelay    헤지 요청을 보내기 전 최소 대기 시간
+     */
+    public record Policy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration attemptTimeout,
+                         int failureThreshold, Duration openDuration, boolean hedge, Duration hedgeMinDelay) {
+
+        public Policy {
+            if (maxAttempts <= 0 || failureThreshold <= 0 || initialBackoff.isNegative()
+                || maxBackoff.compareTo(initialBackoff) < 0 || attemptTimeout.isNegative()
+                || openDuration.isNegative() || hedgeMinDelay.isNegative()) {
+                throw new IllegalArgumentException(String.format(
+                    "잘못된 복원력 설정입니다: maxAttempts=%d, backoff=%s~%s, attemptTimeout=%s, "
+                        + "failureThreshold=%d, openDuration=%s, hedgeMinDelay=%s",
+                    maxAttempts, initialBackoff, maxBackoff, attemptTimeout,
+                    failureThreshold, openDuration, hedgeMinDelay));
+            }
+        }
+    }
+
+    /**
+     * 누적 통계입니다.
+     *
+     * @param retries        재시도 횟수
+     * @param shortCircuited 회로 차단으로 보내지 않은 요청 수
+     * @param hedges         보낸 헤지 요청 수
+     * @param hedgeWins      헤지 요청이 먼저 응답한 횟수
+     * @param openCircuits   현재 열려 있는 회로 차단기 수
+     */
+    public record Stats(long retries, long shortCircuited, long hedges, long hedgeWins, int openCircuits) {
+    }
+
+    private final DataConnectorInterface delegate;
+    private final Policy policy;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    public ResilientDataConnector(DataConnectorInterface delegate, Policy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public String fetchData(String url) throws DataConnectorException {
+        return await(fetchDataAsync(url));
+    }
+
+    @Override
+    public InputStream fetchStream(String url) throws DataConnectorException {
+        return await(fetchStreamAsync(url));
+    }
+
+    @Override
+    public boolean sendData(String url, String data) throws DataConnectorException {
+        return await(sendDataAsync(url, data));
+    }
+
+    @Override
+    public boolean sendStream(String url, BodyWriter body, boolean gzip) throws DataConnectorException {
+        return sendStream(url, body, gzip, WireFormat.JSON);
+    }
+
+    @Override
+    public boolean sendStream(String url, BodyWriter body, boolean gzip, WireFormat format)
+        throws DataConnectorException {
+        CircuitBreaker breaker = acquire(url);
+        try {
+            boolean success = delegate.sendStream(url, body, gzip, format);
+            breaker.onSuccess();
+            return success;
+        } catch (DataConnectorException e) {
+            report(breaker, e);
+            throw e;
+        } catch (RuntimeException e) {
+            report(breaker, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> fetchDataAsync(String url) {
+        return fetch(url, () -> delegate.fetchDataAsync(url), ignored -> {
+        });
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamAsync(String url) {
+        return fetch(url, () -> delegate.fetchStreamAsync(url), ResilientDataConnector::closeQuietly);
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamIfModifiedAsync(String url) {
+        return fetch(url, () -> delegate.fetchStreamIfModifiedAsync(url), ResilientDataConnector::closeQuietly);
+    }
+
+    @Override
+    public void invalidate(String url) {
+        delegate.invalidate(url);
+    }
+
+    @Override
+    public void invalidateAll() {
+        delegate.invalidateAll();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendDataAsync(String url, String data) {
+        CircuitBreaker breaker;
+        try {
+            breaker = acquire(url);
+        } catch (DataConnectorException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return invoke(() -> delegate.sendDataAsync(url, data)).whenComplete((success, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+            } else {
+                report(breaker, unwrap(error));
+            }
+        });
+    }
+
+    /**
+     * @return 호스트별 회로 차단기 상태 (호스트:포트 순)
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((host, breaker) -> states.put(host, breaker.getState()));
+        return states;
+    }
+
+    public Stats getStats() {
+        int open = (int) breakers.values().stream()
+            .filter(breaker -> breaker.getState() != CircuitBreaker.State.CLOSED)
+            .count();
+        return new Stats(retries.sum(), shortCircuited.sum(), hedges.sum(), hedgeWins.sum(), open);
+    }
+
+    /**
+     * 가져오기 요청을 재시도·헤지와 함께 보냅니다.
+     *
+     * @param discard 쓰지 않게 된 응답(늦게 온 헤지 응답, 시간 초과 뒤 도착한 응답)을 정리하는 함수
+     */
+    private <T> CompletableFuture<T> fetch(String url, Supplier<CompletableFuture<T>> request, Consumer<T> discard) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(url, request, discard, 1, result);
+        return result;
+    }
+
+    private <T> void attempt(String url, Supplier<CompletableFuture<T>> request, Consumer<T> discard,
+        int attempt, CompletableFuture<T> result) {
+        CircuitBreaker breaker;
+        try {
+            breaker = acquire(url);
+        } catch (DataConnectorException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        long started = System.nanoTime();
+        LatencyWindow latency = latencies.computeIfAbsent(hostOf(url), ignored -> new LatencyWindow(LATENCY_SAMPLES));
+        CompletableFuture<T> response = policy.hedge()
+            ? hedged(request, discard, latency)
+            : limited(request, discard);
+        response.whenComplete((value, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+                latency.record(System.nanoTime() - started);
+                result.complete(value);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            report(breaker, cause);
+            if (!isRetryable(cause) || attempt >= policy.maxAttempts()) {
+                result.completeExceptionally(toConnectorException(cause));
+                return;
+            }
+            long delay = backoffMillis(attempt);
+            retries.increment();
+            logger.warn("가져오기 실패, {}ms 뒤 재시도 ({}/{}): {} - {}",
+                delay, attempt + 1, policy.maxAttempts(), url, cause.getMessage());
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+                .execute(() -> attempt(url, request, discard, attempt + 1, result));
+        });
+    }
+
+    /**
+     * 요청을 보내고, p95 응답 시간 안에 응답이 없으면 같은 요청을 하나 더 보내 먼저 성공한 응답을 씁니다.
+     * 응답 시간 표본이 부족하면 헤지하지 않습니다.
+     */
+    private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> request, Consumer<T> discard,
+        LatencyWindow latency) {
+        long p95 = latency.percentile(HEDGE_PERCENTILE, MIN_HEDGE_SAMPLES);
+        if (p95 < 0) {
+            return limited(request, discard);
+        }
+        long delayNanos = Math.max(p95, policy.hedgeMinDelay().toNanos());
+
+        Race<T> race = new Race<>(discard);
+        race.track(limited(request, discard), false);
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (race.addHedge()) {
+                hedges.increment();
+                race.track(limited(request, discard), true);
+            }
+        });
+        return race.result;
+    }
+
+    /**
+     * 먼저 성공한 응답으로 완료되고, 모든 요청이 실패하면 마지막 실패로 완료됩니다.
+     */
+    private final class Race<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Consumer<T> discard;
+        private final AtomicBoolean won = new AtomicBoolean();
+        private int outstanding = 1;
+
+        private Race(Consumer<T> discard) {
+            this.discard = discard;
+        }
+
+        private synchronized boolean addHedge() {
+            if (result.isDone()) {
+                return false;
+            }
+            outstanding++;
+            return true;
+        }
+
+        private void track(CompletableFuture<T> response, boolean hedge) {
+            response.whenComplete((value, error) -> {
+                if (error == null) {
+                    // 통계가 결과보다 먼저 보이도록 이긴 쪽을 먼저 정한 뒤 완료합니다.
+                    if (won.compareAndSet(false, true)) {
+                        if (hedge) {
+                            hedgeWins.increment();
+                        }
+                        result.complete(value);
+                    } else {
+                        discard.accept(value);
+                    }
+                    return;
+                }
+                synchronized (this) {
+                    if (--outstanding == 0) {
+                        result.completeExceptionally(error);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 시도 시간 제한을 적용합니다. 시간이 지난 뒤 도착한 응답은 정리합니다.
+     */
+    private <T> CompletableFuture<T> limited(Supplier<CompletableFuture<T>> request, Consumer<T> discard) {
+        CompletableFuture<T> response = invoke(request);
+        if (policy.attemptTimeout().isZero()) {
+            return response;
+        }
+        CompletableFuture<T> limited = response.copy()
+            .orTimeout(policy.attemptTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        limited.whenComplete((value, error) -> {
+            if (unwrap(error) instanceof TimeoutException) {
+                response.thenAccept(discard);
+            }
+        });
+        return limited;
+    }
+
+    private static <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CircuitBreaker acquire(String url) throws DataConnectorException {
+        String host = hostOf(url);
+        CircuitBreaker breaker = breakers.computeIfAbsent(host,
+            ignored -> new CircuitBreaker(policy.failureThreshold(), policy.openDuration()));
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            throw new DataConnectorException("외부 시스템 회로 차단 중이라 요청하지 않았습니다: " + host);
+        }
+        return breaker;
+    }
+
+    private static void report(CircuitBreaker breaker, Throwable cause) {
+        if (isRetryable(cause)) {
+            breaker.onFailure();
+        } else {
+            // 4xx 등은 호스트가 응답한 것이므로 차단 사유가 아닙니다.
+            breaker.onSuccess();
+        }
+    }
+
+    /**
+     * 네트워크 오류, 시간 초과, 408/429/5xx 응답이면 다시 시도할 만한 실패입니다.
+     */
+    static boolean isRetryable(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return true;
+        }
+        if (cause instanceof DataConnectorException connectorException) {
+            int status = connectorException.getStatusCode();
+            if (status != 0) {
+                return status == 408 || status == 429 || status >= 500;
+            }
+            return connectorException.getCause() instanceof IOException;
+        }
+        return false;
+    }
+
+    /**
+     * 지수 백오프에 지터를 더한 대기 시간입니다. 상한의 절반은 고정, 나머지 절반은 무작위로 정해
+     * 여러 요청이 한꺼번에 다시 몰리지 않게 합니다.
+     */
+    private long backoffMillis(int attempt) {
+        long initial = policy.initialBackoff().toMillis();
+        long cap = Math.min(policy.maxBackoff().toMillis(), initial << Math.min(attempt - 1, 30));
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    private static String hostOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            return uri.getHost() == null ? url : uri.getHost().toLowerCase(Locale.ROOT) + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static DataConnectorException toConnectorException(Throwable cause) {
+        if (cause instanceof DataConnectorException connectorException) {
+            return connectorException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new DataConnectorException("외부 시스템 응답 시간 초과", cause);
+        }
+        return new DataConnectorException("네트워크 오류: " + cause.getMessage(), cause);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws DataConnectorException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw toConnectorException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataConnectorException("네트워크 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        if (inputStream == null) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 쓰지 않는 응답이므로 무시합니다.
+        }
+    }
+}
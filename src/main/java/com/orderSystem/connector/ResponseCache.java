@@ -0,0 +1,201 @@
+package com.orderSystem.connector;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * URL별 응답 검증자(ETag, Last-Modified)를 기억하고, 켜 두면 작은 응답 본문까지 보관하는 LRU 캐시입니다.
+ *
+ * <p>검증자는 다음 요청에 If-None-Match / If-Modified-Since로 실어 보내 변하지 않은 응답(304)을 본문 없이
+ * 받는 데 씁니다. 본문 보관을 켜면 ttl 동안은 요청 없이 보관한 응답을 쓰고, ttl이 지나면 검증자로 다시 확인합니다.
+ * 항목 수는 maxEntries개를 넘지 않으며, 가장 오래 쓰이지 않은 항목부터 버립니다.</p>
+ */
+public final class ResponseCache {
+
+    /**
+     * 캐시 항목입니다.
+     *
+     * @param etag          ETag 응답 헤더 (없으면 null)
+     * @param lastModified  Last-Modified 응답 헤더 (없으면 null)
+     * @param body          보관한 응답 본문 (보관하지 않았으면 null)
+     * @param storedAtNanos 마지막으로 받거나 확인한 시각 ({@link System#nanoTime()})
+     */
+    public record Entry(String etag, String lastModified, byte[] body, long storedAtNanos) {
+
+        public boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+
+    /**
+     * 캐시 사용 통계입니다.
+     *
+     * @param size        항목 수
+     * @param hits        요청 없이 보관한 응답을 쓴 횟수
+     * @param revalidated 304 응답으로 보관한 응답을 다시 쓴 횟수
+     * @param misses      전체 응답을 받은 횟수
+     */
+    public record Stats(int size, long hits, long revalidated, long misses) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final boolean storeBodies;
+    private final long ttlNanos;
+    private final long maxBodySize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 검증자만 기억하고 본문은 보관하지 않는 캐시를 만듭니다.
+     *
+     * @param maxEntries 최대 항목 수
+     */
+    public ResponseCache(int maxEntries) {
+        this(maxEntries, false, Duration.ZERO, 0);
+    }
+
+    /**
+     * @param maxEntries  최대 항목 수
+     * @param storeBodies 응답 본문 보관 여부
+     * @param ttl         보관한 응답을 다시 확인하지 않고 쓰는 시간
+     * @param maxBodySize 보관할 응답 본문의 최대 크기 (바이트, 넘는 응답은 보관하지 않음)
+     */
+    public ResponseCache(int maxEntries, boolean storeBodies, Duration ttl, long maxBodySize) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 항목 수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        if (ttl.isNegative() || maxBodySize < 0) {
+            throw new IllegalArgumentException("잘못된 캐시 설정입니다: ttl=" + ttl + ", maxBodySize=" + maxBodySize);
+        }
+        this.storeBodies = storeBodies;
+        this.ttlNanos = ttl.toNanos();
+        this.maxBodySize = maxBodySize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param url 요청 URL
+     * @return 캐시 항목 (없으면 null)
+     */
+    public synchronized Entry get(String url) {
+        return entries.get(url);
+    }
+
+    /**
+     * 항목을 다시 확인하지 않고 써도 되는지 여부입니다. 본문 보관을 끈 캐시의 항목은 항상 다시 확인합니다.
+     *
+     * @param entry 캐시 항목
+     * @return ttl이 지나지 않았으면 true
+     */
+    public boolean isFresh(Entry entry) {
+        return storeBodies && System.nanoTime() - entry.storedAtNanos() < ttlNanos;
+    }
+
+    /**
+     * 전체 응답의 검증자를 기억합니다. 본문은 보관하지 않으며, 검증자가 없으면 항목을 지웁니다.
+     *
+     * @param url          요청 URL
+     * @param etag         ETag 응답 헤더
+     * @param lastModified Last-Modified 응답 헤더
+     */
+    public void storeValidators(String url, String etag, String lastModified) {
+        misses.increment();
+        put(url, etag, lastModified, null);
+    }
+
+    /**
+     * 전체 응답의 검증자와 본문을 기억합니다. 본문을 보관할 수 없으면(보관을 껐거나 너무 크면) 항목을 지웁니다.
+     *
+     * @param url          요청 URL
+     * @param etag         ETag 응답 헤더
+     * @param lastModified Last-Modified 응답 헤더
+     * @param body         응답 본문
+     */
+    public void storeBody(String url, String etag, String lastModified, byte[] body) {
+        misses.increment();
+        if (storeBodies && body.length <= maxBodySize) {
+            put(url, etag, lastModified, body);
+        } else {
+            invalidate(url);
+        }
+    }
+
+    private synchronized void put(String url, String etag, String lastModified, byte[] body) {
+        if (etag == null && lastModified == null && body == null) {
+            entries.remove(url);
+        } else {
+            entries.put(url, new Entry(etag, lastModified, body, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 304 응답으로 항목이 여전히 유효함을 확인했을 때 호출합니다.
+     *
+     * @param url 요청 URL
+     */
+    public void revalidated(String url) {
+        revalidated.increment();
+        synchronized (this) {
+            Entry entry = entries.get(url);
+            if (entry != null) {
+                entries.put(url, new Entry(entry.etag(), entry.lastModified(), entry.body(), System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * 요청 없이 항목을 썼을 때 호출합니다.
+     */
+    public void hit() {
+        hits.increment();
+    }
+
+    /**
+     * 항목을 지웁니다. 다음 요청은 조건 없이 전체 응답을 받습니다.
+     *
+     * @param url 요청 URL
+     */
+    public synchronized void invalidate(String url) {
+        entries.remove(url);
+    }
+
+    /**
+     * 보관한 본문만 버리고 검증자는 남깁니다. 검증자도 없으면 항목을 지웁니다.
+     *
+     * @param url 요청 URL
+     */
+    public synchronized void dropBody(String url) {
+        Entry entry = entries.get(url);
+        if (entry != null && entry.body() != null) {
+            if (entry.hasValidators()) {
+                entries.put(url, new Entry(entry.etag(), entry.lastModified(), null, entry.storedAtNanos()));
+            } else {
+                entries.remove(url);
+            }
+        }
+    }
+
+    /**
+     * 모든 항목을 지웁니다.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public Stats getStats() {
+        return new Stats(size(), hits.sum(), revalidated.sum(), misses.sum());
+    }
+}
@@ -0,0 +1,41 @@
+package com.orderSystem.connector;
+
+import java.util.Locale;
+
+/**
+ * 외부 시스템과 주고받는 주문 데이터의 형식입니다.
+ */
+public enum WireFormat {
+    /** JSON (application/json) */
+    JSON("application/json"),
+    /** Jackson Smile 바이너리 JSON (application/x-jackson-smile). 필드 이름과 반복 문자열을 참조로 줄여 더 작고 빠릅니다. */
+    SMILE("application/x-jackson-smile");
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 설정 값(json, smile)을 대소문자 구분 없이 변환합니다.
+     *
+     * @param value 설정 값
+     * @return 데이터 형식
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static WireFormat from(String value) {
+        if (value != null) {
+            for (WireFormat format : values()) {
+                if (format.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 데이터 형식입니다 (json 또는 smile): " + value);
+    }
+}
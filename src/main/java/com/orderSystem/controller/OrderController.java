@@ -1,20 +1,50 @@
 package com.orderSystem.controller;
 
+import com.orderSystem.connector.PagedSource;
+import com.orderSystem.connector.Pagination;
 import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
 import com.orderSystem.dto.ApiResponse;
+import com.orderSystem.dto.BulkStatusUpdateRequest;
+import com.orderSystem.dto.BulkStatusUpdateResult;
+import com.orderSystem.dto.CursorPage;
 import com.orderSystem.dto.ErrorResponse;
+import com.orderSystem.dto.MultiSyncRequest;
+import com.orderSystem.dto.MultiSyncResult;
+import com.orderSystem.dto.PagedSyncRequest;
+import com.orderSystem.dto.PagedSyncResult;
+import com.orderSystem.dto.StatusUpdateRequest;
+import com.orderSystem.dto.SyncJobStatus;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.exception.IllegalStatusTransitionException;
 import com.orderSystem.exception.OrderNotFoundException;
 import com.orderSystem.exception.OrderSyncException;
+import com.orderSystem.exception.OrderVersionConflictException;
+import com.orderSystem.repository.OrderChangeFeed;
 import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.service.MultiSourceSyncService;
+import com.orderSystem.service.OrderIngestService;
+import com.orderSystem.service.OrderStatusService;
 import com.orderSystem.service.OrderSyncService;
+import com.orderSystem.service.PushMode;
+import com.orderSystem.service.SyncJob;
+import com.orderSystem.service.SyncJobService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -23,26 +53,79 @@ public class OrderController {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final OrderSyncService orderSyncService;
     private final OrderRepository orderRepository;
+    private final OrderIngestService orderIngestService;
+    private final OrderStatusService orderStatusService;
+    private final MultiSourceSyncService multiSourceSyncService;
+    private final SyncJobService syncJobService;
 
     @Autowired
-    public OrderController(OrderSyncService orderSyncService, OrderRepository orderRepository) {
+    public OrderController(OrderSyncService orderSyncService, OrderRepository orderRepository,
+        OrderIngestService orderIngestService, OrderStatusService orderStatusService,
+        MultiSourceSyncService multiSourceSyncService, SyncJobService syncJobService) {
         this.orderSyncService = orderSyncService;
         this.orderRepository = orderRepository;
+        this.orderIngestService = orderIngestService;
+        this.orderStatusService = orderStatusService;
+        this.multiSourceSyncService = multiSourceSyncService;
+        this.syncJobService = syncJobService;
     }
 
     /**
-     * 모든 주문을 조회합니다.
+     * 주문 목록을 조회합니다.
+     * 조건이 주어지면 보조 인덱스를 사용해 해당 주문만 조회하고, 없으면 모든 주문을 반환합니다.
+     * limit 또는 cursor가 주어지면 주문 ID 기준 키셋 페이지({@link CursorPage})로 응답합니다.
      *
-     * @return 모든 주문 리스트
+     * @param status       주문 상태 조건
+     * @param customerName 고객명 조건
+     * @param from         주문일시 시작 조건 (포함)
+     * @param to           주문일시 종료 조건 (포함)
+     * @param limit        페이지 크기
+     * @param cursor       이전 응답의 nextCursor
+     * @return 주문 리스트 또는 주문 페이지
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Order>>> getAllOrders() {
+    public ResponseEntity<ApiResponse<?>> getAllOrders(
+        @RequestParam(required = false) OrderStatus status,
+        @RequestParam(required = false) String customerName,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor) {
         try {
-            List<Order> orders = orderRepository.findAll();
-            logger.info("전체 주문 조회 완료: {}개", orders.size());
-            return ResponseEntity.ok(ApiResponse.success("주문 목록 조회 완료", orders));
+            if (limit == null && cursor == null) {
+                List<Order> orders = orderRepository.search(status, customerName, from, to);
+                logger.info("주문 조회 완료: {}개", orders.size());
+                return ResponseEntity.ok(ApiResponse.success("주문 목록 조회 완료", orders));
+            }
+
+            int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다."));
+            }
+
+            // 한 건 더 읽어 다음 페이지 존재 여부를 판단합니다.
+            String afterOrderId = CursorPage.decodeCursor(cursor);
+            List<Order> orders = orderRepository.searchPage(
+                status, customerName, from, to, afterOrderId, pageSize + 1);
+            String nextCursor = null;
+            if (orders.size() > pageSize) {
+                orders = orders.subList(0, pageSize);
+                nextCursor = CursorPage.encodeCursor(orders.get(pageSize - 1).getOrderId());
+            }
+
+            logger.info("주문 페이지 조회 완료: {}개", orders.size());
+            return ResponseEntity.ok(
+                ApiResponse.success("주문 페이지 조회 완료", new CursorPage<>(orders, nextCursor)));
+        } catch (IllegalArgumentException e) {
+            logger.warn("주문 목록 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage()));
         } catch (Exception e) {
             logger.error("주문 목록 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -50,6 +133,43 @@ public class OrderController {
         }
     }
 
+    /**
+     * 변경 피드에서 from 순번부터 변경 이벤트를 읽습니다.
+     * 응답의 nextSequence를 다음 요청의 from으로 전달하며, overrun이 true이면 이벤트가 이미 덮어써진 것이므로
+     * 전체 주문을 다시 조회해 맞춘 뒤 그 직전의 lastSequence 다음 순번부터 이어 읽어야 합니다.
+     *
+     * @param from  읽기 시작할 순번 (없으면 남아 있는 가장 오래된 순번)
+     * @param limit 최대 이벤트 수
+     * @return 변경 이벤트와 다음 순번
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<OrderChangeFeed.Batch>> getChanges(
+        @RequestParam(required = false) Long from,
+        @RequestParam(required = false) Integer limit) {
+        try {
+            int maxEvents = limit == null ? DEFAULT_PAGE_SIZE : limit;
+            if (maxEvents < 1 || maxEvents > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("이벤트 수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다."));
+            }
+            OrderChangeFeed changeFeed = orderRepository.getChangeFeed();
+            long fromSequence = from == null ? changeFeed.oldestSequence() : from;
+            OrderChangeFeed.Batch batch = changeFeed.read(fromSequence, maxEvents);
+            if (batch.overrun()) {
+                logger.warn("변경 피드 덮어쓰기: 요청 {}, 남아 있는 가장 오래된 순번 {}", fromSequence, batch.nextSequence());
+            }
+            return ResponseEntity.ok(ApiResponse.success("변경 이벤트 조회 완료", batch));
+        } catch (IllegalArgumentException e) {
+            logger.warn("변경 이벤트 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("변경 이벤트 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.failure("변경 이벤트 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 특정 주문을 조회합니다.
      *
@@ -74,76 +194,288 @@ public class OrderController {
     }
 
     /**
-     * 외부 시스템에서 주문 데이터를 가져와 동기화합니다.
+     * 주문 상태를 바꿉니다. expectedVersion이 주어지면 현재 버전이 같을 때만 바꿉니다.
      *
-     * @param externalUrl 외부 시스템 URL
-     * @return 동기화 결과
+     * @param orderId 주문 ID
+     * @param request 바꿀 상태와 기대 버전
+     * @return 변경된 주문 (새 버전 포함)
      */
-    @PostMapping("/sync-from")
-    public ResponseEntity<ApiResponse<String>> syncFromExternal(@RequestParam String externalUrl) {
+    @PatchMapping("/{orderId}/status")
+    public ResponseEntity<ApiResponse<Order>> updateOrderStatus(@PathVariable String orderId,
+        @RequestBody StatusUpdateRequest request) {
         try {
-            if (externalUrl == null || externalUrl.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                    .body(ApiResponse.failure("외부 시스템 URL이 필요합니다."));
-            }
-
-            int beforeCount = orderRepository.count();
-            orderSyncService.syncOrdersFromExternal(externalUrl);
-            int afterCount = orderRepository.count();
-            int syncedCount = afterCount - beforeCount;
+            Order order = orderStatusService.changeStatus(
+                orderId, request.getStatus(), request.getExpectedVersion());
+            return ResponseEntity.ok(ApiResponse.success("주문 상태 변경 완료", order));
+        } catch (OrderNotFoundException e) {
+            logger.warn("주문 상태 변경 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (OrderVersionConflictException e) {
+            logger.warn("주문 상태 변경 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (IllegalStatusTransitionException e) {
+            logger.warn("주문 상태 변경 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("주문 상태 변경 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("주문 상태 변경 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.failure("주문 상태 변경 실패: " + e.getMessage()));
+        }
+    }
 
-            String message = String.format("외부 시스템에서 %d개의 주문을 성공적으로 동기화했습니다.", syncedCount);
-            logger.info(message);
-            return ResponseEntity.ok(ApiResponse.success(message, externalUrl));
+    /**
+     * 여러 주문의 상태를 한 번에 바꿉니다. 주문마다 독립적으로 전이하며 실패한 주문은 사유와 함께 응답합니다.
+     *
+     * @param request 주문 ID 목록과 바꿀 상태
+     * @return 변경된 주문 수와 실패 목록
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResult>> updateOrderStatusAll(
+        @RequestBody BulkStatusUpdateRequest request) {
+        try {
+            BulkStatusUpdateResult result =
+                orderStatusService.changeStatusAll(request.getOrderIds(), request.getStatus());
+            String message = String.format("%d개의 주문 상태를 변경했습니다. (실패 %d개)",
+                result.getUpdatedCount(), result.getFailedCount());
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (IllegalArgumentException e) {
+            logger.warn("주문 상태 일괄 변경 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("주문 상태 일괄 변경 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.failure("시스템 오류: " + e.getMessage()));
+        }
+    }
 
-        } catch (OrderSyncException e) {
-            logger.error("주문 동기화 실패: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.failure("동기화 실패: " + e.getMessage()));
+    /**
+     * NDJSON 본문(한 줄에 주문 하나)을 스트리밍으로 읽어 묶음 단위로 저장합니다.
+     * 내부 생산자가 대량의 주문을 외부 URL 동기화 없이 바로 넣을 때 사용합니다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 저장한 주문 수
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<Long>> bulkIngest(InputStream body) {
+        try {
+            long savedCount = orderIngestService.ingestNdjson(body);
+            String message = String.format("%d개의 주문을 일괄 저장했습니다.", savedCount);
+            return ResponseEntity.ok(ApiResponse.success(message, savedCount));
+        } catch (DataTransformException | IllegalArgumentException e) {
+            logger.warn("주문 일괄 저장 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("일괄 저장 실패: " + e.getMessage()));
         } catch (Exception e) {
-            logger.error("예상치 못한 오류: {}", e.getMessage());
+            logger.error("주문 일괄 저장 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.failure("시스템 오류: " + e.getMessage()));
         }
     }
 
     /**
-     * 내부 주문 데이터를 외부 시스템으로 전송합니다.
+     * 외부 시스템에서 주문 데이터를 가져오는 동기화 작업을 받습니다.
+     * 작업은 뒤에서 실행되며, 응답(202)의 작업 ID로 진행 상황을 조회하거나 취소할 수 있습니다.
+     * 같은 URL의 가져오기 작업이 이미 있으면 그 작업을 돌려줍니다.
      *
      * @param externalUrl 외부 시스템 URL
-     * @return 전송 결과
+     * @return 받은 작업의 상태
      */
-    @PostMapping("/sync-to")
-    public ResponseEntity<ApiResponse<String>> sendToExternal(@RequestParam String externalUrl) {
+    @PostMapping("/sync-from")
+    public ResponseEntity<ApiResponse<SyncJobStatus>> syncFromExternal(@RequestParam String externalUrl) {
+        if (externalUrl == null || externalUrl.trim().isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("외부 시스템 URL이 필요합니다."));
+        }
+
         try {
-            if (externalUrl == null || externalUrl.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                    .body(ApiResponse.failure("외부 시스템 URL이 필요합니다."));
-            }
+            return accepted(syncJobService.submitPull(externalUrl), "주문 동기화 작업을 시작했습니다.");
+        } catch (RejectedExecutionException e) {
+            return syncFailure(e, "주문 동기화 실패", "동기화 실패: ");
+        }
+    }
+
+    /**
+     * 여러 외부 시스템에서 주문 데이터를 동시에 가져와 동기화합니다.
+     * URL 목록(urls) 또는 설정된 소스 그룹 이름(group) 중 하나를 지정합니다.
+     *
+     * @param request 동기화할 소스
+     * @return 소스별 주문 수, 응답 크기, 소요 시간을 모은 보고
+     */
+    @PostMapping("/sync-from-many")
+    public CompletableFuture<ResponseEntity<ApiResponse<MultiSyncResult>>> syncFromMany(
+        @RequestBody MultiSyncRequest request) {
+        boolean hasUrls = request.getUrls() != null && !request.getUrls().isEmpty();
+        boolean hasGroup = request.getGroup() != null && !request.getGroup().isBlank();
+        if (hasUrls == hasGroup) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(ApiResponse.failure("urls와 group 중 하나만 지정해야 합니다.")));
+        }
 
-            boolean success = orderSyncService.sendOrdersToExternal(externalUrl);
+        CompletableFuture<MultiSyncResult> pending;
+        try {
+            pending = hasUrls
+                ? multiSourceSyncService.syncAll(request.getUrls())
+                : multiSourceSyncService.syncGroup(request.getGroup());
+        } catch (IllegalArgumentException e) {
+            logger.warn("여러 소스 동기화 요청 오류: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage())));
+        }
 
-            if (success) {
-                int orderCount = orderRepository.count();
-                String message = String.format("총 %d개의 주문을 외부 시스템으로 성공적으로 전송했습니다.", orderCount);
+        return pending.handle((result, error) -> {
+            if (error != null) {
+                return syncFailure(error, "여러 소스 동기화 실패", "동기화 실패: ");
+            }
+            if (result.isSuccess()) {
+                String message = String.format(
+                    "외부 시스템 %d곳에서 %d개의 주문을 성공적으로 동기화했습니다. (신규 %d, 변경 %d, 받은 주문 %d개, %dms)",
+                    result.getSources().size(), result.getInsertedCount() + result.getUpdatedCount(),
+                    result.getInsertedCount(), result.getUpdatedCount(), result.getOrderCount(),
+                    result.getElapsedMillis());
                 logger.info(message);
-                return ResponseEntity.ok(ApiResponse.success(message, externalUrl));
-            } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.failure("외부 시스템으로 데이터 전송에 실패했습니다."));
+                return ResponseEntity.ok(ApiResponse.success(message, result));
             }
+            // 소스별 결과를 함께 돌려주어 어떤 소스가 실패했는지 알 수 있게 합니다.
+            String message = String.format("외부 시스템 %d곳 중 %d곳에서 동기화에 실패했습니다.",
+                result.getSources().size(), result.getFailedCount());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponse<>(false, message, result));
+        });
+    }
 
-        } catch (OrderSyncException e) {
-            logger.error("주문 전송 실패: {}", e.getMessage());
+    /**
+     * 여러 페이지로 나뉜 외부 주문 목록을 가져와 동기화합니다 (offset, page, cursor 방식).
+     * 현재 페이지를 저장하는 동안 다음 페이지를 미리 받아 두며, resume이 true이면 지난번 실패한 위치부터 다시 시작합니다.
+     *
+     * @param request 페이지 소스와 재개 여부
+     * @return 저장한 페이지·주문 수와 실패 시 재개 위치
+     */
+    @PostMapping("/sync-from-paged")
+    public CompletableFuture<ResponseEntity<ApiResponse<PagedSyncResult>>> syncFromPaged(
+        @RequestBody PagedSyncRequest request) {
+        PagedSource source;
+        try {
+            source = new PagedSource(Pagination.from(request.getPagination()), request.getUrl(),
+                request.getPageSize(), request.getFirstPage(), request.getPageParam(), request.getSizeParam(),
+                request.getItemsPath(), request.getCursorPath());
+        } catch (IllegalArgumentException e) {
+            logger.warn("페이지 동기화 요청 오류: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage())));
+        }
+
+        return orderSyncService.syncPagedAsync(source, request.isResume()).handle((result, error) -> {
+            if (error != null) {
+                return syncFailure(error, "페이지 동기화 실패", "동기화 실패: ");
+            }
+            if (result.isSuccess()) {
+                String message = String.format("외부 시스템에서 %d페이지, %d개의 주문을 성공적으로 동기화했습니다.",
+                    result.getPageCount(), result.getOrderCount());
+                logger.info(message);
+                return ResponseEntity.ok(ApiResponse.success(message, result));
+            }
+            // 재개 위치를 함께 돌려주어 resume=true로 이어서 받을 수 있게 합니다.
+            String message = String.format("%d페이지에서 동기화가 중단되었습니다: %s",
+                result.getResumePage(), result.getError());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.failure("전송 실패: " + e.getMessage()));
-        } catch (Exception e) {
-            logger.error("예상치 못한 오류: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.failure("시스템 오류: " + e.getMessage()));
+                .body(new ApiResponse<>(false, message, result));
+        });
+    }
+
+    /**
+     * 내부 주문 데이터를 외부 시스템으로 전송하는 동기화 작업을 받습니다.
+     * mode=delta이면 이 URL이 마지막으로 전송을 확인한 이후 생성되거나 바뀐 주문만 보냅니다.
+     * 작업은 뒤에서 실행되며, 같은 URL로의 전송 작업이 이미 있으면 그 작업을 돌려줍니다.
+     *
+     * @param externalUrl 외부 시스템 URL
+     * @param mode        전송 방식 (full 또는 delta)
+     * @return 받은 작업의 상태
+     */
+    @PostMapping("/sync-to")
+    public ResponseEntity<ApiResponse<SyncJobStatus>> sendToExternal(@RequestParam String externalUrl,
+        @RequestParam(defaultValue = "full") String mode) {
+        if (externalUrl == null || externalUrl.trim().isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("외부 시스템 URL이 필요합니다."));
+        }
+        PushMode pushMode;
+        try {
+            pushMode = PushMode.from(mode);
+        } catch (IllegalArgumentException e) {
+            logger.warn("주문 전송 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure(e.getMessage()));
+        }
+
+        try {
+            return accepted(syncJobService.submitPush(externalUrl, pushMode), "주문 전송 작업을 시작했습니다.");
+        } catch (RejectedExecutionException e) {
+            return syncFailure(e, "주문 전송 실패", "전송 실패: ");
         }
     }
 
+    /**
+     * 동기화 작업의 상태와 진행 상황(읽은 바이트, 파싱·저장한 주문 수, 경과 시간, 처리량)을 조회합니다.
+     * 끝난 작업은 결과도 함께 담깁니다.
+     *
+     * @param id 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/sync-jobs/{id}")
+    public ResponseEntity<ApiResponse<SyncJobStatus>> getSyncJob(@PathVariable String id) {
+        SyncJob job = syncJobService.get(id);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.failure("동기화 작업을 찾을 수 없습니다: " + id));
+        }
+        return ResponseEntity.ok(ApiResponse.success("동기화 작업 조회 완료", job.toStatus()));
+    }
+
+    /**
+     * 동기화 작업의 취소를 요청합니다. 기다리던 작업은 바로 취소되고, 실행 중인 작업은 주문 하나(전송은 묶음 하나)를
+     * 처리한 뒤 멈춥니다. 그 전까지 저장·전송한 주문은 되돌리지 않습니다.
+     *
+     * @param id 작업 ID
+     * @return 작업 상태 (이미 끝난 작업이면 409)
+     */
+    @DeleteMapping("/sync-jobs/{id}")
+    public ResponseEntity<ApiResponse<SyncJobStatus>> cancelSyncJob(@PathVariable String id) {
+        SyncJob job = syncJobService.cancel(id);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.failure("동기화 작업을 찾을 수 없습니다: " + id));
+        }
+        SyncJobStatus status = job.toStatus();
+        if (!status.isCancelRequested()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "이미 끝난 동기화 작업입니다.", status));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.success("동기화 작업 취소를 요청했습니다.", status));
+    }
+
+    /**
+     * 받은 동기화 작업을 202와 작업 조회 위치(Location)로 응답합니다.
+     */
+    private static ResponseEntity<ApiResponse<SyncJobStatus>> accepted(SyncJobService.Submission submission,
+        String message) {
+        SyncJobStatus status = submission.job().toStatus();
+        if (!submission.created()) {
+            message = "같은 동기화 작업이 이미 진행 중입니다.";
+        }
+        logger.info("{} ({})", message, status.getId());
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/orders/sync-jobs/" + status.getId()))
+            .body(ApiResponse.success(message, status));
+    }
+
     /**
      * 단일 주문을 외부 시스템에서 가져와 동기화합니다.
      *
@@ -151,27 +483,41 @@ public class OrderController {
      * @return 동기화 결과
      */
     @PostMapping("/sync-single")
-    public ResponseEntity<ApiResponse<String>> syncSingleOrder(@RequestParam String externalUrl) {
-        try {
-            if (externalUrl == null || externalUrl.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                    .body(ApiResponse.failure("외부 시스템 URL이 필요합니다."));
-            }
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> syncSingleOrder(@RequestParam String externalUrl) {
+        if (externalUrl == null || externalUrl.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(ApiResponse.failure("외부 시스템 URL이 필요합니다.")));
+        }
 
-            orderSyncService.syncSingleOrder(externalUrl);
+        return orderSyncService.syncSingleOrderAsync(externalUrl).handle((order, error) -> {
+            if (error != null) {
+                return syncFailure(error, "단일 주문 동기화 실패", "동기화 실패: ");
+            }
             String message = "단일 주문이 성공적으로 동기화되었습니다.";
             logger.info(message);
             return ResponseEntity.ok(ApiResponse.success(message, externalUrl));
+        });
+    }
 
-        } catch (OrderSyncException e) {
-            logger.error("단일 주문 동기화 실패: {}", e.getMessage());
+    /**
+     * 비동기 동기화 작업의 실패를 응답으로 바꿉니다.
+     * 동기화 실행기가 가득 차 작업을 받지 못한 경우는 503으로 응답합니다.
+     */
+    private static <T> ResponseEntity<ApiResponse<T>> syncFailure(Throwable error, String logLabel, String messagePrefix) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof OrderSyncException) {
+            logger.error("{}: {}", logLabel, cause.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.failure("동기화 실패: " + e.getMessage()));
-        } catch (Exception e) {
-            logger.error("예상치 못한 오류: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.failure("시스템 오류: " + e.getMessage()));
+                .body(ApiResponse.failure(messagePrefix + cause.getMessage()));
+        }
+        if (cause instanceof RejectedExecutionException) {
+            logger.warn("{}: 동기화 작업 대기열이 가득 찼습니다.", logLabel);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.failure("동기화 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요."));
         }
+        logger.error("예상치 못한 오류: {}", cause.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ApiResponse.failure("시스템 오류: " + cause.getMessage()));
     }
 
     /**
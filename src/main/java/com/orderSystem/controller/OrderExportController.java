@@ -0,0 +1,64 @@
+package com.orderSystem.controller;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.service.DataTransformService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/orders")
+@CrossOrigin(origins = "*")
+public class OrderExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportController.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final OrderRepository orderRepository;
+    private final DataTransformService transformer;
+
+    @Autowired
+    public OrderExportController(OrderRepository orderRepository, DataTransformService transformer) {
+        this.orderRepository = orderRepository;
+        this.transformer = transformer;
+    }
+
+    /**
+     * 모든 주문을 NDJSON 형식으로 내보냅니다.
+     * 저장소를 순회하면서 응답 스트림에 바로 쓰므로 주문 목록을 메모리에 만들지 않습니다.
+     *
+     * @return NDJSON 스트리밍 응답
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = outputStream -> {
+            long startTime = System.currentTimeMillis();
+            try (Stream<Order> orders = orderRepository.streamAll()) {
+                Iterator<Order> iterator = orders.iterator();
+                long count = transformer.writeOrdersAsNdjson(iterator, outputStream, FLUSH_INTERVAL);
+                logger.info("주문 내보내기 완료: {}개, {}ms", count, System.currentTimeMillis() - startTime);
+            } catch (DataTransformException e) {
+                // 응답이 이미 시작되었으므로 상태 코드를 바꿀 수 없어 연결을 중단합니다.
+                logger.error("주문 내보내기 실패: {}", e.getMessage());
+                throw new IOException("주문 내보내기 실패", e);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
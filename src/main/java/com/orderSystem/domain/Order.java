@@ -24,9 +24,19 @@ public class Order {
     @JsonProperty("status")
     private OrderStatus status;
 
+    // 저장소가 변경할 때마다 1씩 올리는 버전 (저장 전 0)
+    @JsonProperty("version")
+    private long version;
+
+    // 내용 지문 캐시 (0이면 아직 계산하지 않음, 내용을 바꾸면 지움)
+    private transient long fingerprint;
+
     private static final ObjectMapper objectMapper = new ObjectMapper()
         .registerModule(new JavaTimeModule());
 
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     // 기본 생성자
     public Order() {
     }
@@ -46,6 +56,7 @@ public class Order {
 
     public void setOrderId(String orderId) {
         this.orderId = orderId;
+        this.fingerprint = 0L;
     }
 
     public String getCustomerName() {
@@ -54,6 +65,7 @@ public class Order {
 
     public void setCustomerName(String customerName) {
         this.customerName = customerName;
+        this.fingerprint = 0L;
     }
 
     public LocalDateTime getOrderDate() {
@@ -62,6 +74,7 @@ public class Order {
 
     public void setOrderDate(LocalDateTime orderDate) {
         this.orderDate = orderDate;
+        this.fingerprint = 0L;
     }
 
     public OrderStatus getStatus() {
@@ -70,6 +83,94 @@ public class Order {
 
     public void setStatus(OrderStatus status) {
         this.status = status;
+        this.fingerprint = 0L;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * 버전만 다른 복사본을 반환합니다.
+     *
+     * @param version 새 버전
+     * @return 복사된 주문
+     */
+    public Order withVersion(long version) {
+        Order copy = new Order(orderId, customerName, orderDate, status);
+        copy.version = version;
+        copy.fingerprint = fingerprint;
+        return copy;
+    }
+
+    /**
+     * 상태만 다른 복사본을 반환합니다.
+     *
+     * @param status 새 상태
+     * @return 복사된 주문
+     */
+    public Order withStatus(OrderStatus status) {
+        Order copy = new Order(orderId, customerName, orderDate, status);
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * 버전을 제외한 내용(주문 ID, 고객명, 주문일시, 상태)의 64비트 지문을 반환합니다.
+     * 내용이 같으면 지문도 같으므로, 저장된 주문과 지문을 비교해 바뀌지 않은 주문의 쓰기를 건너뛸 수 있습니다.
+     * 처음 호출할 때 계산해 두고, 내용을 바꾸면 다시 계산합니다.
+     *
+     * @return 내용 지문 (0이 아님)
+     */
+    public long contentFingerprint() {
+        long hash = fingerprint;
+        if (hash == 0L) {
+            hash = computeFingerprint();
+            fingerprint = hash;
+        }
+        return hash;
+    }
+
+    private long computeFingerprint() {
+        // FNV-1a로 필드를 차례로 섞은 뒤 murmur3의 fmix64로 비트를 고르게 퍼뜨립니다.
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, orderId);
+        hash = mix(hash, customerName);
+        if (orderDate == null) {
+            hash = mix(hash, -1L);
+        } else {
+            hash = mix(hash, orderDate.toLocalDate().toEpochDay());
+            hash = mix(hash, orderDate.toLocalTime().toNanoOfDay());
+        }
+        hash = mix(hash, status == null ? -1L : status.ordinal());
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0L ? 1L : hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1L);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // 길이를 섞어 필드 경계가 달라도 같은 지문이 나오지 않게 합니다.
+        return mix(hash, value.length());
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
     }
 
     // JSON 변환 메서드
@@ -105,6 +206,7 @@ public class Order {
             ", customerName='" + customerName + '\'' +
             ", orderDate=" + orderDate +
             ", status=" + status +
+            ", version=" + version +
             '}';
     }
 }
@@ -0,0 +1,21 @@
+package com.orderSystem.domain;
+
+/**
+ * 저장소에서 일어난 주문 변경 하나입니다.
+ *
+ * @param sequence 변경 피드에서 발급한 단조 증가 순번 (1부터 시작)
+ * @param type     변경 종류
+ * @param orderId  주문 ID (CLEAR이면 null)
+ * @param order    저장된 주문 (SAVE일 때만, 버전 포함)
+ */
+public record OrderChangeEvent(long sequence, Type type, String orderId, Order order) {
+
+    public enum Type {
+        /** 주문 저장 (생성 또는 덮어쓰기) */
+        SAVE,
+        /** 주문 삭제 */
+        DELETE,
+        /** 전체 삭제 */
+        CLEAR
+    }
+}
@@ -14,4 +14,15 @@ public enum OrderStatus {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    /**
+     * 이 상태에서 다음 상태로 바꿀 수 있는지 확인합니다.
+     * 주문은 PROCESSING → SHIPPING → COMPLETED 순서로 한 단계씩만 진행합니다.
+     *
+     * @param next 바꿀 상태
+     * @return 전이 가능 여부
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return next != null && next.ordinal() == ordinal() + 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.orderSystem.dto;
+
+import com.orderSystem.domain.OrderStatus;
+
+import java.util.List;
+
+/**
+ * 여러 주문의 상태를 한 번에 바꾸는 요청입니다.
+ */
+public class BulkStatusUpdateRequest {
+
+    private List<String> orderIds;
+    private OrderStatus status;
+
+    public BulkStatusUpdateRequest() {
+    }
+
+    public BulkStatusUpdateRequest(List<String> orderIds, OrderStatus status) {
+        this.orderIds = orderIds;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public List<String> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(List<String> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+}
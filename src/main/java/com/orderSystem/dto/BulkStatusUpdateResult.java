@@ -0,0 +1,33 @@
+package com.orderSystem.dto;
+
+import java.util.Map;
+
+/**
+ * 일괄 상태 변경 결과입니다. 주문마다 독립적으로 처리되므로 일부만 실패할 수 있습니다.
+ */
+public class BulkStatusUpdateResult {
+
+    private final int updatedCount;
+    private final Map<String, String> failures;
+
+    /**
+     * @param updatedCount 상태를 바꾼 주문 수
+     * @param failures     실패한 주문 ID → 실패 사유
+     */
+    public BulkStatusUpdateResult(int updatedCount, Map<String, String> failures) {
+        this.updatedCount = updatedCount;
+        this.failures = failures;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getFailedCount() {
+        return failures.size();
+    }
+
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,64 @@
+package com.orderSystem.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반(키셋) 페이지 응답입니다.
+ * 커서는 마지막 항목의 정렬 키를 Base64(URL-safe)로 인코딩한 불투명 문자열입니다.
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * 정렬 키를 커서 문자열로 인코딩합니다.
+     *
+     * @param key 정렬 키
+     * @return 커서 문자열
+     */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키로 디코딩합니다.
+     *
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 null 반환)
+     * @return 정렬 키
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    // Getters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,37 @@
+package com.orderSystem.dto;
+
+import java.util.List;
+
+/**
+ * 여러 소스에서 주문을 가져오는 요청입니다. URL 목록과 설정된 소스 그룹 이름 중 하나를 지정합니다.
+ */
+public class MultiSyncRequest {
+
+    private List<String> urls;
+    private String group;
+
+    public MultiSyncRequest() {
+    }
+
+    public MultiSyncRequest(List<String> urls, String group) {
+        this.urls = urls;
+        this.group = group;
+    }
+
+    // Getters and Setters
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+}
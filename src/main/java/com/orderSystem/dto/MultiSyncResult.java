@@ -0,0 +1,57 @@
+package com.orderSystem.dto;
+
+import java.util.List;
+
+/**
+ * 여러 소스에서 동시에 주문을 가져온 결과입니다.
+ */
+public class MultiSyncResult {
+
+    private final List<SourceSyncResult> sources;
+    private final long elapsedMillis;
+
+    /**
+     * @param sources       소스별 결과 (요청한 순서)
+     * @param elapsedMillis 전체 소요 시간
+     */
+    public MultiSyncResult(List<SourceSyncResult> sources, long elapsedMillis) {
+        this.sources = sources;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<SourceSyncResult> getSources() {
+        return sources;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isSuccess() {
+        return getFailedCount() == 0;
+    }
+
+    public int getOrderCount() {
+        return sources.stream().mapToInt(SourceSyncResult::getOrderCount).sum();
+    }
+
+    public long getInsertedCount() {
+        return sources.stream().mapToLong(SourceSyncResult::getInsertedCount).sum();
+    }
+
+    public long getUpdatedCount() {
+        return sources.stream().mapToLong(SourceSyncResult::getUpdatedCount).sum();
+    }
+
+    public long getBytes() {
+        return sources.stream().mapToLong(SourceSyncResult::getBytes).sum();
+    }
+
+    public long getNotModifiedCount() {
+        return sources.stream().filter(SourceSyncResult::isNotModified).count();
+    }
+
+    public long getFailedCount() {
+        return sources.stream().filter(source -> !source.isSuccess()).count();
+    }
+}
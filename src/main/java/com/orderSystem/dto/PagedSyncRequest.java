@@ -0,0 +1,100 @@
+package com.orderSystem.dto;
+
+/**
+ * 페이지 단위로 나뉜 외부 주문 목록을 가져오는 요청입니다.
+ * 선택 항목을 생략하면 {@link com.orderSystem.connector.PagedSource}의 기본값을 사용합니다.
+ */
+public class PagedSyncRequest {
+
+    private String url;
+    private String pagination;
+    private int pageSize;
+    private long firstPage;
+    private String pageParam;
+    private String sizeParam;
+    private String itemsPath;
+    private String cursorPath;
+    private boolean resume;
+
+    public PagedSyncRequest() {
+    }
+
+    public PagedSyncRequest(String url, String pagination, int pageSize) {
+        this.url = url;
+        this.pagination = pagination;
+        this.pageSize = pageSize;
+    }
+
+    // Getters and Setters
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getPagination() {
+        return pagination;
+    }
+
+    public void setPagination(String pagination) {
+        this.pagination = pagination;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public long getFirstPage() {
+        return firstPage;
+    }
+
+    public void setFirstPage(long firstPage) {
+        this.firstPage = firstPage;
+    }
+
+    public String getPageParam() {
+        return pageParam;
+    }
+
+    public void setPageParam(String pageParam) {
+        this.pageParam = pageParam;
+    }
+
+    public String getSizeParam() {
+        return sizeParam;
+    }
+
+    public void setSizeParam(String sizeParam) {
+        this.sizeParam = sizeParam;
+    }
+
+    public String getItemsPath() {
+        return itemsPath;
+    }
+
+    public void setItemsPath(String itemsPath) {
+        this.itemsPath = itemsPath;
+    }
+
+    public String getCursorPath() {
+        return cursorPath;
+    }
+
+    public void setCursorPath(String cursorPath) {
+        this.cursorPath = cursorPath;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
+}
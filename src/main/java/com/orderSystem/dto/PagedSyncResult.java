@@ -0,0 +1,86 @@
+package com.orderSystem.dto;
+
+import com.orderSystem.connector.Pagination;
+
+/**
+ * 페이지 단위로 나뉜 외부 주문 목록의 동기화 결과입니다.
+ */
+public class PagedSyncResult {
+
+    private final String url;
+    private final Pagination pagination;
+    private final boolean success;
+    private final long startPage;
+    private final int pageCount;
+    private final long orderCount;
+    private final long bytes;
+    private final long elapsedMillis;
+    private final Long resumePage;
+    private final String error;
+
+    /**
+     * @param url           목록 URL
+     * @param pagination    페이지 방식
+     * @param success       마지막 페이지까지 저장했는지 여부
+     * @param startPage     이번 실행을 시작한 페이지 순번 (재개했으면 0보다 큼)
+     * @param pageCount     이번 실행에서 저장한 페이지 수
+     * @param orderCount    이번 실행에서 저장한 주문 수
+     * @param bytes         받은 응답 본문 크기 합계 (바이트)
+     * @param elapsedMillis 소요 시간
+     * @param resumePage    실패한 경우 다음 실행에서 재개할 페이지 순번 (성공이면 null)
+     * @param error         실패 사유 (성공이면 null)
+     */
+    public PagedSyncResult(String url, Pagination pagination, boolean success, long startPage, int pageCount,
+        long orderCount, long bytes, long elapsedMillis, Long resumePage, String error) {
+        this.url = url;
+        this.pagination = pagination;
+        this.success = success;
+        this.startPage = startPage;
+        this.pageCount = pageCount;
+        this.orderCount = orderCount;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.resumePage = resumePage;
+        this.error = error;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public long getStartPage() {
+        return startPage;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Long getResumePage() {
+        return resumePage;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
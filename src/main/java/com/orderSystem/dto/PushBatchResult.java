@@ -0,0 +1,48 @@
+package com.orderSystem.dto;
+
+/**
+ * 주문 전송 묶음 하나의 결과입니다.
+ */
+public class PushBatchResult {
+
+    private final int index;
+    private final int orderCount;
+    private final int attempts;
+    private final boolean success;
+    private final String error;
+
+    /**
+     * @param index      묶음 순번 (0부터)
+     * @param orderCount 마지막 시도에서 보낸 주문 수
+     * @param attempts   시도 횟수
+     * @param success    대상이 전송을 확인했는지 여부
+     * @param error      마지막 실패 사유 (성공이면 null)
+     */
+    public PushBatchResult(int index, int orderCount, int attempts, boolean success, String error) {
+        this.index = index;
+        this.orderCount = orderCount;
+        this.attempts = attempts;
+        this.success = success;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
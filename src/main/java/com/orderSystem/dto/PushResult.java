@@ -0,0 +1,64 @@
+package com.orderSystem.dto;
+
+import com.orderSystem.service.PushMode;
+
+import java.util.List;
+
+/**
+ * 외부 시스템으로의 주문 전송 결과입니다.
+ */
+public class PushResult {
+
+    private final String targetUrl;
+    private final PushMode mode;
+    private final boolean success;
+    private final int sentCount;
+    private final long watermark;
+    private final List<PushBatchResult> batches;
+
+    /**
+     * @param targetUrl 대상 URL
+     * @param mode      실제로 수행한 전송 방식 (증분 전송이 전체 전송으로 바뀌었을 수 있음)
+     * @param success   대상이 모든 묶음의 전송을 확인했는지 여부
+     * @param sentCount 전송을 확인받은 주문 수
+     * @param watermark 전송 후 대상의 변경 피드 기준 순번
+     * @param batches   묶음별 결과
+     */
+    public PushResult(String targetUrl, PushMode mode, boolean success, int sentCount, long watermark,
+        List<PushBatchResult> batches) {
+        this.targetUrl = targetUrl;
+        this.mode = mode;
+        this.success = success;
+        this.sentCount = sentCount;
+        this.watermark = watermark;
+        this.batches = batches;
+    }
+
+    public String getTargetUrl() {
+        return targetUrl;
+    }
+
+    public PushMode getMode() {
+        return mode;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public List<PushBatchResult> getBatches() {
+        return batches;
+    }
+
+    public int getFailedBatchCount() {
+        return (int) batches.stream().filter(batch -> !batch.isSuccess()).count();
+    }
+}
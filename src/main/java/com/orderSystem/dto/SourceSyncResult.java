@@ -0,0 +1,105 @@
+package com.orderSystem.dto;
+
+/**
+ * 여러 소스 동기화에서 소스 하나의 결과입니다.
+ */
+public class SourceSyncResult {
+
+    private final String url;
+    private final boolean success;
+    private final boolean notModified;
+    private final int orderCount;
+    private final long bytes;
+    private final long latencyMillis;
+    private final String error;
+    private final boolean shared;
+    private final long insertedCount;
+    private final long updatedCount;
+    private final long unchangedCount;
+
+    /**
+     * @param url           소스 URL
+     * @param success       가져온 주문을 모두 저장했는지 여부
+     * @param notModified   지난번에 처리한 응답과 같아 파싱·저장을 건너뛰었는지 여부
+     * @param orderCount    가져와 반영한 주문 수 (내용이 같아 건너뛴 주문 포함)
+     * @param bytes         받은 응답 본문 크기 (바이트)
+     * @param latencyMillis 요청 시작부터 저장 완료(또는 실패)까지 걸린 시간 (동시 실행 한도를 기다린 시간 제외)
+     * @param error         실패 사유 (성공이면 null)
+     */
+    public SourceSyncResult(String url, boolean success, boolean notModified, int orderCount, long bytes,
+        long latencyMillis, String error) {
+        this(url, success, notModified, orderCount, bytes, latencyMillis, error, false);
+    }
+
+    /**
+     * @param shared 진행 중이던(또는 방금 끝난) 같은 URL의 동기화 결과를 함께 받았는지 여부
+     */
+    public SourceSyncResult(String url, boolean success, boolean notModified, int orderCount, long bytes,
+        long latencyMillis, String error, boolean shared) {
+        this(url, success, notModified, orderCount, bytes, latencyMillis, error, shared, 0, 0, 0);
+    }
+
+    /**
+     * @param insertedCount  새로 저장한 주문 수
+     * @param updatedCount   내용이 바뀌어 덮어쓴 주문 수
+     * @param unchangedCount 저장된 주문과 내용이 같아 쓰지 않은 주문 수
+     */
+    public SourceSyncResult(String url, boolean success, boolean notModified, int orderCount, long bytes,
+        long latencyMillis, String error, boolean shared, long insertedCount, long updatedCount, long unchangedCount) {
+        this.url = url;
+        this.success = success;
+        this.notModified = notModified;
+        this.orderCount = orderCount;
+        this.bytes = bytes;
+        this.latencyMillis = latencyMillis;
+        this.error = error;
+        this.shared = shared;
+        this.insertedCount = insertedCount;
+        this.updatedCount = updatedCount;
+        this.unchangedCount = unchangedCount;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public long getInsertedCount() {
+        return insertedCount;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public long getUnchangedCount() {
+        return unchangedCount;
+    }
+}
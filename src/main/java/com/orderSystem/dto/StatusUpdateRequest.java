@@ -0,0 +1,38 @@
+package com.orderSystem.dto;
+
+import com.orderSystem.domain.OrderStatus;
+
+/**
+ * 주문 상태 변경 요청입니다.
+ * expectedVersion이 주어지면 현재 버전이 같을 때만 변경합니다.
+ */
+public class StatusUpdateRequest {
+
+    private OrderStatus status;
+    private Long expectedVersion;
+
+    public StatusUpdateRequest() {
+    }
+
+    public StatusUpdateRequest(OrderStatus status, Long expectedVersion) {
+        this.status = status;
+        this.expectedVersion = expectedVersion;
+    }
+
+    // Getters and Setters
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public void setExpectedVersion(Long expectedVersion) {
+        this.expectedVersion = expectedVersion;
+    }
+}
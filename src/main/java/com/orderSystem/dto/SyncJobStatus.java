@@ -0,0 +1,133 @@
+package com.orderSystem.dto;
+
+import com.orderSystem.service.PushMode;
+import com.orderSystem.service.SyncJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 작업의 상태와 진행 상황입니다.
+ */
+public class SyncJobStatus {
+
+    private final String id;
+    private final SyncJob.Type type;
+    private final String url;
+    private final PushMode mode;
+    private final SyncJob.State state;
+    private final boolean cancelRequested;
+    private final LocalDateTime submittedAt;
+    private final long bytes;
+    private final long ordersParsed;
+    private final long ordersStored;
+    private final long elapsedMillis;
+    private final double ordersPerSecond;
+    private final double bytesPerSecond;
+    private final String message;
+    private final String error;
+    private final Object result;
+
+    /**
+     * @param id              작업 ID
+     * @param type            작업 종류
+     * @param url             외부 시스템 URL
+     * @param mode            요청한 전송 방식 (가져오기 작업이면 null)
+     * @param state           작업 상태
+     * @param cancelRequested 취소가 요청되었는지 여부
+     * @param submittedAt     작업을 받은 시각
+     * @param bytes           읽거나 쓴 본문 바이트 수 (압축 해제 기준)
+     * @param ordersParsed    가져오기는 파싱한 주문 수, 전송은 묶음에 담은 주문 수
+     * @param ordersStored    가져오기는 저장한 주문 수, 전송은 대상이 받았다고 확인한 주문 수
+     * @param elapsedMillis   실행을 시작한 뒤 지난(끝났으면 걸린) 시간 (대기 시간 제외)
+     * @param ordersPerSecond 초당 저장(전송)한 주문 수
+     * @param bytesPerSecond  초당 읽거나 쓴 바이트 수
+     * @param message         끝난 작업의 결과 메시지 (진행 중이면 null)
+     * @param error           실패 사유 (실패하지 않았으면 null)
+     * @param result          끝난 작업의 결과 ({@link SourceSyncResult} 또는 {@link PushResult}, 없으면 null)
+     */
+    public SyncJobStatus(String id, SyncJob.Type type, String url, PushMode mode, SyncJob.State state,
+        boolean cancelRequested, LocalDateTime submittedAt, long bytes, long ordersParsed, long ordersStored,
+        long elapsedMillis, double ordersPerSecond, double bytesPerSecond, String message, String error,
+        Object result) {
+        this.id = id;
+        this.type = type;
+        this.url = url;
+        this.mode = mode;
+        this.state = state;
+        this.cancelRequested = cancelRequested;
+        this.submittedAt = submittedAt;
+        this.bytes = bytes;
+        this.ordersParsed = ordersParsed;
+        this.ordersStored = ordersStored;
+        this.elapsedMillis = elapsedMillis;
+        this.ordersPerSecond = ordersPerSecond;
+        this.bytesPerSecond = bytesPerSecond;
+        this.message = message;
+        this.error = error;
+        this.result = result;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SyncJob.Type getType() {
+        return type;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public PushMode getMode() {
+        return mode;
+    }
+
+    public SyncJob.State getState() {
+        return state;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getOrdersParsed() {
+        return ordersParsed;
+    }
+
+    public long getOrdersStored() {
+        return ordersStored;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getOrdersPerSecond() {
+        return ordersPerSecond;
+    }
+
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+}
@@ -3,11 +3,25 @@ package com.orderSystem.exception;
 
 public class DataConnectorException extends Exception {
 
+    // 외부 시스템의 오류 응답 상태 코드 (응답을 받지 못했으면 0)
+    private final int statusCode;
+
     public DataConnectorException(String message) {
         super(message);
+        this.statusCode = 0;
     }
 
     public DataConnectorException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = 0;
+    }
+
+    public DataConnectorException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
     }
 }
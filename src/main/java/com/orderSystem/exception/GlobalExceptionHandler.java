@@ -21,6 +21,21 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(OrderVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOrderVersionConflictException(OrderVersionConflictException ex) {
+        logger.warn("주문 버전 충돌: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse("ORDER_VERSION_CONFLICT", ex.getMessage(), 409);
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IllegalStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalStatusTransitionException(
+        IllegalStatusTransitionException ex) {
+        logger.warn("허용되지 않는 상태 전이: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse("ILLEGAL_STATUS_TRANSITION", ex.getMessage(), 422);
+        return new ResponseEntity<>(error, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @ExceptionHandler(DataConnectorException.class)
     public ResponseEntity<ErrorResponse> handleDataConnectorException(DataConnectorException ex) {
         logger.error("데이터 연동 오류: {}", ex.getMessage());
@@ -0,0 +1,12 @@
+package com.orderSystem.exception;
+
+public class IllegalStatusTransitionException extends Exception {
+
+    public IllegalStatusTransitionException(String message) {
+        super(message);
+    }
+
+    public IllegalStatusTransitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.orderSystem.exception;
+
+public class OrderVersionConflictException extends Exception {
+
+    public OrderVersionConflictException(String message) {
+        super(message);
+    }
+
+    public OrderVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
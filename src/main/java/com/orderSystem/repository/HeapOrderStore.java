@@ -0,0 +1,41 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 주문 객체를 ConcurrentHashMap에 그대로 보관하는 기본 저장 엔진입니다.
+ * 조회가 가장 빠르지만 주문마다 객체 헤더, 문자열, LocalDateTime 등으로 수백 바이트의 힙을 사용합니다.
+ */
+public class HeapOrderStore implements OrderStore {
+
+    private final ConcurrentHashMap<String, Order> orders = new ConcurrentHashMap<>();
+
+    @Override
+    public Order get(String orderId) {
+        return orders.get(orderId);
+    }
+
+    @Override
+    public Order compute(String orderId, BiFunction<String, Order, Order> remapping) {
+        return orders.compute(orderId, remapping);
+    }
+
+    @Override
+    public int size() {
+        return orders.size();
+    }
+
+    @Override
+    public void clear() {
+        orders.clear();
+    }
+
+    @Override
+    public Iterator<Order> iterator() {
+        return orders.values().iterator();
+    }
+}
@@ -0,0 +1,602 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.util.StringDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * 주문을 힙 밖(direct ByteBuffer)에 바이너리 레코드로 보관하는 저장 엔진입니다.
+ *
+ * <pre>
+ * 레코드 : u16 키 길이 + 주문 ID 키({@link OrderIdCodec}), i32 고객명 코드(-1 = null, -2 = 레코드 끝에 직접 저장),
+ *          u8 주문일시 존재 여부 + i64 epoch second(UTC) + i32 nano, i8 상태 ordinal(-1 = null), i64 버전,
+ *          [직접 저장한 고객명: i32 길이 + UTF-8]
+ * 인덱스 : 오픈 어드레싱(선형 탐사) 해시 테이블, 슬롯 = i64 레코드 주소 + i32 해시, 홈 슬롯 = 해시 상위 비트
+ * </pre>
+ *
+ * <p>주문 ID 해시로 나눈 세그먼트마다 자체 해시 테이블, 레코드 청크, 읽기/쓰기 잠금을 가지므로
+ * 서로 다른 세그먼트의 쓰기는 경합하지 않습니다. 고객명은 {@link StringDictionary} 코드로 저장해
+ * 반복되는 이름을 한 번만 보관하고, 디코딩한 주문도 사전의 같은 문자열 인스턴스를 공유합니다.
+ * 사전은 코드를 지우지 않으므로 최대 크기까지만 등록하며, 사전이 가득 찬 뒤 처음 보는 고객명은 레코드에 직접 저장합니다.
+ * ORD-00000123 같은 접두사 + 숫자 형식의 주문 ID는 몇 바이트의 압축 키로 저장합니다. 조회 시마다 Order 객체를 새로 만들어 반환하므로
+ * 힙에는 조회 중인 주문만 남고, 주문 수가 늘어도 GC가 추적할 객체는 늘지 않습니다.</p>
+ *
+ * <p>갱신은 새 레코드를 청크 끝에 추가하고 이전 레코드를 버리는 방식이며,
+ * 버려진 바이트가 사용량의 절반을 넘으면 세그먼트를 새 청크로 압축합니다.</p>
+ */
+public class OffHeapOrderStore implements OrderStore {
+
+    private static final int RECORD_FIXED_SIZE = 2 + 4 + 1 + 8 + 4 + 1 + 8;
+    private static final int MAX_KEY_BYTES = OrderBinaryCodec.MAX_STRING_BYTES;
+    private static final int NULL_CODE = -1;
+    private static final int INLINE_CODE = -2;
+    private static final int ITERATION_BATCH = 64;
+
+    private static final int SLOT_SIZE = 8 + 4;
+    private static final long EMPTY = 0L;
+    private static final long DELETED = -1L;
+    private static final int INITIAL_SLOTS = 64;
+    private static final double MAX_LOAD = 0.7;
+
+    private static final int INITIAL_CHUNK_SIZE = 64 * 1024;
+    private static final long COMPACT_MIN_GARBAGE = INITIAL_CHUNK_SIZE;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Segment[] segments;
+    private final int maxChunkSize;
+    private final StringDictionary customerNames;
+    private final OrderIdCodec orderIds = new OrderIdCodec();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param segmentCount  세그먼트 수 (2의 거듭제곱)
+     * @param maxChunkSize  세그먼트별 레코드 청크의 최대 크기 (청크는 64KB부터 두 배씩 커짐)
+     * @param customerNames 고객명 사전
+     */
+    public OffHeapOrderStore(int segmentCount, int maxChunkSize, StringDictionary customerNames) {
+        if (segmentCount <= 0 || Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("세그먼트 수는 2의 거듭제곱이어야 합니다: " + segmentCount);
+        }
+        if (maxChunkSize < INITIAL_CHUNK_SIZE) {
+            throw new IllegalArgumentException("청크 크기는 " + INITIAL_CHUNK_SIZE + " 바이트 이상이어야 합니다: "
+                + maxChunkSize);
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+        this.maxChunkSize = maxChunkSize;
+        this.customerNames = customerNames;
+    }
+
+    @Override
+    public Order get(String orderId) {
+        byte[] key = orderIds.encodeForLookup(orderId);
+        int hash = hash(orderId);
+        Segment segment = segmentFor(hash);
+        segment.lock.readLock().lock();
+        try {
+            int slot = segment.find(hash, key);
+            return slot < 0 ? null : segment.read(segment.address(slot), orderId);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Order compute(String orderId, BiFunction<String, Order, Order> remapping) {
+        // 새로 넣을 때만 접두사를 등록해, 없는 ID를 지우거나 그대로 두는 호출이 사전을 채우지 않게 합니다.
+        byte[] key = orderIds.encodeForLookup(orderId);
+        if (key.length > MAX_KEY_BYTES) {
+            throw new IllegalArgumentException("주문 ID가 너무 깁니다: " + key.length + " bytes");
+        }
+        int hash = hash(orderId);
+        Segment segment = segmentFor(hash);
+        segment.lock.writeLock().lock();
+        try {
+            int slot = segment.find(hash, key);
+            long previousAddress = slot >= 0 ? segment.address(slot) : EMPTY;
+            Order previous = slot >= 0 ? segment.read(previousAddress, orderId) : null;
+
+            Order next = remapping.apply(orderId, previous);
+            if (next == previous) {
+                return next;
+            }
+            if (next == null) {
+                if (slot >= 0) {
+                    segment.delete(slot, previousAddress);
+                    size.decrementAndGet();
+                }
+                return null;
+            }
+
+            if (slot < 0) {
+                key = orderIds.encode(orderId);
+            }
+            long address = segment.append(key, next);
+            if (slot >= 0) {
+                segment.replace(slot, previousAddress, address);
+            } else {
+                segment.insert(-slot - 1, hash, address);
+                size.incrementAndGet();
+            }
+            return next;
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.lock.writeLock().lock();
+            try {
+                size.addAndGet(-segment.live);
+                segment.reset();
+            } finally {
+                segment.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 세그먼트마다 (부호 없는 해시, 키) 순으로 주문을 {@value #ITERATION_BATCH}개씩 디코딩해 순회합니다.
+     * 묶음 하나를 읽는 동안만 그 세그먼트의 쓰기를 막고, 다음 묶음은 마지막으로 반환한 주문 다음부터 찾으므로
+     * 그 사이 재해시나 압축이 일어나도 순회 내내 존재한 주문은 정확히 한 번 반환됩니다.
+     */
+    @Override
+    public Iterator<Order> iterator() {
+        return new Iterator<>() {
+            private int nextSegment;
+            private final Cursor cursor = new Cursor();
+            private Iterator<Order> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && nextSegment < segments.length) {
+                    List<Order> batch = segments[nextSegment].readAfter(cursor);
+                    if (batch.size() < ITERATION_BATCH) {
+                        nextSegment++;
+                        cursor.reset();
+                    }
+                    current = batch.iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public Order next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * 레코드 청크와 인덱스 테이블이 점유한 힙 밖 메모리 크기를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long offHeapBytes() {
+        long total = 0;
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                total += segment.allocatedBytes + segment.table.capacity();
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return total;
+    }
+
+    private static int recordSize(ByteBuffer chunk, int offset) {
+        int keyLength = Short.toUnsignedInt(chunk.getShort(offset));
+        int size = RECORD_FIXED_SIZE + keyLength;
+        if (chunk.getInt(offset + 2 + keyLength) == INLINE_CODE) {
+            size += 4 + chunk.getInt(offset + 2 + keyLength + 26);
+        }
+        return size;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static int hash(String orderId) {
+        // murmur3 fmix32: 하위 비트는 세그먼트, 상위 비트는 슬롯 선택에 사용합니다.
+        int h = orderId.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * 세그먼트 안에서 마지막으로 반환한 주문의 해시와 키입니다.
+     */
+    private static final class Cursor {
+        boolean started;
+        int hash;
+        byte[] key;
+
+        void reset() {
+            started = false;
+            key = null;
+        }
+    }
+
+    private final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer table;
+        private int slotMask;
+        private int slotShift;
+        private int live;
+        private int deleted;
+        private int nextChunkSize;
+        private long allocatedBytes;
+        private long usedBytes;
+        private long garbageBytes;
+
+        Segment() {
+            reset();
+        }
+
+        void reset() {
+            chunks.clear();
+            table = ByteBuffer.allocateDirect(INITIAL_SLOTS * SLOT_SIZE);
+            slotMask = INITIAL_SLOTS - 1;
+            slotShift = Integer.SIZE - Integer.numberOfTrailingZeros(INITIAL_SLOTS);
+            live = 0;
+            deleted = 0;
+            nextChunkSize = INITIAL_CHUNK_SIZE;
+            allocatedBytes = 0;
+            usedBytes = 0;
+            garbageBytes = 0;
+        }
+
+        /**
+         * @return 찾은 슬롯, 없으면 -(삽입할 슬롯 + 1)
+         */
+        int find(int hash, byte[] key) {
+            int slot = home(hash);
+            int firstDeleted = -1;
+            while (true) {
+                long address = table.getLong(slot * SLOT_SIZE);
+                if (address == EMPTY) {
+                    return -(firstDeleted >= 0 ? firstDeleted : slot) - 1;
+                }
+                if (address == DELETED) {
+                    if (firstDeleted < 0) {
+                        firstDeleted = slot;
+                    }
+                } else if (table.getInt(slot * SLOT_SIZE + 8) == hash && keyEquals(address, key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & slotMask;
+            }
+        }
+
+        long address(int slot) {
+            return table.getLong(slot * SLOT_SIZE);
+        }
+
+        /**
+         * 해시의 상위 비트로 홈 슬롯을 고릅니다. 하위 비트는 세그먼트 선택에 쓰였고,
+         * 상위 비트를 쓰면 홈 슬롯이 해시 순서를 따르므로 순회가 해시 순으로 이어 읽을 수 있습니다.
+         */
+        private int home(int hash) {
+            return hash >>> slotShift;
+        }
+
+        void insert(int slot, int hash, long address) {
+            if (table.getLong(slot * SLOT_SIZE) == DELETED) {
+                deleted--;
+            }
+            table.putLong(slot * SLOT_SIZE, address).putInt(slot * SLOT_SIZE + 8, hash);
+            live++;
+            if (live + deleted > (slotMask + 1) * MAX_LOAD) {
+                rehash();
+            }
+        }
+
+        void replace(int slot, long previousAddress, long address) {
+            table.putLong(slot * SLOT_SIZE, address);
+            garbageBytes += recordSize(previousAddress);
+            compactIfWasteful();
+        }
+
+        void delete(int slot, long previousAddress) {
+            table.putLong(slot * SLOT_SIZE, DELETED);
+            live--;
+            deleted++;
+            garbageBytes += recordSize(previousAddress);
+            compactIfWasteful();
+        }
+
+        long append(byte[] key, Order order) {
+            String customerName = order.getCustomerName();
+            int customerCode = customerName == null ? NULL_CODE : customerNames.tryEncode(customerName);
+            byte[] inlineName = null;
+            if (customerCode == StringDictionary.NOT_FOUND && customerName != null) {
+                customerCode = INLINE_CODE;
+                inlineName = customerName.getBytes(StandardCharsets.UTF_8);
+            }
+
+            int recordSize = RECORD_FIXED_SIZE + key.length + (inlineName == null ? 0 : 4 + inlineName.length);
+            ByteBuffer chunk = reserve(recordSize);
+            long address = ((long) chunks.size() << 32) | chunk.position();
+            chunk.putShort((short) key.length).put(key);
+            chunk.putInt(customerCode);
+
+            LocalDateTime orderDate = order.getOrderDate();
+            if (orderDate == null) {
+                chunk.put((byte) 0).putLong(0L).putInt(0);
+            } else {
+                chunk.put((byte) 1)
+                    .putLong(orderDate.toEpochSecond(ZoneOffset.UTC))
+                    .putInt(orderDate.getNano());
+            }
+
+            OrderStatus status = order.getStatus();
+            chunk.put(status == null ? (byte) -1 : (byte) status.ordinal());
+            chunk.putLong(order.getVersion());
+            if (inlineName != null) {
+                chunk.putInt(inlineName.length).put(inlineName);
+            }
+            usedBytes += recordSize;
+            return address;
+        }
+
+        /**
+         * @param orderId 이미 알고 있는 주문 ID (null이면 레코드에서 읽음)
+         */
+        Order read(long address, String orderId) {
+            ByteBuffer chunk = chunkOf(address);
+            int offset = (int) address;
+            int keyLength = Short.toUnsignedInt(chunk.getShort(offset));
+            if (orderId == null) {
+                orderId = orderIds.decode(chunk, offset + 2, keyLength);
+            }
+            int position = offset + 2 + keyLength;
+
+            int customerCode = chunk.getInt(position);
+            String customerName;
+            if (customerCode == NULL_CODE) {
+                customerName = null;
+            } else if (customerCode == INLINE_CODE) {
+                byte[] name = new byte[chunk.getInt(position + 26)];
+                chunk.get(position + 30, name);
+                customerName = new String(name, StandardCharsets.UTF_8);
+            } else {
+                customerName = customerNames.decode(customerCode);
+            }
+
+            LocalDateTime orderDate = chunk.get(position + 4) == 0 ? null
+                : LocalDateTime.ofEpochSecond(chunk.getLong(position + 5), chunk.getInt(position + 13), ZoneOffset.UTC);
+
+            byte ordinal = chunk.get(position + 17);
+            OrderStatus status = ordinal < 0 ? null : STATUSES[ordinal];
+            Order order = new Order(orderId, customerName, orderDate, status);
+            order.setVersion(chunk.getLong(position + 18));
+            return order;
+        }
+
+        /**
+         * 커서 다음 순서의 주문을 최대 {@value #ITERATION_BATCH}개 디코딩하고 커서를 마지막 주문으로 옮깁니다.
+         * 커서보다 큰 해시는 커서의 홈 슬롯 이후(또는 테이블 끝에서 앞으로 넘어간 구간)에만 있으므로 그곳부터 읽고,
+         * 묶음이 찬 뒤 마지막 후보의 홈 슬롯을 지난 빈 슬롯을 만나면 남은 항목은 모두 더 크므로 멈춥니다.
+         *
+         * @return 읽은 주문 (ITERATION_BATCH개보다 적으면 세그먼트 끝)
+         */
+        List<Order> readAfter(Cursor cursor) {
+            lock.readLock().lock();
+            try {
+                int[] hashes = new int[ITERATION_BATCH];
+                long[] addresses = new long[ITERATION_BATCH];
+                int count = 0;
+                int start = cursor.started ? home(cursor.hash) : 0;
+                for (int slot = start; slot <= slotMask; slot++) {
+                    long address = address(slot);
+                    if (address == EMPTY) {
+                        if (count == ITERATION_BATCH && home(hashes[count - 1]) < slot) {
+                            break;
+                        }
+                    } else if (address != DELETED) {
+                        count = offer(hashes, addresses, count, table.getInt(slot * SLOT_SIZE + 8), address, cursor);
+                    }
+                }
+                // 테이블 끝에서 넘어와 앞쪽 슬롯에 놓인 항목
+                for (int slot = 0; slot < start; slot++) {
+                    long address = address(slot);
+                    if (address == EMPTY) {
+                        break;
+                    }
+                    if (address != DELETED) {
+                        count = offer(hashes, addresses, count, table.getInt(slot * SLOT_SIZE + 8), address, cursor);
+                    }
+                }
+
+                List<Order> orders = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    orders.add(read(addresses[i], null));
+                }
+                if (count > 0) {
+                    cursor.started = true;
+                    cursor.hash = hashes[count - 1];
+                    cursor.key = keyBytes(addresses[count - 1]);
+                }
+                return orders;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 커서보다 뒤인 항목을 (해시, 키) 오름차순 후보 배열에 넣고, 배열이 넘치면 가장 큰 후보를 버립니다.
+         *
+         * @return 후보 수
+         */
+        private int offer(int[] hashes, long[] addresses, int count, int hash, long address, Cursor cursor) {
+            if (cursor.started) {
+                int order = Integer.compareUnsigned(hash, cursor.hash);
+                if (order < 0 || (order == 0 && Arrays.compareUnsigned(keyBytes(address), cursor.key) <= 0)) {
+                    return count;
+                }
+            }
+            int position = count;
+            while (position > 0 && compare(hash, address, hashes[position - 1], addresses[position - 1]) < 0) {
+                position--;
+            }
+            if (position == ITERATION_BATCH) {
+                return count;
+            }
+            int moved = Math.min(count, ITERATION_BATCH - 1) - position;
+            System.arraycopy(hashes, position, hashes, position + 1, moved);
+            System.arraycopy(addresses, position, addresses, position + 1, moved);
+            hashes[position] = hash;
+            addresses[position] = address;
+            return Math.min(count + 1, ITERATION_BATCH);
+        }
+
+        private int compare(int hash, long address, int otherHash, long otherAddress) {
+            int order = Integer.compareUnsigned(hash, otherHash);
+            return order != 0 ? order : Arrays.compareUnsigned(keyBytes(address), keyBytes(otherAddress));
+        }
+
+        private byte[] keyBytes(long address) {
+            ByteBuffer chunk = chunkOf(address);
+            int offset = (int) address;
+            byte[] key = new byte[Short.toUnsignedInt(chunk.getShort(offset))];
+            chunk.get(offset + 2, key);
+            return key;
+        }
+
+        /**
+         * 레코드를 기록할 공간이 있는 마지막 청크를 반환합니다. 공간이 부족하면 새 청크를 할당합니다.
+         */
+        private ByteBuffer reserve(int recordSize) {
+            ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk != null && chunk.remaining() >= recordSize) {
+                return chunk;
+            }
+            if (chunk != null) {
+                // 청크 끝의 남는 공간은 압축 시 회수합니다.
+                garbageBytes += chunk.remaining();
+                usedBytes += chunk.remaining();
+            }
+            chunk = ByteBuffer.allocateDirect(Math.max(nextChunkSize, recordSize));
+            chunks.add(chunk);
+            allocatedBytes += chunk.capacity();
+            nextChunkSize = Math.min(nextChunkSize * 2, maxChunkSize);
+            return chunk;
+        }
+
+        private boolean keyEquals(long address, byte[] key) {
+            ByteBuffer chunk = chunkOf(address);
+            int offset = (int) address;
+            if (Short.toUnsignedInt(chunk.getShort(offset)) != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (chunk.get(offset + 2 + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int recordSize(long address) {
+            return OffHeapOrderStore.recordSize(chunkOf(address), (int) address);
+        }
+
+        private ByteBuffer chunkOf(long address) {
+            // 주소 상위 32비트는 1부터 시작하는 청크 번호이므로 주소 0(EMPTY)과 겹치지 않습니다.
+            return chunks.get((int) (address >>> 32) - 1);
+        }
+
+        /**
+         * 삭제 표시를 정리하고, 살아 있는 항목이 테이블의 절반 이하가 되도록 크기를 다시 잡습니다.
+         */
+        private void rehash() {
+            int slots = INITIAL_SLOTS;
+            while (live > slots / 2) {
+                slots <<= 1;
+            }
+            ByteBuffer oldTable = table;
+            int oldSlots = slotMask + 1;
+            table = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+            slotMask = slots - 1;
+            slotShift = Integer.SIZE - Integer.numberOfTrailingZeros(slots);
+            deleted = 0;
+
+            for (int slot = 0; slot < oldSlots; slot++) {
+                long address = oldTable.getLong(slot * SLOT_SIZE);
+                if (address != EMPTY && address != DELETED) {
+                    int hash = oldTable.getInt(slot * SLOT_SIZE + 8);
+                    int target = home(hash);
+                    while (table.getLong(target * SLOT_SIZE) != EMPTY) {
+                        target = (target + 1) & slotMask;
+                    }
+                    table.putLong(target * SLOT_SIZE, address).putInt(target * SLOT_SIZE + 8, hash);
+                }
+            }
+        }
+
+        /**
+         * 버려진 레코드가 사용량의 절반을 넘으면 살아 있는 레코드만 새 청크로 옮깁니다.
+         */
+        private void compactIfWasteful() {
+            if (garbageBytes < COMPACT_MIN_GARBAGE || garbageBytes * 2 < usedBytes) {
+                return;
+            }
+            List<ByteBuffer> oldChunks = new ArrayList<>(chunks);
+            chunks.clear();
+            nextChunkSize = INITIAL_CHUNK_SIZE;
+            allocatedBytes = 0;
+            usedBytes = 0;
+            garbageBytes = 0;
+
+            for (int slot = 0; slot <= slotMask; slot++) {
+                long address = address(slot);
+                if (address == EMPTY || address == DELETED) {
+                    continue;
+                }
+                ByteBuffer source = oldChunks.get((int) (address >>> 32) - 1);
+                int offset = (int) address;
+                int recordSize = OffHeapOrderStore.recordSize(source, offset);
+
+                ByteBuffer chunk = reserve(recordSize);
+                long newAddress = ((long) chunks.size() << 32) | chunk.position();
+                chunk.put(source.slice(offset, recordSize));
+                usedBytes += recordSize;
+                table.putLong(slot * SLOT_SIZE, newAddress);
+            }
+        }
+    }
+}
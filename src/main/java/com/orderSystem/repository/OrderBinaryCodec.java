@@ -0,0 +1,102 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 주문의 바이너리 직렬화 형식입니다. 로그와 스냅샷이 같은 형식을 사용합니다.
+ *
+ * <pre>
+ * orderId      : u16 길이 + UTF-8 바이트
+ * customerName : u16 길이 + UTF-8 바이트 (0xFFFF = null)
+ * orderDate    : u8 존재 여부 + i64 epoch second(UTC) + i32 nano
+ * status       : i8 ordinal (-1 = null)
+ * version      : i64 (버전 도입 전 레코드에는 없으며 0으로 읽음)
+ * </pre>
+ *
+ * <p>읽기 버퍼는 레코드 하나 크기로 잘라 전달되므로, 남은 바이트로 이전 형식 여부를 판단합니다.</p>
+ */
+final class OrderBinaryCodec {
+
+    static final int MAX_STRING_BYTES = 0xFFFE;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderBinaryCodec() {
+    }
+
+    /**
+     * 인코딩 결과의 최대 크기를 반환합니다. UTF-8은 문자당 최대 3바이트로 계산합니다.
+     */
+    static int maxEncodedSize(Order order) {
+        return maxStringSize(order.getOrderId()) + maxStringSize(order.getCustomerName()) + 1 + 8 + 4 + 1 + 8;
+    }
+
+    static int maxStringSize(String value) {
+        return 2 + (value == null ? 0 : value.length() * 3);
+    }
+
+    static void writeOrder(ByteBuffer buffer, Order order) {
+        writeString(buffer, order.getOrderId());
+        writeString(buffer, order.getCustomerName());
+
+        LocalDateTime orderDate = order.getOrderDate();
+        if (orderDate == null) {
+            buffer.put((byte) 0).putLong(0L).putInt(0);
+        } else {
+            buffer.put((byte) 1)
+                .putLong(orderDate.toEpochSecond(ZoneOffset.UTC))
+                .putInt(orderDate.getNano());
+        }
+
+        OrderStatus status = order.getStatus();
+        buffer.put(status == null ? (byte) -1 : (byte) status.ordinal());
+        buffer.putLong(order.getVersion());
+    }
+
+    static Order readOrder(ByteBuffer buffer) {
+        String orderId = readString(buffer);
+        String customerName = readString(buffer);
+
+        boolean hasDate = buffer.get() != 0;
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        LocalDateTime orderDate = hasDate
+            ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null;
+
+        byte ordinal = buffer.get();
+        OrderStatus status = ordinal < 0 ? null : STATUSES[ordinal];
+        Order order = new Order(orderId, customerName, orderDate, status);
+        if (buffer.remaining() >= 8) {
+            order.setVersion(buffer.getLong());
+        }
+        return order;
+    }
+
+    static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다: " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * OrderRepository의 변경(저장, 삭제, 전체 삭제)을 순번과 함께 보관하는 고정 크기 링 버퍼입니다.
+ *
+ * <p>게시는 순번 하나를 원자적으로 발급받고 슬롯에 이벤트를 기록하는 것이 전부라 잠금이 없고,
+ * 변경마다 이벤트 객체 하나만 만듭니다. 저장소는 주문 ID 단위로 직렬화된 구간에서 게시하므로
+ * 같은 주문의 이벤트 순번은 실제 반영 순서와 같습니다.</p>
+ *
+ * <p>소비자는 각자 다음에 읽을 순번을 들고 {@link #read(long, int)}로 따라 읽습니다. 용량보다 많이 뒤처져
+ * 이벤트가 덮어써졌으면 {@link Batch#overrun()}으로 알리며, 이때는 전체 조회로 다시 맞춘 뒤
+ * 조회 직전의 {@link #lastSequence()} 다음 순번부터 읽으면 됩니다 (SAVE 이벤트는 주문 전체를 담으므로
+ * 겹쳐 읽어도 결과가 같습니다).</p>
+ *
+ * <p>영속화 모드에서는 저장소가 복구를 마친 뒤 {@link #resumeAfter(long)}로 순번을 이어 받으므로, 재시작 전에 발급한
+ * 순번을 다시 쓰지 않습니다. 재시작 전의 이벤트는 남아 있지 않으므로 {@link #firstSequence()}보다 앞의 순번을
+ * 읽으면 덮어쓴 것으로 알립니다.</p>
+ */
+public final class OrderChangeFeed {
+
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+
+    private final AtomicReferenceArray<OrderChangeEvent> entries;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong(1L);
+    private volatile long firstSequence = 1L;
+
+    public OrderChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 보관할 최대 이벤트 수 (2의 거듭제곱)
+     */
+    public OrderChangeFeed(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("변경 피드 용량은 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 이 피드의 순번을 sequence 다음부터 발급합니다. 이벤트를 게시하기 전에만 부를 수 있습니다.
+     *
+     * @param sequence 이전 실행에서 마지막으로 발급한 순번
+     */
+    synchronized void resumeAfter(long sequence) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("잘못된 변경 피드 순번입니다: " + sequence);
+        }
+        if (nextSequence.get() != firstSequence) {
+            throw new IllegalStateException("이미 이벤트를 게시한 변경 피드는 순번을 옮길 수 없습니다.");
+        }
+        firstSequence = sequence + 1;
+        nextSequence.set(sequence + 1);
+    }
+
+    /**
+     * 한 번에 읽은 이벤트들입니다.
+     *
+     * @param events       읽은 이벤트 (순번 순, 빈틈 없음)
+     * @param nextSequence 다음에 읽을 순번. overrun이면 아직 남아 있는 가장 오래된 순번
+     * @param overrun      요청한 순번의 이벤트가 이미 덮어써졌는지 여부
+     * @param lastSequence 읽은 시점에 발급된 마지막 순번
+     */
+    public record Batch(List<OrderChangeEvent> events, long nextSequence, boolean overrun, long lastSequence) {
+    }
+
+    /**
+     * 변경을 게시합니다.
+     *
+     * @return 발급한 순번
+     */
+    long publish(OrderChangeEvent.Type type, String orderId, Order order) {
+        long sequence = nextSequence.getAndIncrement();
+        OrderChangeEvent event = new OrderChangeEvent(sequence, type, orderId, order);
+        int slot = (int) (sequence & mask);
+        while (true) {
+            OrderChangeEvent current = entries.get(slot);
+            // 한 바퀴 이상 늦게 기록하는 게시자가 더 새로운 이벤트를 덮어쓰지 않게 합니다.
+            if (current != null && current.sequence() > sequence) {
+                return sequence;
+            }
+            if (entries.compareAndSet(slot, current, event)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * fromSequence부터 최대 maxEvents개의 이벤트를 읽습니다.
+     * 순번은 발급되었지만 아직 기록되지 않은 이벤트를 만나면 그 앞에서 멈추므로, 반환된 이벤트에는 빈틈이 없습니다.
+     *
+     * @param fromSequence 읽기 시작할 순번 (1 이상)
+     * @param maxEvents    최대 이벤트 수
+     * @return 읽은 이벤트와 다음 순번
+     */
+    public Batch read(long fromSequence, int maxEvents) {
+        if (fromSequence < 1 || maxEvents < 1) {
+            throw new IllegalArgumentException(
+                String.format("잘못된 변경 피드 요청입니다: from=%d, limit=%d", fromSequence, maxEvents));
+        }
+        long last = lastSequence();
+        if (fromSequence < firstSequence) {
+            return new Batch(List.of(), oldestSequence(), true, last);
+        }
+        long available = Math.max(0L, last - fromSequence + 1);
+        List<OrderChangeEvent> events = new ArrayList<>((int) Math.min(maxEvents, available));
+
+        long sequence = fromSequence;
+        while (events.size() < maxEvents && sequence <= last) {
+            OrderChangeEvent event = entries.get((int) (sequence & mask));
+            if (event == null || event.sequence() < sequence) {
+                break;
+            }
+            if (event.sequence() > sequence) {
+                if (events.isEmpty()) {
+                    return new Batch(List.of(), oldestSequence(), true, last);
+                }
+                // 이미 읽은 부분까지만 돌려주고, 다음 읽기에서 덮어쓰기를 알립니다.
+                break;
+            }
+            events.add(event);
+            sequence++;
+        }
+        return new Batch(events, sequence, false, last);
+    }
+
+    /**
+     * 마지막으로 발급한 순번을 반환합니다 (아직 게시된 이벤트가 없으면 0).
+     *
+     * @return 마지막 순번
+     */
+    public long lastSequence() {
+        return nextSequence.get() - 1;
+    }
+
+    /**
+     * 버퍼에 남아 있을 수 있는 가장 오래된 순번을 반환합니다.
+     *
+     * @return 가장 오래된 순번
+     */
+    public long oldestSequence() {
+        return Math.max(firstSequence, nextSequence.get() - entries.length());
+    }
+
+    /**
+     * 이 피드가 처음 발급한(또는 발급할) 순번을 반환합니다. 이보다 앞의 순번은 이전 실행에서 발급한 것입니다.
+     *
+     * @return 첫 순번
+     */
+    public long firstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * 보관할 수 있는 최대 이벤트 수를 반환합니다.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return entries.length();
+    }
+}
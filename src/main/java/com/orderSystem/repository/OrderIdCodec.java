@@ -0,0 +1,113 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.util.StringDictionary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 주문 ID를 짧은 바이트 키로 바꿉니다.
+ *
+ * <pre>
+ * 접두사 + 숫자 형식 (예: ORD-00000123) : u8 1, varint 접두사 코드, u8 자릿수, varint 숫자
+ * 그 외                                : u8 0, UTF-8 바이트
+ * </pre>
+ *
+ * <p>자릿수를 함께 저장하므로 앞의 0도 그대로 복원됩니다. 접두사는 사전 코드로 저장하며,
+ * 사전이 가득 찬 뒤 처음 보는 접두사는 항상 UTF-8 형식을 쓰므로 같은 ID는 언제나 같은 키가 됩니다.</p>
+ */
+final class OrderIdCodec {
+
+    private static final byte RAW = 0;
+    private static final byte PREFIXED_NUMBER = 1;
+    private static final int MAX_DIGITS = 18;
+    private static final int MAX_PREFIX_LENGTH = 32;
+    private static final int MAX_PREFIXES = 4096;
+
+    private final StringDictionary prefixes = new StringDictionary(MAX_PREFIXES);
+
+    /**
+     * 저장할 주문 ID의 키를 만듭니다. 처음 보는 접두사는 사전에 여유가 있으면 등록합니다.
+     */
+    byte[] encode(String orderId) {
+        return encode(orderId, true);
+    }
+
+    /**
+     * 조회할 주문 ID의 키를 만듭니다. 접두사를 등록하지 않으므로 없는 ID를 조회해도 사전이 차지 않습니다.
+     * 등록되지 않은 접두사의 ID는 저장될 때도 사전이 가득 차 UTF-8 형식이었으므로 같은 키가 됩니다.
+     */
+    byte[] encodeForLookup(String orderId) {
+        return encode(orderId, false);
+    }
+
+    private byte[] encode(String orderId, boolean register) {
+        int digitsStart = orderId.length();
+        while (digitsStart > 0 && isAsciiDigit(orderId.charAt(digitsStart - 1))) {
+            digitsStart--;
+        }
+        int digitCount = orderId.length() - digitsStart;
+        if (digitCount > 0 && digitCount <= MAX_DIGITS && digitsStart <= MAX_PREFIX_LENGTH) {
+            String prefix = orderId.substring(0, digitsStart);
+            int prefixCode = register ? prefixes.tryEncode(prefix) : prefixes.find(prefix);
+            if (prefixCode != StringDictionary.NOT_FOUND) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+                out.write(PREFIXED_NUMBER);
+                writeVarLong(out, prefixCode);
+                out.write(digitCount);
+                writeVarLong(out, Long.parseLong(orderId, digitsStart, orderId.length(), 10));
+                return out.toByteArray();
+            }
+        }
+
+        byte[] utf8 = orderId.getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[utf8.length + 1];
+        key[0] = RAW;
+        System.arraycopy(utf8, 0, key, 1, utf8.length);
+        return key;
+    }
+
+    String decode(ByteBuffer buffer, int offset, int length) {
+        if (buffer.get(offset) == RAW) {
+            byte[] utf8 = new byte[length - 1];
+            buffer.get(offset + 1, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        int[] position = {offset + 1};
+        String prefix = prefixes.decode((int) readVarLong(buffer, position));
+        int digitCount = buffer.get(position[0]++);
+        String digits = Long.toString(readVarLong(buffer, position));
+
+        StringBuilder orderId = new StringBuilder(prefix.length() + digitCount).append(prefix);
+        for (int i = digits.length(); i < digitCount; i++) {
+            orderId.append('0');
+        }
+        return orderId.append(digits).toString();
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(position[0]++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -1,27 +1,237 @@
 package com.orderSystem.repository;
 
 import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderChangeEvent;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.exception.IllegalStatusTransitionException;
 import com.orderSystem.exception.OrderNotFoundException;
+import com.orderSystem.exception.OrderVersionConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Repository
 public class OrderRepository {
 
-    private final Map<String, Order> orders = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(OrderRepository.class);
+
+    /** 버전을 확인하지 않고 갱신할 때 expectedVersion으로 전달합니다. */
+    public static final long ANY_VERSION = -1L;
+
+    private static final long NOT_FOUND = -1L;
+
+    private final OrderStore orders;
+    // 보조 인덱스 사용 시에만 존재 (order.storage.secondary-indexes=true)
+    private final OrderSecondaryIndex index;
+    // 키셋 페이지네이션용 정렬 키 구조
+    private final NavigableSet<String> sortedOrderIds;
+    private final WriteGate writeGate = new WriteGate();
+    private final OrderChangeFeed changeFeed;
+    // 영속화 모드에서만 존재 (order.persistence.enabled=true)
+    private final OrderWriteAheadLog writeAheadLog;
+    private final OrderSnapshotStore snapshotStore;
+    private final Object snapshotLock = new Object();
+    private volatile long clearGeneration;
+
+    public OrderRepository() {
+        this(null, null);
+    }
+
+    public OrderRepository(@Nullable OrderWriteAheadLog writeAheadLog) {
+        this(writeAheadLog, null);
+    }
+
+    public OrderRepository(@Nullable OrderWriteAheadLog writeAheadLog,
+        @Nullable OrderSnapshotStore snapshotStore) {
+        this(new HeapOrderStore(), true, new OrderChangeFeed(), writeAheadLog, snapshotStore);
+    }
+
+    /**
+     * @param store            주문 저장 엔진
+     * @param secondaryIndexes 보조 인덱스와 정렬 키 구조 사용 여부. 끄면 주문당 힙 사용량이 줄어드는 대신
+     *                         조건 조회와 페이지 조회가 전체 주문을 훑습니다.
+     * @param changeFeed       변경 이벤트를 게시할 피드
+     * @param writeAheadLog    주문 로그 (영속화 모드가 아니면 null)
+     * @param snapshotStore    스냅샷 저장소 (영속화 모드가 아니면 null)
+     */
+    @Autowired
+    public OrderRepository(OrderStore store,
+        @Value("${order.storage.secondary-indexes:true}") boolean secondaryIndexes,
+        OrderChangeFeed changeFeed,
+        @Nullable OrderWriteAheadLog writeAheadLog,
+        @Nullable OrderSnapshotStore snapshotStore) {
+        this.orders = store;
+        this.index = secondaryIndexes ? new OrderSecondaryIndex() : null;
+        this.sortedOrderIds = secondaryIndexes ? new ConcurrentSkipListSet<>() : null;
+        this.changeFeed = changeFeed;
+        this.writeAheadLog = writeAheadLog;
+        this.snapshotStore = snapshotStore;
+        if (writeAheadLog != null) {
+            recover();
+        }
+    }
 
     /**
      * 주문을 저장합니다.
+     * 같은 ID의 주문이 있으면 버전과 관계없이 덮어쓰며, 보조 인덱스도 이전 값 기준으로 갱신됩니다.
+     * 저장소는 전달받은 객체 대신 버전을 올린 복사본을 보관합니다.
+     * 동시에 같은 주문을 고치는 쪽이 있다면 {@link #saveIfVersion(Order, long)}을 사용해야 합니다.
      *
      * @param order 저장할 주문
      */
     public void save(Order order) {
-        if (order == null || order.getOrderId() == null) {
-            throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다.");
+        validate(order);
+        applyAndAwait(order.getOrderId(), order, previous -> order, new WriteResult());
+    }
+
+    /**
+     * 현재 버전이 expectedVersion과 같을 때만 주문을 저장합니다 (compare-and-set).
+     * 버전 확인과 저장은 주문 ID 단위로 원자적이므로, 같은 버전을 읽은 두 갱신 중 하나만 성공합니다.
+     *
+     * @param order           저장할 주문
+     * @param expectedVersion 기대하는 현재 버전 (0이면 같은 ID의 주문이 없을 때만 저장)
+     * @return 저장된 주문 (새 버전)
+     * @throws OrderVersionConflictException 현재 버전이 다른 경우
+     */
+    public Order saveIfVersion(Order order, long expectedVersion) throws OrderVersionConflictException {
+        validate(order);
+        WriteResult result = new WriteResult();
+        applyAndAwait(order.getOrderId(), order, previous -> {
+            long currentVersion = previous == null ? 0L : previous.getVersion();
+            if (currentVersion != expectedVersion) {
+                result.failure = versionConflict(order.getOrderId(), expectedVersion, currentVersion);
+                return previous;
+            }
+            return order;
+        }, result);
+
+        if (result.failure instanceof OrderVersionConflictException e) {
+            throw e;
+        }
+        return result.stored;
+    }
+
+    /**
+     * 주문 상태를 바꿉니다. 허용된 전이({@link OrderStatus#canTransitionTo(OrderStatus)})만 적용하며,
+     * expectedVersion이 {@link #ANY_VERSION}이 아니면 현재 버전도 확인합니다.
+     * 확인과 변경이 주문 ID 단위로 원자적이므로 전역 잠금 없이 동시 전이 중 하나만 성공합니다.
+     *
+     * @param orderId         주문 ID
+     * @param status          바꿀 상태
+     * @param expectedVersion 기대하는 현재 버전 또는 {@link #ANY_VERSION}
+     * @return 변경된 주문 (새 버전)
+     * @throws OrderNotFoundException            주문이 없는 경우
+     * @throws OrderVersionConflictException     현재 버전이 다른 경우
+     * @throws IllegalStatusTransitionException 허용되지 않는 상태 전이인 경우
+     */
+    public Order updateStatus(String orderId, OrderStatus status, long expectedVersion)
+        throws OrderNotFoundException, OrderVersionConflictException, IllegalStatusTransitionException {
+        if (orderId == null || status == null) {
+            throw new IllegalArgumentException("주문 ID 또는 상태가 null입니다.");
+        }
+        WriteResult result = new WriteResult();
+        // 로그 버퍼 자리는 현재 주문 크기로 잡습니다. 상태만 바뀌므로 그 사이 주문이 바뀌지 않았다면 충분합니다.
+        applyAndAwait(orderId, orders.get(orderId), previous -> {
+            if (previous == null) {
+                result.failure = new OrderNotFoundException("주문을 찾을 수 없습니다: " + orderId);
+            } else if (expectedVersion != ANY_VERSION && previous.getVersion() != expectedVersion) {
+                result.failure = versionConflict(orderId, expectedVersion, previous.getVersion());
+            } else if (!canTransition(previous.getStatus(), status)) {
+                result.failure = new IllegalStatusTransitionException(String.format(
+                    "허용되지 않는 상태 전이입니다: %s (%s → %s)", orderId, previous.getStatus(), status));
+            } else {
+                return previous.withStatus(status);
+            }
+            return previous;
+        }, result);
+
+        if (result.failure instanceof OrderNotFoundException e) {
+            throw e;
+        }
+        if (result.failure instanceof OrderVersionConflictException e) {
+            throw e;
+        }
+        if (result.failure instanceof IllegalStatusTransitionException e) {
+            throw e;
+        }
+        return result.stored;
+    }
+
+    /**
+     * 여러 주문을 한 번에 저장합니다.
+     * 모든 주문을 먼저 검증한 뒤, 쓰기 게이트 진입과 로그 fsync 대기를 묶음 전체에 대해 한 번만 수행합니다.
+     * 주문별 저장은 {@link #save(Order)}와 같으며 묶음 전체가 원자적으로 반영되지는 않습니다.
+     *
+     * @param orders 저장할 주문들
+     */
+    public void saveAll(Collection<Order> orders) {
+        orders.forEach(OrderRepository::validate);
+        WriteResult result = new WriteResult();
+        int epoch = writeGate.enter();
+        try {
+            for (Order order : orders) {
+                apply(order.getOrderId(), order, previous -> order, true, result);
+            }
+        } finally {
+            writeGate.exit(epoch);
+        }
+        awaitDurable(result.lsn);
+    }
+
+    /**
+     * {@link #saveAll(Collection)}과 같지만 저장된 주문과 내용 지문({@link Order#contentFingerprint()})이
+     * 같은 주문은 건너뜁니다. 건너뛴 주문은 버전이 오르지 않고 로그와 변경 피드에도 남지 않습니다.
+     *
+     * @param orders 저장할 주문들
+     * @return 새로 저장한 주문, 내용이 바뀌어 덮어쓴 주문, 그대로 둔 주문의 수
+     */
+    public SaveCounts saveAllIfChanged(Collection<Order> orders) {
+        orders.forEach(OrderRepository::validate);
+        WriteResult result = new WriteResult();
+        int[] counts = new int[3];
+        int epoch = writeGate.enter();
+        try {
+            for (Order order : orders) {
+                apply(order.getOrderId(), order, previous -> {
+                    if (previous == null) {
+                        counts[0]++;
+                        return order;
+                    }
+                    if (previous.contentFingerprint() == order.contentFingerprint()) {
+                        counts[2]++;
+                        return previous;
+                    }
+                    counts[1]++;
+                    return order;
+                }, true, result);
+            }
+        } finally {
+            writeGate.exit(epoch);
         }
-        orders.put(order.getOrderId(), order);
+        awaitDurable(result.lsn);
+        return new SaveCounts(counts[0], counts[1], counts[2]);
+    }
+
+    /**
+     * {@link #saveAllIfChanged(Collection)}의 결과입니다.
+     *
+     * @param inserted  새로 저장한 주문 수
+     * @param updated   내용이 바뀌어 덮어쓴 주문 수
+     * @param unchanged 내용이 같아 건너뛴 주문 수
+     */
+    public record SaveCounts(int inserted, int updated, int unchanged) {
     }
 
     /**
@@ -39,13 +249,173 @@ public class OrderRepository {
         return order;
     }
 
+    /**
+     * 여러 주문을 ID로 조회합니다. 없는 주문은 건너뜁니다.
+     *
+     * @param orderIds 주문 ID들
+     * @return 존재하는 주문 리스트 (orderIds 순서)
+     */
+    public List<Order> findAllById(Collection<String> orderIds) {
+        return resolve(orderIds, order -> true);
+    }
+
     /**
      * 모든 주문을 조회합니다.
      *
      * @return 모든 주문 리스트
      */
     public List<Order> findAll() {
-        return new ArrayList<>(orders.values());
+        List<Order> result = new ArrayList<>(orders.size());
+        orders.iterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * 모든 주문을 복사 없이 순회하는 스트림을 반환합니다.
+     * 순회 중의 동시 변경은 반영될 수도, 되지 않을 수도 있습니다 (weakly consistent).
+     *
+     * @return 주문 스트림
+     */
+    public Stream<Order> streamAll() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(orders.iterator(), Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 주문 ID 오름차순으로 한 페이지를 조회합니다 (키셋 페이지네이션).
+     * 정렬된 키 구조에서 기준 ID 다음부터 읽으므로 비용은 전체 주문 수가 아닌 페이지 크기에 비례하고,
+     * 동시에 저장/삭제가 일어나도 기존 주문이 중복되거나 누락되지 않습니다.
+     * 보조 인덱스를 끈 경우에는 전체 주문을 훑으며 페이지 크기만큼의 후보만 유지합니다.
+     *
+     * @param afterOrderId 이전 페이지의 마지막 주문 ID (null이면 처음부터)
+     * @param limit        최대 조회 개수
+     * @return 주문 리스트
+     */
+    public List<Order> findPage(String afterOrderId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + limit);
+        }
+        if (sortedOrderIds == null) {
+            return scanPage(orders.iterator(), afterOrderId, limit, order -> true);
+        }
+        return walkPage(sortedOrderIds, afterOrderId, limit, order -> true);
+    }
+
+    /**
+     * 조건에 맞는 주문을 주문 ID 오름차순으로 한 페이지 조회합니다.
+     * 조건이 없으면 {@link #findPage(String, int)}와 같습니다. 상태나 고객명 조건이 있으면 둘 중 작은
+     * (주문 ID 순으로 정렬된) 인덱스 집합을 기준 ID 다음부터 읽으며 나머지 조건으로 거르고, 페이지가 차면 멈춥니다.
+     * 주문일시 조건만 있으면 범위 안의 주문 중 기준 ID 다음의 앞쪽 limit개만 유지하므로 비용은 범위 크기에 비례합니다.
+     *
+     * @param status       주문 상태
+     * @param customerName 고객명
+     * @param from         주문일시 시작 (포함)
+     * @param to           주문일시 종료 (포함)
+     * @param afterOrderId 이전 페이지의 마지막 주문 ID (null이면 처음부터)
+     * @param limit        최대 조회 개수
+     * @return 주문 리스트
+     */
+    public List<Order> searchPage(OrderStatus status, String customerName,
+        LocalDateTime from, LocalDateTime to, String afterOrderId, int limit) {
+        if (status == null && customerName == null && from == null && to == null) {
+            return findPage(afterOrderId, limit);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + limit);
+        }
+        Predicate<Order> matches = matcher(status, customerName, from, to);
+        if (index == null) {
+            return scanPage(orders.iterator(), afterOrderId, limit, matches);
+        }
+        NavigableSet<String> candidates = smallerIndexSet(status, customerName);
+        if (candidates != null) {
+            return walkPage(candidates, afterOrderId, limit, matches);
+        }
+        Iterator<Order> inRange = index.idsByOrderDate(from, to).stream()
+            .filter(orderId -> afterOrderId == null || orderId.compareTo(afterOrderId) > 0)
+            .map(orders::get)
+            .filter(Objects::nonNull)
+            .iterator();
+        return scanPage(inRange, afterOrderId, limit, matches);
+    }
+
+    /**
+     * 특정 상태의 주문을 조회합니다.
+     *
+     * @param status 주문 상태
+     * @return 해당 상태의 주문 리스트
+     */
+    public List<Order> findByStatus(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("주문 상태가 null입니다.");
+        }
+        if (index == null) {
+            return scan(order -> order.getStatus() == status);
+        }
+        return resolve(index.idsByStatus(status), order -> order.getStatus() == status);
+    }
+
+    /**
+     * 특정 고객의 주문을 조회합니다.
+     *
+     * @param customerName 고객명
+     * @return 해당 고객의 주문 리스트
+     */
+    public List<Order> findByCustomerName(String customerName) {
+        if (customerName == null) {
+            throw new IllegalArgumentException("고객명이 null입니다.");
+        }
+        if (index == null) {
+            return scan(order -> customerName.equals(order.getCustomerName()));
+        }
+        return resolve(index.idsByCustomerName(customerName),
+            order -> customerName.equals(order.getCustomerName()));
+    }
+
+    /**
+     * 주문일시 범위로 주문을 조회합니다. 결과는 주문일시 오름차순입니다.
+     *
+     * @param from 시작 일시 (포함, null이면 하한 없음)
+     * @param to   종료 일시 (포함, null이면 상한 없음)
+     * @return 범위에 해당하는 주문 리스트
+     */
+    public List<Order> findByOrderDateBetween(LocalDateTime from, LocalDateTime to) {
+        if (index == null) {
+            List<Order> result = scan(order -> inRange(order, from, to));
+            result.sort(Comparator.comparing(Order::getOrderDate));
+            return result;
+        }
+        return resolve(index.idsByOrderDate(from, to), order -> inRange(order, from, to));
+    }
+
+    /**
+     * 여러 조건을 모두 만족하는 주문을 조회합니다. null인 조건은 무시합니다.
+     * 가장 작은 인덱스 후보 집합에서 시작해 나머지 조건으로 거르므로 비용은 결과 크기에 비례합니다.
+     *
+     * @param status       주문 상태
+     * @param customerName 고객명
+     * @param from         주문일시 시작 (포함)
+     * @param to           주문일시 종료 (포함)
+     * @return 조건에 맞는 주문 리스트
+     */
+    public List<Order> search(OrderStatus status, String customerName,
+        LocalDateTime from, LocalDateTime to) {
+        Predicate<Order> matches = matcher(status, customerName, from, to);
+
+        if (index == null) {
+            if (status == null && customerName == null && (from != null || to != null)) {
+                return findByOrderDateBetween(from, to);
+            }
+            return scan(matches);
+        }
+        Collection<String> candidates = smallerIndexSet(status, customerName);
+        if (candidates == null) {
+            if (from == null && to == null) {
+                return findAll();
+            }
+            candidates = index.idsByOrderDate(from, to);
+        }
+        return resolve(candidates, matches);
     }
 
     /**
@@ -55,7 +425,62 @@ public class OrderRepository {
      * @return 삭제 성공 여부
      */
     public boolean delete(String orderId) {
-        return orders.remove(orderId) != null;
+        long lsn;
+        int epoch = writeGate.enter();
+        try {
+            lsn = remove(orderId, true);
+        } finally {
+            writeGate.exit(epoch);
+        }
+        awaitDurable(lsn);
+        return lsn != NOT_FOUND;
+    }
+
+    /**
+     * 여러 주문을 한 번에 삭제합니다. 쓰기 게이트 진입과 로그 fsync 대기는 한 번만 수행합니다.
+     *
+     * @param orderIds 삭제할 주문 ID들
+     * @return 실제로 삭제된 주문 수
+     */
+    public int deleteAll(Collection<String> orderIds) {
+        int deleted = 0;
+        long lastLsn = 0L;
+        int epoch = writeGate.enter();
+        try {
+            for (String orderId : orderIds) {
+                long lsn = remove(orderId, true);
+                if (lsn != NOT_FOUND) {
+                    deleted++;
+                    lastLsn = Math.max(lastLsn, lsn);
+                }
+            }
+        } finally {
+            writeGate.exit(epoch);
+        }
+        awaitDurable(lastLsn);
+        return deleted;
+    }
+
+    /**
+     * 저장소의 변경 피드를 반환합니다. 복구 중 재생한 변경은 게시되지 않습니다.
+     *
+     * @return 변경 피드
+     */
+    public OrderChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * 변경 피드에서 지금까지 발급된 마지막 순번을, 그 순번까지의 변경이 저장소에 모두 반영된 뒤에 반환합니다.
+     * 순번은 쓰기 구간 안에서 발급되므로, 쓰기 epoch를 넘기고 이전 epoch의 쓰기가 끝나기만 기다리면 됩니다.
+     * 이 순번을 얻은 뒤 조회한 결과에는 순번 이하의 변경이 모두 포함되므로, 전체 조회 후 피드를 이어 읽을 기준으로 씁니다.
+     *
+     * @return 반영이 끝난 마지막 순번
+     */
+    public long awaitChangeSequence() {
+        long sequence = changeFeed.lastSequence();
+        writeGate.advanceEpoch();
+        return sequence;
     }
 
     /**
@@ -69,8 +494,342 @@ public class OrderRepository {
 
     /**
      * 모든 주문을 삭제합니다.
+     * 진행 중인 쓰기가 끝나기를 기다린 뒤 새 쓰기를 잠시 막고 비우므로, 로그의 CLEAR 레코드와
+     * 변경 피드의 CLEAR 이벤트 순서가 다른 변경과 일치합니다.
      */
     public void clear() {
+        long[] lsn = {0L};
+        writeGate.runExclusive(() -> {
+            if (writeAheadLog != null) {
+                lsn[0] = writeAheadLog.appendClear();
+            }
+            clearAll();
+            clearGeneration++;
+            changeFeed.publish(OrderChangeEvent.Type.CLEAR, null, null);
+        });
+        awaitDurable(lsn[0]);
+    }
+
+    /**
+     * {@link #clear()}가 실행될 때마다 1씩 늘어나는 값을 반환합니다.
+     * 저장소 내용을 전제로 기억해 둔 외부 상태(예: 이미 받은 응답의 검증자)가 아직 맞는지 확인하는 데 씁니다.
+     *
+     * @return 전체 삭제 횟수
+     */
+    public long getClearGeneration() {
+        return clearGeneration;
+    }
+
+    /**
+     * 쓰기 게이트 안에서 {@link #apply}를 실행하고, 로그가 기록될 때까지 기다립니다.
+     */
+    private void applyAndAwait(String orderId, Order sizeHint, UnaryOperator<Order> update, WriteResult result) {
+        int epoch = writeGate.enter();
+        try {
+            apply(orderId, sizeHint, update, true, result);
+        } finally {
+            writeGate.exit(epoch);
+        }
+        awaitDurable(result.lsn);
+    }
+
+    /**
+     * 주문 ID 단위로 직렬화된 구간에서 update(이전 주문 또는 null → 새 주문)를 적용합니다.
+     * update가 이전 주문을 그대로 반환하면 아무것도 바꾸지 않습니다.
+     * logged이면 버전을 올린 복사본을 로그에 기록한 뒤 저장하고 변경 피드에 게시하며,
+     * 아니면(복구) 버전을 포함해 그대로 저장합니다.
+     *
+     * <p>로그 버퍼 자리는 sizeHint(저장될 주문과 크기가 같다고 보는 주문, 없으면 null) 기준으로 compute 밖에서
+     * 예약합니다. compute 안에서 버퍼가 비기를 기다리면 같은 bin이나 세그먼트의 다른 주문까지 막히기 때문입니다.
+     * 새 주문이 예약보다 크면 아무것도 바꾸지 않고 나와서 다시 예약한 뒤 update를 다시 실행합니다.</p>
+     */
+    private void apply(String orderId, Order sizeHint, UnaryOperator<Order> update, boolean logged,
+        WriteResult result) {
+        if (!logged || writeAheadLog == null) {
+            compute(orderId, update, logged, null, result);
+            return;
+        }
+        OrderWriteAheadLog.Reservation reservation = new OrderWriteAheadLog.Reservation();
+        try {
+            int recordSize = sizeHint == null ? 0 : OrderWriteAheadLog.saveRecordSize(sizeHint);
+            do {
+                writeAheadLog.reserve(reservation, recordSize);
+                recordSize = compute(orderId, update, true, reservation, result);
+            } while (recordSize > 0);
+        } finally {
+            writeAheadLog.release(reservation);
+        }
+    }
+
+    /**
+     * @return 예약이 부족해 적용하지 못했으면 필요한 레코드 크기, 아니면 0
+     */
+    private int compute(String orderId, UnaryOperator<Order> update, boolean logged,
+        OrderWriteAheadLog.Reservation reservation, WriteResult result) {
+        int[] required = {0};
+        // compute는 같은 주문 ID에 대해 직렬화되므로 버전 확인, 로그 순서, 저장, 인덱스가 함께 갱신됩니다.
+        orders.compute(orderId, (id, previous) -> {
+            Order next = update.apply(previous);
+            if (next == previous) {
+                return previous;
+            }
+            if (logged) {
+                next = next.withVersion(previous == null ? 1L : previous.getVersion() + 1);
+                if (reservation != null) {
+                    int recordSize = OrderWriteAheadLog.saveRecordSize(next);
+                    if (recordSize > reservation.bytes()) {
+                        required[0] = recordSize;
+                        return previous;
+                    }
+                    result.lsn = Math.max(result.lsn, writeAheadLog.appendSave(next, reservation));
+                }
+            }
+            if (index != null) {
+                if (previous != null) {
+                    index.remove(previous);
+                } else {
+                    sortedOrderIds.add(id);
+                }
+                index.add(next);
+            }
+            if (logged) {
+                changeFeed.publish(OrderChangeEvent.Type.SAVE, id, next);
+            }
+            result.stored = next;
+            return next;
+        });
+        return required[0];
+    }
+
+    private void restore(Order order) {
+        apply(order.getOrderId(), order, previous -> order, false, new WriteResult());
+    }
+
+    private long remove(String orderId, boolean logged) {
+        OrderWriteAheadLog.Reservation reservation = null;
+        if (logged && writeAheadLog != null) {
+            // 삭제 레코드 크기는 주문 ID로 정해지므로 compute 밖에서 한 번 예약하면 충분합니다.
+            reservation = new OrderWriteAheadLog.Reservation();
+            writeAheadLog.reserve(reservation, OrderWriteAheadLog.deleteRecordSize(orderId));
+        }
+        try {
+            return removeReserved(orderId, logged, reservation);
+        } finally {
+            if (reservation != null) {
+                writeAheadLog.release(reservation);
+            }
+        }
+    }
+
+    private long removeReserved(String orderId, boolean logged, OrderWriteAheadLog.Reservation reservation) {
+        long[] lsn = {NOT_FOUND};
+        orders.compute(orderId, (id, previous) -> {
+            if (previous == null) {
+                return null;
+            }
+            lsn[0] = reservation != null ? writeAheadLog.appendDelete(id, reservation) : 0L;
+            if (index != null) {
+                index.remove(previous);
+                sortedOrderIds.remove(id);
+            }
+            if (logged) {
+                changeFeed.publish(OrderChangeEvent.Type.DELETE, id, null);
+            }
+            return null;
+        });
+        return lsn[0];
+    }
+
+    private void clearAll() {
         orders.clear();
+        if (index != null) {
+            index.clear();
+            sortedOrderIds.clear();
+        }
+    }
+
+    private void awaitDurable(long lsn) {
+        if (writeAheadLog != null && lsn > 0) {
+            writeAheadLog.awaitDurable(lsn);
+        }
+    }
+
+    /**
+     * 현재 저장소 상태를 스냅샷으로 기록하고, 스냅샷에 포함된 로그 세그먼트를 삭제합니다.
+     *
+     * <p>먼저 다음 LSN을 스냅샷 LSN으로 정하고 쓰기 epoch를 넘긴 뒤, 이전 epoch의 쓰기가 끝나기만 기다립니다.
+     * 그러면 스냅샷 LSN보다 작은 LSN의 쓰기는 모두 맵에 반영되어 있고, 이후 쓰기는 스냅샷 LSN 이상을 받습니다.
+     * 맵 순회 중의 동시 쓰기는 반영 여부와 관계없이 로그 재생으로 최종 상태가 맞춰지므로 쓰기를 막지 않습니다.</p>
+     *
+     * @return 기록한 주문 수 (영속화 모드가 아니면 -1)
+     * @throws IOException 스냅샷 기록 실패 시 발생
+     */
+    public long takeSnapshot() throws IOException {
+        if (writeAheadLog == null || snapshotStore == null) {
+            return -1L;
+        }
+        synchronized (snapshotLock) {
+            long startTime = System.currentTimeMillis();
+            long snapshotLsn = writeAheadLog.nextLsn();
+            writeGate.advanceEpoch();
+
+            long written = snapshotStore.write(snapshotLsn, orders.iterator());
+            int deletedSegments = writeAheadLog.deleteSegmentsBefore(snapshotLsn);
+            logger.info("주문 스냅샷 완료: LSN {}, 주문 {}개, 정리한 세그먼트 {}개, {}ms",
+                snapshotLsn, written, deletedSegments, System.currentTimeMillis() - startTime);
+            return written;
+        }
+    }
+
+    private void recover() {
+        long startTime = System.currentTimeMillis();
+        try {
+            long snapshotLsn = 0L;
+            if (snapshotStore != null) {
+                OrderSnapshotStore.LoadResult snapshot = snapshotStore.loadLatest(this::restore);
+                snapshotLsn = snapshot.snapshotLsn();
+                logger.info("주문 스냅샷 적재: LSN {}, 주문 {}개", snapshotLsn, snapshot.orderCount());
+            }
+
+            long records = writeAheadLog.replay(snapshotLsn, new OrderWriteAheadLog.ReplayHandler() {
+                @Override
+                public void onSave(Order order) {
+                    restore(order);
+                }
+
+                @Override
+                public void onDelete(String orderId) {
+                    remove(orderId, false);
+                }
+
+                @Override
+                public void onClear() {
+                    clearAll();
+                }
+            });
+            // 기록하는 변경마다 로그 레코드 하나와 피드 이벤트 하나가 생기므로, 피드 순번을 로그 LSN에 이어 붙이면
+            // 재시작 전에 발급한 순번을 다시 쓰지 않고 이전 실행의 마지막 순번이 복구된 상태를 가리킵니다.
+            changeFeed.resumeAfter(writeAheadLog.nextLsn() - 1);
+            writeAheadLog.start();
+            logger.info("주문 로그 복구 완료: 레코드 {}개, 주문 {}개, {}ms",
+                records, orders.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new IllegalStateException("주문 로그 복구 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주문 ID 단위 쓰기의 결과입니다. 조건부 갱신의 실패는 compute 밖에서 던지기 위해 여기에 담습니다.
+     */
+    private static final class WriteResult {
+        long lsn;
+        Order stored;
+        Exception failure;
+    }
+
+    private static boolean canTransition(OrderStatus current, OrderStatus next) {
+        // 상태가 없는 주문은 처리 시작(PROCESSING)으로만 바꿀 수 있습니다.
+        return current == null ? next == OrderStatus.PROCESSING : current.canTransitionTo(next);
+    }
+
+    private static OrderVersionConflictException versionConflict(String orderId, long expected, long current) {
+        return new OrderVersionConflictException(String.format(
+            "주문 버전이 일치하지 않습니다: %s (기대 %d, 현재 %d)", orderId, expected, current));
+    }
+
+    private static void validate(Order order) {
+        if (order == null || order.getOrderId() == null) {
+            throw new IllegalArgumentException("주문 또는 주문 ID가 null입니다.");
+        }
+    }
+
+    private static Predicate<Order> matcher(OrderStatus status, String customerName,
+        LocalDateTime from, LocalDateTime to) {
+        return order -> (status == null || order.getStatus() == status)
+            && (customerName == null || customerName.equals(order.getCustomerName()))
+            && ((from == null && to == null) || inRange(order, from, to));
+    }
+
+    /**
+     * 상태와 고객명 인덱스 집합 중 작은 쪽을 반환합니다 (두 조건이 모두 없으면 null).
+     */
+    private NavigableSet<String> smallerIndexSet(OrderStatus status, String customerName) {
+        if (customerName == null) {
+            return status == null ? null : index.idsByStatus(status);
+        }
+        if (status == null || index.countByCustomerName(customerName) <= index.countByStatus(status)) {
+            return index.idsByCustomerName(customerName);
+        }
+        return index.idsByStatus(status);
+    }
+
+    /**
+     * 정렬된 주문 ID 집합을 기준 ID 다음부터 읽어 조건에 맞는 주문을 limit개까지 모읍니다.
+     */
+    private List<Order> walkPage(NavigableSet<String> orderIds, String afterOrderId, int limit,
+        Predicate<Order> matches) {
+        NavigableSet<String> keys = afterOrderId == null ? orderIds : orderIds.tailSet(afterOrderId, false);
+        List<Order> page = new ArrayList<>(Math.min(limit, 1024));
+        for (String orderId : keys) {
+            Order order = orders.get(orderId);
+            // 인덱스와 맵 갱신 사이의 짧은 구간에 대비해 조건을 다시 확인합니다.
+            if (order != null && matches.test(order)) {
+                page.add(order);
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    private List<Order> resolve(Collection<String> orderIds, Predicate<Order> matches) {
+        List<Order> result = new ArrayList<>();
+        for (String orderId : orderIds) {
+            Order order = orders.get(orderId);
+            // 인덱스와 맵 갱신 사이의 짧은 구간에 대비해 조건을 다시 확인합니다.
+            if (order != null && matches.test(order)) {
+                result.add(order);
+            }
+        }
+        return result;
+    }
+
+    private List<Order> scan(Predicate<Order> matches) {
+        List<Order> result = new ArrayList<>();
+        orders.iterator().forEachRemaining(order -> {
+            if (matches.test(order)) {
+                result.add(order);
+            }
+        });
+        return result;
+    }
+
+    private static List<Order> scanPage(Iterator<Order> source, String afterOrderId, int limit,
+        Predicate<Order> matches) {
+        // 주문 ID가 가장 큰 후보가 맨 앞에 오는 힙으로 페이지 크기만큼만 유지합니다.
+        Comparator<Order> byOrderId = Comparator.comparing(Order::getOrderId);
+        PriorityQueue<Order> candidates = new PriorityQueue<>(Math.min(limit, 1024) + 1, byOrderId.reversed());
+        source.forEachRemaining(order -> {
+            if ((afterOrderId != null && order.getOrderId().compareTo(afterOrderId) <= 0) || !matches.test(order)) {
+                return;
+            }
+            if (candidates.size() < limit) {
+                candidates.add(order);
+            } else if (byOrderId.compare(order, candidates.peek()) < 0) {
+                candidates.poll();
+                candidates.add(order);
+            }
+        });
+        List<Order> page = new ArrayList<>(candidates);
+        page.sort(byOrderId);
+        return page;
+    }
+
+    private static boolean inRange(Order order, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime orderDate = order.getOrderDate();
+        return orderDate != null
+            && (from == null || !orderDate.isBefore(from))
+            && (to == null || !orderDate.isAfter(to));
     }
-}
\ No newline at end of file
+}
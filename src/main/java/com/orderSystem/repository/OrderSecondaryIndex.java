@@ -0,0 +1,174 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 상태, 고객명, 주문일시에 대한 동시성 보조 인덱스입니다.
+ * 각 인덱스는 키별로 주문 ID 집합을 유지하며, 비어 있는 집합은 즉시 제거합니다.
+ * 상태와 고객명 집합은 주문 ID 순으로 정렬되어 있어 키셋 페이지 조회가 기준 ID 다음부터 바로 읽을 수 있습니다.
+ * 추가/제거는 OrderRepository가 주문 ID 단위로 직렬화된 구간에서 호출합니다.
+ */
+class OrderSecondaryIndex {
+
+    private final Map<OrderStatus, IdSet> byStatus = new EnumMap<>(OrderStatus.class);
+    private final ConcurrentMap<String, IdSet> byCustomerName = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<LocalDateTime, Set<String>> byOrderDate =
+        new ConcurrentSkipListMap<>();
+
+    OrderSecondaryIndex() {
+        // 상태 인덱스는 고정 키이므로 미리 만들어 두고 이후에는 읽기만 합니다.
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new IdSet());
+        }
+    }
+
+    void add(Order order) {
+        String orderId = order.getOrderId();
+        if (order.getStatus() != null) {
+            byStatus.get(order.getStatus()).add(orderId);
+        }
+        if (order.getCustomerName() != null) {
+            byCustomerName.compute(order.getCustomerName(), (name, ids) -> {
+                IdSet target = ids != null ? ids : new IdSet();
+                target.add(orderId);
+                return target;
+            });
+        }
+        if (order.getOrderDate() != null) {
+            addTo(byOrderDate, order.getOrderDate(), orderId);
+        }
+    }
+
+    void remove(Order order) {
+        String orderId = order.getOrderId();
+        if (order.getStatus() != null) {
+            byStatus.get(order.getStatus()).remove(orderId);
+        }
+        if (order.getCustomerName() != null) {
+            byCustomerName.computeIfPresent(order.getCustomerName(), (name, ids) -> {
+                ids.remove(orderId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (order.getOrderDate() != null) {
+            removeFrom(byOrderDate, order.getOrderDate(), orderId);
+        }
+    }
+
+    void clear() {
+        byStatus.values().forEach(IdSet::clear);
+        byCustomerName.clear();
+        byOrderDate.clear();
+    }
+
+    /**
+     * @return 해당 상태의 주문 ID (오름차순)
+     */
+    NavigableSet<String> idsByStatus(OrderStatus status) {
+        return byStatus.get(status).view();
+    }
+
+    int countByStatus(OrderStatus status) {
+        return byStatus.get(status).size();
+    }
+
+    /**
+     * @return 해당 고객의 주문 ID (오름차순)
+     */
+    NavigableSet<String> idsByCustomerName(String customerName) {
+        IdSet ids = byCustomerName.get(customerName);
+        return ids == null ? Collections.emptyNavigableSet() : ids.view();
+    }
+
+    int countByCustomerName(String customerName) {
+        IdSet ids = byCustomerName.get(customerName);
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * 주문일시 범위에 해당하는 주문 ID를 일시 오름차순으로 반환합니다.
+     *
+     * @param from 시작 일시 (포함, null이면 하한 없음)
+     * @param to   종료 일시 (포함, null이면 상한 없음)
+     * @return 주문 ID 리스트
+     */
+    List<String> idsByOrderDate(LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, Set<String>> range = byOrderDate;
+        if (from != null && to != null) {
+            range = byOrderDate.subMap(from, true, to, true);
+        } else if (from != null) {
+            range = byOrderDate.tailMap(from, true);
+        } else if (to != null) {
+            range = byOrderDate.headMap(to, true);
+        }
+
+        List<String> ids = new ArrayList<>();
+        for (Set<String> bucket : range.values()) {
+            ids.addAll(bucket);
+        }
+        return ids;
+    }
+
+    /**
+     * 주문 ID를 오름차순으로 보관하는 집합입니다. {@link ConcurrentSkipListSet#size()}는 전체를 훑으므로
+     * 후보 집합을 고를 때 쓰는 크기는 따로 셉니다.
+     */
+    private static final class IdSet {
+        private final ConcurrentSkipListSet<String> ids = new ConcurrentSkipListSet<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(String orderId) {
+            if (ids.add(orderId)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(String orderId) {
+            if (ids.remove(orderId)) {
+                size.decrementAndGet();
+            }
+        }
+
+        void clear() {
+            ids.clear();
+            size.set(0);
+        }
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        NavigableSet<String> view() {
+            return Collections.unmodifiableNavigableSet(ids);
+        }
+    }
+
+    private static <K> void addTo(ConcurrentMap<K, Set<String>> index, K key, String orderId) {
+        index.compute(key, (k, ids) -> {
+            Set<String> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(orderId);
+            return target;
+        });
+    }
+
+    private static <K> void removeFrom(ConcurrentMap<K, Set<String>> index, K key, String orderId) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(orderId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.orderSystem.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 저장소 스냅샷을 백그라운드에서 주기적으로 생성합니다.
+ * 스냅샷 생성은 쓰기를 막지 않으며, 실패해도 다음 주기에 다시 시도합니다.
+ */
+public class OrderSnapshotScheduler implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSnapshotScheduler.class);
+
+    private final OrderRepository repository;
+    private final Duration interval;
+    private final ScheduledExecutorService executor;
+
+    public OrderSnapshotScheduler(OrderRepository repository, Duration interval) {
+        this.repository = repository;
+        this.interval = interval;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            logger.info("주문 스냅샷 주기 실행이 비활성화되어 있습니다.");
+            return;
+        }
+        long millis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::snapshot, millis, millis, TimeUnit.MILLISECONDS);
+        logger.info("주문 스냅샷 주기 실행 시작: {}", interval);
+    }
+
+    private void snapshot() {
+        try {
+            repository.takeSnapshot();
+        } catch (Exception e) {
+            logger.error("주문 스냅샷 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,238 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 주문 저장소의 바이너리 스냅샷 파일을 쓰고 읽습니다.
+ *
+ * <pre>
+ * 헤더   : i32 MAGIC, i32 VERSION, i64 스냅샷 LSN
+ * 레코드 : (i32 길이 + {@link OrderBinaryCodec} 주문)*
+ * 트레일러: i32 -1, i64 주문 수, i32 레코드 영역 CRC32C
+ * </pre>
+ *
+ * <p>파일명은 {@code snapshot-<LSN>.snap}이며, 임시 파일에 쓰고 fsync한 뒤 이름을 바꿔 원자적으로 교체합니다.
+ * 스냅샷 LSN 이상의 로그 레코드만 재생하면 저장소 상태가 복원됩니다. 읽을 때는 파일을 한 번에 매핑할 수 있는
+ * 크기(2GB) 이하의 구간으로 나눠 매핑하므로 스냅샷 크기에는 제한이 없습니다.</p>
+ */
+public class OrderSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSnapshotStore.class);
+
+    private static final int MAGIC = 0x4F534E50; // "OSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+    private static final int TRAILER_SIZE = 4 + 8 + 4;
+    private static final int END_MARKER = -1;
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final int maxMapSize;
+
+    public OrderSnapshotStore(Path directory) throws IOException {
+        this(directory, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param directory  스냅샷 디렉토리
+     * @param maxMapSize 읽을 때 한 번에 매핑할 최대 바이트 수 (레코드 하나보다 커야 함)
+     */
+    OrderSnapshotStore(Path directory, int maxMapSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxMapSize = maxMapSize;
+    }
+
+    /**
+     * 스냅샷 적재 결과입니다.
+     *
+     * @param snapshotLsn 스냅샷 LSN (이 값 이상의 로그를 재생해야 함, 스냅샷이 없으면 0)
+     * @param orderCount  적재한 주문 수
+     */
+    public record LoadResult(long snapshotLsn, long orderCount) {
+    }
+
+    /**
+     * 주문들을 새 스냅샷으로 기록하고 이전 스냅샷을 삭제합니다.
+     *
+     * @param snapshotLsn 스냅샷 LSN
+     * @param orders      기록할 주문 순회자
+     * @return 기록한 주문 수
+     * @throws IOException 기록 실패 시 발생
+     */
+    public long write(long snapshotLsn, Iterator<Order> orders) throws IOException {
+        Path target = snapshotPath(snapshotLsn);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        CRC32C crc = new CRC32C();
+        long count = 0;
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(snapshotLsn);
+            writeFully(channel, buffer);
+
+            while (orders.hasNext()) {
+                Order order = orders.next();
+                int maxSize = 4 + OrderBinaryCodec.maxEncodedSize(order);
+                if (buffer.remaining() < maxSize) {
+                    crc.update(buffer.duplicate().flip());
+                    writeFully(channel, buffer);
+                }
+                int lengthPosition = buffer.position();
+                buffer.position(lengthPosition + 4);
+                OrderBinaryCodec.writeOrder(buffer, order);
+                buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+                count++;
+            }
+            crc.update(buffer.duplicate().flip());
+            writeFully(channel, buffer);
+
+            buffer.putInt(END_MARKER).putLong(count).putInt((int) crc.getValue());
+            writeFully(channel, buffer);
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deleteSnapshotsBefore(snapshotLsn);
+        return count;
+    }
+
+    /**
+     * 가장 최근 스냅샷을 적재합니다. 체크섬을 먼저 검증한 뒤 주문을 전달합니다.
+     *
+     * @param consumer 적재한 주문을 받을 consumer
+     * @return 적재 결과 (스냅샷이 없으면 LSN 0)
+     * @throws IOException 읽기 실패 또는 스냅샷 손상 시 발생
+     */
+    public LoadResult loadLatest(Consumer<Order> consumer) throws IOException {
+        List<Path> snapshots = listSnapshots();
+        if (snapshots.isEmpty()) {
+            return new LoadResult(0L, 0L);
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+
+        try (FileChannel channel = FileChannel.open(latest, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE) {
+                throw new IOException("스냅샷 파일이 손상되었습니다: " + latest);
+            }
+            ByteBuffer header = readAt(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("스냅샷 형식이 올바르지 않습니다: " + latest);
+            }
+            long snapshotLsn = header.getLong();
+
+            long recordsEnd = size - TRAILER_SIZE;
+            ByteBuffer trailer = readAt(channel, recordsEnd, TRAILER_SIZE);
+            if (trailer.getInt() != END_MARKER) {
+                throw new IOException("스냅샷이 완전하지 않습니다: " + latest);
+            }
+            long expectedCount = trailer.getLong();
+            int expectedCrc = trailer.getInt();
+
+            CRC32C crc = new CRC32C();
+            for (long position = HEADER_SIZE; position < recordsEnd; position += maxMapSize) {
+                crc.update(map(channel, position, recordsEnd));
+            }
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("스냅샷 체크섬이 일치하지 않습니다: " + latest);
+            }
+
+            long count = 0;
+            long position = HEADER_SIZE;
+            long windowStart = position;
+            MappedByteBuffer window = map(channel, windowStart, recordsEnd);
+            while (position < recordsEnd) {
+                int offset = (int) (position - windowStart);
+                if (offset + 4 > window.limit() || offset + 4 + window.getInt(offset) > window.limit()) {
+                    // 레코드가 구간 끝에 걸치면 그 레코드부터 다시 매핑합니다.
+                    if (offset == 0) {
+                        throw new IOException("스냅샷 레코드가 매핑 구간보다 큽니다: " + latest + " @" + position);
+                    }
+                    windowStart = position;
+                    window = map(channel, windowStart, recordsEnd);
+                    continue;
+                }
+                int length = window.getInt(offset);
+                consumer.accept(OrderBinaryCodec.readOrder(window.slice(offset + 4, length)));
+                position += 4 + length;
+                count++;
+            }
+            if (count != expectedCount) {
+                throw new IOException("스냅샷 주문 수가 일치하지 않습니다: " + count + " != " + expectedCount);
+            }
+            return new LoadResult(snapshotLsn, count);
+        }
+    }
+
+    private MappedByteBuffer map(FileChannel channel, long position, long end) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(maxMapSize, end - position));
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("스냅샷 파일이 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void deleteSnapshotsBefore(long snapshotLsn) throws IOException {
+        for (Path snapshot : listSnapshots()) {
+            if (snapshotLsn(snapshot) < snapshotLsn) {
+                Files.deleteIfExists(snapshot);
+                logger.debug("이전 스냅샷 삭제: {}", snapshot);
+            }
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                })
+                .sorted((a, b) -> Long.compare(snapshotLsn(a), snapshotLsn(b)))
+                .toList();
+        }
+    }
+
+    private Path snapshotPath(long snapshotLsn) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, snapshotLsn, SNAPSHOT_SUFFIX));
+    }
+
+    private static long snapshotLsn(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+
+import java.util.Iterator;
+import java.util.function.BiFunction;
+
+/**
+ * OrderRepository가 주문 본문을 보관하는 저장 엔진입니다.
+ *
+ * <p>{@link #compute(String, BiFunction)}는 같은 주문 ID에 대해 직렬화되어야 하며,
+ * 저장소는 이 구간에서 로그 기록과 보조 인덱스 갱신을 함께 수행합니다.</p>
+ *
+ * @see HeapOrderStore
+ * @see OffHeapOrderStore
+ */
+public interface OrderStore {
+
+    /**
+     * 주문을 조회합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 주문 (없으면 null)
+     */
+    Order get(String orderId);
+
+    /**
+     * 주문 ID에 대해 원자적으로 새 값을 계산해 저장합니다.
+     * 함수가 null을 반환하면 주문을 제거하고, 전달받은 이전 주문 객체를 그대로 반환하거나
+     * 예외를 던지면 저장소는 변경되지 않습니다.
+     *
+     * @param orderId   주문 ID
+     * @param remapping (주문 ID, 이전 주문 또는 null) → 새 주문 또는 null
+     * @return 새 주문 (제거되었으면 null)
+     */
+    Order compute(String orderId, BiFunction<String, Order, Order> remapping);
+
+    /**
+     * 저장된 주문 수를 반환합니다.
+     *
+     * @return 주문 수
+     */
+    int size();
+
+    /**
+     * 모든 주문을 제거합니다.
+     */
+    void clear();
+
+    /**
+     * 모든 주문을 순회합니다. 순회 중의 동시 변경은 반영될 수도, 되지 않을 수도 있지만
+     * 순회 내내 존재한 주문은 정확히 한 번 반환됩니다 (weakly consistent).
+     *
+     * @return 주문 순회자
+     */
+    Iterator<Order> iterator();
+}
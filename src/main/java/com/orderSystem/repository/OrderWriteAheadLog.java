@@ -0,0 +1,588 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 주문 저장소의 추가 전용(append-only) 바이너리 로그입니다.
+ *
+ * <p>레코드 형식: {@code [i32 본문 길이][i32 CRC32C][i64 LSN][i8 타입][페이로드]}.
+ * 쓰기는 메모리 버퍼에 쌓이고 전용 flusher 스레드가 묶어서 기록/fsync합니다 (group commit).
+ * 묶음을 쓰면 세그먼트가 설정 크기를 넘을 때는 그 묶음의 첫 LSN으로 시작하는 새 파일로 먼저 교체하므로,
+ * 세그먼트는 설정 크기(묶음 하나가 그보다 크면 버퍼 크기)를 넘지 않아 재생 시 한 번에 매핑할 수 있습니다.
+ * 시작 시 {@link #replay(ReplayHandler)}가 세그먼트를 메모리 매핑해 순서대로 재생합니다.</p>
+ */
+public class OrderWriteAheadLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderWriteAheadLog.class);
+
+    public enum Durability {
+        /** fsync를 기다리지 않고 반환합니다. 최대 flush 간격만큼의 쓰기를 잃을 수 있습니다. */
+        ASYNC,
+        /** 자신이 포함된 묶음이 fsync될 때까지 기다립니다. */
+        SYNC
+    }
+
+    /**
+     * 로그 재생 시 각 연산을 전달받는 핸들러입니다.
+     */
+    public interface ReplayHandler {
+        void onSave(Order order);
+
+        void onDelete(String orderId);
+
+        void onClear();
+    }
+
+    static final byte TYPE_SAVE = 1;
+    static final byte TYPE_DELETE = 2;
+    static final byte TYPE_CLEAR = 3;
+
+    private static final int LENGTH_AND_CRC_SIZE = 8;
+    private static final int HEADER_SIZE = LENGTH_AND_CRC_SIZE + 8 + 1;
+    static final String SEGMENT_PREFIX = "orders-";
+    static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long flushIntervalNanos;
+    private final Durability durability;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition flushNeeded = appendLock.newCondition();
+    private final Condition spaceAvailable = appendLock.newCondition();
+    private final CRC32C appendCrc = new CRC32C();
+    private ByteBuffer activeBuffer;
+    private ByteBuffer spareBuffer;
+    // 활성 버퍼에서 예약된 바이트 수 (항상 activeBuffer.remaining() 이하)
+    private long reservedBytes;
+    private long nextLsn = 1;
+    private long lastAppendedLsn;
+    private boolean closed;
+
+    private final Object durableMonitor = new Object();
+    private volatile long durableLsn;
+    private volatile IOException failure;
+
+    // flusher 스레드만 접근
+    private FileChannel segmentChannel;
+    private long segmentBytesWritten;
+    private long lastWrittenLsn;
+    private Thread flusher;
+
+    public OrderWriteAheadLog(Path directory, long segmentSizeBytes, int bufferSizeBytes,
+        Duration flushInterval, Durability durability) throws IOException {
+        if (bufferSizeBytes <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상이어야 합니다: " + bufferSizeBytes);
+        }
+        // 재생은 세그먼트를 한 번에 매핑하므로, 세그먼트와 묶음 하나를 합쳐도 2GB를 넘지 않게 합니다.
+        if (segmentSizeBytes <= 0 || segmentSizeBytes > Integer.MAX_VALUE - (long) bufferSizeBytes) {
+            throw new IllegalArgumentException("세그먼트 크기는 1 ~ (2GB - 버퍼 크기) 사이여야 합니다: "
+                + segmentSizeBytes);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.durability = durability;
+        this.activeBuffer = ByteBuffer.allocateDirect(bufferSizeBytes);
+        this.spareBuffer = ByteBuffer.allocateDirect(bufferSizeBytes);
+    }
+
+    /**
+     * 기존 세그먼트를 LSN 순서대로 재생합니다. {@link #start()} 전에 한 번만 호출합니다.
+     * 마지막 세그먼트 끝의 불완전한 레코드(쓰기 중 장애)는 잘라내고, 중간 세그먼트의 손상은 오류로 처리합니다.
+     *
+     * @param handler 재생 핸들러
+     * @return 재생한 레코드 수
+     * @throws IOException 읽기 실패 또는 로그 손상 시 발생
+     */
+    public long replay(ReplayHandler handler) throws IOException {
+        return replay(0L, handler);
+    }
+
+    /**
+     * fromLsn 이상인 레코드만 재생합니다. 스냅샷을 적재한 뒤 로그 꼬리를 재생할 때 사용합니다.
+     *
+     * @param fromLsn 재생을 시작할 LSN
+     * @param handler 재생 핸들러
+     * @return 재생한 레코드 수
+     * @throws IOException 읽기 실패 또는 로그 손상 시 발생
+     */
+    public long replay(long fromLsn, ReplayHandler handler) throws IOException {
+        List<Path> segments = listSegments();
+        long lastLsn = 0;
+        long replayed = 0;
+        CRC32C crc = new CRC32C();
+
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            boolean lastSegment = i == segments.size() - 1;
+            long validEnd;
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size == 0) {
+                    continue;
+                }
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                validEnd = 0;
+                while (mapped.remaining() >= LENGTH_AND_CRC_SIZE) {
+                    int recordStart = mapped.position();
+                    int bodyLength = mapped.getInt();
+                    int expectedCrc = mapped.getInt();
+                    if (bodyLength < HEADER_SIZE - LENGTH_AND_CRC_SIZE || bodyLength > mapped.remaining()) {
+                        break;
+                    }
+                    ByteBuffer body = mapped.slice(recordStart + LENGTH_AND_CRC_SIZE, bodyLength);
+                    crc.reset();
+                    crc.update(body.duplicate());
+                    if ((int) crc.getValue() != expectedCrc) {
+                        break;
+                    }
+
+                    long lsn = body.getLong();
+                    byte type = body.get();
+                    if (lsn >= fromLsn) {
+                        apply(type, body, handler);
+                        replayed++;
+                    }
+                    lastLsn = lsn;
+                    mapped.position(recordStart + LENGTH_AND_CRC_SIZE + bodyLength);
+                    validEnd = mapped.position();
+                }
+                if (validEnd == size) {
+                    continue;
+                }
+            }
+
+            if (!lastSegment) {
+                throw new IOException("주문 로그가 손상되었습니다: " + segment + " (offset " + validEnd + ")");
+            }
+            logger.warn("주문 로그 끝의 불완전한 레코드를 잘라냅니다: {} (offset {})", segment, validEnd);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(validEnd);
+            }
+        }
+
+        appendLock.lock();
+        try {
+            nextLsn = Math.max(Math.max(nextLsn, lastLsn + 1), fromLsn);
+            lastAppendedLsn = nextLsn - 1;
+        } finally {
+            appendLock.unlock();
+        }
+        durableLsn = lastAppendedLsn;
+        return replayed;
+    }
+
+    /**
+     * 새 세그먼트를 열고 flusher 스레드를 시작합니다.
+     *
+     * @throws IOException 세그먼트 생성 실패 시 발생
+     */
+    public void start() throws IOException {
+        lastWrittenLsn = nextLsn - 1;
+        openSegment(nextLsn);
+        flusher = new Thread(this::flushLoop, "order-wal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 주문 ID 단위 잠금 밖에서 미리 잡아 두는 로그 버퍼 자리입니다. 한 스레드에서만 사용합니다.
+     */
+    static final class Reservation {
+        private int bytes;
+
+        int bytes() {
+            return bytes;
+        }
+    }
+
+    static int saveRecordSize(Order order) {
+        return HEADER_SIZE + OrderBinaryCodec.maxEncodedSize(order);
+    }
+
+    static int deleteRecordSize(String orderId) {
+        return HEADER_SIZE + OrderBinaryCodec.maxStringSize(orderId);
+    }
+
+    /**
+     * reservation이 recordSize바이트를 잡고 있도록 활성 버퍼의 자리를 예약합니다.
+     * 자리가 없으면 flusher가 버퍼를 교체하거나 다른 예약이 풀릴 때까지 기다리므로(backpressure),
+     * 주문 ID 단위 잠금을 잡기 전에 호출해야 합니다. 이미 잡고 있던 자리는 먼저 돌려준 뒤 다시 예약하므로
+     * 자리를 쥔 채 기다리는 스레드는 없습니다.
+     *
+     * @param reservation 예약
+     * @param recordSize  필요한 레코드 크기 ({@link #saveRecordSize}, {@link #deleteRecordSize})
+     */
+    void reserve(Reservation reservation, int recordSize) {
+        if (recordSize > activeBuffer.capacity()) {
+            throw new IllegalArgumentException("로그 레코드가 버퍼보다 큽니다: " + recordSize + " bytes");
+        }
+        if (reservation.bytes >= recordSize) {
+            return;
+        }
+
+        appendLock.lock();
+        try {
+            releaseLocked(reservation);
+            ensureWritable();
+            while (activeBuffer.remaining() - reservedBytes < recordSize) {
+                flushNeeded.signal();
+                try {
+                    spaceAvailable.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("주문 로그 버퍼 대기 중 인터럽트되었습니다.", e);
+                }
+                ensureWritable();
+            }
+            reservedBytes += recordSize;
+            reservation.bytes = recordSize;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 쓰지 않은 예약을 돌려줍니다. 예약이 없으면 아무것도 하지 않습니다.
+     *
+     * @param reservation 예약
+     */
+    void release(Reservation reservation) {
+        if (reservation.bytes == 0) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            releaseLocked(reservation);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 예약한 자리에 SAVE 레코드를 기록합니다. 기다리지 않으므로 주문 ID 단위 잠금 안에서 호출할 수 있습니다.
+     */
+    long appendSave(Order order, Reservation reservation) {
+        return append(TYPE_SAVE, order, null, saveRecordSize(order), reservation);
+    }
+
+    /**
+     * 예약한 자리에 DELETE 레코드를 기록합니다. 기다리지 않으므로 주문 ID 단위 잠금 안에서 호출할 수 있습니다.
+     */
+    long appendDelete(String orderId, Reservation reservation) {
+        return append(TYPE_DELETE, null, orderId, deleteRecordSize(orderId), reservation);
+    }
+
+    /**
+     * CLEAR 레코드를 기록합니다. 버퍼에 자리가 날 때까지 기다리므로 주문 ID 단위 잠금 밖에서 호출합니다.
+     */
+    long appendClear() {
+        Reservation reservation = new Reservation();
+        reserve(reservation, HEADER_SIZE);
+        try {
+            return append(TYPE_CLEAR, null, null, HEADER_SIZE, reservation);
+        } finally {
+            release(reservation);
+        }
+    }
+
+    /**
+     * 다음에 부여될 LSN을 반환합니다.
+     */
+    long nextLsn() {
+        appendLock.lock();
+        try {
+            return nextLsn;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 레코드가 lsn보다 작은 세그먼트를 삭제합니다 (스냅샷 이후 로그 정리).
+     * 다음 세그먼트의 시작 LSN이 lsn 이하인 세그먼트만 대상이므로 현재 기록 중인 세그먼트는 남습니다.
+     *
+     * @param lsn 기준 LSN
+     * @return 삭제한 세그먼트 수
+     * @throws IOException 삭제 실패 시 발생
+     */
+    int deleteSegmentsBefore(long lsn) throws IOException {
+        List<Path> segments = listSegments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (segmentStartLsn(segments.get(i + 1)) > lsn) {
+                break;
+            }
+            Files.deleteIfExists(segments.get(i));
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * SYNC 모드에서 주어진 LSN까지 디스크에 기록될 때까지 기다립니다. ASYNC 모드에서는 바로 반환합니다.
+     *
+     * @param lsn 기다릴 LSN
+     */
+    void awaitDurable(long lsn) {
+        if (durability != Durability.SYNC || lsn <= durableLsn) {
+            return;
+        }
+        synchronized (durableMonitor) {
+            while (durableLsn < lsn) {
+                if (failure != null) {
+                    throw new IllegalStateException("주문 로그 기록 실패", failure);
+                }
+                try {
+                    durableMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("주문 로그 기록 대기 중 인터럽트되었습니다.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 디스크에 기록이 끝난 마지막 LSN을 반환합니다.
+     */
+    public long getDurableLsn() {
+        return durableLsn;
+    }
+
+    /**
+     * 남은 버퍼를 모두 기록한 뒤 로그를 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushNeeded.signalAll();
+            spaceAvailable.signalAll();
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (segmentChannel != null) {
+            segmentChannel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private long append(byte type, Order order, String orderId, int maxRecordSize, Reservation reservation) {
+        if (maxRecordSize > reservation.bytes) {
+            throw new IllegalStateException("예약한 로그 버퍼 자리가 부족합니다: 필요 " + maxRecordSize
+                + " bytes, 예약 " + reservation.bytes + " bytes");
+        }
+
+        appendLock.lock();
+        try {
+            ensureWritable();
+
+            ByteBuffer buffer = activeBuffer;
+            int recordStart = buffer.position();
+            long lsn = nextLsn;
+            try {
+                buffer.position(recordStart + LENGTH_AND_CRC_SIZE);
+                buffer.putLong(lsn).put(type);
+                if (type == TYPE_SAVE) {
+                    OrderBinaryCodec.writeOrder(buffer, order);
+                } else if (type == TYPE_DELETE) {
+                    OrderBinaryCodec.writeString(buffer, orderId);
+                }
+            } catch (RuntimeException e) {
+                // 인코딩에 실패한 레코드는 버퍼에서 되돌립니다.
+                buffer.position(recordStart);
+                throw e;
+            }
+            int recordEnd = buffer.position();
+            int bodyLength = recordEnd - recordStart - LENGTH_AND_CRC_SIZE;
+
+            appendCrc.reset();
+            appendCrc.update(buffer.slice(recordStart + LENGTH_AND_CRC_SIZE, bodyLength));
+            buffer.putInt(recordStart, bodyLength);
+            buffer.putInt(recordStart + 4, (int) appendCrc.getValue());
+
+            nextLsn = lsn + 1;
+            lastAppendedLsn = lsn;
+            // 예약은 실제로 쓴 크기와 관계없이 모두 소진되며, 남은 자리는 다른 예약이 쓸 수 있습니다.
+            releaseLocked(reservation);
+            if (durability == Durability.SYNC) {
+                flushNeeded.signal();
+            }
+            return lsn;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void releaseLocked(Reservation reservation) {
+        if (reservation.bytes == 0) {
+            return;
+        }
+        reservedBytes -= reservation.bytes;
+        reservation.bytes = 0;
+        if (appendLock.hasWaiters(spaceAvailable)) {
+            // 기다리는 예약이 있으면 버퍼를 비우도록 flusher도 깨웁니다.
+            flushNeeded.signal();
+            spaceAvailable.signalAll();
+        }
+    }
+
+    private void ensureWritable() {
+        if (failure != null) {
+            throw new IllegalStateException("주문 로그 기록 실패", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("주문 로그가 닫혔습니다.");
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                ByteBuffer batch;
+                long batchLastLsn;
+
+                appendLock.lock();
+                try {
+                    if (activeBuffer.position() == 0) {
+                        if (closed) {
+                            return;
+                        }
+                        flushNeeded.awaitNanos(flushIntervalNanos);
+                        if (activeBuffer.position() == 0) {
+                            continue;
+                        }
+                    }
+                    batch = activeBuffer;
+                    activeBuffer = spareBuffer;
+                    spareBuffer = batch;
+                    batchLastLsn = lastAppendedLsn;
+                    spaceAvailable.signalAll();
+                } finally {
+                    appendLock.unlock();
+                }
+
+                // 이 묶음으로 세그먼트가 설정 크기를 넘게 되면 먼저 새 세그먼트로 교체합니다.
+                if (segmentBytesWritten > 0 && segmentBytesWritten + batch.position() > segmentSizeBytes) {
+                    openSegment(lastWrittenLsn + 1);
+                }
+                writeBatch(batch);
+                lastWrittenLsn = batchLastLsn;
+                publishDurable(batchLastLsn);
+            }
+        } catch (IOException e) {
+            logger.error("주문 로그 기록 실패: {}", e.getMessage(), e);
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IOException("주문 로그 flusher가 인터럽트되었습니다.", e);
+        } finally {
+            appendLock.lock();
+            try {
+                closed = true;
+                spaceAvailable.signalAll();
+            } finally {
+                appendLock.unlock();
+            }
+            synchronized (durableMonitor) {
+                durableMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            segmentBytesWritten += segmentChannel.write(batch);
+        }
+        segmentChannel.force(false);
+        batch.clear();
+    }
+
+    private void publishDurable(long lsn) {
+        durableLsn = lsn;
+        if (durability == Durability.SYNC) {
+            synchronized (durableMonitor) {
+                durableMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void openSegment(long startLsn) throws IOException {
+        if (segmentChannel != null) {
+            segmentChannel.close();
+        }
+        // 같은 시작 LSN의 파일은 레코드가 없는 세그먼트뿐이므로 덮어써도 안전합니다.
+        segmentChannel = FileChannel.open(segmentPath(startLsn),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        segmentBytesWritten = 0;
+        logger.debug("주문 로그 세그먼트 시작: {}", startLsn);
+    }
+
+    Path segmentPath(long startLsn) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, startLsn, SEGMENT_SUFFIX));
+    }
+
+    static long segmentStartLsn(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                })
+                .toList());
+            segments.sort((a, b) -> Long.compare(segmentStartLsn(a), segmentStartLsn(b)));
+            return segments;
+        }
+    }
+
+    private static void apply(byte type, ByteBuffer body, ReplayHandler handler) throws IOException {
+        switch (type) {
+            case TYPE_SAVE -> handler.onSave(OrderBinaryCodec.readOrder(body));
+            case TYPE_DELETE -> handler.onDelete(OrderBinaryCodec.readString(body));
+            case TYPE_CLEAR -> handler.onClear();
+            default -> throw new IOException("알 수 없는 로그 레코드 타입: " + type);
+        }
+    }
+}
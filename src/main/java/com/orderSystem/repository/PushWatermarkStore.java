@@ -0,0 +1,70 @@
+package com.orderSystem.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대상 URL별 전송 워터마크(대상이 전송을 확인한 변경 피드 순번)를 파일에 보관합니다.
+ *
+ * <p>{@code push-watermarks.properties}에 {@code 대상 URL=순번} 형식으로 {@link SyncWatermarkStore}와 같은 방식
+ * (임시 파일 기록, fsync, 원자적 이름 바꾸기)으로 기록합니다. 순번은 변경 피드를 기준으로 하므로, 재시작 뒤에는
+ * 피드가 이어 받은 순번({@link OrderChangeFeed#firstSequence()} - 1)과 같은 워터마크만 증분 전송에 쓸 수 있습니다.</p>
+ */
+public class PushWatermarkStore {
+
+    private static final String FILE_NAME = "push-watermarks.properties";
+
+    private final Path file;
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory 워터마크 파일을 둘 디렉터리 (없으면 만듦)
+     * @throws IOException 디렉터리 생성 또는 기존 파일 읽기 실패 시 발생
+     */
+    public PushWatermarkStore(Path directory) throws IOException {
+        this.file = Files.createDirectories(directory).resolve(FILE_NAME);
+        Properties properties = WatermarkFiles.load(file);
+        for (String url : properties.stringPropertyNames()) {
+            try {
+                watermarks.put(url, Long.parseLong(properties.getProperty(url)));
+            } catch (NumberFormatException e) {
+                throw new IOException("잘못된 전송 워터마크입니다: " + url + "=" + properties.getProperty(url), e);
+            }
+        }
+    }
+
+    /**
+     * @return 기록된 워터마크 전체 (대상 URL → 순번)
+     */
+    public Map<String, Long> getAll() {
+        return Map.copyOf(watermarks);
+    }
+
+    /**
+     * @param url 대상 URL
+     * @return 워터마크 (전송한 적이 없으면 null)
+     */
+    public Long get(String url) {
+        return watermarks.get(url);
+    }
+
+    /**
+     * 워터마크를 바꾸고 파일에 기록합니다. 기록에 실패해도 메모리의 값은 바뀝니다.
+     *
+     * @param url      대상 URL
+     * @param sequence 새 워터마크
+     * @throws IOException 기록 실패 시 발생
+     */
+    public synchronized void put(String url, long sequence) throws IOException {
+        watermarks.put(url, sequence);
+
+        Map<String, String> entries = new HashMap<>();
+        watermarks.forEach((target, value) -> entries.put(target, Long.toString(value)));
+        WatermarkFiles.store(file, entries);
+    }
+}
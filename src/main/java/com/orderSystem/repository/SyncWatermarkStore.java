@@ -0,0 +1,64 @@
+package com.orderSystem.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 동기화 소스별 "since" 워터마크(마지막으로 성공한 가져오기를 시작한 시각)를 파일에 보관합니다.
+ *
+ * <p>{@code sync-watermarks.properties}에 {@code 소스 이름=ISO-8601 시각} 형식으로 기록하며, 바뀔 때마다
+ * 임시 파일에 쓰고 fsync한 뒤 이름을 바꿔 원자적으로 교체하므로 재시작해도 전체를 다시 가져오지 않습니다.</p>
+ */
+public class SyncWatermarkStore {
+
+    private static final String FILE_NAME = "sync-watermarks.properties";
+
+    private final Path file;
+    private final Map<String, Instant> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory 워터마크 파일을 둘 디렉터리 (없으면 만듦)
+     * @throws IOException 디렉터리 생성 또는 기존 파일 읽기 실패 시 발생
+     */
+    public SyncWatermarkStore(Path directory) throws IOException {
+        this.file = Files.createDirectories(directory).resolve(FILE_NAME);
+        Properties properties = WatermarkFiles.load(file);
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                watermarks.put(name, Instant.parse(properties.getProperty(name)));
+            } catch (DateTimeParseException e) {
+                throw new IOException("잘못된 워터마크입니다: " + name + "=" + properties.getProperty(name), e);
+            }
+        }
+    }
+
+    /**
+     * @param source 소스 이름
+     * @return 워터마크 (성공한 적이 없으면 null)
+     */
+    public Instant get(String source) {
+        return watermarks.get(source);
+    }
+
+    /**
+     * 워터마크를 바꾸고 파일에 기록합니다. 기록에 실패해도 메모리의 값은 바뀝니다.
+     *
+     * @param source 소스 이름
+     * @param since  새 워터마크
+     * @throws IOException 기록 실패 시 발생
+     */
+    public synchronized void put(String source, Instant since) throws IOException {
+        watermarks.put(source, since);
+
+        Map<String, String> entries = new HashMap<>();
+        watermarks.forEach((name, value) -> entries.put(name, value.toString()));
+        WatermarkFiles.store(file, entries);
+    }
+}
@@ -0,0 +1,61 @@
+package com.orderSystem.repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 워터마크 저장소들이 함께 쓰는 properties 파일 읽기·쓰기입니다.
+ * 쓰기는 임시 파일에 기록하고 fsync한 뒤 이름을 바꿔 원자적으로 교체합니다.
+ */
+final class WatermarkFiles {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private WatermarkFiles() {
+    }
+
+    /**
+     * @return 파일의 항목들 (파일이 없으면 빈 값)
+     */
+    static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * entries를 이름 순으로 기록해 파일을 교체합니다.
+     */
+    static void store(Path file, Map<String, String> entries) throws IOException {
+        Properties properties = new Properties();
+        new TreeMap<>(entries).forEach(properties::setProperty);
+        StringWriter content = new StringWriter();
+        properties.store(content, null);
+
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
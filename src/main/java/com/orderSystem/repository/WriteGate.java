@@ -0,0 +1,124 @@
+package com.orderSystem.repository;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장소 쓰기 작업과 전체 작업(clear, 스냅샷 경계 설정)을 조율하는 게이트입니다.
+ *
+ * <p>일반 쓰기는 현재 epoch의 LongAdder 증감만 하므로 서로를 막지 않습니다.
+ * {@link #advanceEpoch()}는 새 epoch로 전환한 뒤 이전 epoch에 들어온 쓰기가 끝나기만 기다리므로
+ * 쓰기를 막지 않고, {@link #runExclusive(Runnable)}가 진행되는 동안에만 새 쓰기가 대기합니다.</p>
+ */
+final class WriteGate {
+
+    private final LongAdder[] activeWriters = {new LongAdder(), new LongAdder()};
+    private final Object exclusiveLock = new Object();
+    private final Object waitMonitor = new Object();
+    private volatile int epoch;
+    private volatile boolean exclusive;
+
+    /**
+     * 쓰기 구간에 들어갑니다. 반환된 epoch로 반드시 {@link #exit(int)}를 호출해야 합니다.
+     *
+     * @return 진입한 epoch
+     */
+    int enter() {
+        while (true) {
+            if (exclusive) {
+                awaitOpen();
+                continue;
+            }
+            int current = epoch;
+            LongAdder writers = activeWriters[current & 1];
+            writers.increment();
+            if (!exclusive && epoch == current) {
+                return current;
+            }
+            // 배타 작업 또는 epoch 전환과 경합한 경우 물러난 뒤 다시 시도합니다.
+            leave(writers);
+        }
+    }
+
+    void exit(int enteredEpoch) {
+        LongAdder writers = activeWriters[enteredEpoch & 1];
+        writers.decrement();
+        if (exclusive || epoch != enteredEpoch) {
+            leave(writers);
+        }
+    }
+
+    /**
+     * 새 epoch로 전환하고, 전환 전에 들어온 쓰기가 모두 끝날 때까지 기다립니다.
+     * 전환 이후의 쓰기는 대기 없이 진행됩니다.
+     */
+    void advanceEpoch() {
+        synchronized (exclusiveLock) {
+            int previous = epoch;
+            epoch = previous + 1;
+            awaitDrained(previous);
+        }
+    }
+
+    /**
+     * 진행 중인 쓰기가 모두 끝나기를 기다린 뒤, 새 쓰기를 막은 상태에서 작업을 실행합니다.
+     *
+     * @param action 배타적으로 실행할 작업
+     */
+    void runExclusive(Runnable action) {
+        synchronized (exclusiveLock) {
+            exclusive = true;
+            try {
+                awaitDrained(0);
+                awaitDrained(1);
+                action.run();
+            } finally {
+                exclusive = false;
+                signalWaiters();
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 전체 작업이 있을 때 쓰기가 빠져나간 뒤 호출합니다. 기다리는 쪽은 epoch나 exclusive를 먼저 바꾼 뒤
+     * 카운트를 확인하고, 쓰기는 카운트를 줄인 뒤 두 값을 확인하므로 둘 중 한쪽은 반드시 상대의 변경을 봅니다.
+     * 카운트를 마지막으로 줄인 쓰기가 0을 보게 되므로 그때만 깨웁니다.
+     */
+    private void leave(LongAdder writers) {
+        if (writers.sum() == 0) {
+            signalWaiters();
+        }
+    }
+
+    private void awaitDrained(int targetEpoch) {
+        LongAdder writers = activeWriters[targetEpoch & 1];
+        synchronized (waitMonitor) {
+            while (writers.sum() > 0) {
+                await();
+            }
+        }
+    }
+
+    private void awaitOpen() {
+        synchronized (waitMonitor) {
+            while (exclusive) {
+                await();
+            }
+        }
+    }
+
+    private void signalWaiters() {
+        synchronized (waitMonitor) {
+            waitMonitor.notifyAll();
+        }
+    }
+
+    private void await() {
+        try {
+            // 상태 확인과 대기가 모두 waitMonitor 안에서 일어나므로 신호를 놓치지 않습니다.
+            waitMonitor.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쓰기 게이트 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.orderSystem.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 스레드를 막지 않는 동시 실행 한도입니다. 허가가 없으면 대기열에 넣어 두었다가
+ * 허가가 반환될 때 먼저 기다린 순서대로 이어서 실행합니다.
+ */
+final class AsyncPermits {
+
+    // 이 스레드가 허가를 넘겨주는 중이면, 넘겨받은 작업이 곧바로 끝나 다시 반환한 허가를 모아 두는 곳입니다.
+    private static final ThreadLocal<Deque<CompletableFuture<Void>>> HANDOFFS = new ThreadLocal<>();
+
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int available;
+
+    AsyncPermits(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("동시 실행 한도는 1 이상이어야 합니다: " + permits);
+        }
+        this.available = permits;
+    }
+
+    /**
+     * @return 허가를 얻으면 완료되는 future
+     */
+    synchronized CompletableFuture<Void> acquire() {
+        if (available > 0) {
+            available--;
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * 허가를 반환합니다. 기다리는 작업이 있으면 허가를 바로 넘겨주고, 그 작업은 호출 스레드에서 이어서 실행됩니다.
+     * 이어서 실행된 작업이 같은 스레드에서 다시 반환하면 재귀하지 않고 바깥 반복에서 넘겨주므로, 대기열이 길어도
+     * 스택이 쌓이지 않습니다.
+     */
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            next = waiters.poll();
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+        Deque<CompletableFuture<Void>> handoffs = HANDOFFS.get();
+        if (handoffs != null) {
+            handoffs.add(next);
+            return;
+        }
+        handoffs = new ArrayDeque<>();
+        HANDOFFS.set(handoffs);
+        try {
+            while (next != null) {
+                next.complete(null);
+                next = handoffs.poll();
+            }
+        } finally {
+            HANDOFFS.remove();
+        }
+    }
+
+    synchronized int available() {
+        return available;
+    }
+}
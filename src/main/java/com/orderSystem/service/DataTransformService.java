@@ -1,23 +1,65 @@
 package com.orderSystem.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
+import com.fasterxml.jackson.core.format.DataFormatMatcher;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.orderSystem.connector.WireFormat;
 import com.orderSystem.domain.Order;
 import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.util.StringDictionary;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class DataTransformService {
 
     private final ObjectMapper objectMapper;
+    private final ObjectReader orderReader;
+    private final ObjectWriter orderStreamWriter;
+    // 반복되는 고객명·상태 값을 참조로 줄이도록 공유 문자열 검사를 켭니다.
+    private final SmileFactory smileFactory = SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build();
+    // 스트림 앞부분으로 Smile(":)\n" 헤더)과 JSON을 구분합니다.
+    private final DataFormatDetector formatDetector;
+    // 역직렬화한 고객명을 같은 인스턴스로 바꿔 끼워 중복 문자열을 보관하지 않습니다.
+    private final StringDictionary customerNames;
 
     public DataTransformService() {
+        this(new StringDictionary());
+    }
+
+    @Autowired
+    public DataTransformService(StringDictionary customerNames) {
+        this.customerNames = customerNames;
         this.objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
+        this.orderReader = objectMapper.readerFor(Order.class);
+        this.orderStreamWriter = objectMapper.writerFor(Order.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.formatDetector = new DataFormatDetector(smileFactory, objectMapper.getFactory());
     }
 
     /**
@@ -32,7 +74,7 @@ public class DataTransformService {
             if (json == null || json.trim().isEmpty()) {
                 throw new DataTransformException("JSON 데이터가 비어있습니다.");
             }
-            return objectMapper.readValue(json, Order.class);
+            return canonicalize(objectMapper.readValue(json, Order.class));
         } catch (JsonProcessingException e) {
             throw new DataTransformException("JSON을 Order 객체로 변환 실패: " + e.getMessage(), e);
         }
@@ -58,6 +100,7 @@ public class DataTransformService {
 
     /**
      * JSON 문자열을 Order 리스트로 변환합니다.
+     * 동기화·수집 경로는 스트림으로 읽으며, 큰 배열 응답은 {@link OrderIngestPipeline}이 여러 스레드에서 나눠 파싱합니다.
      *
      * @param json JSON 문자열
      * @return Order 리스트
@@ -68,8 +111,10 @@ public class DataTransformService {
             if (json == null || json.trim().isEmpty()) {
                 throw new DataTransformException("JSON 데이터가 비어있습니다.");
             }
-            return objectMapper.readValue(json, new TypeReference<List<Order>>() {
+            List<Order> orders = objectMapper.readValue(json, new TypeReference<List<Order>>() {
             });
+            orders.forEach(this::canonicalize);
+            return orders;
         } catch (JsonProcessingException e) {
             throw new DataTransformException("JSON을 Order 리스트로 변환 실패: " + e.getMessage(), e);
         }
@@ -92,4 +137,252 @@ public class DataTransformService {
             throw new DataTransformException("Order 리스트를 JSON으로 변환 실패: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 목록을 JSON 배열로 출력 스트림에 바로 씁니다. 문자열을 만들지 않으며 출력 스트림은 닫지 않습니다.
+     *
+     * @param orders       출력할 주문들
+     * @param outputStream 대상 출력 스트림
+     * @return 출력한 주문 수
+     * @throws DataTransformException 변환 또는 출력 실패 시 발생
+     */
+    public int writeOrdersAsJson(Iterable<Order> orders, OutputStream outputStream)
+        throws DataTransformException {
+        return writeOrders(orders, outputStream, WireFormat.JSON);
+    }
+
+    /**
+     * 주문 목록을 지정한 형식의 배열로 출력 스트림에 바로 씁니다. 출력 스트림은 닫지 않습니다.
+     * Smile로 쓴 데이터는 {@link #streamOrders(InputStream, Consumer)}가 그대로 읽을 수 있습니다.
+     *
+     * @param orders       출력할 주문들
+     * @param outputStream 대상 출력 스트림
+     * @param format       출력 형식
+     * @return 출력한 주문 수
+     * @throws DataTransformException 변환 또는 출력 실패 시 발생
+     */
+    public int writeOrders(Iterable<Order> orders, OutputStream outputStream, WireFormat format)
+        throws DataTransformException {
+        JsonFactory factory = format == WireFormat.SMILE ? smileFactory : objectMapper.getFactory();
+        try (JsonGenerator generator = factory.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            int count = 0;
+            generator.writeStartArray();
+            for (Order order : orders) {
+                orderStreamWriter.writeValue(generator, order);
+                count++;
+            }
+            generator.writeEndArray();
+            generator.flush();
+            return count;
+        } catch (IOException e) {
+            throw new DataTransformException("주문을 " + format + "(으)로 출력 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JSON 스트림을 요소 단위로 읽으면서 각 Order를 consumer에 전달합니다.
+     * 최상위가 배열이면 요소마다, 단일 객체이면 한 번 전달하며 전체 리스트를 만들지 않으므로
+     * 페이로드 크기와 관계없이 메모리 사용량이 일정합니다. 고객명은 사전의 공유 인스턴스로 바뀝니다.
+     * Smile 헤더로 시작하는 스트림은 Smile로 읽습니다.
+     *
+     * @param inputStream JSON 또는 Smile 데이터 스트림 (호출자가 닫아야 함)
+     * @param consumer    변환된 Order를 받을 consumer
+     * @return 전달한 Order 수
+     * @throws DataTransformException 변환 실패 시 발생
+     */
+    public int streamOrders(InputStream inputStream, Consumer<Order> consumer)
+        throws DataTransformException {
+        if (inputStream == null) {
+            throw new DataTransformException("JSON 데이터 스트림이 null입니다.");
+        }
+        try (JsonParser parser = createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new DataTransformException("JSON 데이터가 비어있습니다.");
+            }
+
+            if (token == JsonToken.START_OBJECT) {
+                consumer.accept(canonicalize(orderReader.readValue(parser)));
+                return 1;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new DataTransformException("JSON 배열 또는 객체가 아닙니다: " + token);
+            }
+
+            int count = 0;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                consumer.accept(canonicalize(orderReader.readValue(parser)));
+                count++;
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new DataTransformException("JSON 배열 요소가 객체가 아닙니다: " + token);
+            }
+            return count;
+        } catch (IOException e) {
+            throw new DataTransformException("JSON 스트림을 Order로 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 공백으로 구분된 최상위 JSON 값들을 차례로 Order로 변환합니다.
+     * {@link com.orderSystem.util.JsonArrayScanner}가 잘라 준 배열 요소 묶음을 여러 스레드에서 나눠 디코딩할 때 씁니다.
+     * 고객명은 사전의 공유 인스턴스로 바뀌며, null 값은 그대로 null로 담깁니다.
+     *
+     * @param data   UTF-8 JSON 바이트
+     * @param length 유효한 바이트 수
+     * @return 변환된 Order 리스트 (값 순서)
+     * @throws DataTransformException 변환 실패 시 발생
+     */
+    public List<Order> readOrderValues(byte[] data, int length) throws DataTransformException {
+        List<Order> orders = new ArrayList<>();
+        try (MappingIterator<Order> values = orderReader.readValues(data, 0, length)) {
+            while (values.hasNextValue()) {
+                orders.add(canonicalize(values.nextValue()));
+            }
+            return orders;
+        } catch (IOException e) {
+            throw new DataTransformException("JSON 배열 요소를 Order로 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 페이지 응답 하나에 담긴 주문과 다음 페이지 커서입니다.
+     *
+     * @param orders     주문 목록
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     */
+    public record OrderPage(List<Order> orders, String nextCursor) {
+    }
+
+    /**
+     * 페이지 응답 하나를 읽습니다. 주문 배열과 다음 커서는 JSON Pointer로 지정한 위치에서 찾으며,
+     * 나머지 필드는 무시합니다. 빈 문자열 위치("")는 최상위 값을 뜻합니다. Smile 응답도 읽을 수 있습니다.
+     *
+     * @param inputStream 페이지 응답 스트림 (호출자가 닫아야 함)
+     * @param itemsPath   주문 배열의 위치
+     * @param cursorPath  다음 커서의 위치 (null이면 커서를 읽지 않음)
+     * @return 페이지의 주문과 다음 커서
+     * @throws DataTransformException 변환 실패 또는 주문 배열이 없는 경우
+     */
+    public OrderPage readOrderPage(InputStream inputStream, String itemsPath, String cursorPath)
+        throws DataTransformException {
+        if (inputStream == null) {
+            throw new DataTransformException("JSON 데이터 스트림이 null입니다.");
+        }
+        try (JsonParser parser = createParser(inputStream)) {
+            JsonPointer itemsPointer = JsonPointer.compile(itemsPath);
+            JsonPointer cursorPointer = cursorPath == null ? null : JsonPointer.compile(cursorPath);
+            List<Order> orders = null;
+            String nextCursor = null;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_ARRAY && orders == null
+                    && parser.getParsingContext().pathAsPointer().equals(itemsPointer)) {
+                    orders = new ArrayList<>();
+                    while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                        orders.add(canonicalize(orderReader.readValue(parser)));
+                    }
+                    if (token != JsonToken.END_ARRAY) {
+                        throw new DataTransformException("JSON 배열 요소가 객체가 아닙니다: " + token);
+                    }
+                } else if (cursorPointer != null && token.isScalarValue()
+                    && parser.getParsingContext().pathAsPointer().equals(cursorPointer)) {
+                    nextCursor = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                }
+            }
+            if (orders == null) {
+                throw new DataTransformException("페이지 응답에서 주문 배열을 찾을 수 없습니다: \"" + itemsPath + "\"");
+            }
+            return new OrderPage(orders, nextCursor);
+        } catch (IllegalArgumentException e) {
+            throw new DataTransformException("잘못된 JSON Pointer입니다: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new DataTransformException("페이지 응답을 Order로 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * NDJSON(한 줄에 JSON 객체 하나) 스트림을 읽으면서 각 Order를 consumer에 전달합니다.
+     * 빈 줄은 무시하며, 전체를 메모리에 올리지 않습니다.
+     *
+     * @param inputStream NDJSON 데이터 스트림 (호출자가 닫아야 함)
+     * @param consumer    변환된 Order를 받을 consumer
+     * @return 전달한 Order 수
+     * @throws DataTransformException 변환 실패 시 발생
+     */
+    public long streamNdjsonOrders(InputStream inputStream, Consumer<Order> consumer)
+        throws DataTransformException {
+        if (inputStream == null) {
+            throw new DataTransformException("NDJSON 데이터 스트림이 null입니다.");
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            long count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new DataTransformException(
+                        "NDJSON " + (count + 1) + "번째 값이 객체가 아닙니다: " + token);
+                }
+                consumer.accept(canonicalize(orderReader.readValue(parser)));
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new DataTransformException("NDJSON 스트림을 Order로 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주문을 NDJSON(한 줄에 JSON 객체 하나) 형식으로 출력 스트림에 바로 씁니다.
+     * 첫 주문은 즉시 flush하고 이후에는 flushInterval 건마다 flush하며, 출력 스트림은 닫지 않습니다.
+     *
+     * @param orders        출력할 주문 순회자
+     * @param outputStream  대상 출력 스트림
+     * @param flushInterval flush 간격 (건수)
+     * @return 출력한 주문 수
+     * @throws DataTransformException 변환 또는 출력 실패 시 발생
+     */
+    public long writeOrdersAsNdjson(Iterator<Order> orders, OutputStream outputStream, int flushInterval)
+        throws DataTransformException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            long count = 0;
+            while (orders.hasNext()) {
+                orderStreamWriter.writeValue(generator, orders.next());
+                generator.writeRaw('\n');
+                count++;
+                if (count == 1 || count % flushInterval == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+            return count;
+        } catch (IOException e) {
+            throw new DataTransformException("주문을 NDJSON으로 출력 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스트림 앞부분을 보고 Smile 또는 JSON 파서를 만듭니다. 판별에 읽은 바이트는 파서가 다시 읽습니다.
+     */
+    private JsonParser createParser(InputStream inputStream) throws IOException {
+        DataFormatMatcher match = formatDetector.findFormat(inputStream);
+        if (match.hasMatch()) {
+            return match.createParserWithMatch();
+        }
+        // 비어 있거나 형식을 알 수 없으면 JSON으로 읽어 기존과 같은 오류를 냅니다.
+        return objectMapper.getFactory().createParser(match.getDataStream());
+    }
+
+    private Order canonicalize(Order order) {
+        if (order != null) {
+            order.setCustomerName(customerNames.canonicalize(order.getCustomerName()));
+        }
+        return order;
+    }
+}
@@ -0,0 +1,113 @@
+package com.orderSystem.service;
+
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.dto.MultiSyncResult;
+import com.orderSystem.dto.SourceSyncResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 외부 시스템에서 주문을 동시에 가져옵니다.
+ *
+ * <p>동시에 가져오는 소스 수는 전체 한도({@code order.sync.pull.concurrency})와 호스트별 한도
+ * ({@code per-host-concurrency})를 함께 따르며, 두 한도는 모든 요청이 공유합니다. 한도를 기다리는 동안에도
+ * 스레드를 쓰지 않으므로 전체 소요 시간은 소스별 소요 시간의 합이 아니라 가장 느린 소스에 가깝습니다.</p>
+ */
+@Service
+public class MultiSourceSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiSourceSyncService.class);
+
+    private final OrderSyncService syncService;
+    private final OrderSyncProperties.Pull settings;
+    private final AsyncPermits permits;
+    private final ConcurrentMap<String, AsyncPermits> hostPermits = new ConcurrentHashMap<>();
+
+    public MultiSourceSyncService(OrderSyncService syncService, OrderSyncProperties properties) {
+        this.syncService = syncService;
+        this.settings = properties.getPull();
+        this.permits = new AsyncPermits(settings.getConcurrency());
+        if (settings.getPerHostConcurrency() <= 0) {
+            throw new IllegalArgumentException("호스트별 동시 실행 한도는 1 이상이어야 합니다: "
+                + settings.getPerHostConcurrency());
+        }
+    }
+
+    /**
+     * 여러 소스에서 주문을 동시에 가져와 저장합니다. 소스 하나가 실패해도 나머지는 계속 진행합니다.
+     *
+     * @param urls 외부 시스템 URL 목록
+     * @return 소스별 결과를 모은 보고 (소스 실패로 예외 완료되지 않음)
+     * @throws IllegalArgumentException URL 목록이 비었거나 올바르지 않은 URL이 있는 경우
+     */
+    public CompletableFuture<MultiSyncResult> syncAll(List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            throw new IllegalArgumentException("동기화할 외부 시스템 URL이 필요합니다.");
+        }
+        List<String> hosts = urls.stream().map(MultiSourceSyncService::hostOf).toList();
+
+        logger.info("여러 소스 동기화 시작: {}개", urls.size());
+        long started = System.nanoTime();
+        List<CompletableFuture<SourceSyncResult>> pending = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            pending.add(syncLimited(urls.get(i), hosts.get(i)));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            MultiSyncResult result = new MultiSyncResult(
+                pending.stream().map(CompletableFuture::join).toList(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            logger.info("여러 소스 동기화 완료: 소스 {}개 중 {}개 실패, 주문 {}개, {}ms",
+                urls.size(), result.getFailedCount(), result.getOrderCount(), result.getElapsedMillis());
+            return result;
+        });
+    }
+
+    /**
+     * 설정된 소스 그룹({@code order.sync.pull.source-groups.<이름>})의 모든 소스를 동기화합니다.
+     *
+     * @param group 소스 그룹 이름
+     * @return 소스별 결과를 모은 보고
+     * @throws IllegalArgumentException 설정되지 않은 그룹인 경우
+     */
+    public CompletableFuture<MultiSyncResult> syncGroup(String group) {
+        List<String> urls = settings.getSourceGroups().get(group);
+        if (urls == null) {
+            throw new IllegalArgumentException("설정되지 않은 소스 그룹입니다: " + group);
+        }
+        return syncAll(urls);
+    }
+
+    private CompletableFuture<SourceSyncResult> syncLimited(String url, String host) {
+        AsyncPermits perHost = hostPermits.computeIfAbsent(host,
+            ignored -> new AsyncPermits(settings.getPerHostConcurrency()));
+        // 호스트 한도를 먼저 얻어, 같은 호스트를 기다리는 소스가 전체 한도를 차지하지 않게 합니다.
+        return perHost.acquire()
+            .thenCompose(ignored -> permits.acquire())
+            .thenCompose(ignored -> syncService.syncSourceAsync(url))
+            .whenComplete((result, error) -> {
+                permits.release();
+                perHost.release();
+            });
+    }
+
+    private static String hostOf(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() == null) {
+                throw new IllegalArgumentException("호스트가 없는 URL입니다: " + url);
+            }
+            return uri.getHost().toLowerCase() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("올바르지 않은 외부 시스템 URL입니다: " + url, e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.orderSystem.service;
+
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.connector.DataConnectorInterface;
+import com.orderSystem.domain.Order;
+import com.orderSystem.dto.PushBatchResult;
+import com.orderSystem.exception.DataConnectorException;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.util.CountingOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문을 batchSize개씩 묶어 최대 concurrency개의 요청으로 동시에 전송합니다.
+ *
+ * <p>묶음은 전송 슬롯을 얻은 뒤에 채우고, 각 묶음의 JSON은 요청 본문으로 바로 흘려보내므로
+ * 메모리에 머무는 주문은 batchSize × concurrency개를 넘지 않습니다. 실패한 묶음은 주문 ID만 남겨 두었다가
+ * 저장소의 현재 값으로 다시 채워 재전송합니다.</p>
+ *
+ * <p>취소가 요청되면 새 묶음을 만들지 않고 재전송도 하지 않으며, 이미 보낸 묶음의 결과만 기다린 뒤 멈춥니다.</p>
+ */
+class OrderBatchPusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBatchPusher.class);
+
+    private static final AtomicInteger threadSequence = new AtomicInteger();
+
+    private final DataConnectorInterface connector;
+    private final DataTransformService transformer;
+    private final OrderRepository repository;
+    private final OrderSyncProperties.Push settings;
+
+    OrderBatchPusher(DataConnectorInterface connector, DataTransformService transformer,
+        OrderRepository repository, OrderSyncProperties.Push settings) {
+        if (settings.getBatchSize() <= 0 || settings.getConcurrency() <= 0 || settings.getMaxRetries() < 0) {
+            throw new IllegalArgumentException(String.format(
+                "잘못된 전송 설정입니다: batchSize=%d, concurrency=%d, maxRetries=%d",
+                settings.getBatchSize(), settings.getConcurrency(), settings.getMaxRetries()));
+        }
+        this.connector = connector;
+        this.transformer = transformer;
+        this.repository = repository;
+        this.settings = settings;
+    }
+
+    /**
+     * 주문을 묶음 단위로 전송하고, 실패한 묶음은 설정한 횟수만큼 다시 전송합니다.
+     *
+     * @param url      외부 시스템 URL
+     * @param orders   전송할 주문 순회자
+     * @param progress 진행 상황 (묶음에 담은 주문 수, 쓴 본문 바이트 수, 대상이 받은 주문 수)
+     * @return 묶음별 결과 (묶음 순번 순)
+     * @throws InterruptedException  전송을 기다리는 중 인터럽트된 경우
+     * @throws CancellationException 취소가 요청되어 일부만 전송한 경우
+     */
+    List<PushBatchResult> push(String url, Iterator<Order> orders, SyncProgress progress)
+        throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "order-push-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore slots = new Semaphore(settings.getConcurrency());
+        try {
+            List<Future<Batch>> pending = new ArrayList<>();
+            int index = 0;
+            while (orders.hasNext() && !progress.isCancelled()) {
+                slots.acquire();
+                List<Order> chunk = new ArrayList<>(settings.getBatchSize());
+                while (chunk.size() < settings.getBatchSize() && orders.hasNext()) {
+                    chunk.add(orders.next());
+                }
+                progress.addOrdersParsed(chunk.size());
+                pending.add(submit(executor, slots, url, new Batch(index++, chunk), progress));
+            }
+            List<Batch> batches = await(pending);
+
+            for (int retry = 1; retry <= settings.getMaxRetries(); retry++) {
+                List<Batch> failed = batches.stream().filter(batch -> !batch.success).toList();
+                if (failed.isEmpty() || progress.isCancelled()) {
+                    break;
+                }
+                Thread.sleep(settings.getRetryBackoff().toMillis() * retry);
+                logger.info("실패한 묶음 재전송 ({}회차): {}개", retry, failed.size());
+
+                List<Future<Batch>> retries = new ArrayList<>(failed.size());
+                for (Batch batch : failed) {
+                    slots.acquire();
+                    // 재전송은 저장소의 현재 값을 보냅니다. 그 사이 삭제된 주문은 빠집니다.
+                    batch.orders = repository.findAllById(batch.failedOrderIds);
+                    retries.add(submit(executor, slots, url, batch, progress));
+                }
+                await(retries);
+            }
+            // 보낸 묶음의 결과까지 기다린 뒤 멈춥니다. 남은 주문이 있으므로 성공으로 보고하지 않습니다.
+            progress.checkCancelled();
+
+            List<PushBatchResult> results = new ArrayList<>(batches.size());
+            for (Batch batch : batches) {
+                results.add(new PushBatchResult(
+                    batch.index, batch.orderCount, batch.attempts, batch.success, batch.error));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Future<Batch> submit(ExecutorService executor, Semaphore slots, String url, Batch batch,
+        SyncProgress progress) {
+        return executor.submit(() -> {
+            try {
+                send(url, batch, progress);
+                return batch;
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    private void send(String url, Batch batch, SyncProgress progress) {
+        List<Order> orders = batch.orders;
+        batch.attempts++;
+        batch.orderCount = orders.size();
+        try {
+            batch.success = orders.isEmpty()
+                || connector.sendStream(url, outputStream -> write(orders, outputStream, progress),
+                    settings.isGzip(), settings.getFormat());
+            batch.error = batch.success ? null : "대상 시스템이 전송을 거부했습니다.";
+        } catch (DataConnectorException e) {
+            batch.success = false;
+            batch.error = e.getMessage();
+        }
+
+        if (batch.success) {
+            batch.failedOrderIds = null;
+            progress.addOrdersStored(orders.size());
+        } else {
+            batch.failedOrderIds = orders.stream().map(Order::getOrderId).toList();
+            logger.warn("주문 묶음 {} 전송 실패 ({}회차, {}개): {}",
+                batch.index, batch.attempts, orders.size(), batch.error);
+        }
+        // 결과를 기다리는 동안 주문 객체를 붙잡지 않습니다.
+        batch.orders = null;
+    }
+
+    private void write(List<Order> orders, OutputStream outputStream, SyncProgress progress) throws IOException {
+        CountingOutputStream counted = new CountingOutputStream(outputStream);
+        try {
+            transformer.writeOrders(orders, counted, settings.getFormat());
+        } catch (DataTransformException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            progress.addBytes(counted.getCount());
+        }
+    }
+
+    private static List<Batch> await(List<Future<Batch>> pending) throws InterruptedException {
+        List<Batch> batches = new ArrayList<>(pending.size());
+        for (Future<Batch> future : pending) {
+            try {
+                batches.add(future.get());
+            } catch (ExecutionException e) {
+                // send는 전송 오류를 결과로 남기므로 여기까지 오는 것은 예상하지 못한 오류뿐입니다.
+                throw new IllegalStateException("주문 묶음 전송 중 오류: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * 전송 묶음의 상태입니다. 한 번에 한 작업 스레드만 다루며, Future를 통해 결과가 공개됩니다.
+     */
+    private static final class Batch {
+        final int index;
+        List<Order> orders;
+        List<String> failedOrderIds;
+        int orderCount;
+        int attempts;
+        boolean success;
+        String error;
+
+        Batch(int index, List<Order> orders) {
+            this.index = index;
+            this.orders = orders;
+        }
+    }
+}
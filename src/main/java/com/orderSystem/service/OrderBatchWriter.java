@@ -0,0 +1,95 @@
+package com.orderSystem.service;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.repository.OrderRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 주문을 모아 batchSize개마다 {@link OrderRepository#saveAll(java.util.Collection)}로 저장하는 consumer입니다.
+ * skipUnchanged이면 {@link OrderRepository#saveAllIfChanged(java.util.Collection)}로 저장해 내용이 같은 주문은
+ * 건너뛰고 새로 저장·덮어쓰기·건너뛰기 수를 셉니다. 마지막 묶음을 저장하려면 {@link #flush()}를 호출해야 합니다.
+ */
+class OrderBatchWriter implements Consumer<Order> {
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final OrderRepository repository;
+    private final int batchSize;
+    private final boolean skipUnchanged;
+    private List<Order> batch;
+    private long writtenCount;
+    private long insertedCount;
+    private long updatedCount;
+    private long unchangedCount;
+
+    OrderBatchWriter(OrderRepository repository) {
+        this(repository, DEFAULT_BATCH_SIZE, false);
+    }
+
+    OrderBatchWriter(OrderRepository repository, boolean skipUnchanged) {
+        this(repository, DEFAULT_BATCH_SIZE, skipUnchanged);
+    }
+
+    OrderBatchWriter(OrderRepository repository, int batchSize) {
+        this(repository, batchSize, false);
+    }
+
+    OrderBatchWriter(OrderRepository repository, int batchSize, boolean skipUnchanged) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.skipUnchanged = skipUnchanged;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void accept(Order order) {
+        batch.add(order);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아 둔 주문을 저장합니다.
+     */
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (skipUnchanged) {
+            OrderRepository.SaveCounts counts = repository.saveAllIfChanged(batch);
+            insertedCount += counts.inserted();
+            updatedCount += counts.updated();
+            unchangedCount += counts.unchanged();
+        } else {
+            repository.saveAll(batch);
+        }
+        writtenCount += batch.size();
+        batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * 지금까지 저장소에 반영한 주문 수를 반환합니다. 내용이 같아 건너뛴 주문도 포함합니다.
+     */
+    long getWrittenCount() {
+        return writtenCount;
+    }
+
+    long getInsertedCount() {
+        return insertedCount;
+    }
+
+    long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    long getUnchangedCount() {
+        return unchangedCount;
+    }
+}
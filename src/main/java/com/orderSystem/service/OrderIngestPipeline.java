@@ -0,0 +1,330 @@
+package com.orderSystem.service;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.util.JsonArrayScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부에서 받은 주문 배열을 받기 → 파싱 → 검증 → 저장 단계로 나눠 동시에 처리하는 파이프라인입니다.
+ *
+ * <p>받기 단계는 전용 스레드에서 응답 스트림을 읽으며 {@link JsonArrayScanner}로 요소 경계에서 묶음을 자르고,
+ * 묶음마다 파싱 스레드({@code parserThreads}개)에 디코딩과 검증을 맡깁니다. 저장 단계는 호출 스레드에서 묶음을
+ * 받은 순서대로 꺼내 {@link OrderBatchWriter}로 저장하므로, 같은 주문 ID가 여러 번 나와도 마지막 값이 남습니다.
+ * 단계 사이는 {@code queueCapacity}개짜리 대기열로 이어져 있어 저장이 밀리면 파싱이, 파싱이 밀리면 받기가 멈추고
+ * 결국 응답을 덜 읽어 외부 시스템 쪽으로 배압이 전달됩니다. 한 번에 메모리에 머무는 본문은 대략
+ * {@code chunkBytes × queueCapacity}입니다.</p>
+ *
+ * <p>검증은 별도 스레드로 넘기지 않고 파싱한 스레드에서 바로 합니다. 주문 하나당 필드 몇 개를 확인하는 일이라
+ * 대기열을 한 번 더 거치는 비용이 더 크기 때문입니다.</p>
+ */
+public class OrderIngestPipeline implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIngestPipeline.class);
+
+    private static final long POLL_MILLIS = 100L;
+    // 받기 단계가 끝났음을 저장 단계에 알립니다.
+    private static final CompletableFuture<List<Order>> END = CompletableFuture.completedFuture(List.of());
+
+    /**
+     * 단계별 누적 통계와 현재 대기열 깊이입니다.
+     *
+     * @param fetchedBytes    받기 단계가 읽은 바이트 수
+     * @param fetchedChunks   받기 단계가 잘라 넘긴 묶음 수
+     * @param parseQueueDepth 파싱을 기다리거나 파싱 중인 묶음 수
+     * @param parsedOrders    파싱한 주문 수
+     * @param rejectedOrders  검증에서 거부한 주문 수
+     * @param storeQueueDepth 저장 단계로 넘어가기를 기다리는 묶음 수 (파싱 중인 묶음 포함)
+     * @param storedOrders    저장 단계가 저장한 주문 수 (내용이 같아 건너뛴 주문 포함)
+     * @param activeRuns      실행 중인 파이프라인 수
+     */
+    public record Stats(long fetchedBytes, long fetchedChunks, int parseQueueDepth, long parsedOrders,
+                        long rejectedOrders, int storeQueueDepth, long storedOrders, int activeRuns) {
+    }
+
+    private final DataTransformService transformer;
+    private final int queueCapacity;
+    private final int chunkBytes;
+    private final ExecutorService fetchExecutor;
+    private final ExecutorService parseExecutor;
+
+    private final LongAdder fetchedBytes = new LongAdder();
+    private final LongAdder fetchedChunks = new LongAdder();
+    private final AtomicInteger parseQueueDepth = new AtomicInteger();
+    private final LongAdder parsedOrders = new LongAdder();
+    private final LongAdder rejectedOrders = new LongAdder();
+    private final AtomicInteger storeQueueDepth = new AtomicInteger();
+    private final LongAdder storedOrders = new LongAdder();
+    private final AtomicInteger activeRuns = new AtomicInteger();
+
+    /**
+     * @param transformer   묶음을 디코딩할 변환 서비스
+     * @param parserThreads 파싱 스레드 수 (모든 실행이 함께 씀)
+     * @param queueCapacity 실행 하나에서 저장을 기다릴 수 있는 묶음 수
+     * @param chunkBytes    묶음 하나의 대략적인 크기 (바이트)
+     */
+    public OrderIngestPipeline(DataTransformService transformer, int parserThreads, int queueCapacity,
+        int chunkBytes) {
+        if (parserThreads <= 0 || queueCapacity <= 0 || chunkBytes <= 0) {
+            throw new IllegalArgumentException(String.format(
+                "잘못된 파이프라인 설정입니다: parserThreads=%d, queueCapacity=%d, chunkBytes=%d",
+                parserThreads, queueCapacity, chunkBytes));
+        }
+        this.transformer = transformer;
+        this.queueCapacity = queueCapacity;
+        this.chunkBytes = chunkBytes;
+        this.fetchExecutor = Executors.newCachedThreadPool(daemonThreads("order-ingest-fetch-"));
+        this.parseExecutor = Executors.newFixedThreadPool(parserThreads, daemonThreads("order-ingest-parse-"));
+    }
+
+    /**
+     * 스트림이 최상위 JSON 배열인지 확인합니다. 아니면(단일 객체, Smile 등) 파이프라인으로 처리할 수 없습니다.
+     *
+     * @param inputStream mark/reset을 지원하는 스트림 (읽은 바이트는 되돌림)
+     * @return 파이프라인으로 처리할 수 있으면 true
+     * @throws IOException 읽기 실패 시 발생
+     */
+    boolean accepts(InputStream inputStream) throws IOException {
+        return JsonArrayScanner.startsWithArray(inputStream);
+    }
+
+    /**
+     * 주문 배열을 끝까지 읽어 writer로 저장합니다. 저장은 호출 스레드에서 하며, 마지막 묶음까지 flush한 뒤 돌아옵니다.
+     * 어느 단계에서든 실패하거나 취소되면 나머지 단계를 멈추고 예외를 던집니다. 이때 받기 스레드가 읽기에서 빠져나오도록
+     * 호출자가 스트림을 닫아야 합니다.
+     *
+     * @param inputStream 최상위 배열로 시작하는 JSON 스트림 (호출자가 닫아야 함)
+     * @param bytesRead   지금까지 받은 바이트 수 (진행 상황용)
+     * @param writer      저장 단계에서 쓸 writer
+     * @param progress    진행 상황과 취소 요청
+     * @return 저장한 주문 수
+     * @throws DataTransformException 배열 구조가 잘못되었거나 주문으로 변환·검증하지 못한 경우
+     */
+    int ingest(InputStream inputStream, LongSupplier bytesRead, OrderBatchWriter writer, SyncProgress progress)
+        throws DataTransformException {
+        BlockingQueue<CompletableFuture<List<Order>>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicBoolean stopped = new AtomicBoolean();
+        activeRuns.incrementAndGet();
+        boolean completed = false;
+        try {
+            fetchExecutor.execute(() -> fetch(inputStream, bytesRead, parsed, stopped, progress));
+
+            int count = 0;
+            while (true) {
+                CompletableFuture<List<Order>> next = take(parsed, progress);
+                if (next == END) {
+                    break;
+                }
+                storeQueueDepth.decrementAndGet();
+                List<Order> orders = await(next);
+                for (Order order : orders) {
+                    writer.accept(order);
+                }
+                count += orders.size();
+                storedOrders.add(orders.size());
+                progress.setOrdersStored(writer.getWrittenCount());
+            }
+            writer.flush();
+            progress.setBytes(bytesRead.getAsLong());
+            progress.setOrdersStored(writer.getWrittenCount());
+            completed = true;
+            return count;
+        } finally {
+            if (!completed) {
+                stop(parsed, stopped);
+            }
+            activeRuns.decrementAndGet();
+        }
+    }
+
+    /**
+     * 받기 단계: 스트림을 묶음으로 잘라 파싱 스레드에 넘기고, 결과를 받을 future를 순서대로 대기열에 넣습니다.
+     * 실패도 실패한 future로 넣어 저장 단계가 순서대로 만나게 합니다.
+     */
+    private void fetch(InputStream inputStream, LongSupplier bytesRead,
+        BlockingQueue<CompletableFuture<List<Order>>> parsed, AtomicBoolean stopped, SyncProgress progress) {
+        JsonArrayScanner scanner = new JsonArrayScanner(inputStream, chunkBytes);
+        long lastBytes = 0L;
+        try {
+            JsonArrayScanner.Chunk chunk;
+            while (!stopped.get() && (chunk = scanner.next()) != null) {
+                long bytes = bytesRead.getAsLong();
+                fetchedBytes.add(bytes - lastBytes);
+                fetchedChunks.increment();
+                lastBytes = bytes;
+                progress.setBytes(bytes);
+
+                CompletableFuture<List<Order>> result = parse(chunk, progress);
+                storeQueueDepth.incrementAndGet();
+                if (!enqueue(parsed, result, stopped)) {
+                    storeQueueDepth.decrementAndGet();
+                    result.cancel(false);
+                    return;
+                }
+                if (stopped.get()) {
+                    // 저장 단계가 대기열을 비운 뒤에 넣었을 수 있으므로 직접 비웁니다.
+                    drain(parsed);
+                    return;
+                }
+            }
+            fetchedBytes.add(bytesRead.getAsLong() - lastBytes);
+            enqueue(parsed, END, stopped);
+        } catch (IOException e) {
+            enqueue(parsed, CompletableFuture.failedFuture(
+                new DataTransformException("JSON 스트림을 Order로 변환 실패: " + e.getMessage(), e)), stopped);
+        } catch (RuntimeException e) {
+            enqueue(parsed, CompletableFuture.failedFuture(e), stopped);
+        }
+    }
+
+    /**
+     * 파싱·검증 단계: 묶음을 파싱 스레드에서 디코딩하고 검증합니다.
+     */
+    private CompletableFuture<List<Order>> parse(JsonArrayScanner.Chunk chunk, SyncProgress progress) {
+        CompletableFuture<List<Order>> result = new CompletableFuture<>();
+        parseQueueDepth.incrementAndGet();
+        parseExecutor.execute(() -> {
+            if (result.isDone()) {
+                parseQueueDepth.decrementAndGet();
+                return;
+            }
+            List<Order> orders;
+            try {
+                orders = transformer.readOrderValues(chunk.bytes(), chunk.length());
+                parsedOrders.add(orders.size());
+                progress.addOrdersParsed(orders.size());
+                validate(orders, chunk);
+            } catch (DataTransformException | RuntimeException e) {
+                parseQueueDepth.decrementAndGet();
+                result.completeExceptionally(e);
+                return;
+            }
+            // 저장 단계가 받기 전에 깊이를 줄여 두어야 끝난 뒤의 통계가 0이 됩니다.
+            parseQueueDepth.decrementAndGet();
+            result.complete(orders);
+        });
+        return result;
+    }
+
+    private void validate(List<Order> orders, JsonArrayScanner.Chunk chunk) throws DataTransformException {
+        if (orders.size() != chunk.elementCount()) {
+            rejectedOrders.add(orders.size());
+            throw new DataTransformException(String.format("JSON 배열 요소를 나누지 못했습니다: %d번째 요소부터 %d개 중 %d개",
+                chunk.firstElement(), chunk.elementCount(), orders.size()));
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            if (order == null || order.getOrderId() == null || order.getOrderId().isBlank()) {
+                rejectedOrders.increment();
+                throw new DataTransformException(String.format("주문 ID가 없는 주문입니다: %d번째 요소",
+                    chunk.firstElement() + i));
+            }
+        }
+    }
+
+    private static boolean enqueue(BlockingQueue<CompletableFuture<List<Order>>> parsed,
+        CompletableFuture<List<Order>> result, AtomicBoolean stopped) {
+        try {
+            // 대기열이 가득 차 있으면 저장 단계가 따라올 때까지 기다립니다 (배압).
+            while (!parsed.offer(result, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (stopped.get()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static CompletableFuture<List<Order>> take(BlockingQueue<CompletableFuture<List<Order>>> parsed,
+        SyncProgress progress) {
+        try {
+            while (true) {
+                progress.checkCancelled();
+                CompletableFuture<List<Order>> next = parsed.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    return next;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 파이프라인 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static List<Order> await(CompletableFuture<List<Order>> result) throws DataTransformException {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataTransformException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 받기 단계를 멈추고, 대기열에 남은 묶음의 파싱을 취소합니다.
+     */
+    private void stop(BlockingQueue<CompletableFuture<List<Order>>> parsed, AtomicBoolean stopped) {
+        stopped.set(true);
+        drain(parsed);
+    }
+
+    private void drain(BlockingQueue<CompletableFuture<List<Order>>> parsed) {
+        CompletableFuture<List<Order>> pending;
+        while ((pending = parsed.poll()) != null) {
+            if (pending != END) {
+                storeQueueDepth.decrementAndGet();
+                pending.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * @return 단계별 누적 통계와 현재 대기열 깊이
+     */
+    public Stats getStats() {
+        return new Stats(fetchedBytes.sum(), fetchedChunks.sum(), parseQueueDepth.get(), parsedOrders.sum(),
+            rejectedOrders.sum(), storeQueueDepth.get(), storedOrders.sum(), activeRuns.get());
+    }
+
+    @Override
+    public void close() {
+        fetchExecutor.shutdownNow();
+        parseExecutor.shutdownNow();
+        logger.info("주문 파이프라인 종료: {}", getStats());
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.orderSystem.service;
+
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+/**
+ * 내부 생산자가 보낸 주문을 외부 URL 동기화 흐름을 거치지 않고 바로 저장합니다.
+ */
+@Service
+public class OrderIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIngestService.class);
+
+    private final OrderRepository repository;
+    private final DataTransformService transformer;
+
+    @Autowired
+    public OrderIngestService(OrderRepository repository, DataTransformService transformer) {
+        this.repository = repository;
+        this.transformer = transformer;
+    }
+
+    /**
+     * NDJSON 스트림을 읽으며 주문을 묶음 단위로 저장합니다.
+     * 변환 오류가 나면 그 전까지 완성된 묶음은 저장된 상태로 남으므로, 같은 요청을 다시 보내도 안전합니다
+     * (같은 주문 ID는 덮어씀).
+     *
+     * @param inputStream NDJSON 데이터 스트림 (호출자가 닫아야 함)
+     * @return 저장한 주문 수
+     * @throws DataTransformException 변환 실패 시 발생
+     */
+    public long ingestNdjson(InputStream inputStream) throws DataTransformException {
+        long startTime = System.currentTimeMillis();
+        OrderBatchWriter writer = new OrderBatchWriter(repository);
+        try {
+            transformer.streamNdjsonOrders(inputStream, writer);
+            writer.flush();
+        } catch (DataTransformException e) {
+            throw new DataTransformException(
+                String.format("%s (저장된 주문 %d개)", e.getMessage(), writer.getWrittenCount()), e);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        logger.info("주문 일괄 저장 완료: {}개, {}ms", writer.getWrittenCount(), elapsed);
+        return writer.getWrittenCount();
+    }
+}
@@ -0,0 +1,81 @@
+package com.orderSystem.service;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.dto.BulkStatusUpdateResult;
+import com.orderSystem.exception.IllegalStatusTransitionException;
+import com.orderSystem.exception.OrderNotFoundException;
+import com.orderSystem.exception.OrderVersionConflictException;
+import com.orderSystem.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상태 전이(PROCESSING → SHIPPING → COMPLETED)를 처리합니다.
+ * 각 전이는 저장소의 주문 ID 단위 원자적 갱신으로 수행되므로 전역 잠금이 필요 없습니다.
+ */
+@Service
+public class OrderStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusService.class);
+
+    private final OrderRepository repository;
+
+    @Autowired
+    public OrderStatusService(OrderRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * 주문 하나의 상태를 바꿉니다.
+     *
+     * @param orderId         주문 ID
+     * @param status          바꿀 상태
+     * @param expectedVersion 기대하는 현재 버전 (null이면 버전을 확인하지 않음)
+     * @return 변경된 주문
+     * @throws OrderNotFoundException            주문이 없는 경우
+     * @throws OrderVersionConflictException     현재 버전이 다른 경우
+     * @throws IllegalStatusTransitionException 허용되지 않는 상태 전이인 경우
+     */
+    public Order changeStatus(String orderId, OrderStatus status, Long expectedVersion)
+        throws OrderNotFoundException, OrderVersionConflictException, IllegalStatusTransitionException {
+        long version = expectedVersion == null ? OrderRepository.ANY_VERSION : expectedVersion;
+        Order updated = repository.updateStatus(orderId, status, version);
+        logger.info("주문 상태 변경 완료: {} → {} (버전 {})", orderId, status, updated.getVersion());
+        return updated;
+    }
+
+    /**
+     * 여러 주문의 상태를 바꿉니다. 주문마다 독립적으로 전이하며, 실패한 주문은 사유와 함께 결과에 담습니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @param status   바꿀 상태
+     * @return 일괄 변경 결과
+     */
+    public BulkStatusUpdateResult changeStatusAll(List<String> orderIds, OrderStatus status) {
+        if (orderIds == null || status == null) {
+            throw new IllegalArgumentException("주문 ID 목록 또는 상태가 null입니다.");
+        }
+
+        int updatedCount = 0;
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String orderId : orderIds) {
+            try {
+                repository.updateStatus(orderId, status, OrderRepository.ANY_VERSION);
+                updatedCount++;
+            } catch (OrderNotFoundException | IllegalStatusTransitionException
+                     | OrderVersionConflictException | IllegalArgumentException e) {
+                failures.put(String.valueOf(orderId), e.getMessage());
+            }
+        }
+
+        logger.info("주문 상태 일괄 변경 완료: {} {}개, 실패 {}개", status, updatedCount, failures.size());
+        return new BulkStatusUpdateResult(updatedCount, failures);
+    }
+}
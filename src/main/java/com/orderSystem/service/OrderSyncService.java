@@ -1,136 +1,806 @@
 package com.orderSystem.service;
 
+import com.orderSystem.config.OrderSyncProperties;
 import com.orderSystem.connector.DataConnectorInterface;
+import com.orderSystem.connector.PagedSource;
 import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderChangeEvent;
+import com.orderSystem.dto.PagedSyncResult;
+import com.orderSystem.dto.PushBatchResult;
+import com.orderSystem.dto.PushResult;
+import com.orderSystem.dto.SourceSyncResult;
 import com.orderSystem.exception.DataConnectorException;
 import com.orderSystem.exception.DataTransformException;
 import com.orderSystem.exception.OrderSyncException;
+import com.orderSystem.repository.OrderChangeFeed;
 import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.repository.PushWatermarkStore;
+import com.orderSystem.util.CountingInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Service
 public class OrderSyncService {
     private static final Logger logger = LoggerFactory.getLogger(OrderSyncService.class);
 
+    private static final int CHANGE_READ_BATCH = 4096;
+
     private final DataConnectorInterface connector;
     private final OrderRepository repository;
     private final DataTransformService transformer;
+    private final OrderBatchPusher pusher;
+    private final PagedOrderPuller pagedPuller;
+    private final int prefetchPages;
+    private final Executor executor;
+    private final OrderIngestPipeline pipeline;
+    // 대상 URL → 전송을 확인받은 변경 피드 순번
+    private final ConcurrentMap<String, Long> pushWatermarks = new ConcurrentHashMap<>();
+    private final PushWatermarkStore pushWatermarkStore;
+    // 페이지 소스 키 → 실패한 페이지 동기화를 다시 시작할 위치
+    private final ConcurrentMap<String, PagedSource.Position> pageCheckpoints = new ConcurrentHashMap<>();
+    private final Set<String> runningPagedSyncs = ConcurrentHashMap.newKeySet();
+    // URL → 진행 중인 가져오기. 같은 URL의 요청은 새로 가져오지 않고 이 결과를 함께 받습니다.
+    private final ConcurrentMap<String, Flight> inFlightSyncs = new ConcurrentHashMap<>();
+    // URL → 최근 성공한 가져오기 결과
+    private final ConcurrentMap<String, RecentSync> recentSyncs = new ConcurrentHashMap<>();
+    private final long recentSyncWindowNanos;
+    // 연결자의 응답 검증자를 마지막으로 맞춘 저장소 전체 삭제 횟수
+    private final AtomicLong validatorsClearGeneration;
+
+    private record RecentSync(SourceSyncResult result, long completedAtNanos, long clearGeneration) {
+    }
 
-    @Autowired
     public OrderSyncService(DataConnectorInterface connector,
         OrderRepository repository,
         DataTransformService transformer) {
+        this(connector, repository, transformer, new OrderSyncProperties());
+    }
+
+    /**
+     * 비동기 메서드의 후속 작업을 호출 스레드에서 바로 실행합니다 (테스트용).
+     */
+    public OrderSyncService(DataConnectorInterface connector,
+        OrderRepository repository,
+        DataTransformService transformer,
+        OrderSyncProperties properties) {
+        this(connector, repository, transformer, properties, Runnable::run);
+    }
+
+    /**
+     * @param executor 받은 본문의 파싱·저장과 전송을 실행할 실행기. 외부 응답을 기다리는 동안에는 스레드를 쓰지 않습니다.
+     */
+    public OrderSyncService(DataConnectorInterface connector,
+        OrderRepository repository,
+        DataTransformService transformer,
+        OrderSyncProperties properties,
+        Executor executor) {
+        this(connector, repository, transformer, properties, executor, null, null);
+    }
+
+    /**
+     * @param pipeline          가져온 주문 배열을 단계별로 나눠 처리할 파이프라인 (null이면 실행기 스레드에서 차례로 파싱·저장)
+     * @param pushWatermarkStore 전송 워터마크를 기록할 저장소 (null이면 메모리에만 보관)
+     */
+    @Autowired
+    public OrderSyncService(DataConnectorInterface connector,
+        OrderRepository repository,
+        DataTransformService transformer,
+        OrderSyncProperties properties,
+        @Qualifier("orderSyncExecutor") Executor executor,
+        @Nullable OrderIngestPipeline pipeline,
+        @Nullable PushWatermarkStore pushWatermarkStore) {
         this.connector = connector;
         this.repository = repository;
         this.transformer = transformer;
+        this.pusher = new OrderBatchPusher(connector, transformer, repository, properties.getPush());
+        this.pagedPuller = new PagedOrderPuller(connector, transformer, repository, executor);
+        this.prefetchPages = properties.getPull().getPrefetchPages();
+        this.recentSyncWindowNanos = properties.getPull().getRecentSyncWindow().toNanos();
+        this.executor = executor;
+        this.pipeline = pipeline;
+        this.validatorsClearGeneration = new AtomicLong(repository.getClearGeneration());
+        this.pushWatermarkStore = pushWatermarkStore;
+        if (pushWatermarkStore != null) {
+            restorePushWatermarks(pushWatermarkStore);
+        }
+        if (prefetchPages <= 0) {
+            throw new IllegalArgumentException("미리 요청할 페이지 수는 1 이상이어야 합니다: " + prefetchPages);
+        }
     }
 
     /**
      * 외부 시스템에서 주문 데이터를 가져와 저장합니다.
      * @param url 외부 시스템 URL
+     * @return 동기화된 주문 수
      * @throws OrderSyncException 동기화 실패 시 발생
+     * @see #syncOrdersFromExternalAsync(String)
+     */
+    public int syncOrdersFromExternal(String url) throws OrderSyncException {
+        return await(syncOrdersFromExternalAsync(url)).getOrderCount();
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 비동기로 가져와 저장합니다.
+     * 응답 헤더를 기다리는 동안에는 스레드를 쓰지 않고, 응답이 오면 실행기에서 스트림을 요소 단위로 파싱해
+     * 묶음 단위로 저장하므로 전체 페이로드를 메모리에 올리지 않습니다.
+     * 지난번에 처리한 응답과 같으면(304 Not Modified) 파싱·저장 없이 바로 끝납니다.
+     * 같은 URL의 동기화가 진행 중이면 새로 가져오지 않고 그 결과를 함께 받으며,
+     * {@code order.sync.pull.recent-sync-window} 안에 성공한 동기화가 있으면 그 결과를 돌려줍니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return 동기화 결과를 담을 future ({@link OrderSyncException}으로 예외 완료될 수 있음)
+     */
+    public CompletableFuture<SourceSyncResult> syncOrdersFromExternalAsync(String url) {
+        logger.info("외부 시스템에서 주문 데이터 동기화 시작: {}", url);
+        long started = System.nanoTime();
+        return translate(fetchAndSaveOnce(url, () -> fetchAndSave(url, started)), "주문 동기화 실패");
+    }
+
+    /**
+     * 외부 시스템에서 주문 데이터를 가져와 호출 스레드에서 저장하고, 진행 상황을 progress에 남깁니다 (동기화 작업용).
+     * 외부 응답을 기다리는 동안에도 취소할 수 있고, 파싱 중에는 주문마다 취소 여부를 확인합니다.
+     * 같은 URL의 동기화가 진행 중이거나 최근에 끝났으면 {@link #syncOrdersFromExternalAsync(String)}처럼 그 결과를 함께 받습니다.
+     * 이 호출이 이끌던 가져오기가 취소되면, 함께 기다리던 요청은 취소 대신 다시 가져온 결과를 받습니다.
+     *
+     * @param url      외부 시스템 URL
+     * @param progress 진행 상황과 취소 요청
+     * @return 동기화 결과
+     * @throws OrderSyncException    동기화 실패 시 발생
+     * @throws CancellationException 취소된 경우 (그 전까지 저장한 주문은 남음)
      */
-    public void syncOrdersFromExternal(String url) throws OrderSyncException {
+    public SourceSyncResult syncOrdersFromExternal(String url, SyncProgress progress) throws OrderSyncException {
+        logger.info("외부 시스템에서 주문 데이터 동기화 시작: {}", url);
+        long started = System.nanoTime();
+        CompletableFuture<SourceSyncResult> fetched = fetchAndSaveOnce(url, () -> {
+            try {
+                return CompletableFuture.completedFuture(fetchAndSaveHere(url, started, progress));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        return await(translate(cancellable(fetched, progress), "주문 동기화 실패"));
+    }
+
+    /**
+     * 소스 하나에서 주문을 가져와 저장하고 소스별 결과를 돌려줍니다.
+     * 실패도 결과에 담기므로 반환한 future는 예외로 완료되지 않습니다. 같은 URL의 동기화가 진행 중이면 그 결과를 함께 받습니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return 소스별 결과
+     */
+    public CompletableFuture<SourceSyncResult> syncSourceAsync(String url) {
+        long started = System.nanoTime();
+        CompletableFuture<SourceSyncResult> fetched;
         try {
-            logger.info("외부 시스템에서 주문 데이터 동기화 시작: {}", url);
-
-            String jsonData = connector.fetchData(url);
-            logger.debug("받은 데이터: {}", jsonData);
-
-            // 단일 주문 또는 주문 리스트 처리
-            if (jsonData.trim().startsWith("[")) {
-                // 배열 형태의 데이터
-                List<Order> orders = transformer.jsonToOrderList(jsonData);
-                for (Order order : orders) {
-                    repository.save(order);
-                    logger.info("주문 저장 완료: {}", order.getOrderId());
+            fetched = translate(fetchAndSaveOnce(url, () -> fetchAndSave(url, started)), "주문 동기화 실패");
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        return fetched.handle((result, error) -> {
+            if (error == null) {
+                return result;
+            }
+            String message = failureMessage(error);
+            logger.warn("소스 동기화 실패: {} ({})", url, message);
+            return new SourceSyncResult(url, false, false, 0, 0, elapsedMillis(started), message);
+        });
+    }
+
+    /**
+     * 여러 페이지로 나뉜 외부 주문 목록을 가져와 저장합니다. 현재 페이지를 파싱·저장하는 동안
+     * 다음 페이지(최대 {@code order.sync.pull.prefetch-pages}개)를 미리 요청해 둡니다.
+     * 실패하면 저장을 마친 마지막 페이지의 다음 위치를 기억해 두며, resume이 true이면 그 위치부터 다시 시작합니다.
+     *
+     * @param source 페이지 소스
+     * @param resume 기억해 둔 위치부터 다시 시작할지 여부 (기억한 위치가 없으면 처음부터)
+     * @return 동기화 결과 (페이지 실패는 결과에 담김). 같은 소스의 동기화가 진행 중이면
+     *         {@link OrderSyncException}으로 예외 완료됩니다.
+     */
+    public CompletableFuture<PagedSyncResult> syncPagedAsync(PagedSource source, boolean resume) {
+        String key = source.getKey();
+        if (!runningPagedSyncs.add(key)) {
+            return CompletableFuture.failedFuture(
+                new OrderSyncException("이미 진행 중인 페이지 동기화입니다: " + source.getUrl()));
+        }
+        PagedSource.Position start = resume
+            ? pageCheckpoints.getOrDefault(key, PagedSource.Position.FIRST)
+            : PagedSource.Position.FIRST;
+        logger.info("페이지 동기화 시작: {} ({}, {}페이지부터)", source.getUrl(), source.getPagination(), start.page());
+
+        long started = System.nanoTime();
+        CompletableFuture<PagedOrderPuller.Run> pulled;
+        try {
+            pulled = pagedPuller.pull(source, start, prefetchPages);
+        } catch (RuntimeException e) {
+            runningPagedSyncs.remove(key);
+            return CompletableFuture.failedFuture(e);
+        }
+        return pulled.thenApply(run -> {
+            try {
+                PagedSource.Position resumeAt = run.getFailure() == null ? null : run.getNext();
+                String error = null;
+                if (resumeAt == null) {
+                    pageCheckpoints.remove(key);
+                    logger.info("페이지 동기화 완료: {} ({}페이지, {}개)", source.getUrl(), run.getPageCount(), run.getOrderCount());
+                } else {
+                    error = failureMessage(run.getFailure());
+                    pageCheckpoints.put(key, resumeAt);
+                    logger.warn("페이지 동기화 실패: {} ({}페이지에서 중단, {})", source.getUrl(), resumeAt.page(), error);
                 }
-                logger.info("총 {}개의 주문이 동기화되었습니다.", orders.size());
-            } else {
-                // 단일 객체 형태의 데이터
-                Order order = transformer.jsonToOrder(jsonData);
-                repository.save(order);
-                logger.info("주문 저장 완료: {}", order.getOrderId());
+                return new PagedSyncResult(source.getUrl(), source.getPagination(), resumeAt == null, start.page(),
+                    run.getPageCount(), run.getOrderCount(), run.getBytes(), elapsedMillis(started),
+                    resumeAt == null ? null : resumeAt.page(), error);
+            } finally {
+                runningPagedSyncs.remove(key);
             }
+        });
+    }
 
-        } catch (DataConnectorException e) {
-            logger.error("외부 시스템 연결 오류: {}", e.getMessage());
-            throw new OrderSyncException("외부 시스템 연결 실패", e);
-        } catch (DataTransformException e) {
-            logger.error("데이터 변환 오류: {}", e.getMessage());
-            throw new OrderSyncException("데이터 변환 실패", e);
-        } catch (Exception e) {
-            logger.error("예상치 못한 오류: {}", e.getMessage());
-            throw new OrderSyncException("주문 동기화 실패", e);
+    /**
+     * 실패한 페이지 동기화를 다시 시작할 위치를 반환합니다.
+     *
+     * @param source 페이지 소스
+     * @return 재개 위치 (없으면 null)
+     */
+    public PagedSource.Position getPageCheckpoint(PagedSource source) {
+        return pageCheckpoints.get(source.getKey());
+    }
+
+    /**
+     * 같은 URL의 가져오기가 진행 중이면 그 결과를, 최근 성공한 결과가 있으면 그 결과를 함께 받고
+     * ({@link SourceSyncResult#isShared()}), 없으면 fetch로 새로 가져옵니다.
+     */
+    private CompletableFuture<SourceSyncResult> fetchAndSaveOnce(String url,
+        Supplier<CompletableFuture<SourceSyncResult>> fetch) {
+        long clearGeneration = forgetValidatorsIfCleared();
+        RecentSync recent = recentSyncs.get(url);
+        if (recent != null) {
+            if (recent.clearGeneration() == clearGeneration
+                && System.nanoTime() - recent.completedAtNanos() < recentSyncWindowNanos) {
+                logger.info("최근 동기화 결과를 사용합니다: {}", url);
+                return CompletableFuture.completedFuture(shared(recent.result()));
+            }
+            recentSyncs.remove(url, recent);
+        }
+
+        while (true) {
+            Flight flight = new Flight();
+            Flight running = inFlightSyncs.putIfAbsent(url, flight);
+            if (running == null) {
+                lead(url, flight, fetch, clearGeneration);
+                return flight.result;
+            }
+            if (running.join()) {
+                logger.info("진행 중인 같은 동기화의 결과를 함께 받습니다: {}", url);
+                return running.result.thenApply(OrderSyncService::shared);
+            }
+            // 이끌던 작업이 취소되어 닫힌 가져오기이면 새로 시작합니다.
+            inFlightSyncs.remove(url, running);
         }
     }
 
     /**
-     * 내부 주문 데이터를 외부 시스템으로 전송합니다.
+     * 저장소가 비워졌으면 연결자가 기억한 응답 검증자를 모두 버립니다. 그대로 두면 다음 가져오기가 304를 받아
+     * 아무것도 저장하지 않은 채 성공으로 끝나기 때문입니다.
+     *
+     * @return 현재 저장소 전체 삭제 횟수
+     */
+    private long forgetValidatorsIfCleared() {
+        long generation = repository.getClearGeneration();
+        long known = validatorsClearGeneration.get();
+        if (known != generation && validatorsClearGeneration.compareAndSet(known, generation)) {
+            logger.info("저장소가 비워져 외부 응답 검증자를 모두 버립니다.");
+            connector.invalidateAll();
+        }
+        return generation;
+    }
+
+    /**
+     * 가져오기를 시작한 뒤 저장소가 비워졌으면 이 URL의 검증자를 버립니다.
+     * 전체 검증자를 버린 뒤에 도착한 응답이 검증자를 다시 남겼을 수 있기 때문입니다.
+     */
+    private void forgetValidatorIfClearedSince(String url, long clearGeneration) {
+        if (repository.getClearGeneration() != clearGeneration) {
+            connector.invalidate(url);
+        }
+    }
+
+    private void lead(String url, Flight flight, Supplier<CompletableFuture<SourceSyncResult>> fetch,
+        long clearGeneration) {
+        fetchSafely(fetch).whenComplete((result, error) -> {
+            if (error != null && unwrap(error) instanceof CancellationException && flight.hasFollowers()) {
+                // 취소는 이끌던 작업(동기화 작업)에만 해당하므로, 함께 기다리는 호출을 위해 취소할 수 없는 가져오기로 다시 가져옵니다.
+                logger.info("동기화를 이끌던 작업이 취소되어 함께 기다리는 요청을 위해 다시 가져옵니다: {}", url);
+                long started = System.nanoTime();
+                fetchSafely(() -> fetchAndSave(url, started))
+                    .whenComplete((retried, retryError) -> finish(url, flight, retried, retryError, clearGeneration));
+                return;
+            }
+            finish(url, flight, result, error, clearGeneration);
+        });
+    }
+
+    private void finish(String url, Flight flight, SourceSyncResult result, Throwable error, long clearGeneration) {
+        if (error == null) {
+            forgetValidatorIfClearedSince(url, clearGeneration);
+        }
+        // 진행 중 목록에서 빼기 전에 최근 결과를 남겨, 그 사이에 온 요청도 다시 가져오지 않게 합니다.
+        if (error == null && result.isSuccess() && recentSyncWindowNanos > 0) {
+            long now = System.nanoTime();
+            // URL마다 남기므로(예: since 파라미터가 매번 다른 예약 동기화) 창이 지난 결과는 넣을 때 비웁니다.
+            recentSyncs.values().removeIf(expired -> now - expired.completedAtNanos() >= recentSyncWindowNanos);
+            recentSyncs.put(url, new RecentSync(result, now, clearGeneration));
+        }
+        inFlightSyncs.remove(url, flight);
+        if (error == null) {
+            flight.result.complete(result);
+        } else {
+            flight.result.completeExceptionally(error);
+        }
+    }
+
+    private static CompletableFuture<SourceSyncResult> fetchSafely(
+        Supplier<CompletableFuture<SourceSyncResult>> fetch) {
+        try {
+            return fetch.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 같은 URL의 진행 중인 가져오기입니다. followers는 결과를 함께 기다리는 호출 수이며,
+     * 이끌던 작업이 취소되었을 때 기다리는 호출이 없으면 -1로 닫아 이후 호출이 취소 결과를 받지 않게 합니다.
+     */
+    private static final class Flight {
+        final CompletableFuture<SourceSyncResult> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+
+        boolean join() {
+            int current;
+            do {
+                current = followers.get();
+                if (current < 0) {
+                    return false;
+                }
+            } while (!followers.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        boolean hasFollowers() {
+            return !followers.compareAndSet(0, -1);
+        }
+    }
+
+    int getRecentSyncCount() {
+        return recentSyncs.size();
+    }
+
+    private static SourceSyncResult shared(SourceSyncResult result) {
+        return new SourceSyncResult(result.getUrl(), result.isSuccess(), result.isNotModified(),
+            result.getOrderCount(), result.getBytes(), result.getLatencyMillis(), result.getError(), true,
+            result.getInsertedCount(), result.getUpdatedCount(), result.getUnchangedCount());
+    }
+
+    private CompletableFuture<SourceSyncResult> fetchAndSave(String url, long started) {
+        return connector.fetchStreamIfModifiedAsync(url).thenCompose(inputStream -> {
+            if (inputStream == null) {
+                logger.info("지난번 동기화 이후 변경 없음: {}", url);
+                return CompletableFuture.completedFuture(
+                    new SourceSyncResult(url, true, true, 0, 0, elapsedMillis(started), null));
+            }
+            try {
+                return CompletableFuture.supplyAsync(
+                    () -> readAndSave(url, inputStream, started, new SyncProgress()), executor);
+            } catch (RejectedExecutionException e) {
+                closeQuietly(inputStream);
+                throw e;
+            }
+        }).whenComplete((result, error) -> {
+            if (error != null) {
+                // 받은 응답을 저장하지 못했으므로 다음 요청이 304로 건너뛰지 않게 합니다.
+                connector.invalidate(url);
+            }
+        });
+    }
+
+    /**
+     * {@link #fetchAndSave(String, long)}와 같지만 외부 응답을 호출 스레드에서 기다려 그대로 파싱·저장합니다.
+     */
+    private SourceSyncResult fetchAndSaveHere(String url, long started, SyncProgress progress) {
+        try {
+            progress.checkCancelled();
+            CompletableFuture<InputStream> response = connector.fetchStreamIfModifiedAsync(url);
+            // 기다리기를 멈춘 뒤에 도착한 응답은 닫습니다.
+            response.thenAccept(stream -> {
+                if (stream != null && progress.isCancelled()) {
+                    closeQuietly(stream);
+                }
+            });
+            InputStream inputStream = cancellable(response, progress).join();
+            if (inputStream == null) {
+                logger.info("지난번 동기화 이후 변경 없음: {}", url);
+                return new SourceSyncResult(url, true, true, 0, 0, elapsedMillis(started), null);
+            }
+            return readAndSave(url, inputStream, started, progress);
+        } catch (RuntimeException e) {
+            // 받은 응답을 저장하지 못했으므로 다음 요청이 304로 건너뛰지 않게 합니다.
+            connector.invalidate(url);
+            throw e;
+        }
+    }
+
+    /**
+     * 취소를 요청하면 {@link CancellationException}으로 완료되는 future를 돌려줍니다. 원래 작업은 멈추지 않습니다.
+     */
+    private static <T> CompletableFuture<T> cancellable(CompletableFuture<T> future, SyncProgress progress) {
+        CompletableFuture<T> waiting = future.copy();
+        progress.onCancel(() -> waiting.cancel(false));
+        return waiting;
+    }
+
+    private SourceSyncResult readAndSave(String url, InputStream inputStream, long started, SyncProgress progress) {
+        // 단일 주문 또는 주문 리스트 모두 스트리밍 파서가 처리
+        // 다시 가져온 주문은 대부분 그대로이므로 내용이 같은 주문은 쓰지 않습니다.
+        OrderBatchWriter writer = new OrderBatchWriter(repository, true);
+        try (CountingInputStream counted = new CountingInputStream(inputStream)) {
+            progress.checkCancelled();
+            // 파이프라인은 최상위 배열만 나눠 처리할 수 있으므로 앞부분을 보고 고릅니다.
+            InputStream body = pipeline == null ? counted : new BufferedInputStream(counted);
+            int count;
+            if (pipeline != null && pipeline.accepts(body)) {
+                count = pipeline.ingest(body, counted::getCount, writer, progress);
+            } else {
+                count = transformer.streamOrders(body, order -> {
+                    progress.checkCancelled();
+                    writer.accept(order);
+                    progress.addOrdersParsed(1);
+                    progress.setBytes(counted.getCount());
+                    progress.setOrdersStored(writer.getWrittenCount());
+                });
+            }
+            writer.flush();
+            progress.setBytes(counted.getCount());
+            progress.setOrdersStored(writer.getWrittenCount());
+            logger.info("총 {}개의 주문이 동기화되었습니다. (신규 {}, 변경 {}, 동일 {})", count,
+                writer.getInsertedCount(), writer.getUpdatedCount(), writer.getUnchangedCount());
+            return new SourceSyncResult(url, true, false, count, counted.getCount(), elapsedMillis(started), null,
+                false, writer.getInsertedCount(), writer.getUpdatedCount(), writer.getUnchangedCount());
+        } catch (DataTransformException | IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * 내부 주문 데이터를 모두 외부 시스템으로 전송합니다.
      * @param url 외부 시스템 URL
      * @return 전송 성공 여부
      * @throws OrderSyncException 전송 실패 시 발생
      */
     public boolean sendOrdersToExternal(String url) throws OrderSyncException {
+        return pushOrders(url, PushMode.FULL).isSuccess();
+    }
+
+    /**
+     * 내부 주문 데이터를 외부 시스템으로 전송합니다.
+     *
+     * <p>대상마다 마지막으로 전송을 확인받은 시점의 변경 피드 순번(워터마크)을 기억합니다.
+     * DELTA는 워터마크 이후의 변경 이벤트에서 저장된 주문 ID만 모아 현재 값을 전송하며,
+     * 워터마크가 없거나(첫 전송), 이벤트가 이미 덮어써졌거나, 그 사이 전체 삭제가 있었으면 FULL로 전송합니다.
+     * 워터마크는 대상이 모든 묶음의 전송을 확인한 뒤에만 전진하므로, 실패한 전송의 변경은 다음 전송에 다시 포함됩니다.
+     * 삭제는 전송 형식(주문 목록)으로 표현할 수 없어 어느 방식에서도 전달되지 않습니다.</p>
+     *
+     * <p>주문은 order.sync.push.batch-size개씩 나눠 요청마다 JSON 배열로 보내며, 본문은 만들면서 바로
+     * (기본적으로 gzip 압축해) 흘려보냅니다. 실패한 묶음만 설정한 횟수만큼 다시 보냅니다.</p>
+     *
+     * @param url  외부 시스템 URL
+     * @param mode 전송 방식
+     * @return 전송 결과
+     * @throws OrderSyncException 전송 실패 시 발생
+     */
+    public PushResult pushOrders(String url, PushMode mode) throws OrderSyncException {
+        return pushOrders(url, mode, new SyncProgress());
+    }
+
+    /**
+     * {@link #pushOrders(String, PushMode)}와 같지만 진행 상황을 progress에 남기고, 취소를 요청하면
+     * 새 묶음을 보내지 않고 멈춥니다 (동기화 작업용). 취소된 전송은 워터마크를 옮기지 않습니다.
+     *
+     * @param url      외부 시스템 URL
+     * @param mode     전송 방식
+     * @param progress 진행 상황과 취소 요청
+     * @return 전송 결과
+     * @throws OrderSyncException    전송 실패 시 발생
+     * @throws CancellationException 취소된 경우
+     */
+    public PushResult pushOrders(String url, PushMode mode, SyncProgress progress) throws OrderSyncException {
         try {
-            logger.info("외부 시스템으로 주문 데이터 전송 시작: {}", url);
+            logger.info("외부 시스템으로 주문 데이터 전송 시작: {} ({})", url, mode);
+
+            // 이 순번까지의 변경은 아래 조회 결과에 모두 반영되어 있습니다.
+            long upTo = repository.awaitChangeSequence();
+            Long watermark = pushWatermarks.get(url);
 
-            List<Order> orders = repository.findAll();
-            if (orders.isEmpty()) {
-                logger.warn("전송할 주문 데이터가 없습니다.");
-                return false;
+            Iterator<Order> orders = null;
+            PushMode appliedMode = PushMode.FULL;
+            if (mode == PushMode.DELTA && watermark != null) {
+                Set<String> changedIds = collectChangedOrderIds(watermark + 1, upTo);
+                if (changedIds != null) {
+                    orders = repository.findAllById(changedIds).iterator();
+                    appliedMode = PushMode.DELTA;
+                }
+            }
+            if (orders == null) {
+                if (repository.count() == 0) {
+                    logger.warn("전송할 주문 데이터가 없습니다.");
+                    return new PushResult(url, appliedMode, false, 0, watermark == null ? 0L : watermark, List.of());
+                }
+                orders = repository.streamAll().iterator();
             }
 
-            String jsonData = transformer.orderListToJson(orders);
-            logger.debug("전송할 데이터: {}", jsonData);
+            List<PushBatchResult> batches = pusher.push(url, orders, progress);
+            boolean success = batches.stream().allMatch(PushBatchResult::isSuccess);
+            int sentCount = batches.stream()
+                .filter(PushBatchResult::isSuccess)
+                .mapToInt(PushBatchResult::getOrderCount)
+                .sum();
 
-            boolean success = connector.sendData(url, jsonData);
             if (success) {
-                logger.info("{}개의 주문 데이터 전송 완료", orders.size());
-            } else {
-                logger.error("주문 데이터 전송 실패");
+                long advanced = pushWatermarks.merge(url, upTo, Math::max);
+                storePushWatermark(url, advanced);
+                logger.info("{}개의 주문 데이터 전송 완료 ({}, 묶음 {}개, 워터마크 {})",
+                    sentCount, appliedMode, batches.size(), advanced);
+                return new PushResult(url, appliedMode, true, sentCount, advanced, batches);
             }
+            logger.error("주문 데이터 전송 실패: 묶음 {}개 중 {}개 실패",
+                batches.size(), batches.stream().filter(batch -> !batch.isSuccess()).count());
+            return new PushResult(url, appliedMode, false, sentCount, watermark == null ? 0L : watermark, batches);
 
-            return success;
-
-        } catch (DataConnectorException e) {
-            logger.error("외부 시스템 연결 오류: {}", e.getMessage());
-            throw new OrderSyncException("외부 시스템 연결 실패", e);
-        } catch (DataTransformException e) {
-            logger.error("데이터 변환 오류: {}", e.getMessage());
-            throw new OrderSyncException("데이터 변환 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderSyncException("주문 전송 중 인터럽트되었습니다.", e);
+        } catch (CancellationException e) {
+            logger.info("주문 전송이 취소되었습니다: {} ({}개 전송)", url, progress.getOrdersStored());
+            throw e;
         } catch (Exception e) {
             logger.error("예상치 못한 오류: {}", e.getMessage());
             throw new OrderSyncException("주문 전송 실패", e);
         }
     }
 
+    /**
+     * 실행기에서 {@link #pushOrders(String, PushMode)}를 실행합니다.
+     *
+     * @param url  외부 시스템 URL
+     * @param mode 전송 방식
+     * @return 전송 결과를 담을 future ({@link OrderSyncException}으로 예외 완료될 수 있음)
+     */
+    public CompletableFuture<PushResult> pushOrdersAsync(String url, PushMode mode) {
+        return supply(() -> pushOrders(url, mode));
+    }
+
+    /**
+     * 대상이 마지막으로 전송을 확인한 변경 피드 순번을 반환합니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return 워터마크 (전송한 적이 없으면 null)
+     */
+    public Long getPushWatermark(String url) {
+        return pushWatermarks.get(url);
+    }
+
+    /**
+     * 기록된 전송 워터마크 중 변경 피드가 이어 받은 순번과 같은 것만 이어 씁니다.
+     * 나머지는 그 뒤의 변경이 피드에 남아 있지 않으므로 버리고, 다음 증분 전송을 전체 전송으로 보냅니다.
+     */
+    private void restorePushWatermarks(PushWatermarkStore store) {
+        long resumedSequence = repository.getChangeFeed().firstSequence() - 1;
+        store.getAll().forEach((url, watermark) -> {
+            if (watermark == resumedSequence) {
+                pushWatermarks.put(url, watermark);
+            } else {
+                logger.info("이전 실행의 전송 워터마크를 이어 쓸 수 없어 다음 증분 전송은 전체 전송으로 보냅니다: {} ({} ≠ {})",
+                    url, watermark, resumedSequence);
+            }
+        });
+    }
+
+    private void storePushWatermark(String url, long watermark) {
+        if (pushWatermarkStore == null) {
+            return;
+        }
+        try {
+            pushWatermarkStore.put(url, watermark);
+        } catch (IOException e) {
+            // 메모리의 워터마크는 바뀌었으므로 재시작 전까지는 증분으로 계속 보냅니다.
+            logger.error("전송 워터마크 기록 실패: {} ({})", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 피드에서 from부터 upTo까지 저장된 주문 ID를 모읍니다.
+     *
+     * @return 주문 ID들, 증분으로 표현할 수 없으면(덮어쓰기, 전체 삭제) null
+     */
+    private Set<String> collectChangedOrderIds(long from, long upTo) {
+        OrderChangeFeed changeFeed = repository.getChangeFeed();
+        Set<String> changedIds = new LinkedHashSet<>();
+        long next = from;
+        while (next <= upTo) {
+            OrderChangeFeed.Batch batch = changeFeed.read(next, CHANGE_READ_BATCH);
+            if (batch.overrun()) {
+                logger.info("변경 이벤트가 덮어써져 전체 전송으로 바꿉니다: 요청 순번 {}", next);
+                return null;
+            }
+            if (batch.events().isEmpty()) {
+                break;
+            }
+            for (OrderChangeEvent event : batch.events()) {
+                if (event.sequence() > upTo) {
+                    return changedIds;
+                }
+                if (event.type() == OrderChangeEvent.Type.CLEAR) {
+                    logger.info("전체 삭제 이후이므로 전체 전송으로 바꿉니다: 순번 {}", event.sequence());
+                    return null;
+                }
+                if (event.type() == OrderChangeEvent.Type.SAVE) {
+                    changedIds.add(event.orderId());
+                }
+            }
+            next = batch.nextSequence();
+        }
+        return changedIds;
+    }
+
     /**
      * 외부 시스템에서 단일 주문을 가져와 저장합니다.
      * @param url 외부 시스템 URL
      * @throws OrderSyncException 동기화 실패 시 발생
      */
     public void syncSingleOrder(String url) throws OrderSyncException {
+        await(syncSingleOrderAsync(url));
+    }
+
+    /**
+     * 외부 시스템에서 단일 주문을 비동기로 가져와 저장합니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return 저장한 주문을 담을 future ({@link OrderSyncException}으로 예외 완료될 수 있음)
+     */
+    public CompletableFuture<Order> syncSingleOrderAsync(String url) {
+        logger.info("외부 시스템에서 단일 주문 동기화 시작: {}", url);
+        return translate(connector.fetchDataAsync(url).thenApplyAsync(jsonData -> {
+            try {
+                Order order = transformer.jsonToOrder(jsonData);
+                repository.save(order);
+                logger.info("주문 동기화 완료: {}", order.getOrderId());
+                return order;
+            } catch (DataTransformException e) {
+                throw new CompletionException(e);
+            }
+        }, executor), "단일 주문 동기화 실패");
+    }
+
+    private <T> CompletableFuture<T> supply(Callable<T> task) {
         try {
-            logger.info("외부 시스템에서 단일 주문 동기화 시작: {}", url);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            String jsonData = connector.fetchData(url);
-            Order order = transformer.jsonToOrder(jsonData);
-            repository.save(order);
+    /**
+     * 연결·변환 오류로 예외 완료된 future를 {@link OrderSyncException}으로 완료되도록 바꿉니다.
+     * 실행기가 작업을 거부한 경우({@link RejectedExecutionException})와 취소된 경우는 그대로 둡니다.
+     */
+    private static <T> CompletableFuture<T> translate(CompletableFuture<T> future, String failureMessage) {
+        return future.handle((result, error) -> {
+            if (error == null) {
+                return result;
+            }
+            Throwable cause = unwrap(error);
+            if (cause instanceof OrderSyncException || cause instanceof RejectedExecutionException
+                || cause instanceof CancellationException) {
+                throw new CompletionException(cause);
+            }
+            if (cause instanceof DataConnectorException) {
+                logger.error("외부 시스템 연결 오류: {}", cause.getMessage());
+                throw new CompletionException(new OrderSyncException("외부 시스템 연결 실패", cause));
+            }
+            if (cause instanceof DataTransformException) {
+                logger.error("데이터 변환 오류: {}", cause.getMessage());
+                throw new CompletionException(new OrderSyncException("데이터 변환 실패", cause));
+            }
+            logger.error("예상치 못한 오류: {}", cause.getMessage());
+            throw new CompletionException(new OrderSyncException(failureMessage, cause));
+        });
+    }
+
+    /**
+     * 동기 메서드가 비동기 작업의 완료를 기다립니다.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws OrderSyncException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof OrderSyncException syncException) {
+                throw syncException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OrderSyncException("동기화 실패", cause);
+        }
+    }
 
-            logger.info("주문 동기화 완료: {}", order.getOrderId());
+    /**
+     * 결과 보고에 담을 실패 사유입니다. 연결·변환 오류는 원인 메시지를 함께 담습니다.
+     */
+    private static String failureMessage(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof RejectedExecutionException) {
+            return "동기화 작업 대기열이 가득 찼습니다.";
+        }
+        if (cause instanceof OrderSyncException && cause.getCause() != null) {
+            return cause.getMessage() + ": " + cause.getCause().getMessage();
+        }
+        if (cause instanceof DataConnectorException) {
+            return "외부 시스템 연결 실패: " + cause.getMessage();
+        }
+        if (cause instanceof DataTransformException) {
+            return "데이터 변환 실패: " + cause.getMessage();
+        }
+        return cause.getMessage();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
 
-        } catch (DataConnectorException e) {
-            logger.error("외부 시스템 연결 오류: {}", e.getMessage());
-            throw new OrderSyncException("외부 시스템 연결 실패", e);
-        } catch (DataTransformException e) {
-            logger.error("데이터 변환 오류: {}", e.getMessage());
-            throw new OrderSyncException("데이터 변환 실패", e);
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 닫기 실패는 동기화 결과에 영향을 주지 않습니다.
         }
     }
-}
\ No newline at end of file
+}
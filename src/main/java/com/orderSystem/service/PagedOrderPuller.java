@@ -0,0 +1,200 @@
+package com.orderSystem.service;
+
+import com.orderSystem.connector.DataConnectorInterface;
+import com.orderSystem.connector.PagedSource;
+import com.orderSystem.connector.Pagination;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.util.CountingInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 여러 페이지로 나뉜 외부 주문 목록을 차례로 가져와 저장합니다.
+ *
+ * <p>현재 페이지를 파싱·저장하는 동안 다음 페이지를 미리 요청해 둡니다. offset·page 방식은 다음 페이지의
+ * 위치를 미리 알 수 있으므로 최대 prefetch개를 동시에 요청하고, cursor 방식은 현재 페이지에서 다음 커서를
+ * 읽자마자 (저장하기 전에) 다음 페이지를 요청합니다. 응답을 기다리는 동안에는 스레드를 쓰지 않습니다.</p>
+ */
+class PagedOrderPuller {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagedOrderPuller.class);
+
+    private final DataConnectorInterface connector;
+    private final DataTransformService transformer;
+    private final OrderRepository repository;
+    private final Executor executor;
+
+    PagedOrderPuller(DataConnectorInterface connector, DataTransformService transformer,
+        OrderRepository repository, Executor executor) {
+        this.connector = connector;
+        this.transformer = transformer;
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    /**
+     * 지정한 위치부터 마지막 페이지까지 가져와 저장합니다. 실패해도 예외로 완료되지 않으며,
+     * 결과의 {@link Run#getFailure()}와 {@link Run#getNext()}로 실패 사유와 재개 위치를 알 수 있습니다.
+     *
+     * @param source   페이지 소스
+     * @param start    첫 요청 위치
+     * @param prefetch 미리 요청해 둘 최대 페이지 수 (1 이상)
+     * @return 진행 결과
+     */
+    CompletableFuture<Run> pull(PagedSource source, PagedSource.Position start, int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("미리 요청할 페이지 수는 1 이상이어야 합니다: " + prefetch);
+        }
+        Run run = new Run(source, start, prefetch);
+        CompletableFuture<Void> done;
+        try {
+            run.fetchAhead();
+            done = run.processNext();
+        } catch (RuntimeException e) {
+            done = CompletableFuture.failedFuture(e);
+        }
+        return done.handle((ignored, error) -> {
+            run.discardPending();
+            if (error != null) {
+                run.failure = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            }
+            return run;
+        });
+    }
+
+    private record PendingPage(PagedSource.Position position, CompletableFuture<InputStream> response) {
+    }
+
+    /**
+     * 한 번의 페이지 동기화 진행 상태입니다. 각 단계는 앞 단계가 끝난 뒤에만 실행되므로 동기화 없이 갱신합니다.
+     */
+    final class Run {
+        private final PagedSource source;
+        private final int prefetch;
+        private final Deque<PendingPage> pending = new ArrayDeque<>();
+        // 다음에 요청할 위치 (cursor 방식에서 다음 커서를 아직 모르면 null)
+        private PagedSource.Position toFetch;
+        // 다음에 저장할 위치. 실패하면 여기서 다시 시작합니다 (끝까지 저장했으면 null).
+        private PagedSource.Position next;
+        private int pageCount;
+        private long orderCount;
+        private long bytes;
+        private Throwable failure;
+
+        private Run(PagedSource source, PagedSource.Position start, int prefetch) {
+            this.source = source;
+            this.prefetch = prefetch;
+            this.toFetch = start;
+            this.next = start;
+        }
+
+        private void fetchAhead() {
+            while (toFetch != null && pending.size() < prefetch) {
+                PagedSource.Position position = toFetch;
+                pending.add(new PendingPage(position, connector.fetchStreamAsync(source.pageUrl(position))));
+                toFetch = source.getPagination() == Pagination.CURSOR
+                    ? null
+                    : new PagedSource.Position(position.page() + 1, null);
+            }
+        }
+
+        private CompletableFuture<Void> processNext() {
+            PendingPage page = pending.poll();
+            if (page == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return page.response()
+                .thenApplyAsync(inputStream -> readAndSave(page.position(), inputStream), executor)
+                .thenCompose(hasMore -> hasMore ? processNext() : CompletableFuture.completedFuture(null));
+        }
+
+        /**
+         * @return 다음 페이지가 있으면 true
+         */
+        private boolean readAndSave(PagedSource.Position position, InputStream inputStream) {
+            DataTransformService.OrderPage page;
+            try (CountingInputStream counted = new CountingInputStream(inputStream)) {
+                page = transformer.readOrderPage(counted, source.getItemsPath(), source.getCursorPath());
+                bytes += counted.getCount();
+            } catch (DataTransformException | IOException e) {
+                throw new CompletionException(e);
+            }
+
+            boolean hasMore;
+            if (source.getPagination() == Pagination.CURSOR) {
+                String cursor = page.nextCursor();
+                hasMore = !page.orders().isEmpty() && cursor != null && !cursor.isEmpty()
+                    && !cursor.equals(position.cursor());
+                if (hasMore) {
+                    toFetch = new PagedSource.Position(position.page() + 1, cursor);
+                }
+            } else {
+                hasMore = page.orders().size() >= source.getPageSize();
+                if (!hasMore) {
+                    toFetch = null;
+                }
+            }
+            // 저장하는 동안 다음 페이지를 받아 둡니다.
+            if (hasMore) {
+                fetchAhead();
+            }
+
+            repository.saveAllIfChanged(page.orders());
+            pageCount++;
+            orderCount += page.orders().size();
+            next = !hasMore ? null : new PagedSource.Position(position.page() + 1,
+                source.getPagination() == Pagination.CURSOR ? page.nextCursor() : null);
+            logger.debug("페이지 {} 저장 완료: {}개", position.page(), page.orders().size());
+            return hasMore;
+        }
+
+        /**
+         * 끝났거나 실패해 더 이상 처리하지 않을 미리 받은 응답을 닫습니다.
+         */
+        private void discardPending() {
+            PendingPage page;
+            while ((page = pending.poll()) != null) {
+                page.response().thenAccept(inputStream -> {
+                    try {
+                        inputStream.close();
+                    } catch (IOException ignored) {
+                        // 버리는 응답이므로 무시합니다.
+                    }
+                });
+            }
+        }
+
+        int getPageCount() {
+            return pageCount;
+        }
+
+        long getOrderCount() {
+            return orderCount;
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return 다시 시작할 위치 (끝까지 저장했으면 null)
+         */
+        PagedSource.Position getNext() {
+            return next;
+        }
+
+        Throwable getFailure() {
+            return failure;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.orderSystem.service;
+
+import java.util.Locale;
+
+/**
+ * 외부 시스템으로 주문을 보내는 방식입니다.
+ */
+public enum PushMode {
+    /** 저장소의 모든 주문을 전송 */
+    FULL,
+    /** 대상이 마지막으로 확인한 변경 이후 생성되거나 바뀐 주문만 전송 */
+    DELTA;
+
+    /**
+     * 요청 파라미터(full, delta)를 대소문자 구분 없이 변환합니다.
+     *
+     * @param value 파라미터 값
+     * @return 전송 방식
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static PushMode from(String value) {
+        if (value != null) {
+            for (PushMode mode : values()) {
+                if (mode.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return mode;
+                }
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 전송 방식입니다 (full 또는 delta): " + value);
+    }
+}
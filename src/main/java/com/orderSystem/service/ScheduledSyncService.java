@@ -0,0 +1,251 @@
+package com.orderSystem.service;
+
+import com.orderSystem.dto.SourceSyncResult;
+import com.orderSystem.exception.OrderSyncException;
+import com.orderSystem.repository.SyncWatermarkStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 설정한 소스들에서 주문을 주기적으로 증분 동기화합니다.
+ *
+ * <p>소스마다 마지막으로 성공한 가져오기를 시작한 시각을 워터마크로 기억해 두었다가 다음 요청에 since 파라미터로
+ * 보내므로(첫 요청만 파라미터 없이 전체), 평소에는 그 사이 바뀐 주문만 받습니다. 워터마크는 가져온 주문을 모두
+ * 저장한 뒤에만 전진하고 {@link SyncWatermarkStore}에 기록되어 재시작해도 유지됩니다. 시계 차이로 빠지는 주문이
+ * 없도록 overlap만큼 앞당겨 보내며, 겹쳐 받은 주문은 내용이 같으면 쓰지 않고 건너뜁니다.</p>
+ *
+ * <p>다음 실행은 이전 실행이 끝난 뒤에 예약하므로 한 소스의 동기화가 겹치지 않습니다. 간격에는 ±jitter 비율의
+ * 무작위 편차를 더해 여러 소스가 한꺼번에 몰리지 않게 하고, 새로 저장하거나 바뀐 주문이 없거나(304 포함) 실패하면
+ * 간격을 두 배씩 늘려 maxBackoff까지 물러났다가 바뀐 주문을 받으면 원래 간격으로 돌아옵니다.</p>
+ */
+public class ScheduledSyncService implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledSyncService.class);
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    /**
+     * 예약 동기화 소스 하나의 설정입니다.
+     *
+     * @param name       워터마크를 기억할 이름 (소스마다 달라야 함)
+     * @param url        외부 시스템 URL
+     * @param interval   동기화 간격
+     * @param jitter     간격에 더할 무작위 편차 비율 (0 이상 1 미만, 0.1이면 ±10%)
+     * @param sinceParam 워터마크를 보낼 쿼리 파라미터 이름
+     * @param overlap    워터마크를 앞당겨 보낼 시간
+     * @param maxBackoff 받은 주문이 없거나 실패할 때 늘릴 수 있는 최대 간격
+     */
+    public record Source(String name, String url, Duration interval, double jitter, String sinceParam,
+                         Duration overlap, Duration maxBackoff) {
+        public Source {
+            if (name == null || name.isBlank() || url == null || url.isBlank()
+                || sinceParam == null || sinceParam.isBlank()) {
+                throw new IllegalArgumentException("예약 동기화 소스에는 name, url, sinceParam이 필요합니다: " + name);
+            }
+            if (interval == null || interval.isZero() || interval.isNegative()
+                || jitter < 0 || jitter >= 1 || overlap == null || overlap.isNegative() || maxBackoff == null) {
+                throw new IllegalArgumentException(String.format(
+                    "잘못된 예약 동기화 설정입니다: %s (interval=%s, jitter=%s, overlap=%s, maxBackoff=%s)",
+                    name, interval, jitter, overlap, maxBackoff));
+            }
+            if (maxBackoff.compareTo(interval) < 0) {
+                maxBackoff = interval;
+            }
+        }
+    }
+
+    private final OrderSyncService syncService;
+    private final SyncWatermarkStore watermarks;
+    private final Clock clock;
+    private final Map<String, SourceState> sources = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    public ScheduledSyncService(OrderSyncService syncService, SyncWatermarkStore watermarks,
+        List<Source> sources, int threads) {
+        this(syncService, watermarks, sources, threads, Clock.systemUTC());
+    }
+
+    ScheduledSyncService(OrderSyncService syncService, SyncWatermarkStore watermarks,
+        List<Source> sources, int threads, Clock clock) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("예약 동기화 스레드 수는 1 이상이어야 합니다: " + threads);
+        }
+        this.syncService = syncService;
+        this.watermarks = watermarks;
+        this.clock = clock;
+        for (Source source : sources) {
+            if (this.sources.putIfAbsent(source.name(), new SourceState(source)) != null) {
+                throw new IllegalArgumentException("예약 동기화 소스 이름이 중복됩니다: " + source.name());
+            }
+        }
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "order-sync-schedule-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 소스마다 첫 동기화를 0 ~ interval × jitter 사이의 무작위 시점에 예약합니다.
+     */
+    public void start() {
+        if (sources.isEmpty()) {
+            logger.info("예약 동기화 소스가 없습니다.");
+            return;
+        }
+        for (SourceState state : sources.values()) {
+            long spread = (long) (state.source.interval().toMillis() * state.source.jitter());
+            schedule(state, spread > 0 ? ThreadLocalRandom.current().nextLong(spread + 1) : 0);
+            logger.info("예약 동기화 시작: {} ({}, 간격 {})", state.source.name(), state.source.url(),
+                state.source.interval());
+        }
+    }
+
+    private void schedule(SourceState state, long delayMillis) {
+        if (closed) {
+            return;
+        }
+        scheduler.schedule(() -> schedule(state, runOnce(state.source.name())), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 소스 하나를 지금 동기화하고 다음 실행까지의 간격을 계산합니다.
+     * 같은 소스의 동기화가 진행 중이면 실행하지 않습니다.
+     *
+     * @param name 소스 이름
+     * @return 다음 실행까지의 간격 (밀리초, 무작위 편차 포함)
+     */
+    long runOnce(String name) {
+        SourceState state = sources.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("알 수 없는 예약 동기화 소스입니다: " + name);
+        }
+        Source source = state.source;
+        if (!state.running.compareAndSet(false, true)) {
+            logger.info("이전 예약 동기화가 아직 진행 중이라 건너뜁니다: {}", name);
+            return jittered(source.interval().toMillis(), source.jitter());
+        }
+        try {
+            Instant startedAt = clock.instant();
+            Instant since = watermarks.get(name);
+            String url = since == null ? source.url() : withSince(source, since.minus(source.overlap()));
+            state.progress = new SyncProgress();
+            if (closed) {
+                state.progress.cancel();
+            }
+
+            boolean empty;
+            try {
+                SourceSyncResult result = syncService.syncOrdersFromExternal(url, state.progress);
+                advance(name, startedAt);
+                // overlap 때문에 다시 받은 주문만 있고 바뀐 주문이 없으면 빈 결과로 봅니다.
+                empty = result.isNotModified() || result.getInsertedCount() + result.getUpdatedCount() == 0;
+                logger.info("예약 동기화 완료: {} ({}개, 신규 {}, 변경 {}, since={})", name, result.getOrderCount(),
+                    result.getInsertedCount(), result.getUpdatedCount(), since);
+            } catch (CancellationException e) {
+                logger.info("예약 동기화가 중단되었습니다: {}", name);
+                return source.interval().toMillis();
+            } catch (OrderSyncException | RuntimeException e) {
+                empty = true;
+                logger.warn("예약 동기화 실패: {} ({})", name, e.getMessage());
+            }
+
+            state.emptyStreak = empty ? state.emptyStreak + 1 : 0;
+            long delay = backoffMillis(source, state.emptyStreak);
+            if (state.emptyStreak > 0) {
+                logger.debug("예약 동기화 간격 조정: {} ({}회 연속 빈 결과, {}ms)", name, state.emptyStreak, delay);
+            }
+            return jittered(delay, source.jitter());
+        } finally {
+            state.running.set(false);
+        }
+    }
+
+    private void advance(String name, Instant startedAt) {
+        try {
+            watermarks.put(name, startedAt);
+        } catch (IOException e) {
+            // 메모리의 워터마크는 바뀌었으므로 재시작 전까지는 증분으로 계속 받습니다.
+            logger.error("예약 동기화 워터마크 기록 실패: {} ({})", name, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 연속으로 빈 결과를 받은 횟수에 따라 두 배씩 늘린 간격 (maxBackoff 이하)
+     */
+    static long backoffMillis(Source source, int emptyStreak) {
+        long interval = source.interval().toMillis();
+        long max = source.maxBackoff().toMillis();
+        int shift = Math.min(emptyStreak, MAX_BACKOFF_SHIFT);
+        return interval > (max >> shift) ? max : interval << shift;
+    }
+
+    private static long jittered(long delayMillis, double jitter) {
+        if (jitter == 0) {
+            return delayMillis;
+        }
+        double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Math.max(0, Math.round(delayMillis * factor));
+    }
+
+    private static String withSince(Source source, Instant since) {
+        String separator = source.url().indexOf('?') >= 0 ? "&" : "?";
+        return source.url() + separator + URLEncoder.encode(source.sinceParam(), StandardCharsets.UTF_8)
+            + "=" + URLEncoder.encode(since.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param name 소스 이름
+     * @return 연속으로 빈 결과(또는 실패)를 받은 횟수
+     */
+    int getEmptyStreak(String name) {
+        return sources.get(name).emptyStreak;
+    }
+
+    /**
+     * 새 실행을 예약하지 않고, 진행 중인 동기화에는 취소를 요청합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (SourceState state : sources.values()) {
+            SyncProgress progress = state.progress;
+            if (progress != null) {
+                progress.cancel();
+            }
+        }
+        scheduler.shutdownNow();
+    }
+
+    private static final class SourceState {
+        final Source source;
+        final AtomicBoolean running = new AtomicBoolean();
+        // running을 얻은 스레드만 바꿉니다.
+        volatile int emptyStreak;
+        volatile SyncProgress progress;
+
+        SourceState(Source source) {
+            this.source = source;
+        }
+    }
+}
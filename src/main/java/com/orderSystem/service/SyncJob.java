@@ -0,0 +1,143 @@
+package com.orderSystem.service;
+
+import com.orderSystem.dto.SyncJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SyncJobService}가 실행하는 동기화 작업 하나입니다.
+ *
+ * <p>작업 스레드가 상태를 바꾸고 다른 스레드가 {@link #toStatus()}로 읽으므로 상태 전환은 동기화합니다.
+ * 진행 수치는 {@link SyncProgress}가 따로 갱신합니다.</p>
+ */
+public final class SyncJob {
+
+    public enum Type {
+        /** 외부에서 가져오기 (sync-from) */
+        PULL,
+        /** 외부로 전송 (sync-to) */
+        PUSH
+    }
+
+    public enum State {
+        /** 실행을 기다리는 중 */
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        /** 실패했거나 일부 묶음을 전송하지 못함 */
+        FAILED,
+        /** 취소 요청으로 멈춤 (그 전까지 저장·전송한 주문은 남음) */
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    private final String id;
+    private final Type type;
+    private final String url;
+    private final PushMode mode;
+    private final SyncProgress progress = new SyncProgress();
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private State state = State.QUEUED;
+    private long startedNanos;
+    private long finishedNanos;
+    private String message;
+    private String error;
+    private Object result;
+
+    SyncJob(String id, Type type, String url, PushMode mode) {
+        this.id = id;
+        this.type = type;
+        this.url = url;
+        this.mode = mode;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return 전송 방식 (가져오기 작업이면 null)
+     */
+    public PushMode getMode() {
+        return mode;
+    }
+
+    SyncProgress getProgress() {
+        return progress;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * QUEUED에서 RUNNING으로 바꿉니다.
+     *
+     * @return 바꿨으면 true (이미 취소되어 끝났으면 false)
+     */
+    synchronized boolean start() {
+        if (state != State.QUEUED) {
+            return false;
+        }
+        state = State.RUNNING;
+        startedNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * 작업을 끝난 상태로 바꿉니다. 이미 끝났으면 무시합니다.
+     */
+    synchronized void finish(State finalState, String message, String error, Object result) {
+        if (state.isFinished()) {
+            return;
+        }
+        if (startedNanos == 0) {
+            startedNanos = System.nanoTime();
+        }
+        this.state = finalState;
+        this.finishedNanos = System.nanoTime();
+        this.message = message;
+        this.error = error;
+        this.result = result;
+    }
+
+    /**
+     * @return 현재 상태와 진행 수치
+     */
+    public SyncJobStatus toStatus() {
+        State currentState;
+        long elapsedNanos;
+        String currentMessage;
+        String currentError;
+        Object currentResult;
+        synchronized (this) {
+            currentState = state;
+            elapsedNanos = startedNanos == 0 ? 0
+                : (state.isFinished() ? finishedNanos : System.nanoTime()) - startedNanos;
+            currentMessage = message;
+            currentError = error;
+            currentResult = result;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long bytes = progress.getBytes();
+        long ordersStored = progress.getOrdersStored();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new SyncJobStatus(id, type, url, mode, currentState,
+            progress.isCancelled(), submittedAt, bytes, progress.getOrdersParsed(), ordersStored, elapsedMillis,
+            seconds > 0 ? ordersStored / seconds : 0, seconds > 0 ? bytes / seconds : 0,
+            currentMessage, currentError, currentResult);
+    }
+}
@@ -0,0 +1,213 @@
+package com.orderSystem.service;
+
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.dto.PushResult;
+import com.orderSystem.dto.SourceSyncResult;
+import com.orderSystem.exception.OrderSyncException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 외부 동기화(가져오기, 전송)를 요청과 분리된 작업으로 실행하고 진행 상황을 보관합니다.
+ *
+ * <p>작업은 {@code order.sync.jobs.threads}개의 전용 스레드에서 처음부터 끝까지 실행되며, 대기 중인 작업이
+ * {@code order.sync.jobs.queue-capacity}개를 넘으면 {@link RejectedExecutionException}으로 거부합니다.
+ * 같은 종류·같은 URL의 작업이 기다리거나 실행 중이면 새로 만들지 않고 그 작업을 돌려주므로, 응답을 받지 못한
+ * 클라이언트가 다시 요청해도 동기화가 두 번 돌지 않습니다. 끝난 작업은 최근 {@code order.sync.jobs.retained}개만 남깁니다.</p>
+ */
+@Service
+public class SyncJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncJobService.class);
+
+    private final OrderSyncService syncService;
+    private final ThreadPoolExecutor executor;
+    private final int retained;
+    private final ConcurrentMap<String, SyncJob> jobs = new ConcurrentHashMap<>();
+    // 종류 + URL → 기다리거나 실행 중인 작업
+    private final ConcurrentMap<String, SyncJob> activeJobs = new ConcurrentHashMap<>();
+    // 작업 ID → 아직 실행을 시작하지 않은 작업 (대기열에서 빼 취소할 때 사용)
+    private final ConcurrentMap<String, Runnable> queuedTasks = new ConcurrentHashMap<>();
+    private final Queue<String> finishedIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 작업이 새로 만들어졌는지, 같은 작업이 이미 있었는지를 함께 돌려줍니다.
+     *
+     * @param job     작업
+     * @param created 새로 만든 작업이면 true
+     */
+    public record Submission(SyncJob job, boolean created) {
+    }
+
+    @Autowired
+    public SyncJobService(OrderSyncService syncService, OrderSyncProperties properties,
+        @Qualifier("syncJobExecutor") ThreadPoolExecutor executor) {
+        this(syncService, executor, properties.getJobs().getRetained());
+    }
+
+    public SyncJobService(OrderSyncService syncService, ThreadPoolExecutor executor, int retained) {
+        if (retained < 0) {
+            throw new IllegalArgumentException("남겨 둘 작업 수는 0 이상이어야 합니다: " + retained);
+        }
+        this.syncService = syncService;
+        this.executor = executor;
+        this.retained = retained;
+    }
+
+    /**
+     * 외부 시스템에서 주문을 가져오는 작업을 받습니다.
+     *
+     * @param url 외부 시스템 URL
+     * @return 받은 작업 (같은 URL의 가져오기가 이미 있으면 그 작업)
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public Submission submitPull(String url) {
+        return submit(SyncJob.Type.PULL, url, null);
+    }
+
+    /**
+     * 외부 시스템으로 주문을 전송하는 작업을 받습니다.
+     *
+     * @param url  외부 시스템 URL
+     * @param mode 전송 방식
+     * @return 받은 작업 (같은 URL로의 전송이 이미 있으면 전송 방식과 관계없이 그 작업)
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public Submission submitPush(String url, PushMode mode) {
+        return submit(SyncJob.Type.PUSH, url, mode);
+    }
+
+    /**
+     * @param id 작업 ID
+     * @return 작업 (없거나 이미 지워졌으면 null)
+     */
+    public SyncJob get(String id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * 작업 취소를 요청합니다. 기다리던 작업은 바로 취소되고, 실행 중인 작업은 다음 확인 지점
+     * (주문 하나, 전송 묶음 하나)에서 멈춥니다. 이미 끝난 작업은 그대로 둡니다.
+     *
+     * @param id 작업 ID
+     * @return 작업 (없거나 이미 지워졌으면 null)
+     */
+    public SyncJob cancel(String id) {
+        SyncJob job = jobs.get(id);
+        if (job == null || job.getState().isFinished()) {
+            return job;
+        }
+        logger.info("동기화 작업 취소 요청: {} ({} {})", id, job.getType(), job.getUrl());
+        job.getProgress().cancel();
+        Runnable task = queuedTasks.remove(id);
+        if (task != null && executor.remove(task)) {
+            job.finish(SyncJob.State.CANCELLED, "실행 전에 취소되었습니다.", null, null);
+            finished(job);
+        }
+        return job;
+    }
+
+    private Submission submit(SyncJob.Type type, String url, PushMode mode) {
+        String key = type + " " + url;
+        SyncJob job = new SyncJob(UUID.randomUUID().toString(), type, url, mode);
+        SyncJob existing = activeJobs.putIfAbsent(key, job);
+        if (existing != null) {
+            logger.info("같은 동기화 작업이 이미 있습니다: {} ({} {})", existing.getId(), type, url);
+            return new Submission(existing, false);
+        }
+
+        jobs.put(job.getId(), job);
+        Runnable task = () -> {
+            queuedTasks.remove(job.getId());
+            run(job);
+        };
+        queuedTasks.put(job.getId(), task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queuedTasks.remove(job.getId());
+            jobs.remove(job.getId());
+            activeJobs.remove(key, job);
+            throw e;
+        }
+        logger.info("동기화 작업 접수: {} ({} {})", job.getId(), type, url);
+        return new Submission(job, true);
+    }
+
+    private void run(SyncJob job) {
+        if (!job.start()) {
+            return;
+        }
+        SyncProgress progress = job.getProgress();
+        try {
+            if (job.getType() == SyncJob.Type.PULL) {
+                SourceSyncResult result = syncService.syncOrdersFromExternal(job.getUrl(), progress);
+                String message = result.isNotModified()
+                    ? "외부 시스템의 주문 데이터가 지난번 동기화 이후 바뀌지 않았습니다."
+                    : String.format("외부 시스템에서 %d개의 주문을 저장했습니다. (신규 %d, 변경 %d, 받은 %d개 중 동일 %d)",
+                        result.getInsertedCount() + result.getUpdatedCount(), result.getInsertedCount(),
+                        result.getUpdatedCount(), result.getOrderCount(), result.getUnchangedCount());
+                if (result.isShared()) {
+                    message += " (진행 중이었거나 방금 끝난 같은 URL의 동기화 결과입니다.)";
+                }
+                job.finish(SyncJob.State.SUCCEEDED, message, null, result);
+            } else {
+                PushResult result = syncService.pushOrders(job.getUrl(), job.getMode(), progress);
+                if (result.isSuccess()) {
+                    job.finish(SyncJob.State.SUCCEEDED, String.format(
+                        "총 %d개의 주문을 외부 시스템으로 전송했습니다. (%s)", result.getSentCount(), result.getMode()),
+                        null, result);
+                } else {
+                    String error = result.getBatches().isEmpty()
+                        ? "전송할 주문 데이터가 없습니다."
+                        : String.format("묶음 %d개 중 %d개 실패", result.getBatches().size(), result.getFailedBatchCount());
+                    job.finish(SyncJob.State.FAILED, "외부 시스템으로 데이터 전송에 실패했습니다.", error, result);
+                }
+            }
+        } catch (CancellationException e) {
+            job.finish(SyncJob.State.CANCELLED, "취소되었습니다.", null, null);
+        } catch (OrderSyncException | RuntimeException e) {
+            if (progress.isCancelled()) {
+                // 취소로 끊긴 스트림 등에서 난 오류는 취소로 봅니다.
+                job.finish(SyncJob.State.CANCELLED, "취소되었습니다.", null, null);
+            } else {
+                String error = e.getCause() != null && e instanceof OrderSyncException
+                    ? e.getMessage() + ": " + e.getCause().getMessage()
+                    : e.getMessage();
+                logger.error("동기화 작업 실패: {} ({})", job.getId(), error);
+                job.finish(SyncJob.State.FAILED, "동기화에 실패했습니다.", error, null);
+            }
+        } finally {
+            finished(job);
+        }
+        logger.info("동기화 작업 종료: {} ({}, {}개, {}ms)", job.getId(), job.getState(),
+            progress.getOrdersStored(), job.toStatus().getElapsedMillis());
+    }
+
+    /**
+     * 끝난 작업을 진행 중 목록에서 빼고, 남겨 둘 수를 넘은 오래된 작업을 지웁니다.
+     */
+    private void finished(SyncJob job) {
+        activeJobs.remove(job.getType() + " " + job.getUrl(), job);
+        finishedIds.add(job.getId());
+        while (finishedIds.size() > retained) {
+            String oldest = finishedIds.poll();
+            if (oldest == null) {
+                break;
+            }
+            jobs.remove(oldest);
+        }
+    }
+}
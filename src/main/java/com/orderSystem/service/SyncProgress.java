@@ -0,0 +1,103 @@
+package com.orderSystem.service;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동기화 작업 하나의 진행 상황과 취소 요청입니다.
+ *
+ * <p>작업 스레드가 값을 갱신하고 다른 스레드(진행 상황 조회)가 읽습니다. 취소는 협조적이라
+ * 작업이 {@link #checkCancelled()}를 호출하는 지점(주문 하나, 전송 묶음 하나마다)에서 멈추며,
+ * 그 전까지 저장·전송한 주문은 되돌리지 않습니다.</p>
+ */
+public class SyncProgress {
+
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong ordersParsed = new AtomicLong();
+    private final AtomicLong ordersStored = new AtomicLong();
+    private final List<Runnable> cancelHooks = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+
+    /**
+     * 취소를 요청합니다. 등록한 취소 동작(외부 응답 기다리기 중단 등)을 바로 실행합니다.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Runnable hook : cancelHooks) {
+            hook.run();
+        }
+    }
+
+    /**
+     * @return 취소가 요청되었으면 true
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @throws CancellationException 취소가 요청된 경우
+     */
+    public void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("동기화 작업이 취소되었습니다.");
+        }
+    }
+
+    /**
+     * 취소를 요청하면 실행할 동작을 등록합니다. 이미 취소되었으면 바로 실행합니다.
+     */
+    void onCancel(Runnable hook) {
+        cancelHooks.add(hook);
+        if (cancelled) {
+            hook.run();
+        }
+    }
+
+    void setBytes(long value) {
+        bytes.set(value);
+    }
+
+    void addBytes(long delta) {
+        bytes.addAndGet(delta);
+    }
+
+    void setOrdersParsed(long value) {
+        ordersParsed.set(value);
+    }
+
+    void addOrdersParsed(long delta) {
+        ordersParsed.addAndGet(delta);
+    }
+
+    void setOrdersStored(long value) {
+        ordersStored.set(value);
+    }
+
+    void addOrdersStored(long delta) {
+        ordersStored.addAndGet(delta);
+    }
+
+    /**
+     * @return 읽거나 쓴 본문 바이트 수 (압축 해제 기준)
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * @return 가져오기는 파싱한 주문 수, 전송은 묶음에 담은 주문 수
+     */
+    public long getOrdersParsed() {
+        return ordersParsed.get();
+    }
+
+    /**
+     * @return 가져오기는 저장소에 반영한 주문 수, 전송은 대상이 받았다고 확인한 주문 수
+     */
+    public long getOrdersStored() {
+        return ordersStored.get();
+    }
+}
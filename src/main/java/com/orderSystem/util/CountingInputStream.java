@@ -0,0 +1,55 @@
+package com.orderSystem.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수를 세는 입력 스트림입니다. 한 스레드에서 읽고, 다 읽은 뒤 같은 스레드나
+ * 그 결과를 넘겨받은 스레드에서 {@link #getCount()}를 호출한다고 가정합니다.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    public CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            count++;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @return 지금까지 읽거나 건너뛴 바이트 수
+     */
+    public long getCount() {
+        return count;
+    }
+}
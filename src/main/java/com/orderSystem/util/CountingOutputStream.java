@@ -0,0 +1,38 @@
+package com.orderSystem.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 쓴 바이트 수를 세는 출력 스트림입니다. 한 스레드에서 쓰고, 다 쓴 뒤 같은 스레드나
+ * 그 결과를 넘겨받은 스레드에서 {@link #getCount()}를 호출한다고 가정합니다.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        out.write(value);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        // FilterOutputStream은 바이트 하나씩 쓰므로 감싼 스트림에 그대로 넘깁니다.
+        out.write(buffer, offset, length);
+        count += length;
+    }
+
+    /**
+     * @return 지금까지 쓴 바이트 수
+     */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,239 @@
+package com.orderSystem.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 최상위 JSON 배열을 디코딩하지 않고 구조만 훑어 요소 경계에서 잘라 주는 스캐너입니다.
+ *
+ * <p>괄호 깊이와 문자열(이스케이프 포함) 안쪽 여부만 추적하므로 바이트당 비용이 작고, 요소의 내용이 올바른지는
+ * 확인하지 않습니다. 잘린 묶음({@link Chunk})에는 요소들이 쉼표 대신 줄바꿈으로 구분되어 담기므로, 그대로
+ * 최상위 값의 나열로 디코딩할 수 있습니다. 한 스레드에서만 사용해야 합니다.</p>
+ */
+public class JsonArrayScanner {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int PEEK_LIMIT = 8 * 1024;
+    // 요소 안쪽에서 깊이나 문자열 상태를 바꾸는 바이트입니다.
+    private static final boolean[] STRUCTURAL = new boolean[256];
+
+    static {
+        for (char c : new char[]{'"', '{', '}', '[', ']'}) {
+            STRUCTURAL[c] = true;
+        }
+    }
+
+    /**
+     * 요소 경계에서 자른 묶음입니다.
+     *
+     * @param bytes        요소들 (줄바꿈으로 구분, 앞의 length 바이트만 유효)
+     * @param length       유효한 바이트 수
+     * @param firstElement 첫 요소의 배열 내 순번 (0부터)
+     * @param elementCount 담긴 요소 수
+     */
+    public record Chunk(byte[] bytes, int length, long firstElement, int elementCount) {
+    }
+
+    private final InputStream inputStream;
+    private final int chunkBytes;
+    private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private boolean opened;
+    private boolean closed;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean inElement;
+    private boolean afterComma;
+    private long elementIndex;
+
+    /**
+     * @param inputStream 최상위 배열로 시작하는 UTF-8 JSON 스트림 (앞의 공백은 건너뜀, 호출자가 닫아야 함)
+     * @param chunkBytes  묶음 하나에 담을 대략적인 바이트 수 (요소 하나가 더 크면 그 요소만 담김)
+     */
+    public JsonArrayScanner(InputStream inputStream, int chunkBytes) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다: " + chunkBytes);
+        }
+        this.inputStream = inputStream;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * 스트림이 공백 뒤에 '['로 시작하는지 확인합니다. 읽은 바이트는 되돌리므로 스트림은 그대로입니다.
+     *
+     * @param inputStream mark/reset을 지원하는 스트림
+     * @return 최상위 배열로 시작하면 true (앞의 공백이 너무 길거나 비어 있으면 false)
+     * @throws IOException 읽기 실패 시 발생
+     */
+    public static boolean startsWithArray(InputStream inputStream) throws IOException {
+        inputStream.mark(PEEK_LIMIT);
+        try {
+            for (int i = 0; i < PEEK_LIMIT; i++) {
+                int b = inputStream.read();
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return b == '[';
+                }
+            }
+            return false;
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    /**
+     * 다음 묶음을 읽습니다. 요소가 chunkBytes 이상 모이면 요소 경계에서 끊어 돌려줍니다.
+     *
+     * @return 다음 묶음 (배열이 끝났으면 null)
+     * @throws IOException 읽기 실패 또는 배열 구조가 잘못된 경우 발생
+     */
+    public Chunk next() throws IOException {
+        if (closed) {
+            return null;
+        }
+        if (!opened) {
+            open();
+        }
+        byte[] chunk = new byte[chunkBytes + chunkBytes / 4];
+        int length = 0;
+        int count = 0;
+        long first = elementIndex;
+
+        while (true) {
+            if (position == limit && !fill()) {
+                throw new IOException("JSON 배열이 끝나지 않았습니다.");
+            }
+            int segmentStart = inElement ? position : -1;
+            int i = position;
+            while (i < limit) {
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                        i++;
+                        continue;
+                    }
+                    // 문자열 안에서는 따옴표와 역슬래시만 찾습니다.
+                    byte b;
+                    while (i < limit && (b = buffer[i]) != '"' && b != '\\') {
+                        i++;
+                    }
+                    if (i == limit) {
+                        break;
+                    }
+                    if (buffer[i] == '\\') {
+                        escaped = true;
+                    } else {
+                        inString = false;
+                    }
+                    i++;
+                    continue;
+                }
+                if (depth > 1) {
+                    // 요소 안쪽에서는 따옴표와 괄호만 찾습니다.
+                    while (i < limit && !STRUCTURAL[buffer[i] & 0xff]) {
+                        i++;
+                    }
+                    if (i == limit) {
+                        break;
+                    }
+                    byte b = buffer[i++];
+                    if (b == '"') {
+                        inString = true;
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else {
+                        depth--;
+                    }
+                    continue;
+                }
+                // 여기부터는 최상위 배열 바로 안쪽입니다.
+                byte b = buffer[i];
+                if (b == ',' || b == ']') {
+                    if (inElement) {
+                        // 구분자 자리까지 복사해 두고 그 자리를 줄바꿈으로 덮어씁니다.
+                        chunk = append(chunk, length, buffer, segmentStart, i - segmentStart + 1);
+                        length += i - segmentStart;
+                        chunk[length++] = '\n';
+                        count++;
+                        elementIndex++;
+                        inElement = false;
+                        segmentStart = -1;
+                    } else if (b == ',' || afterComma) {
+                        throw new IOException("JSON 배열 요소가 비어 있습니다: " + elementIndex + "번째");
+                    }
+                    position = ++i;
+                    if (b == ']') {
+                        depth = 0;
+                        closed = true;
+                        return count == 0 ? null : new Chunk(chunk, length, first, count);
+                    }
+                    afterComma = true;
+                    if (length >= chunkBytes) {
+                        return new Chunk(chunk, length, first, count);
+                    }
+                    continue;
+                }
+                i++;
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (b == '}') {
+                    throw new IOException("JSON 배열 구조가 잘못되었습니다: " + elementIndex + "번째 요소");
+                }
+                if (!inElement) {
+                    inElement = true;
+                    afterComma = false;
+                    segmentStart = i - 1;
+                }
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                }
+            }
+            if (inElement) {
+                chunk = append(chunk, length, buffer, segmentStart, limit - segmentStart);
+                length += limit - segmentStart;
+            }
+            position = limit;
+        }
+    }
+
+    private void open() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                throw new IOException("JSON 데이터가 비어있습니다.");
+            }
+            byte b = buffer[position++];
+            if (b == '[') {
+                opened = true;
+                depth = 1;
+                return;
+            }
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                throw new IOException("JSON 배열이 아닙니다.");
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = inputStream.read(buffer, 0, buffer.length);
+        while (read == 0) {
+            read = inputStream.read(buffer, 0, buffer.length);
+        }
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private static byte[] append(byte[] target, int length, byte[] source, int offset, int count) {
+        if (length + count > target.length) {
+            target = Arrays.copyOf(target, Math.max(target.length * 2, length + count));
+        }
+        System.arraycopy(source, offset, target, length, count);
+        return target;
+    }
+}
@@ -0,0 +1,188 @@
+package com.orderSystem.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반복되는 문자열을 0부터 시작하는 정수 코드로 바꿔 주는 동시성 사전입니다.
+ *
+ * <p>코드 조회는 이미 등록된 값이면 잠금 없이 처리되고, 새 값 등록만 짧게 동기화됩니다.
+ * 한 번 등록된 코드는 바뀌지 않으며 제거되지 않습니다.</p>
+ *
+ * <p>{@link #canonicalize(String)}는 같은 내용의 문자열에 대해 항상 같은 인스턴스를 반환하므로,
+ * 역직렬화된 값을 바꿔 끼우면 중복 문자열이 보관되지 않습니다. 최대 크기를 넘으면 더 이상 새 값을
+ * 등록하지 않고 입력을 그대로 돌려주므로, 값의 종류가 많은 필드에 쓰더라도 사전이 무한히 커지지 않습니다.</p>
+ */
+public class StringDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private final Object registerLock = new Object();
+    private final int maxSize;
+    private volatile String[] values = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    public StringDictionary() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxSize {@link #canonicalize(String)}와 {@link #tryEncode(String)}가 등록할 최대 문자열 수
+     */
+    public StringDictionary(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("사전 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 사전 사용 통계입니다.
+     *
+     * @param size       등록된 문자열 수
+     * @param lookups    조회 횟수
+     * @param hits       이미 등록된 값을 찾은 횟수
+     * @param savedBytes 적중한 조회마다 중복 문자열 하나를 보관하지 않았다고 가정한 힙 절감량 추정치
+     */
+    public record Stats(int size, long lookups, long hits, long savedBytes) {
+
+        public double hitRatio() {
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * 같은 내용의 등록된 문자열 인스턴스를 반환합니다. 처음 보는 값이면 최대 크기 안에서 등록합니다.
+     *
+     * @param value 문자열 (null이면 null 반환)
+     * @return 등록된 인스턴스, 사전이 가득 찼으면 입력 값
+     */
+    public String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        int code = lookup(value, true);
+        if (code == NOT_FOUND) {
+            return value;
+        }
+        String canonical = values[code];
+        if (canonical != value) {
+            savedBytes.add(estimateSize(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * 문자열의 코드를 반환합니다. 처음 보는 문자열이면 최대 크기와 관계없이 새 코드를 등록합니다.
+     *
+     * @param value 문자열 (null 불가)
+     * @return 코드
+     */
+    public int encode(String value) {
+        return lookup(value, false);
+    }
+
+    /**
+     * 문자열의 코드를 반환합니다. 처음 보는 문자열은 최대 크기 안에서만 등록합니다.
+     * {@link #encode(String)}를 함께 쓰지 않으면, 한 번 등록되지 않은 값은 이후에도 등록되지 않으므로
+     * 같은 값에 대한 결과는 항상 같습니다.
+     *
+     * @param value 문자열 (null 불가)
+     * @return 코드, 사전이 가득 찼으면 {@link #NOT_FOUND}
+     */
+    public int tryEncode(String value) {
+        return lookup(value, true);
+    }
+
+    /**
+     * 이미 등록된 문자열의 코드를 반환합니다. 처음 보는 문자열은 등록하지 않습니다.
+     *
+     * @param value 문자열 (null 불가)
+     * @return 코드, 등록되지 않았으면 {@link #NOT_FOUND}
+     */
+    public int find(String value) {
+        Integer code = codes.get(value);
+        return code == null ? NOT_FOUND : code;
+    }
+
+    /**
+     * 코드에 해당하는 문자열을 반환합니다.
+     *
+     * @param code {@link #encode(String)}가 반환한 코드
+     * @return 문자열
+     */
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("등록되지 않은 코드입니다: " + code);
+        }
+        return values[code];
+    }
+
+    /**
+     * 등록된 문자열 수를 반환합니다.
+     *
+     * @return 문자열 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public Stats getStats() {
+        return new Stats(size, lookups.sum(), hits.sum(), savedBytes.sum());
+    }
+
+    private int lookup(String value, boolean bounded) {
+        lookups.increment();
+        Integer code = codes.get(value);
+        if (code != null) {
+            hits.increment();
+            return code;
+        }
+        synchronized (registerLock) {
+            code = codes.get(value);
+            if (code != null) {
+                hits.increment();
+                return code;
+            }
+            int next = size;
+            if (bounded && next >= maxSize) {
+                return NOT_FOUND;
+            }
+            String[] current = values;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[next] = value;
+            values = current;
+            size = next + 1;
+            // 코드는 배열에 값을 기록한 뒤 공개하므로, 코드를 얻은 스레드는 decode로 값을 볼 수 있습니다.
+            codes.put(value, next);
+            return next;
+        }
+    }
+
+    /**
+     * String 객체(헤더 포함 24바이트)와 바이트 배열(헤더 16바이트, 8바이트 정렬)의 크기를 추정합니다.
+     * Latin-1로 표현되지 않는 문자가 있으면 문자당 2바이트로 계산합니다.
+     */
+    private static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long arrayBytes = (16L + (long) value.length() * bytesPerChar + 7) & ~7L;
+        return 24L + arrayBytes;
+    }
+}
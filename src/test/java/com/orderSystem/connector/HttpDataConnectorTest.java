@@ -0,0 +1,271 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.exception.DataConnectorException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpDataConnectorTest {
+
+    private static final String COMPRESSED_BODY = "[" + "{\"orderId\":\"ORD-001\"},".repeat(1000) + "{}]";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedEncoding = new AtomicReference<>();
+    private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+    private final AtomicInteger versionedRequests = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private volatile String version = "\"v1\"";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/receive", exchange -> {
+            receivedEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            InputStream body = exchange.getRequestBody();
+            if ("gzip".equals(receivedEncoding.get())) {
+                body = new GZIPInputStream(body);
+            }
+            receivedBody.set(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            // gzip 읽기는 압축 데이터 끝에서 멈추므로 chunked 종료부까지 비워야 연결을 재사용할 수 있습니다.
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/orders", exchange -> {
+            byte[] response = "[{\"orderId\":\"ORD-001\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/versioned", exchange -> {
+            versionedRequests.incrementAndGet();
+            String current = version;
+            if (current.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] response = ("[{\"orderId\":" + current + "}]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("ETag", current);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/compressed", exchange -> {
+            // 요청한 인코딩으로 압축해 응답합니다 (?encoding=deflate이면 deflate).
+            String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            String encoding = "encoding=deflate".equals(exchange.getRequestURI().getQuery()) ? "deflate" : "gzip";
+            if (accepted == null || !accepted.contains(encoding)) {
+                exchange.sendResponseHeaders(406, -1);
+                exchange.close();
+                return;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (OutputStream compressed = encoding.equals("gzip")
+                ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+                compressed.write(COMPRESSED_BODY.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().set("Content-Encoding", encoding);
+            exchange.sendResponseHeaders(200, buffer.size());
+            exchange.getResponseBody().write(buffer.toByteArray());
+            exchange.close();
+        });
+        server.createContext("/reject", exchange -> {
+            // 본문을 읽지 않고 바로 거부합니다.
+            exchange.sendResponseHeaders(413, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testSendStreamCompressesBody() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+        String payload = "[" + "{\"orderId\":\"ORD-001\"},".repeat(20_000) + "{\"orderId\":\"ORD-002\"}]";
+
+        boolean success = connector.sendStream(baseUrl + "/receive",
+            outputStream -> outputStream.write(payload.getBytes(StandardCharsets.UTF_8)), true);
+
+        assertTrue(success);
+        assertEquals("gzip", receivedEncoding.get());
+        assertEquals(payload, receivedBody.get());
+
+        assertTrue(connector.sendStream(baseUrl + "/receive",
+            outputStream -> outputStream.write("[]".getBytes(StandardCharsets.UTF_8)), false));
+        assertNull(receivedEncoding.get());
+        assertEquals("[]", receivedBody.get());
+    }
+
+    @Test
+    void testSendStreamUsesRequestedFormat() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+
+        assertTrue(connector.sendStream(baseUrl + "/receive",
+            outputStream -> outputStream.write(new byte[]{':', ')', '\n'}), false, WireFormat.SMILE));
+        assertEquals("application/x-jackson-smile", receivedContentType.get());
+    }
+
+    @Test
+    void testSendDataCompressesLargeBody() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+
+        assertTrue(connector.sendData(baseUrl + "/receive", COMPRESSED_BODY));
+        assertEquals("gzip", receivedEncoding.get());
+        assertEquals(COMPRESSED_BODY, receivedBody.get());
+
+        // 작은 본문은 그대로 보냅니다.
+        assertTrue(connector.sendData(baseUrl + "/receive", "[]"));
+        assertNull(receivedEncoding.get());
+        assertEquals("[]", receivedBody.get());
+
+        HttpDataConnector uncompressed = new HttpDataConnector(new ResponseCache(16), false, false);
+        assertTrue(uncompressed.sendData(baseUrl + "/receive", COMPRESSED_BODY));
+        assertNull(receivedEncoding.get());
+    }
+
+    @Test
+    void testDecodesCompressedResponses() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+
+        assertEquals(COMPRESSED_BODY, connector.fetchData(baseUrl + "/compressed"));
+        try (InputStream stream = connector.fetchStreamAsync(baseUrl + "/compressed").join()) {
+            assertEquals(COMPRESSED_BODY, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream stream = connector.fetchStream(baseUrl + "/compressed?encoding=deflate")) {
+            assertEquals(COMPRESSED_BODY, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSendStreamDoesNotBlockWhenServerRejectsEarly() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+        byte[] chunk = new byte[64 * 1024];
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try {
+                assertFalse(connector.sendStream(baseUrl + "/reject", outputStream -> {
+                    for (int i = 0; i < 1024; i++) {
+                        outputStream.write(chunk);
+                    }
+                }, false));
+            } catch (DataConnectorException e) {
+                // 클라이언트가 413 응답을 읽기 전에 서버가 연결을 닫으면 네트워크 오류로 끝납니다.
+            }
+        });
+    }
+
+    @Test
+    void testFetchAsync() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+
+        assertEquals("[{\"orderId\":\"ORD-001\"}]", connector.fetchDataAsync(baseUrl + "/orders").join());
+        try (InputStream stream = connector.fetchStreamAsync(baseUrl + "/orders").join()) {
+            assertEquals("[{\"orderId\":\"ORD-001\"}]", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testFetchAsyncFailsWithDataConnectorException() {
+        HttpDataConnector connector = new HttpDataConnector();
+
+        CompletableFuture<String> future = connector.fetchDataAsync(baseUrl + "/missing");
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(DataConnectorException.class, e.getCause());
+        assertThrows(DataConnectorException.class, () -> connector.fetchData(baseUrl + "/missing"));
+    }
+
+    @Test
+    void testConditionalFetchSkipsUnchangedResponse() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+        String url = baseUrl + "/versioned";
+
+        try (InputStream first = connector.fetchStreamIfModifiedAsync(url).join()) {
+            assertEquals("[{\"orderId\":\"v1\"}]", new String(first.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNull(connector.fetchStreamIfModifiedAsync(url).join());
+        assertEquals(1, notModifiedResponses.get());
+
+        version = "\"v2\"";
+        try (InputStream changed = connector.fetchStreamIfModifiedAsync(url).join()) {
+            assertEquals("[{\"orderId\":\"v2\"}]", new String(changed.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // 처리하지 못한 응답은 잊어 다음 요청에서 다시 받습니다.
+        connector.invalidate(url);
+        try (InputStream again = connector.fetchStreamIfModifiedAsync(url).join()) {
+            assertNotNull(again);
+        }
+        // 조건 없는 요청은 항상 본문을 돌려줍니다.
+        assertEquals("[{\"orderId\":\"v2\"}]", connector.fetchData(url));
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void testUnconditionalFetchKeepsValidatorsAndInvalidateAllDropsThem() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector();
+        String url = baseUrl + "/versioned";
+
+        try (InputStream first = connector.fetchStreamIfModifiedAsync(url).join()) {
+            assertNotNull(first);
+        }
+        try (InputStream plain = connector.fetchStreamAsync(url).join()) {
+            assertEquals("[{\"orderId\":\"v1\"}]", new String(plain.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNull(connector.fetchStreamIfModifiedAsync(url).join());
+        assertEquals(1, notModifiedResponses.get());
+
+        connector.invalidateAll();
+        try (InputStream again = connector.fetchStreamIfModifiedAsync(url).join()) {
+            assertNotNull(again);
+        }
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void testResponseCacheServesFreshBodyAndRevalidatesStaleBody() throws Exception {
+        HttpDataConnector connector = new HttpDataConnector(new ResponseCache(16, true, Duration.ofMillis(200), 1024));
+        String url = baseUrl + "/versioned";
+
+        assertEquals("[{\"orderId\":\"v1\"}]", connector.fetchData(url));
+        assertEquals("[{\"orderId\":\"v1\"}]", connector.fetchData(url));
+        assertEquals(1, versionedRequests.get());
+
+        Thread.sleep(250);
+        assertEquals("[{\"orderId\":\"v1\"}]", connector.fetchData(url));
+        assertEquals(2, versionedRequests.get());
+        assertEquals(1, notModifiedResponses.get());
+
+        ResponseCache.Stats stats = connector.getResponseCache().getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.revalidated());
+    }
+}
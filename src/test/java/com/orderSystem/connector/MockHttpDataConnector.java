@@ -2,11 +2,23 @@ package com.orderSystem.connector;
 
 import com.orderSystem.exception.DataConnectorException;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class MockHttpDataConnector implements DataConnectorInterface {
 
     private String mockResponse;
     private boolean shouldFail = false;
     private String failureMessage = "Mock failure";
+    private volatile boolean sendResult = true;
+    private final AtomicInteger rejectedSends = new AtomicInteger();
+    private final List<String> sentData = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> invalidatedUrls = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean notModified;
 
     public void setMockResponse(String response) {
         this.mockResponse = response;
@@ -18,6 +30,42 @@ public class MockHttpDataConnector implements DataConnectorInterface {
         this.failureMessage = message;
     }
 
+    public void setSendResult(boolean sendResult) {
+        this.sendResult = sendResult;
+    }
+
+    /**
+     * 다음 count번의 전송을 거부합니다.
+     */
+    public void rejectNextSends(int count) {
+        rejectedSends.set(count);
+    }
+
+    public List<String> getSentData() {
+        return sentData;
+    }
+
+    /**
+     * true이면 조건부 가져오기가 변경 없음(null)으로 완료됩니다.
+     */
+    public void setNotModified(boolean notModified) {
+        this.notModified = notModified;
+    }
+
+    public List<String> getInvalidatedUrls() {
+        return invalidatedUrls;
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamIfModifiedAsync(String url) {
+        return notModified ? CompletableFuture.completedFuture(null) : fetchStreamAsync(url);
+    }
+
+    @Override
+    public void invalidate(String url) {
+        invalidatedUrls.add(url);
+    }
+
     @Override
     public String fetchData(String url) throws DataConnectorException {
         if (shouldFail) {
@@ -31,6 +79,10 @@ public class MockHttpDataConnector implements DataConnectorInterface {
         if (shouldFail) {
             throw new DataConnectorException(failureMessage);
         }
-        return true;
+        if (rejectedSends.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return false;
+        }
+        sentData.add(data);
+        return sendResult;
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.exception.DataConnectorException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 totalOrders개를 offset(offset/limit), page(page/size, 0부터), cursor(cursor/limit) 방식으로 나눠 주는
+ * 테스트용 연결자입니다. cursor 방식의 응답은 {"items": [...], "nextCursor": "..."} 형식입니다.
+ */
+public class MockPagedDataConnector implements DataConnectorInterface {
+
+    private final int totalOrders;
+    private final List<String> requestedUrls = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> failingFragments = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, CompletableFuture<InputStream>> deferred = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean deferResponses;
+
+    public MockPagedDataConnector(int totalOrders) {
+        this.totalOrders = totalOrders;
+    }
+
+    /**
+     * URL에 fragment가 들어 있는 다음 요청 한 번을 실패시킵니다.
+     */
+    public void failOnce(String fragment) {
+        failingFragments.add(fragment);
+    }
+
+    /**
+     * true이면 {@link #complete(String)}를 호출할 때까지 응답을 보내지 않습니다.
+     */
+    public void setDeferResponses(boolean deferResponses) {
+        this.deferResponses = deferResponses;
+    }
+
+    /**
+     * URL에 fragment가 들어 있는 보류 중인 응답을 보냅니다.
+     */
+    public void complete(String fragment) {
+        String url;
+        synchronized (deferred) {
+            url = deferred.keySet().stream().filter(candidate -> candidate.contains(fragment)).findFirst()
+                .orElseThrow(() -> new IllegalStateException("보류 중인 요청이 없습니다: " + fragment));
+        }
+        deferred.remove(url).complete(respond(url));
+    }
+
+    public List<String> getRequestedUrls() {
+        return requestedUrls;
+    }
+
+    @Override
+    public String fetchData(String url) throws DataConnectorException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean sendData(String url, String data) throws DataConnectorException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<InputStream> fetchStreamAsync(String url) {
+        requestedUrls.add(url);
+        synchronized (failingFragments) {
+            for (String fragment : failingFragments) {
+                if (url.contains(fragment)) {
+                    failingFragments.remove(fragment);
+                    return CompletableFuture.failedFuture(new DataConnectorException("HTTP 요청 실패: 503"));
+                }
+            }
+        }
+        if (deferResponses) {
+            CompletableFuture<InputStream> response = new CompletableFuture<>();
+            deferred.put(url, response);
+            return response;
+        }
+        return CompletableFuture.completedFuture(respond(url));
+    }
+
+    private InputStream respond(String url) {
+        Map<String, String> params = new HashMap<>();
+        String query = URI.create(url).getRawQuery();
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            params.put(keyValue[0], keyValue[1]);
+        }
+
+        String json;
+        if (params.containsKey("page")) {
+            int size = Integer.parseInt(params.get("size"));
+            json = orders(Integer.parseInt(params.get("page")) * size, size);
+        } else if (params.containsKey("offset")) {
+            json = orders(Integer.parseInt(params.get("offset")), Integer.parseInt(params.get("limit")));
+        } else {
+            int limit = Integer.parseInt(params.get("limit"));
+            int offset = params.containsKey("cursor") ? Integer.parseInt(params.get("cursor").substring(1)) : 0;
+            String next = offset + limit < totalOrders ? "\"c" + (offset + limit) + "\"" : "null";
+            json = "{\"items\":" + orders(offset, limit) + ",\"nextCursor\":" + next + "}";
+        }
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String orders(int offset, int limit) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = offset; i < Math.min(totalOrders, offset + limit); i++) {
+            if (i > offset) {
+                json.append(',');
+            }
+            json.append(String.format("{\"orderId\":\"ORD-%05d\",\"customerName\":\"고객%d\"," +
+                "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}", i, i % 10));
+        }
+        return json.append(']').toString();
+    }
+}
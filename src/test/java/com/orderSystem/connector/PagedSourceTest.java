@@ -0,0 +1,34 @@
+package com.orderSystem.connector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagedSourceTest {
+
+    @Test
+    void testPageUrl() {
+        PagedSource offset = new PagedSource(Pagination.OFFSET, "http://partner/orders", 100);
+        assertEquals("http://partner/orders?offset=0&limit=100", offset.pageUrl(PagedSource.Position.FIRST));
+        assertEquals("http://partner/orders?offset=200&limit=100", offset.pageUrl(new PagedSource.Position(2, null)));
+
+        PagedSource page = new PagedSource(Pagination.PAGE, "http://partner/orders?status=NEW", 50, 1,
+            null, "per_page", null, null);
+        assertEquals("http://partner/orders?status=NEW&page=3&per_page=50", page.pageUrl(new PagedSource.Position(2, null)));
+
+        PagedSource cursor = new PagedSource(Pagination.CURSOR, "http://partner/orders", 10);
+        assertEquals("http://partner/orders?limit=10", cursor.pageUrl(PagedSource.Position.FIRST));
+        assertEquals("http://partner/orders?cursor=a%2Bb%3D&limit=10", cursor.pageUrl(new PagedSource.Position(1, "a+b=")));
+        assertEquals("/items", cursor.getItemsPath());
+        assertEquals("", offset.getItemsPath());
+    }
+
+    @Test
+    void testInvalidSource() {
+        assertThrows(IllegalArgumentException.class, () -> new PagedSource(Pagination.PAGE, "http://partner/orders", 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PagedSource(Pagination.PAGE, "http://partner/orders", PagedSource.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new PagedSource(Pagination.PAGE, "orders", 10));
+        assertThrows(IllegalArgumentException.class, () -> Pagination.from("keyset"));
+    }
+}
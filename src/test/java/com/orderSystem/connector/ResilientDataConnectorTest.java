@@ -0,0 +1,196 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.exception.DataConnectorException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientDataConnectorTest {
+
+    private static final String URL = "http://partner.example.com/orders";
+
+    @Test
+    void testRetriesRetryableFailures() throws Exception {
+        ScriptedConnector delegate = new ScriptedConnector();
+        delegate.then(() -> CompletableFuture.failedFuture(new DataConnectorException("HTTP 요청 실패: 503", 503)));
+        delegate.then(() -> CompletableFuture.failedFuture(
+            new DataConnectorException("네트워크 오류", new ConnectException("refused"))));
+        delegate.then(() -> CompletableFuture.completedFuture(stream("[]")));
+        ResilientDataConnector connector = new ResilientDataConnector(delegate, policy(3, 5, false));
+
+        try (InputStream stream = connector.fetchStreamAsync(URL).join()) {
+            assertEquals("[]", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(3, delegate.calls.get());
+        assertEquals(2, connector.getStats().retries());
+    }
+
+    @Test
+    void testDoesNotRetryClientErrors() {
+        ScriptedConnector delegate = new ScriptedConnector();
+        delegate.then(() -> CompletableFuture.failedFuture(new DataConnectorException("HTTP 요청 실패: 404", 404)));
+        ResilientDataConnector connector = new ResilientDataConnector(delegate, policy(3, 1, false));
+
+        DataConnectorException e = assertThrows(DataConnectorException.class, () -> connector.fetchStream(URL));
+        assertEquals(404, e.getStatusCode());
+        assertEquals(1, delegate.calls.get());
+        // 호스트가 응답했으므로 차단하지 않습니다.
+        assertEquals(Map.of("partner.example.com:-1", CircuitBreaker.State.CLOSED), connector.getCircuitStates());
+    }
+
+    @Test
+    void testOpenCircuitFailsFastUntilProbeSucceeds() throws Exception {
+        ScriptedConnector delegate = new ScriptedConnector();
+        for (int i = 0; i < 2; i++) {
+            delegate.then(() -> CompletableFuture.failedFuture(new DataConnectorException("HTTP 요청 실패: 502", 502)));
+        }
+        ResilientDataConnector connector = new ResilientDataConnector(delegate,
+            new ResilientDataConnector.Policy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+                2, Duration.ofMillis(100), false, Duration.ZERO));
+
+        assertThrows(DataConnectorException.class, () -> connector.fetchStream(URL));
+        assertThrows(DataConnectorException.class, () -> connector.fetchStream(URL));
+        DataConnectorException e = assertThrows(DataConnectorException.class, () -> connector.fetchStream(URL));
+        assertTrue(e.getMessage().contains("회로 차단"));
+        assertEquals(2, delegate.calls.get());
+        assertEquals(1, connector.getStats().openCircuits());
+        // 다른 호스트는 영향을 받지 않습니다.
+        e = assertThrows(DataConnectorException.class, () -> connector.fetchStream("http://other.example.com/orders"));
+        assertTrue(e.getMessage().contains("예상하지 못한 요청"));
+
+        Thread.sleep(150);
+        delegate.then(() -> CompletableFuture.completedFuture(stream("[]")));
+        connector.fetchStream(URL).close();
+        assertEquals(CircuitBreaker.State.CLOSED, connector.getCircuitStates().get("partner.example.com:-1"));
+        assertEquals(1, connector.getStats().shortCircuited());
+    }
+
+    @Test
+    void testHedgedRequestWinsWhenPrimaryIsSlow() throws Exception {
+        ScriptedConnector delegate = new ScriptedConnector();
+        for (int i = 0; i < 20; i++) {
+            delegate.then(() -> CompletableFuture.completedFuture(stream("[]")));
+        }
+        CompletableFuture<InputStream> slow = new CompletableFuture<>();
+        delegate.then(() -> slow);
+        delegate.then(() -> CompletableFuture.completedFuture(stream("[\"hedge\"]")));
+        ResilientDataConnector connector = new ResilientDataConnector(delegate,
+            new ResilientDataConnector.Policy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+                5, Duration.ofSeconds(30), true, Duration.ofMillis(20)));
+        for (int i = 0; i < 20; i++) {
+            connector.fetchStream(URL).close();
+        }
+
+        try (InputStream stream = connector.fetchStream(URL)) {
+            assertEquals("[\"hedge\"]", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, connector.getStats().hedges());
+        assertEquals(1, connector.getStats().hedgeWins());
+
+        // 늦게 온 원래 응답은 닫습니다.
+        TrackingInputStream late = new TrackingInputStream();
+        slow.complete(late);
+        assertTrue(late.closed);
+    }
+
+    @Test
+    void testAttemptTimeoutRetriesAndDiscardsLateResponse() throws Exception {
+        ScriptedConnector delegate = new ScriptedConnector();
+        CompletableFuture<InputStream> stuck = new CompletableFuture<>();
+        delegate.then(() -> stuck);
+        delegate.then(() -> CompletableFuture.completedFuture(stream("[]")));
+        ResilientDataConnector connector = new ResilientDataConnector(delegate,
+            new ResilientDataConnector.Policy(2, Duration.ZERO, Duration.ZERO, Duration.ofMillis(50),
+                5, Duration.ofSeconds(30), false, Duration.ZERO));
+
+        connector.fetchStream(URL).close();
+        assertEquals(2, delegate.calls.get());
+
+        TrackingInputStream late = new TrackingInputStream();
+        stuck.complete(late);
+        assertTrue(late.closed);
+    }
+
+    @Test
+    void testSendsAreNotRetried() {
+        ScriptedConnector delegate = new ScriptedConnector();
+        delegate.sendFailure = new DataConnectorException("네트워크 오류", new IOException("reset"));
+        ResilientDataConnector connector = new ResilientDataConnector(delegate, policy(3, 5, false));
+
+        assertThrows(DataConnectorException.class, () -> connector.sendData(URL, "[]"));
+        assertEquals(1, delegate.calls.get());
+    }
+
+    private static ResilientDataConnector.Policy policy(int maxAttempts, int failureThreshold, boolean hedge) {
+        return new ResilientDataConnector.Policy(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+            Duration.ZERO, failureThreshold, Duration.ofSeconds(30), hedge, Duration.ZERO);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 호출마다 미리 정해 둔 응답을 차례로 돌려주는 연결자입니다.
+     */
+    private static final class ScriptedConnector implements DataConnectorInterface {
+        private final Deque<Supplier<CompletableFuture<InputStream>>> responses = new ArrayDeque<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private DataConnectorException sendFailure;
+
+        void then(Supplier<CompletableFuture<InputStream>> response) {
+            responses.add(response);
+        }
+
+        @Override
+        public synchronized CompletableFuture<InputStream> fetchStreamAsync(String url) {
+            calls.incrementAndGet();
+            Supplier<CompletableFuture<InputStream>> response = responses.poll();
+            if (response == null) {
+                throw new IllegalStateException("예상하지 못한 요청: " + url);
+            }
+            return response.get();
+        }
+
+        @Override
+        public String fetchData(String url) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendData(String url, String data) throws DataConnectorException {
+            calls.incrementAndGet();
+            if (sendFailure != null) {
+                throw sendFailure;
+            }
+            return true;
+        }
+    }
+
+    private static final class TrackingInputStream extends InputStream {
+        private volatile boolean closed;
+
+        @Override
+        public int read() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.orderSystem.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ResponseCache cache = new ResponseCache(2);
+        cache.storeValidators("http://a", "\"1\"", null);
+        cache.storeValidators("http://b", "\"2\"", null);
+        cache.get("http://a");
+        cache.storeValidators("http://c", "\"3\"", null);
+
+        assertNotNull(cache.get("http://a"));
+        assertNull(cache.get("http://b"));
+        assertNotNull(cache.get("http://c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testBodiesAreKeptOnlyWhenEnabledAndSmall() {
+        ResponseCache validatorsOnly = new ResponseCache(10);
+        validatorsOnly.storeBody("http://a", "\"1\"", null, new byte[10]);
+        assertNull(validatorsOnly.get("http://a"));
+
+        ResponseCache cache = new ResponseCache(10, true, Duration.ofMinutes(1), 16);
+        cache.storeBody("http://a", "\"1\"", null, new byte[10]);
+        cache.storeBody("http://b", "\"2\"", null, new byte[17]);
+        assertArrayEquals(new byte[10], cache.get("http://a").body());
+        assertNull(cache.get("http://b"));
+
+        // 검증자가 없으면 기억할 것이 없습니다.
+        cache.storeValidators("http://c", null, null);
+        assertNull(cache.get("http://c"));
+    }
+
+    @Test
+    void testFreshnessFollowsTtl() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(10, true, Duration.ofMillis(50), 1024);
+        cache.storeBody("http://a", "\"1\"", null, new byte[1]);
+        assertTrue(cache.isFresh(cache.get("http://a")));
+
+        Thread.sleep(60);
+        assertFalse(cache.isFresh(cache.get("http://a")));
+
+        cache.revalidated("http://a");
+        assertTrue(cache.isFresh(cache.get("http://a")));
+        assertEquals(1, cache.getStats().revalidated());
+
+        ResponseCache noBodies = new ResponseCache(10);
+        noBodies.storeValidators("http://a", "\"1\"", null);
+        assertFalse(noBodies.isFresh(noBodies.get("http://a")));
+    }
+}
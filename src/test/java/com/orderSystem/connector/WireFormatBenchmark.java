@@ -0,0 +1,177 @@
+package com.orderSystem.connector;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.service.DataTransformService;
+import com.orderSystem.util.CountingInputStream;
+import com.orderSystem.util.OrderTestDataGenerator;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 로컬 HTTP 서버를 상대로 형식(JSON, Smile)과 gzip 압축 여부에 따른 전송 바이트와 CPU 시간을 측정하는 벤치마크입니다.
+ * 기본 테스트 실행에는 포함되지 않으며 다음과 같이 실행합니다.
+ *
+ * <pre>
+ * mvn test -Dtest=WireFormatBenchmark -Dbenchmark.orders=1000000 -DargLine=-Xmx4g
+ * </pre>
+ *
+ * <p>전송은 보내는 쪽의 직렬화·압축과 받는 쪽의 해제·파싱을 모두 포함하고, 수신은 서버가 미리 인코딩해 둔 본문을
+ * 받아 해제·파싱하는 비용만 포함합니다. CPU 시간은 프로세스 전체 기준입니다.</p>
+ */
+class WireFormatBenchmark {
+
+    private record Variant(String name, WireFormat format, boolean gzip) {
+    }
+
+    private static final List<Variant> VARIANTS = List.of(
+        new Variant("json", WireFormat.JSON, false),
+        new Variant("json+gzip", WireFormat.JSON, true),
+        new Variant("smile", WireFormat.SMILE, false),
+        new Variant("smile+gzip", WireFormat.SMILE, true));
+
+    private final DataTransformService transformer = new DataTransformService();
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicLong receivedOrders = new AtomicLong();
+    private final ExecutorService serverExecutor = Executors.newFixedThreadPool(2);
+    private HttpServer server;
+    private String baseUrl;
+    private volatile byte[] payload;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/receive", exchange -> {
+            try (CountingInputStream counted = new CountingInputStream(exchange.getRequestBody());
+                 InputStream body = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))
+                     ? new GZIPInputStream(counted, 16 * 1024) : counted) {
+                receivedOrders.set(transformer.streamOrders(body, order -> {
+                }));
+                receivedBytes.set(counted.getCount());
+                exchange.sendResponseHeaders(200, -1);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(400, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.createContext("/payload", exchange -> {
+            byte[] body = payload;
+            if (exchange.getRequestURI().getPath().endsWith("gzip")) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void benchmarkWireFormats() throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000_000);
+        List<Order> orders = OrderTestDataGenerator.generateSequentialOrders(orderCount);
+        HttpDataConnector connector = new HttpDataConnector(new ResponseCache(16), true, true);
+
+        // JIT 워밍업
+        List<Order> warmup = orders.subList(0, Math.min(orderCount, 100_000));
+        for (Variant variant : VARIANTS) {
+            send(connector, variant, warmup);
+            payload = encode(warmup, variant);
+            fetch(connector, variant);
+        }
+
+        System.out.printf("주문 %,d개%n", orderCount);
+        System.out.printf("  %-11s %16s %10s %10s %16s %10s %10s%n",
+            "형식", "전송 바이트", "전송 ms", "CPU ms", "수신 바이트", "수신 ms", "CPU ms");
+        for (Variant variant : VARIANTS) {
+            long[] sent = send(connector, variant, orders);
+            assertEquals(orderCount, receivedOrders.get());
+            long sentBytes = receivedBytes.get();
+
+            payload = encode(orders, variant);
+            long[] fetched = fetch(connector, variant);
+            assertEquals(orderCount, fetched[2]);
+
+            System.out.printf("  %-11s %,16d %,10d %,10d %,16d %,10d %,10d%n", variant.name(),
+                sentBytes, sent[0] / 1_000_000, sent[1] / 1_000_000,
+                (long) payload.length, fetched[0] / 1_000_000, fetched[1] / 1_000_000);
+        }
+        payload = null;
+    }
+
+    /**
+     * @return {경과 시간, CPU 시간} (나노초)
+     */
+    private long[] send(HttpDataConnector connector, Variant variant, List<Order> orders) throws Exception {
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        boolean success = connector.sendStream(baseUrl + "/receive", outputStream -> {
+            try {
+                transformer.writeOrders(orders, outputStream, variant.format());
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }, variant.gzip(), variant.format());
+        long elapsed = System.nanoTime() - start;
+        long cpu = processCpuNanos() - cpuStart;
+        assertEquals(true, success);
+        return new long[]{elapsed, cpu};
+    }
+
+    /**
+     * @return {경과 시간, CPU 시간 (나노초), 읽은 주문 수}
+     */
+    private long[] fetch(HttpDataConnector connector, Variant variant) throws Exception {
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        int count;
+        try (InputStream body = connector.fetchStream(baseUrl + "/payload/" + variant.name())) {
+            count = transformer.streamOrders(body, order -> {
+            });
+        }
+        return new long[]{System.nanoTime() - start, processCpuNanos() - cpuStart, count};
+    }
+
+    private byte[] encode(List<Order> orders, Variant variant) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        if (variant.gzip()) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(buffer, 16 * 1024)) {
+                transformer.writeOrders(orders, compressed, variant.format());
+            }
+        } else {
+            transformer.writeOrders(orders, buffer, variant.format());
+        }
+        return buffer.toByteArray();
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+            .getProcessCpuTime();
+    }
+}
@@ -1,24 +1,36 @@
 package com.orderSystem.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import com.orderSystem.domain.Order;
 import com.orderSystem.domain.OrderStatus;
 import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.repository.PushWatermarkStore;
 import com.orderSystem.service.OrderSyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
-class OrderControllerTestWithMockMvc {
+@SpringBootTest(properties = "order.sync.push.watermark-directory=target/push-watermarks-test")
+class OrderControllerTest {
 
     private MockMvc mockMvc;
 
@@ -28,6 +40,9 @@ class OrderControllerTestWithMockMvc {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private ObjectProvider<PushWatermarkStore> pushWatermarkStore;
+
     private Order testOrder;
 
     @BeforeEach
@@ -63,6 +78,90 @@ class OrderControllerTestWithMockMvc {
             .andExpect(jsonPath("$.data[0].customerName").value("홍길동"));
     }
 
+    @Test
+    void testGetOrdersByStatusAndCustomer() throws Exception {
+        orderRepository.save(testOrder);
+        orderRepository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.of(2024, 1, 16, 14, 30, 0),
+            OrderStatus.SHIPPING));
+
+        mockMvc.perform(get("/api/orders").param("status", "SHIPPING"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(1))
+            .andExpect(jsonPath("$.data[0].orderId").value("ORD-002"));
+
+        mockMvc.perform(get("/api/orders")
+                .param("customerName", "홍길동")
+                .param("from", "2024-01-15T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(1))
+            .andExpect(jsonPath("$.data[0].orderId").value("ORD-001"));
+    }
+
+    @Test
+    void testGetOrdersWithCursorPagination() throws Exception {
+        orderRepository.save(testOrder);
+        orderRepository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.of(2024, 1, 16, 14, 30, 0),
+            OrderStatus.SHIPPING));
+
+        String body = mockMvc.perform(get("/api/orders").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items.length()").value(1))
+            .andExpect(jsonPath("$.data.items[0].orderId").value("ORD-001"))
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(body, "$.data.nextCursor");
+
+        mockMvc.perform(get("/api/orders").param("limit", "1").param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items[0].orderId").value("ORD-002"))
+            .andExpect(jsonPath("$.data.hasNext").value(false));
+
+        mockMvc.perform(get("/api/orders").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExportOrdersAsNdjson() throws Exception {
+        orderRepository.save(testOrder);
+        orderRepository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.of(2024, 1, 16, 14, 30, 0),
+            OrderStatus.SHIPPING));
+
+        MvcResult result = mockMvc.perform(get("/api/orders/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(2, body.lines().count());
+        assertTrue(body.contains("\"orderId\":\"ORD-002\""));
+    }
+
+    @Test
+    void testBulkIngestNdjson() throws Exception {
+        String ndjson = "{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\",\"status\":\"PROCESSING\"}\n" +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"김영희\",\"status\":\"SHIPPING\"}\n";
+
+        mockMvc.perform(post("/api/orders/bulk")
+                .contentType("application/x-ndjson")
+                .content(ndjson.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data").value(2));
+        assertEquals(2, orderRepository.count());
+
+        mockMvc.perform(post("/api/orders/bulk")
+                .contentType("application/x-ndjson")
+                .content("{\"orderId\":"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void testGetOrderById() throws Exception {
         orderRepository.save(testOrder);
@@ -81,6 +180,132 @@ class OrderControllerTestWithMockMvc {
             .andExpect(jsonPath("$.success").value(false));
     }
 
+    @Test
+    void testUpdateOrderStatus() throws Exception {
+        orderRepository.save(testOrder);
+
+        mockMvc.perform(patch("/api/orders/ORD-001/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"SHIPPING\",\"expectedVersion\":1}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.status").value("SHIPPING"))
+            .andExpect(jsonPath("$.data.version").value(2));
+
+        mockMvc.perform(patch("/api/orders/ORD-001/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"COMPLETED\",\"expectedVersion\":1}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.success").value(false));
+
+        mockMvc.perform(patch("/api/orders/ORD-001/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"PROCESSING\"}"))
+            .andExpect(status().isUnprocessableEntity());
+
+        mockMvc.perform(patch("/api/orders/NON-EXISTENT/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"SHIPPING\"}"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateOrderStatusAll() throws Exception {
+        orderRepository.save(testOrder);
+        orderRepository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.of(2024, 1, 16, 14, 30, 0),
+            OrderStatus.COMPLETED));
+
+        mockMvc.perform(patch("/api/orders/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderIds\":[\"ORD-001\",\"ORD-002\",\"ORD-003\"],\"status\":\"SHIPPING\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.updatedCount").value(1))
+            .andExpect(jsonPath("$.data.failedCount").value(2))
+            .andExpect(jsonPath("$.data.failures['ORD-002']").exists())
+            .andExpect(jsonPath("$.data.failures['ORD-003']").exists());
+
+        assertEquals(OrderStatus.SHIPPING, orderRepository.findById("ORD-001").getStatus());
+    }
+
+    @Test
+    void testGetChanges() throws Exception {
+        long from = orderRepository.getChangeFeed().lastSequence() + 1;
+        orderRepository.save(testOrder);
+        orderRepository.delete("ORD-001");
+
+        mockMvc.perform(get("/api/orders/changes").param("from", String.valueOf(from)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.events.length()").value(2))
+            .andExpect(jsonPath("$.data.events[0].type").value("SAVE"))
+            .andExpect(jsonPath("$.data.events[0].order.orderId").value("ORD-001"))
+            .andExpect(jsonPath("$.data.events[1].type").value("DELETE"))
+            .andExpect(jsonPath("$.data.nextSequence").value(from + 2))
+            .andExpect(jsonPath("$.data.overrun").value(false));
+
+        mockMvc.perform(get("/api/orders/changes").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSendToExternalRejectsUnknownMode() throws Exception {
+        mockMvc.perform(post("/api/orders/sync-to")
+                .param("externalUrl", "http://localhost/receive")
+                .param("mode", "partial"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testSyncToReturnsAcceptedJob() throws Exception {
+        MvcResult accepted = mockMvc.perform(post("/api/orders/sync-to")
+                .param("externalUrl", "http://localhost:1/receive"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.data.type").value("PUSH"))
+            .andExpect(jsonPath("$.data.mode").value("FULL"))
+            .andReturn();
+        String id = JsonPath.read(accepted.getResponse().getContentAsString(StandardCharsets.UTF_8), "$.data.id");
+        assertEquals("/api/orders/sync-jobs/" + id, accepted.getResponse().getHeader("Location"));
+
+        mockMvc.perform(get("/api/orders/sync-jobs/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.id").value(id))
+            .andExpect(jsonPath("$.data.ordersStored").value(0));
+    }
+
+    @Test
+    void testUnknownSyncJobIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/orders/sync-jobs/unknown"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/orders/sync-jobs/unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSyncFromManyRequiresEitherUrlsOrGroup() throws Exception {
+        for (String body : new String[]{"{}",
+            "{\"urls\":[\"http://localhost/orders\"],\"group\":\"partners\"}",
+            "{\"group\":\"unknown\"}"}) {
+            MvcResult pending = mockMvc.perform(post("/api/orders/sync-from-many")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+
+    @Test
+    void testPushWatermarksAreNotWrittenWithoutPersistence() {
+        assertNull(pushWatermarkStore.getIfAvailable());
+        assertFalse(Files.exists(Path.of("target/push-watermarks-test")));
+    }
+
     @Test
     void testGetOrderCount() throws Exception {
         orderRepository.save(testOrder);
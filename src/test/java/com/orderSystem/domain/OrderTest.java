@@ -28,6 +28,39 @@ class OrderTest {
         assertEquals(OrderStatus.PROCESSING, order.getStatus());
     }
 
+    @Test
+    void testStatusTransitions() {
+        assertTrue(OrderStatus.PROCESSING.canTransitionTo(OrderStatus.SHIPPING));
+        assertTrue(OrderStatus.SHIPPING.canTransitionTo(OrderStatus.COMPLETED));
+        assertFalse(OrderStatus.PROCESSING.canTransitionTo(OrderStatus.COMPLETED));
+        assertFalse(OrderStatus.SHIPPING.canTransitionTo(OrderStatus.PROCESSING));
+        assertFalse(OrderStatus.COMPLETED.canTransitionTo(OrderStatus.COMPLETED));
+        assertFalse(OrderStatus.COMPLETED.canTransitionTo(null));
+    }
+
+    @Test
+    void testWithStatusCopiesOrder() {
+        Order shipped = order.withVersion(3).withStatus(OrderStatus.SHIPPING);
+
+        assertEquals(OrderStatus.SHIPPING, shipped.getStatus());
+        assertEquals(3, shipped.getVersion());
+        assertEquals(OrderStatus.PROCESSING, order.getStatus());
+        assertEquals(0, order.getVersion());
+    }
+
+    @Test
+    void testContentFingerprintIgnoresVersion() {
+        Order same = new Order("ORD-001", "홍길동", testDate, OrderStatus.PROCESSING).withVersion(5);
+        assertEquals(order.contentFingerprint(), same.contentFingerprint());
+        assertNotEquals(order.contentFingerprint(), order.withStatus(OrderStatus.SHIPPING).contentFingerprint());
+        assertNotEquals(order.contentFingerprint(),
+            new Order("ORD-001", "홍길", testDate, OrderStatus.PROCESSING).contentFingerprint());
+
+        long before = same.contentFingerprint();
+        same.setOrderDate(testDate.plusNanos(1));
+        assertNotEquals(before, same.contentFingerprint());
+    }
+
     @Test
     void testJsonSerialization() throws JsonProcessingException {
         String json = order.toJson();
@@ -0,0 +1,180 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.util.StringDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapOrderStoreTest {
+
+    private OffHeapOrderStore store;
+    private StringDictionary customerNames;
+
+    @BeforeEach
+    void setUp() {
+        customerNames = new StringDictionary();
+        store = new OffHeapOrderStore(4, 64 * 1024, customerNames);
+    }
+
+    @Test
+    void testPutAndGetRoundTrip() {
+        LocalDateTime orderDate = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        store.compute("ORD-001",
+            (id, previous) -> new Order(id, "홍길동", orderDate, OrderStatus.SHIPPING).withVersion(7));
+        store.compute("ORD-002", (id, previous) -> new Order(id, null, null, null));
+
+        Order order = store.get("ORD-001");
+        assertEquals("ORD-001", order.getOrderId());
+        assertEquals(7, order.getVersion());
+        assertEquals("홍길동", order.getCustomerName());
+        assertEquals(orderDate, order.getOrderDate());
+        assertEquals(OrderStatus.SHIPPING, order.getStatus());
+
+        Order empty = store.get("ORD-002");
+        assertNull(empty.getCustomerName());
+        assertNull(empty.getOrderDate());
+        assertNull(empty.getStatus());
+        assertNull(store.get("ORD-003"));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testComputeSeesPreviousAndRemovesOnNull() {
+        store.compute("ORD-001", (id, previous) -> new Order(id, "홍길동", null, OrderStatus.PROCESSING));
+        store.compute("ORD-001", (id, previous) -> {
+            assertEquals(OrderStatus.PROCESSING, previous.getStatus());
+            return new Order(id, previous.getCustomerName(), null, OrderStatus.COMPLETED);
+        });
+        assertEquals(OrderStatus.COMPLETED, store.get("ORD-001").getStatus());
+        assertEquals(1, store.size());
+
+        assertNull(store.compute("ORD-001", (id, previous) -> null));
+        assertNull(store.get("ORD-001"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testFailedComputeLeavesStoreUnchanged() {
+        store.compute("ORD-001", (id, previous) -> new Order(id, "홍길동", null, OrderStatus.PROCESSING));
+
+        assertThrows(IllegalStateException.class, () -> store.compute("ORD-001", (id, previous) -> {
+            throw new IllegalStateException("실패");
+        }));
+        assertEquals(OrderStatus.PROCESSING, store.get("ORD-001").getStatus());
+    }
+
+    @Test
+    void testGrowsAndCompactsUnderChurn() {
+        int orderCount = 20_000;
+        for (int round = 0; round < 5; round++) {
+            OrderStatus status = OrderStatus.values()[round % OrderStatus.values().length];
+            for (int i = 0; i < orderCount; i++) {
+                store.compute(String.format("ORD-%08d", i),
+                    (id, previous) -> new Order(id, "고객" + (id.hashCode() % 10), null, status));
+            }
+        }
+        for (int i = 0; i < orderCount; i += 2) {
+            store.compute(String.format("ORD-%08d", i), (id, previous) -> null);
+        }
+
+        assertEquals(orderCount / 2, store.size());
+        assertNull(store.get("ORD-00000000"));
+        assertEquals(OrderStatus.values()[4 % OrderStatus.values().length], store.get("ORD-00000001").getStatus());
+        // 5번 덮어쓴 레코드가 압축되어 살아 있는 레코드 크기의 몇 배를 넘지 않아야 합니다.
+        assertTrue(store.offHeapBytes() < orderCount / 2 * 40L * 4, "off-heap: " + store.offHeapBytes());
+        assertTrue(customerNames.size() <= 19);
+    }
+
+    @Test
+    void testIteratorReturnsEachOrderOnce() {
+        for (int i = 0; i < 1_000; i++) {
+            store.compute("ORD-" + i, (id, previous) -> new Order(id, "홍길동", null, OrderStatus.PROCESSING));
+        }
+        Set<String> seen = new HashSet<>();
+        store.iterator().forEachRemaining(order -> assertTrue(seen.add(order.getOrderId())));
+        assertEquals(1_000, seen.size());
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertFalse(store.iterator().hasNext());
+    }
+
+    @Test
+    void testIteratorResumesAfterRehashBetweenBatches() {
+        for (int i = 0; i < 1_000; i++) {
+            store.compute("ORD-" + i, (id, previous) -> new Order(id, "홍길동", null, OrderStatus.PROCESSING));
+        }
+        Iterator<Order> iterator = store.iterator();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(seen.add(iterator.next().getOrderId()));
+        }
+
+        // 순회 도중 테이블이 몇 배로 커지고 레코드가 압축되어도 이어서 읽어야 합니다.
+        for (int i = 0; i < 20_000; i++) {
+            store.compute("NEW-" + i, (id, previous) -> new Order(id, "김영희", null, OrderStatus.SHIPPING));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            store.compute("NEW-" + i, (id, previous) -> null);
+        }
+        iterator.forEachRemaining(order -> assertTrue(seen.add(order.getOrderId()), order.getOrderId()));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(seen.contains("ORD-" + i), "ORD-" + i);
+        }
+    }
+
+    @Test
+    void testCustomerNamesBeyondDictionaryLimitAreStoredInRecord() {
+        StringDictionary bounded = new StringDictionary(2);
+        OffHeapOrderStore boundedStore = new OffHeapOrderStore(1, 64 * 1024, bounded);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5_000; i++) {
+                boundedStore.compute("ORD-" + i,
+                    (id, previous) -> new Order(id, "고객-" + id, null, OrderStatus.PROCESSING));
+            }
+        }
+
+        assertEquals(2, bounded.size());
+        assertEquals(5_000, boundedStore.size());
+        assertEquals("고객-ORD-4999", boundedStore.get("ORD-4999").getCustomerName());
+        boundedStore.iterator().forEachRemaining(
+            order -> assertEquals("고객-" + order.getOrderId(), order.getCustomerName()));
+    }
+
+    @Test
+    void testRepositoryWithoutSecondaryIndexes() {
+        OrderRepository repository = new OrderRepository(store, false, new OrderChangeFeed(), null, null);
+        LocalDateTime baseDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 50; i++) {
+            repository.save(new Order(String.format("ORD-%03d", i), i % 2 == 0 ? "홍길동" : "김영희",
+                baseDate.plusDays(50 - i), i % 5 == 0 ? OrderStatus.COMPLETED : OrderStatus.PROCESSING));
+        }
+
+        List<Order> firstPage = repository.findPage(null, 10);
+        assertEquals("ORD-000", firstPage.get(0).getOrderId());
+        assertEquals("ORD-009", firstPage.get(9).getOrderId());
+        List<Order> lastPage = repository.findPage("ORD-045", 10);
+        assertEquals(4, lastPage.size());
+        assertEquals("ORD-046", lastPage.get(0).getOrderId());
+
+        assertEquals(10, repository.findByStatus(OrderStatus.COMPLETED).size());
+        assertEquals(25, repository.findByCustomerName("홍길동").size());
+        assertEquals(5, repository.search(OrderStatus.COMPLETED, "홍길동", null, null).size());
+
+        List<Order> byDate = repository.findByOrderDateBetween(baseDate.plusDays(1), baseDate.plusDays(3));
+        assertEquals(List.of("ORD-049", "ORD-048", "ORD-047"), byDate.stream().map(Order::getOrderId).toList());
+
+        assertTrue(repository.delete("ORD-000"));
+        assertEquals("ORD-001", repository.findPage(null, 1).get(0).getOrderId());
+    }
+}
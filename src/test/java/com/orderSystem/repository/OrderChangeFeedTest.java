@@ -0,0 +1,154 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderChangeEvent;
+import com.orderSystem.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderChangeFeedTest {
+
+    @Test
+    void testReadFromSequence() {
+        OrderChangeFeed feed = new OrderChangeFeed(8);
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, feed.publish(OrderChangeEvent.Type.DELETE, "ORD-" + i, null));
+        }
+
+        OrderChangeFeed.Batch batch = feed.read(2, 3);
+        assertFalse(batch.overrun());
+        assertEquals(List.of("ORD-2", "ORD-3", "ORD-4"),
+            batch.events().stream().map(OrderChangeEvent::orderId).toList());
+        assertEquals(5, batch.nextSequence());
+        assertEquals(5, batch.lastSequence());
+
+        OrderChangeFeed.Batch tail = feed.read(batch.nextSequence(), 10);
+        assertEquals(1, tail.events().size());
+        assertEquals(6, tail.nextSequence());
+        assertTrue(feed.read(6, 10).events().isEmpty());
+    }
+
+    @Test
+    void testOverrunIsReported() {
+        OrderChangeFeed feed = new OrderChangeFeed(4);
+        for (int i = 1; i <= 10; i++) {
+            feed.publish(OrderChangeEvent.Type.DELETE, "ORD-" + i, null);
+        }
+
+        OrderChangeFeed.Batch batch = feed.read(3, 10);
+        assertTrue(batch.overrun());
+        assertTrue(batch.events().isEmpty());
+        assertEquals(7, batch.nextSequence());
+
+        OrderChangeFeed.Batch resumed = feed.read(batch.nextSequence(), 10);
+        assertFalse(resumed.overrun());
+        assertEquals(4, resumed.events().size());
+        assertEquals(7, resumed.events().get(0).sequence());
+    }
+
+    @Test
+    void testResumedFeedContinuesSequenceAndReportsEarlierOnesAsOverrun() {
+        OrderChangeFeed feed = new OrderChangeFeed(4);
+        feed.resumeAfter(100);
+        assertEquals(101, feed.firstSequence());
+        assertEquals(100, feed.lastSequence());
+        assertTrue(feed.read(101, 10).events().isEmpty());
+        assertFalse(feed.read(101, 10).overrun());
+
+        assertEquals(101, feed.publish(OrderChangeEvent.Type.DELETE, "ORD-1", null));
+        OrderChangeFeed.Batch stale = feed.read(50, 10);
+        assertTrue(stale.overrun());
+        assertEquals(101, stale.nextSequence());
+        assertEquals(1, feed.read(stale.nextSequence(), 10).events().size());
+        assertThrows(IllegalStateException.class, () -> feed.resumeAfter(200));
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderChangeFeed(100));
+        OrderChangeFeed feed = new OrderChangeFeed(4);
+        assertThrows(IllegalArgumentException.class, () -> feed.read(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> feed.read(1, 0));
+    }
+
+    @Test
+    void testRepositoryPublishesChanges() throws Exception {
+        OrderChangeFeed feed = new OrderChangeFeed(64);
+        OrderRepository repository = new OrderRepository(new HeapOrderStore(), true, feed, null, null);
+        Order order = new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING);
+
+        repository.save(order);
+        repository.updateStatus("ORD-001", OrderStatus.SHIPPING, 1);
+        // 실패한 조건부 갱신과 없는 주문 삭제는 게시되지 않습니다.
+        assertThrows(Exception.class, () -> repository.updateStatus("ORD-001", OrderStatus.SHIPPING, 1));
+        repository.delete("NON-EXISTENT");
+        repository.delete("ORD-001");
+        repository.clear();
+
+        List<OrderChangeEvent> events = feed.read(1, 10).events();
+        assertEquals(List.of(OrderChangeEvent.Type.SAVE, OrderChangeEvent.Type.SAVE,
+                OrderChangeEvent.Type.DELETE, OrderChangeEvent.Type.CLEAR),
+            events.stream().map(OrderChangeEvent::type).toList());
+        assertEquals(OrderStatus.SHIPPING, events.get(1).order().getStatus());
+        assertEquals(2, events.get(1).order().getVersion());
+        assertNull(events.get(3).orderId());
+    }
+
+    @Test
+    void testConcurrentPublishersAndConsumers() throws Exception {
+        int producerCount = 4;
+        int eventsPerProducer = 20_000;
+        long total = (long) producerCount * eventsPerProducer;
+        OrderChangeFeed feed = new OrderChangeFeed(1 << 17);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> consumers = new ArrayList<>();
+        for (int c = 0; c < 2; c++) {
+            consumers.add(executor.submit(() -> {
+                start.await();
+                long next = 1;
+                while (next <= total) {
+                    OrderChangeFeed.Batch batch = feed.read(next, 512);
+                    assertFalse(batch.overrun());
+                    for (OrderChangeEvent event : batch.events()) {
+                        assertEquals(next++, event.sequence());
+                    }
+                    Thread.onSpinWait();
+                }
+                return next - 1;
+            }));
+        }
+        List<Future<?>> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            String orderId = "ORD-" + p;
+            producers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    feed.publish(OrderChangeEvent.Type.DELETE, orderId, null);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> producer : producers) {
+            producer.get(10, TimeUnit.SECONDS);
+        }
+        for (Future<Long> consumer : consumers) {
+            assertEquals(total, consumer.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(total, feed.lastSequence());
+    }
+}
@@ -0,0 +1,58 @@
+package com.orderSystem.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIdCodecTest {
+
+    private final OrderIdCodec codec = new OrderIdCodec();
+
+    @Test
+    void testPrefixedNumberRoundTrip() {
+        for (String orderId : new String[]{"ORD-00000123", "ORD-0", "ORD-000", "12345",
+            "주문-42", "ORD-999999999999999999"}) {
+            byte[] key = codec.encode(orderId);
+            assertEquals(orderId, codec.decode(ByteBuffer.wrap(key), 0, key.length));
+        }
+    }
+
+    @Test
+    void testPrefixedNumberIsCompact() {
+        String orderId = "ORD-00012345";
+        byte[] key = codec.encode(orderId);
+
+        assertTrue(key.length < orderId.getBytes(StandardCharsets.UTF_8).length / 2, "key: " + key.length);
+    }
+
+    @Test
+    void testOtherFormatsFallBackToUtf8() {
+        for (String orderId : new String[]{"ORD-A", "", "ORD-1234567890123456789", "A-1-B"}) {
+            byte[] key = codec.encode(orderId);
+            assertEquals(orderId, codec.decode(ByteBuffer.wrap(key), 0, key.length));
+        }
+    }
+
+    @Test
+    void testDistinctIdsHaveDistinctKeys() {
+        assertFalse(ByteBuffer.wrap(codec.encode("ORD-01")).equals(ByteBuffer.wrap(codec.encode("ORD-1"))));
+        assertFalse(ByteBuffer.wrap(codec.encode("A1")).equals(ByteBuffer.wrap(codec.encode("B1"))));
+    }
+
+    @Test
+    void testLookupDoesNotRegisterPrefixes() {
+        // 없는 ID 조회가 접두사 사전을 채우면 이후 실제 접두사가 UTF-8 형식으로 밀려납니다.
+        for (int i = 0; i < 10_000; i++) {
+            byte[] key = codec.encodeForLookup("JUNK" + i + "-1");
+            assertEquals(0, key[0]);
+        }
+
+        String orderId = "ORD-00012345";
+        byte[] stored = codec.encode(orderId);
+        assertTrue(stored.length < orderId.getBytes(StandardCharsets.UTF_8).length / 2, "key: " + stored.length);
+        assertArrayEquals(stored, codec.encodeForLookup(orderId));
+    }
+}
@@ -2,12 +2,21 @@ package com.orderSystem.repository;
 
 import com.orderSystem.domain.Order;
 import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.exception.IllegalStatusTransitionException;
 import com.orderSystem.exception.OrderNotFoundException;
+import com.orderSystem.exception.OrderVersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,4 +98,258 @@ class OrderRepositoryTest {
             repository.save(orderWithNullId);
         });
     }
+
+    @Test
+    void testFindByStatusAfterOverwrite() {
+        repository.save(testOrder);
+        repository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.now(), OrderStatus.SHIPPING));
+
+        // 같은 ID로 다른 상태의 주문을 덮어쓰면 이전 상태 인덱스에서 빠져야 함
+        repository.save(new Order("ORD-001", "홍길동",
+            testOrder.getOrderDate(), OrderStatus.SHIPPING));
+
+        assertTrue(repository.findByStatus(OrderStatus.PROCESSING).isEmpty());
+        assertEquals(2, repository.findByStatus(OrderStatus.SHIPPING).size());
+    }
+
+    @Test
+    void testFindByCustomerName() {
+        repository.save(testOrder);
+        repository.save(new Order("ORD-002", "김영희",
+            LocalDateTime.now(), OrderStatus.SHIPPING));
+        repository.save(new Order("ORD-003", "홍길동",
+            LocalDateTime.now(), OrderStatus.COMPLETED));
+
+        List<Order> orders = repository.findByCustomerName("홍길동");
+        assertEquals(2, orders.size());
+        assertTrue(repository.findByCustomerName("없는고객").isEmpty());
+
+        repository.delete("ORD-003");
+        assertEquals(1, repository.findByCustomerName("홍길동").size());
+    }
+
+    @Test
+    void testFindByOrderDateBetween() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 0, 0, 0);
+        repository.save(new Order("ORD-001", "홍길동", base.plusDays(2), OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", base, OrderStatus.SHIPPING));
+        repository.save(new Order("ORD-003", "이순신", base.plusDays(5), OrderStatus.COMPLETED));
+
+        List<Order> orders = repository.findByOrderDateBetween(base, base.plusDays(2));
+        assertEquals(2, orders.size());
+        assertEquals("ORD-002", orders.get(0).getOrderId());
+        assertEquals("ORD-001", orders.get(1).getOrderId());
+
+        assertEquals(3, repository.findByOrderDateBetween(null, null).size());
+        assertEquals(1, repository.findByOrderDateBetween(base.plusDays(3), null).size());
+    }
+
+    @Test
+    void testSearchCombinesConditions() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 0, 0, 0);
+        repository.save(new Order("ORD-001", "홍길동", base, OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "홍길동", base.plusDays(1), OrderStatus.SHIPPING));
+        repository.save(new Order("ORD-003", "김영희", base.plusDays(1), OrderStatus.SHIPPING));
+
+        List<Order> orders = repository.search(OrderStatus.SHIPPING, "홍길동", null, null);
+        assertEquals(1, orders.size());
+        assertEquals("ORD-002", orders.get(0).getOrderId());
+
+        assertEquals(2, repository.search(null, null, base.plusDays(1), null).size());
+        assertEquals(3, repository.search(null, null, null, null).size());
+    }
+
+    @Test
+    void testClearResetsIndexes() {
+        repository.save(testOrder);
+        repository.clear();
+
+        assertTrue(repository.findByStatus(OrderStatus.PROCESSING).isEmpty());
+        assertTrue(repository.findByCustomerName("홍길동").isEmpty());
+        assertTrue(repository.findByOrderDateBetween(null, null).isEmpty());
+    }
+
+    @Test
+    void testFindPageByKeyset() {
+        for (int i = 5; i >= 1; i--) {
+            repository.save(new Order("ORD-00" + i, "홍길동",
+                LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+
+        List<Order> first = repository.findPage(null, 2);
+        assertEquals(List.of("ORD-001", "ORD-002"), first.stream().map(Order::getOrderId).toList());
+
+        // 페이지 사이에 이미 지나간 키를 삭제하거나 앞쪽 키를 추가해도 다음 페이지는 흔들리지 않아야 함
+        repository.delete("ORD-001");
+        repository.save(new Order("ORD-000", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+
+        List<Order> second = repository.findPage("ORD-002", 2);
+        assertEquals(List.of("ORD-003", "ORD-004"), second.stream().map(Order::getOrderId).toList());
+
+        List<Order> last = repository.findPage("ORD-004", 2);
+        assertEquals(List.of("ORD-005"), last.stream().map(Order::getOrderId).toList());
+    }
+
+    @Test
+    void testSearchPageWithCondition() {
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.SHIPPING));
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-003", "홍길동", LocalDateTime.now(), OrderStatus.SHIPPING));
+
+        List<Order> page = repository.searchPage(OrderStatus.SHIPPING, null, null, null, "ORD-001", 10);
+        assertEquals(1, page.size());
+        assertEquals("ORD-003", page.get(0).getOrderId());
+    }
+
+    @Test
+    void testDeepSearchPageReadsOnlyAboutOnePage() {
+        AtomicInteger reads = new AtomicInteger();
+        OrderRepository counted = new OrderRepository(new HeapOrderStore() {
+            @Override
+            public Order get(String orderId) {
+                reads.incrementAndGet();
+                return super.get(orderId);
+            }
+        }, true, new OrderChangeFeed(), null, null);
+        for (int i = 0; i < 2000; i++) {
+            counted.save(new Order(String.format("ORD-%04d", i), i % 2 == 0 ? "홍길동" : "김영희",
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i), OrderStatus.SHIPPING));
+        }
+
+        reads.set(0);
+        List<Order> page = counted.searchPage(OrderStatus.SHIPPING, "홍길동", null, null, "ORD-1900", 10);
+
+        assertEquals(List.of("ORD-1902", "ORD-1904", "ORD-1906", "ORD-1908", "ORD-1910",
+            "ORD-1912", "ORD-1914", "ORD-1916", "ORD-1918", "ORD-1920"),
+            page.stream().map(Order::getOrderId).toList());
+        assertEquals(10, reads.get());
+    }
+
+    @Test
+    void testSaveAllAndDeleteAll() {
+        repository.save(testOrder);
+        repository.saveAll(List.of(
+            new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.COMPLETED),
+            new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING),
+            new Order("ORD-003", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING)));
+
+        assertEquals(3, repository.count());
+        assertTrue(repository.findByStatus(OrderStatus.PROCESSING).isEmpty());
+        assertEquals(2, repository.findByCustomerName("김영희").size());
+
+        assertEquals(2, repository.deleteAll(List.of("ORD-001", "ORD-003", "NON-EXISTENT")));
+        assertEquals(List.of("ORD-002"), repository.findPage(null, 10).stream().map(Order::getOrderId).toList());
+    }
+
+    @Test
+    void testSaveAllRejectsInvalidBatchBeforeWriting() {
+        List<Order> batch = new ArrayList<>();
+        batch.add(testOrder);
+        batch.add(new Order(null, "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(batch));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testSaveAllIfChangedSkipsIdenticalContent() throws OrderNotFoundException {
+        LocalDateTime orderDate = LocalDateTime.of(2024, 1, 15, 10, 30);
+        repository.save(new Order("ORD-001", "홍길동", orderDate, OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", orderDate, OrderStatus.PROCESSING));
+        long sequence = repository.getChangeFeed().lastSequence();
+
+        OrderRepository.SaveCounts counts = repository.saveAllIfChanged(List.of(
+            new Order("ORD-001", "홍길동", orderDate, OrderStatus.PROCESSING).withVersion(7),
+            new Order("ORD-002", "김영희", orderDate, OrderStatus.SHIPPING),
+            new Order("ORD-003", "이철수", orderDate, OrderStatus.PROCESSING)));
+
+        assertEquals(new OrderRepository.SaveCounts(1, 1, 1), counts);
+        assertEquals(1, repository.findById("ORD-001").getVersion());
+        assertEquals(2, repository.findById("ORD-002").getVersion());
+        assertEquals(1, repository.findByStatus(OrderStatus.SHIPPING).size());
+        assertEquals(sequence + 2, repository.getChangeFeed().lastSequence());
+    }
+
+    @Test
+    void testSaveIncrementsVersion() throws OrderNotFoundException {
+        repository.save(testOrder);
+        assertEquals(1, repository.findById("ORD-001").getVersion());
+        assertEquals(0, testOrder.getVersion());
+
+        repository.save(testOrder.withVersion(42));
+        assertEquals(2, repository.findById("ORD-001").getVersion());
+    }
+
+    @Test
+    void testSaveIfVersion() throws Exception {
+        Order created = repository.saveIfVersion(testOrder, 0);
+        assertEquals(1, created.getVersion());
+        assertThrows(OrderVersionConflictException.class, () -> repository.saveIfVersion(testOrder, 0));
+
+        Order changed = new Order("ORD-001", "김영희", LocalDateTime.now(), OrderStatus.PROCESSING);
+        assertEquals(2, repository.saveIfVersion(changed, 1).getVersion());
+        assertThrows(OrderVersionConflictException.class, () -> repository.saveIfVersion(testOrder, 1));
+        assertEquals("김영희", repository.findById("ORD-001").getCustomerName());
+    }
+
+    @Test
+    void testUpdateStatusEnforcesTransitions() throws Exception {
+        repository.save(testOrder);
+
+        Order shipping = repository.updateStatus("ORD-001", OrderStatus.SHIPPING, 1);
+        assertEquals(OrderStatus.SHIPPING, shipping.getStatus());
+        assertEquals(2, shipping.getVersion());
+        assertEquals(1, repository.findByStatus(OrderStatus.SHIPPING).size());
+        assertTrue(repository.findByStatus(OrderStatus.PROCESSING).isEmpty());
+
+        assertThrows(OrderVersionConflictException.class,
+            () -> repository.updateStatus("ORD-001", OrderStatus.COMPLETED, 1));
+        assertThrows(IllegalStatusTransitionException.class,
+            () -> repository.updateStatus("ORD-001", OrderStatus.PROCESSING, OrderRepository.ANY_VERSION));
+        assertThrows(OrderNotFoundException.class,
+            () -> repository.updateStatus("NON-EXISTENT", OrderStatus.SHIPPING, OrderRepository.ANY_VERSION));
+        assertEquals(2, repository.findById("ORD-001").getVersion());
+        assertFalse(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void testConcurrentStatusUpdatesOnlyOneWins() throws Exception {
+        int threadCount = 8;
+        int orderCount = 200;
+        for (int i = 0; i < orderCount; i++) {
+            repository.save(new Order("ORD-" + i, "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int wins = 0;
+                for (int i = 0; i < orderCount; i++) {
+                    try {
+                        repository.updateStatus("ORD-" + i, OrderStatus.SHIPPING, 1);
+                        wins++;
+                    } catch (OrderVersionConflictException | IllegalStatusTransitionException e) {
+                        // 다른 스레드가 먼저 전이시킨 주문입니다.
+                    }
+                }
+                return wins;
+            }));
+        }
+        start.countDown();
+
+        int totalWins = 0;
+        for (Future<Integer> result : results) {
+            totalWins += result.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(orderCount, totalWins);
+        assertEquals(orderCount, repository.findByStatus(OrderStatus.SHIPPING).size());
+        assertTrue(repository.findAll().stream().allMatch(order -> order.getVersion() == 2));
+    }
 }
@@ -0,0 +1,136 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.exception.OrderNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSnapshotCompactsLogAndRecovers() throws Exception {
+        // SYNC 모드에서는 저장마다 기록되므로 스냅샷 전에 여러 세그먼트가 생깁니다.
+        OrderWriteAheadLog log = openLog(OrderWriteAheadLog.Durability.SYNC);
+        OrderRepository repository = new OrderRepository(log, new OrderSnapshotStore(directory));
+        for (int i = 0; i < 200; i++) {
+            repository.save(newOrder(i, OrderStatus.PROCESSING));
+        }
+        long segmentsBefore = countFiles(".wal");
+        assertTrue(segmentsBefore > 1);
+
+        assertEquals(200, repository.takeSnapshot());
+        assertEquals(1, countFiles(".snap"));
+        assertTrue(countFiles(".wal") < segmentsBefore);
+
+        // 스냅샷 이후의 변경은 로그 꼬리로 복구되어야 함
+        repository.save(newOrder(0, OrderStatus.COMPLETED));
+        repository.delete(String.format("ORD-%04d", 1));
+        repository.save(newOrder(500, OrderStatus.SHIPPING));
+        log.close();
+
+        OrderRepository recovered = new OrderRepository(openLog(), new OrderSnapshotStore(directory));
+        assertEquals(200, recovered.count());
+        assertEquals(OrderStatus.COMPLETED, recovered.findById("ORD-0000").getStatus());
+        assertThrows(OrderNotFoundException.class, () -> recovered.findById("ORD-0001"));
+        assertEquals(OrderStatus.SHIPPING, recovered.findById("ORD-0500").getStatus());
+    }
+
+    @Test
+    void testSnapshotDuringConcurrentWrites() throws Exception {
+        OrderWriteAheadLog log = openLog();
+        OrderRepository repository = new OrderRepository(log, new OrderSnapshotStore(directory));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        int id = (i * 4 + offset) % 3000;
+                        if (i % 7 == 0) {
+                            repository.delete(String.format("ORD-%04d", id));
+                        } else {
+                            repository.save(newOrder(id, OrderStatus.values()[i % 3]));
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 5; i++) {
+                repository.takeSnapshot();
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        List<Order> expected = repository.findAll();
+        log.close();
+
+        OrderRepository recovered = new OrderRepository(openLog(), new OrderSnapshotStore(directory));
+        assertEquals(expected.size(), recovered.count());
+        for (Order order : expected) {
+            assertEquals(order.getStatus(), recovered.findById(order.getOrderId()).getStatus());
+        }
+    }
+
+    @Test
+    void testLoadsSnapshotLargerThanMapWindow() throws Exception {
+        // 매핑 구간을 작게 두어 2GB를 넘는 스냅샷처럼 여러 구간에 걸쳐 읽게 합니다.
+        OrderSnapshotStore store = new OrderSnapshotStore(directory, 256);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            orders.add(newOrder(i, OrderStatus.values()[i % 3]));
+        }
+        assertEquals(500, store.write(42L, orders.iterator()));
+
+        List<Order> loaded = new ArrayList<>();
+        OrderSnapshotStore.LoadResult result = new OrderSnapshotStore(directory, 256).loadLatest(loaded::add);
+
+        assertEquals(42L, result.snapshotLsn());
+        assertEquals(500, result.orderCount());
+        for (int i = 0; i < orders.size(); i++) {
+            assertEquals(orders.get(i).getOrderId(), loaded.get(i).getOrderId());
+            assertEquals(orders.get(i).getStatus(), loaded.get(i).getStatus());
+        }
+        assertThrows(IOException.class, () -> new OrderSnapshotStore(directory, 8).loadLatest(order -> {
+        }));
+    }
+
+    private OrderWriteAheadLog openLog() throws IOException {
+        return openLog(OrderWriteAheadLog.Durability.ASYNC);
+    }
+
+    private OrderWriteAheadLog openLog(OrderWriteAheadLog.Durability durability) throws IOException {
+        return new OrderWriteAheadLog(directory, 1024, 64 * 1024, Duration.ofMillis(2), durability);
+    }
+
+    private Order newOrder(int id, OrderStatus status) {
+        return new Order(String.format("ORD-%04d", id), "홍길동",
+            LocalDateTime.of(2024, 1, 15, 10, 30, 0), status);
+    }
+
+    private long countFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(suffix)).count();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.util.OrderTestDataGenerator;
+import com.orderSystem.util.StringDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 저장 엔진별 주문당 힙 사용량과 전체 GC 시간을 비교하는 벤치마크입니다.
+ * 기본 테스트 실행에는 포함되지 않으며 다음과 같이 실행합니다.
+ *
+ * <pre>
+ * mvn test -Dtest=OrderStoreMemoryBenchmark -Dbenchmark.orders=20000000 -DargLine="-Xmx16g -XX:+UseParallelGC"
+ * </pre>
+ */
+class OrderStoreMemoryBenchmark {
+
+    private static final int REPEATED_NAMES = 10_000;
+    private static final int DICTIONARY_SIZE = 100_000;
+
+    @Test
+    void benchmarkHeapPerOrder() {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000_000);
+
+        measure("HEAP + 보조 인덱스", orderCount, REPEATED_NAMES,
+            repository(new HeapOrderStore(), true), UnaryOperator.identity()).clear();
+        measure("HEAP", orderCount, REPEATED_NAMES,
+            repository(new HeapOrderStore(), false), UnaryOperator.identity()).clear();
+
+        StringDictionary customerNames = new StringDictionary(DICTIONARY_SIZE);
+        measure("HEAP + 고객명 사전", orderCount, REPEATED_NAMES,
+            repository(new HeapOrderStore(), false), customerNames::canonicalize).clear();
+        StringDictionary.Stats stats = customerNames.getStats();
+        System.out.printf("  사전 적중률 %.4f, 절감 추정 %,d bytes%n", stats.hitRatio(), stats.savedBytes());
+
+        OffHeapOrderStore offHeap = new OffHeapOrderStore(256, 4 * 1024 * 1024, customerNames);
+        measure("OFF_HEAP", orderCount, REPEATED_NAMES, repository(offHeap, false), customerNames::canonicalize);
+        System.out.printf("  힙 밖 사용량: %,d bytes/주문%n", offHeap.offHeapBytes() / orderCount);
+        measureIteration(offHeap);
+        offHeap.clear();
+
+        // 고객명이 모두 다르면 사전은 최대 크기에서 멈추고 나머지 이름은 레코드에 직접 저장됩니다.
+        StringDictionary uniqueNames = new StringDictionary(DICTIONARY_SIZE);
+        OffHeapOrderStore unique = new OffHeapOrderStore(256, 4 * 1024 * 1024, uniqueNames);
+        measure("OFF_HEAP + 고유 고객명", orderCount, orderCount, repository(unique, false), uniqueNames::canonicalize);
+        System.out.printf("  힙 밖 사용량: %,d bytes/주문, 사전 %,d개 (최대 %,d)%n",
+            unique.offHeapBytes() / orderCount, uniqueNames.size(), DICTIONARY_SIZE);
+    }
+
+    /**
+     * 전체 순회 중 늘어난 힙을 잽니다. 순회는 묶음 단위로 디코딩하므로 주문 수와 관계없이 작아야 합니다.
+     */
+    private static void measureIteration(OffHeapOrderStore store) {
+        long heapBefore = usedHeapAfterGc();
+        long peak = 0;
+        long count = 0;
+        long startTime = System.nanoTime();
+        Iterator<Order> iterator = store.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            if (++count % 1_000_000 == 0) {
+                peak = Math.max(peak, usedHeapAfterGc() - heapBefore);
+            }
+        }
+        System.out.printf("  전체 순회: 주문 %,d개, %,d ms, 순회 중 GC 후 힙 증가 최대 %,d bytes%n",
+            count, (System.nanoTime() - startTime) / 1_000_000, peak);
+    }
+
+    /**
+     * 변경 피드가 최근 주문을 붙잡아 측정값이 부풀지 않도록 용량 1짜리 피드를 씁니다.
+     */
+    private static OrderRepository repository(OrderStore store, boolean secondaryIndexes) {
+        return new OrderRepository(store, secondaryIndexes, new OrderChangeFeed(1), null, null);
+    }
+
+    private OrderRepository measure(String name, int orderCount, int distinctNames, OrderRepository repository,
+        UnaryOperator<String> customerNames) {
+        long heapBefore = usedHeapAfterGc();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < orderCount; i++) {
+            // 외부에서 읽어 온 주문처럼 고객명 문자열(내부 배열 포함)을 주문마다 새로 만듭니다.
+            repository.save(OrderTestDataGenerator.sequentialOrder(i,
+                customerNames.apply(new String(("고객-" + (i % distinctNames)).toCharArray()))));
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        long heapAfter = usedHeapAfterGc();
+
+        long gcStart = System.nanoTime();
+        System.gc();
+        long fullGcNanos = System.nanoTime() - gcStart;
+
+        assertEquals(orderCount, repository.count());
+        System.out.printf("%s: 주문 %,d개, 저장 %,d ms, 힙 %,d bytes/주문, 전체 GC %,d ms%n",
+            name, orderCount, elapsedNanos / 1_000_000, (heapAfter - heapBefore) / orderCount,
+            fullGcNanos / 1_000_000);
+        return repository;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
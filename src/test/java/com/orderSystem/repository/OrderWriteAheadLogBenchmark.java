@@ -0,0 +1,66 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.util.OrderTestDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주문 로그의 쓰기 처리량과 재시작(복구) 시간을 측정하는 벤치마크입니다.
+ * 기본 테스트 실행에는 포함되지 않으며 다음과 같이 실행합니다.
+ *
+ * <pre>
+ * mvn test -Dtest=OrderWriteAheadLogBenchmark -Dbenchmark.orders=10000000 -DargLine=-Xmx8g
+ * </pre>
+ */
+class OrderWriteAheadLogBenchmark {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void benchmarkWriteAndRecovery() throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000_000);
+
+        // JIT 워밍업
+        timeWrites(new OrderRepository(), Math.min(orderCount, 200_000));
+        long inMemoryNanos = timeWrites(new OrderRepository(), orderCount);
+
+        OrderWriteAheadLog log = openLog();
+        long loggedNanos = timeWrites(new OrderRepository(log), orderCount);
+        long closeStart = System.nanoTime();
+        log.close();
+        long closeNanos = System.nanoTime() - closeStart;
+
+        long recoveryStart = System.nanoTime();
+        OrderWriteAheadLog reopened = openLog();
+        OrderRepository recovered = new OrderRepository(reopened);
+        long recoveryNanos = System.nanoTime() - recoveryStart;
+        reopened.close();
+
+        assertEquals(orderCount, recovered.count());
+        System.out.printf("주문 %,d개%n", orderCount);
+        System.out.printf("  메모리 전용 저장: %,d ms (%,.0f건/초)%n",
+            inMemoryNanos / 1_000_000, orderCount / (inMemoryNanos / 1e9));
+        System.out.printf("  로그 포함 저장  : %,d ms (%,.0f건/초), 종료 flush %,d ms%n",
+            loggedNanos / 1_000_000, orderCount / (loggedNanos / 1e9), closeNanos / 1_000_000);
+        System.out.printf("  재시작 복구     : %,d ms%n", recoveryNanos / 1_000_000);
+    }
+
+    private OrderWriteAheadLog openLog() throws Exception {
+        return new OrderWriteAheadLog(directory, 256L * 1024 * 1024, 4 * 1024 * 1024,
+            Duration.ofMillis(10), OrderWriteAheadLog.Durability.ASYNC);
+    }
+
+    private long timeWrites(OrderRepository repository, int orderCount) {
+        long start = System.nanoTime();
+        for (int i = 0; i < orderCount; i++) {
+            repository.save(OrderTestDataGenerator.sequentialOrder(i));
+        }
+        return System.nanoTime() - start;
+    }
+}
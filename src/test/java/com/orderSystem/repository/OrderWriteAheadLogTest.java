@@ -0,0 +1,182 @@
+package com.orderSystem.repository;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.exception.OrderNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecoverAfterRestart() throws Exception {
+        LocalDateTime orderDate = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789);
+        OrderWriteAheadLog log = openLog(OrderWriteAheadLog.Durability.SYNC, 1024 * 1024);
+        OrderRepository repository = new OrderRepository(log);
+        repository.save(new Order("ORD-001", "홍길동", orderDate, OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", orderDate, OrderStatus.SHIPPING));
+        repository.save(new Order("ORD-001", "홍길동", orderDate, OrderStatus.COMPLETED));
+        repository.save(new Order("ORD-003", null, null, null));
+        repository.delete("ORD-002");
+        log.close();
+
+        OrderRepository recovered = new OrderRepository(openLog(OrderWriteAheadLog.Durability.SYNC, 1024 * 1024));
+
+        assertEquals(2, recovered.count());
+        Order order = recovered.findById("ORD-001");
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+        assertEquals(orderDate, order.getOrderDate());
+        assertEquals(2, order.getVersion());
+        assertNull(recovered.findById("ORD-003").getCustomerName());
+        assertThrows(OrderNotFoundException.class, () -> recovered.findById("ORD-002"));
+        assertEquals(1, recovered.findByStatus(OrderStatus.COMPLETED).size());
+    }
+
+    @Test
+    void testClearIsReplayedInOrder() throws Exception {
+        OrderWriteAheadLog log = openLog(OrderWriteAheadLog.Durability.ASYNC, 1024 * 1024);
+        OrderRepository repository = new OrderRepository(log);
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        repository.clear();
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+        log.close();
+
+        OrderRepository recovered = new OrderRepository(openLog(OrderWriteAheadLog.Durability.ASYNC, 1024 * 1024));
+
+        List<Order> orders = recovered.findAll();
+        assertEquals(1, orders.size());
+        assertEquals("ORD-002", orders.get(0).getOrderId());
+    }
+
+    @Test
+    void testSegmentRotation() throws Exception {
+        OrderWriteAheadLog log = openLog(OrderWriteAheadLog.Durability.SYNC, 256);
+        OrderRepository repository = new OrderRepository(log);
+        for (int i = 0; i < 50; i++) {
+            repository.save(new Order(String.format("ORD-%03d", i), "홍길동",
+                LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+        log.close();
+
+        assertTrue(countSegments() > 1);
+        OrderRepository recovered = new OrderRepository(openLog(OrderWriteAheadLog.Durability.SYNC, 256));
+        assertEquals(50, recovered.count());
+    }
+
+    @Test
+    void testBatchCrossingSegmentLimitStartsNewSegment() throws Exception {
+        // flush 간격을 길게 두어 버퍼가 가득 찰 때마다 세그먼트 한도에 가까운 묶음이 기록되게 합니다.
+        int limit = 4096;
+        OrderWriteAheadLog log = new OrderWriteAheadLog(directory, limit, limit, Duration.ofHours(1),
+            OrderWriteAheadLog.Durability.ASYNC);
+        OrderRepository repository = new OrderRepository(log);
+        for (int i = 0; i < 300; i++) {
+            repository.save(new Order(String.format("ORD-%03d", i), "홍길동",
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0), OrderStatus.PROCESSING));
+        }
+        log.close();
+
+        assertTrue(countSegments() > 2);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path segment : files.toList()) {
+                assertTrue(Files.size(segment) <= limit, segment + ": " + Files.size(segment));
+            }
+        }
+        OrderRepository recovered = new OrderRepository(openLog(OrderWriteAheadLog.Durability.SYNC, limit));
+        assertEquals(300, recovered.count());
+
+        assertThrows(IllegalArgumentException.class, () -> new OrderWriteAheadLog(directory, Integer.MAX_VALUE,
+            64 * 1024, Duration.ofMillis(5), OrderWriteAheadLog.Durability.ASYNC));
+    }
+
+    @Test
+    void testBackpressureWaitsOutsidePerKeyLock() throws Exception {
+        OrderWriteAheadLog log = new OrderWriteAheadLog(directory, 1024 * 1024, 4096, Duration.ofHours(1),
+            OrderWriteAheadLog.Durability.ASYNC);
+        OrderRepository repository = new OrderRepository(log);
+
+        // 버퍼 전체를 예약해 두어 다음 저장이 버퍼 자리를 기다리게 합니다.
+        OrderWriteAheadLog.Reservation whole = new OrderWriteAheadLog.Reservation();
+        log.reserve(whole, 4096);
+        CompletableFuture<Void> save = CompletableFuture.runAsync(() -> repository.save(
+            new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING)));
+        Thread.sleep(100);
+        assertFalse(save.isDone());
+
+        // 기다리는 저장이 주문 ID 단위 잠금을 잡고 있지 않으므로 같은 주문의 다른 쓰기는 바로 끝납니다.
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(OrderNotFoundException.class,
+            () -> repository.updateStatus("ORD-001", OrderStatus.SHIPPING, OrderRepository.ANY_VERSION)));
+
+        log.release(whole);
+        save.get(5, TimeUnit.SECONDS);
+        assertEquals(OrderStatus.PROCESSING, repository.findById("ORD-001").getStatus());
+        log.close();
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws Exception {
+        OrderWriteAheadLog log = openLog(OrderWriteAheadLog.Durability.SYNC, 1024 * 1024);
+        OrderRepository repository = new OrderRepository(log);
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+        log.close();
+
+        // 마지막 레코드를 중간에서 잘라 쓰기 도중 장애를 흉내냅니다.
+        Path segment = lastSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        OrderWriteAheadLog reopened = openLog(OrderWriteAheadLog.Durability.SYNC, 1024 * 1024);
+        OrderRepository recovered = new OrderRepository(reopened);
+        assertEquals(1, recovered.count());
+
+        // 잘라낸 뒤에도 새 쓰기와 재시작이 정상이어야 함
+        recovered.save(new Order("ORD-003", "이순신", LocalDateTime.now(), OrderStatus.COMPLETED));
+        reopened.close();
+        assertEquals(2, new OrderRepository(openLog(OrderWriteAheadLog.Durability.SYNC, 1024 * 1024)).count());
+    }
+
+    private OrderWriteAheadLog openLog(OrderWriteAheadLog.Durability durability, long segmentSize)
+        throws IOException {
+        return new OrderWriteAheadLog(directory, segmentSize, 64 * 1024, Duration.ofMillis(5), durability);
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".wal")).count();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                    try {
+                        return path.toString().endsWith(".wal") && Files.size(path) > 0;
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .sorted()
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.orderSystem.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteGateTest {
+
+    private final WriteGate gate = new WriteGate();
+
+    @Test
+    void testAdvanceEpochWaitsOnlyForEarlierWriters() throws Exception {
+        int oldEpoch = gate.enter();
+        CompletableFuture<Void> advance = CompletableFuture.runAsync(gate::advanceEpoch);
+        Thread.sleep(50);
+        assertFalse(advance.isDone());
+
+        // 전환 이후의 쓰기는 기다리지 않습니다.
+        int newEpoch = gate.enter();
+        assertNotEquals(oldEpoch, newEpoch);
+
+        // 이전 epoch의 마지막 쓰기가 끝나면 바로 깨어납니다.
+        gate.exit(oldEpoch);
+        advance.get(5, TimeUnit.SECONDS);
+        gate.exit(newEpoch);
+    }
+
+    @Test
+    void testRunExclusiveBlocksNewWritersUntilDone() throws Exception {
+        int epoch = gate.enter();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> exclusive = CompletableFuture.runAsync(() -> gate.runExclusive(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Thread.sleep(50);
+        assertEquals(1, running.getCount());
+
+        gate.exit(epoch);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> writer = CompletableFuture.supplyAsync(gate::enter);
+        Thread.sleep(50);
+        assertFalse(writer.isDone());
+
+        release.countDown();
+        exclusive.get(5, TimeUnit.SECONDS);
+        gate.exit(writer.get(5, TimeUnit.SECONDS));
+    }
+}
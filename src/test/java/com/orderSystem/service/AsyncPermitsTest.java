@@ -0,0 +1,37 @@
+package com.orderSystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPermitsTest {
+
+    @Test
+    void testSynchronousWaitersDoNotNestReleases() {
+        AsyncPermits permits = new AsyncPermits(1);
+        AsyncPermits perHost = new AsyncPermits(1);
+        assertTrue(perHost.acquire().isDone());
+        assertTrue(permits.acquire().isDone());
+
+        // 회로가 열려 곧바로 실패하는 소스처럼, 허가를 받자마자 반환하는 작업이 길게 기다립니다.
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            waiters.add(perHost.acquire()
+                .thenCompose(ignored -> permits.acquire())
+                .whenComplete((ignored, error) -> {
+                    permits.release();
+                    perHost.release();
+                }));
+        }
+        permits.release();
+        perHost.release();
+
+        assertTrue(waiters.stream().allMatch(waiter -> waiter.isDone() && !waiter.isCompletedExceptionally()));
+        assertEquals(1, permits.available());
+        assertEquals(1, perHost.available());
+    }
+}
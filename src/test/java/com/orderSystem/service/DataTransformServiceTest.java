@@ -1,12 +1,19 @@
 package com.orderSystem.service;
 
+import com.orderSystem.connector.WireFormat;
 import com.orderSystem.domain.Order;
 import com.orderSystem.domain.OrderStatus;
 import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.util.StringDictionary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -100,4 +107,164 @@ class DataTransformServiceTest {
             service.jsonToOrder("");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStreamOrdersFromArray() throws DataTransformException {
+        String json = "  [{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}," +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"김영희\"," +
+            "\"orderDate\":\"2024-01-16T14:30:00\",\"status\":\"SHIPPING\"}]";
+
+        List<Order> received = new ArrayList<>();
+        int count = service.streamOrders(toStream(json), received::add);
+
+        assertEquals(2, count);
+        assertEquals("ORD-001", received.get(0).getOrderId());
+        assertEquals(OrderStatus.SHIPPING, received.get(1).getStatus());
+    }
+
+    @Test
+    void testStreamOrdersFromSingleObject() throws DataTransformException {
+        String json = "{\"orderId\":\"ORD-003\",\"customerName\":\"이순신\"," +
+            "\"orderDate\":\"2024-01-17T09:00:00\",\"status\":\"COMPLETED\"}";
+
+        List<Order> received = new ArrayList<>();
+        int count = service.streamOrders(toStream(json), received::add);
+
+        assertEquals(1, count);
+        assertEquals("ORD-003", received.get(0).getOrderId());
+    }
+
+    @Test
+    void testStreamOrdersWithInvalidJson() {
+        assertThrows(DataTransformException.class, () -> {
+            service.streamOrders(toStream("[{\"orderId\":"), order -> {
+            });
+        });
+        assertThrows(DataTransformException.class, () -> {
+            service.streamOrders(toStream(""), order -> {
+            });
+        });
+    }
+
+    @Test
+    void testStreamOrdersSharesCustomerNameInstances() throws DataTransformException {
+        StringDictionary customerNames = new StringDictionary();
+        service = new DataTransformService(customerNames);
+        String json = "[{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"}," +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"홍길동\"}," +
+            "{\"orderId\":\"ORD-003\",\"customerName\":null}]";
+
+        List<Order> received = new ArrayList<>();
+        service.streamOrders(toStream(json), received::add);
+
+        assertSame(received.get(0).getCustomerName(), received.get(1).getCustomerName());
+        assertNull(received.get(2).getCustomerName());
+        StringDictionary.Stats stats = customerNames.getStats();
+        assertEquals(1, stats.size());
+        assertEquals(0.5, stats.hitRatio());
+        assertTrue(stats.savedBytes() > 0);
+    }
+
+    @Test
+    void testStreamNdjsonOrders() throws DataTransformException {
+        String ndjson = "{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\",\"status\":\"PROCESSING\"}\n" +
+            "\n" +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"김영희\",\"status\":\"SHIPPING\"}\n";
+
+        List<Order> received = new ArrayList<>();
+        long count = service.streamNdjsonOrders(toStream(ndjson), received::add);
+
+        assertEquals(2, count);
+        assertEquals("ORD-002", received.get(1).getOrderId());
+        assertThrows(DataTransformException.class, () -> service.streamNdjsonOrders(toStream("[1]"), order -> {
+        }));
+    }
+
+    @Test
+    void testWriteOrdersAsJson() throws DataTransformException {
+        List<Order> orders = List.of(testOrder,
+            new Order("ORD-002", "김영희", LocalDateTime.of(2024, 1, 16, 14, 30, 0), OrderStatus.SHIPPING));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(2, service.writeOrdersAsJson(orders, outputStream));
+
+        List<Order> parsed = service.jsonToOrderList(outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of("ORD-001", "ORD-002"), parsed.stream().map(Order::getOrderId).toList());
+        assertEquals("[]", writeEmpty());
+    }
+
+    @Test
+    void testSmileRoundTrip() throws DataTransformException {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(new Order(String.format("ORD-%03d", i), i % 2 == 0 ? "홍길동" : "김영희",
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0).plusMinutes(i), OrderStatus.PROCESSING));
+        }
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        ByteArrayOutputStream smile = new ByteArrayOutputStream();
+
+        service.writeOrders(orders, json, WireFormat.JSON);
+        assertEquals(100, service.writeOrders(orders, smile, WireFormat.SMILE));
+        assertTrue(smile.size() < json.size());
+
+        // 같은 메서드가 형식을 판별해 읽습니다.
+        List<Order> parsed = new ArrayList<>();
+        assertEquals(100, service.streamOrders(new ByteArrayInputStream(smile.toByteArray()), parsed::add));
+        assertEquals(orders.get(99).getOrderId(), parsed.get(99).getOrderId());
+        assertEquals(orders.get(99).getOrderDate(), parsed.get(99).getOrderDate());
+        assertEquals(OrderStatus.PROCESSING, parsed.get(99).getStatus());
+
+        DataTransformService.OrderPage page = service.readOrderPage(
+            new ByteArrayInputStream(smile.toByteArray()), "", null);
+        assertEquals(100, page.orders().size());
+    }
+
+    private String writeEmpty() throws DataTransformException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        service.writeOrdersAsJson(List.of(), outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testWriteOrdersAsNdjson() throws DataTransformException {
+        Order order2 = new Order("ORD-002", "김영희",
+            LocalDateTime.of(2024, 1, 16, 14, 30, 0),
+            OrderStatus.SHIPPING);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.writeOrdersAsNdjson(List.of(testOrder, order2).iterator(), out, 1);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("ORD-001", service.jsonToOrder(lines[0]).getOrderId());
+        assertEquals("ORD-002", service.jsonToOrder(lines[1]).getOrderId());
+    }
+
+    @Test
+    void testReadOrderPage() throws DataTransformException {
+        String order = "{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}";
+
+        DataTransformService.OrderPage rootArray = service.readOrderPage(toStream("[" + order + "]"), "", null);
+        assertEquals(1, rootArray.orders().size());
+        assertNull(rootArray.nextCursor());
+
+        DataTransformService.OrderPage envelope = service.readOrderPage(toStream(
+            "{\"success\":true,\"data\":{\"meta\":{\"items\":[]},\"items\":[" + order + "," + order + "]," +
+                "\"nextCursor\":\"abc\"}}"), "/data/items", "/data/nextCursor");
+        assertEquals(2, envelope.orders().size());
+        assertEquals("ORD-001", envelope.orders().get(1).getOrderId());
+        assertEquals("abc", envelope.nextCursor());
+
+        assertNull(service.readOrderPage(toStream("{\"items\":[],\"nextCursor\":null}"),
+            "/items", "/nextCursor").nextCursor());
+        assertThrows(DataTransformException.class,
+            () -> service.readOrderPage(toStream("{\"orders\":[]}"), "/items", "/nextCursor"));
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package com.orderSystem.service;
+
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.connector.DataConnectorInterface;
+import com.orderSystem.dto.MultiSyncResult;
+import com.orderSystem.dto.SourceSyncResult;
+import com.orderSystem.exception.DataConnectorException;
+import com.orderSystem.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiSourceSyncServiceTest {
+
+    private static final long DELAY_MILLIS = 200;
+
+    private DelayedConnector connector;
+    private OrderRepository repository;
+    private OrderSyncProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        connector = new DelayedConnector();
+        repository = new OrderRepository();
+        properties = new OrderSyncProperties();
+    }
+
+    private MultiSourceSyncService service() {
+        OrderSyncService syncService = new OrderSyncService(connector, repository, new DataTransformService(), properties);
+        return new MultiSourceSyncService(syncService, properties);
+    }
+
+    @Test
+    void testSourcesAreFetchedConcurrently() {
+        List<String> urls = List.of("http://a.example/orders", "http://b.example/orders",
+            "http://c.example/orders", "http://d.example/orders");
+
+        MultiSyncResult result = service().syncAll(urls).join();
+
+        assertTrue(result.isSuccess());
+        assertEquals(4, result.getOrderCount());
+        assertEquals(4, repository.count());
+        assertEquals(urls, result.getSources().stream().map(SourceSyncResult::getUrl).toList());
+        assertTrue(result.getSources().stream().allMatch(source -> source.getBytes() > 0));
+        // 순차 실행이면 4 × DELAY_MILLIS 이상 걸립니다.
+        assertTrue(result.getElapsedMillis() < 3 * DELAY_MILLIS, "elapsed " + result.getElapsedMillis());
+    }
+
+    @Test
+    void testPerHostAndGlobalLimits() {
+        properties.getPull().setConcurrency(3);
+        properties.getPull().setPerHostConcurrency(1);
+        List<String> urls = List.of("http://a.example/orders/1", "http://a.example/orders/2",
+            "http://a.example/orders/3", "http://b.example/orders", "http://c.example/orders",
+            "http://d.example/orders");
+
+        MultiSyncResult result = service().syncAll(urls).join();
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, connector.maxInFlightPerHost.get("a.example").get());
+        assertTrue(connector.maxInFlight.get() <= 3);
+    }
+
+    @Test
+    void testFailedSourceIsReportedWithoutFailingOthers() {
+        MultiSyncResult result = service().syncAll(
+            List.of("http://a.example/orders", "http://fail.example/orders")).join();
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, result.getOrderCount());
+        SourceSyncResult failed = result.getSources().get(1);
+        assertFalse(failed.isSuccess());
+        assertEquals("외부 시스템 연결 실패: HTTP 요청 실패: 500", failed.getError());
+    }
+
+    @Test
+    void testSyncGroup() {
+        properties.getPull().getSourceGroups().put("partners",
+            List.of("http://a.example/orders", "http://b.example/orders"));
+
+        MultiSyncResult result = service().syncGroup("partners").join();
+
+        assertEquals(2, result.getSources().size());
+        assertThrows(IllegalArgumentException.class, () -> service().syncGroup("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> service().syncAll(List.of("not a url")));
+    }
+
+    /**
+     * URL이 주문 ID가 되는 주문 하나를 DELAY_MILLIS 뒤에 돌려주며, 동시에 진행 중인 요청 수를 기록합니다.
+     */
+    private static class DelayedConnector implements DataConnectorInterface {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final Map<String, AtomicInteger> inFlightPerHost = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> maxInFlightPerHost = new ConcurrentHashMap<>();
+
+        @Override
+        public String fetchData(String url) throws DataConnectorException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean sendData(String url, String data) throws DataConnectorException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<InputStream> fetchStreamAsync(String url) {
+            String host = URI.create(url).getHost();
+            if (host.startsWith("fail")) {
+                return CompletableFuture.failedFuture(new DataConnectorException("HTTP 요청 실패: 500"));
+            }
+            AtomicInteger perHost = inFlightPerHost.computeIfAbsent(host, ignored -> new AtomicInteger());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            maxInFlightPerHost.computeIfAbsent(host, ignored -> new AtomicInteger())
+                .accumulateAndGet(perHost.incrementAndGet(), Math::max);
+
+            String json = "{\"orderId\":\"" + url + "\",\"customerName\":\"홍길동\"," +
+                "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}";
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                perHost.decrementAndGet();
+                return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            }, CompletableFuture.delayedExecutor(DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+}
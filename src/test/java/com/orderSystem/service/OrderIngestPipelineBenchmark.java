@@ -0,0 +1,130 @@
+package com.orderSystem.service;
+
+import com.orderSystem.domain.Order;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.util.OrderTestDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동기화의 가져오기 경로를 재는 벤치마크입니다. 파이프라인을 끈 순차 스트리밍 파싱과 {@link OrderIngestPipeline}
+ * (order.sync.pipeline, 파싱 스레드 1, 2, 4, 8개)을 비교하며, 파싱 스레드 수에 따른 차이가 저장 단계에 가려지지 않도록
+ * 파싱·검증만 잰 값(주문을 세기만 하는 consumer)과 저장까지 포함한 값을 따로 보여 줍니다. 기본 테스트 실행에는
+ * 포함되지 않으므로 다음과 같이 실행합니다.
+ *
+ * <pre>
+ * mvn test -Dtest=OrderIngestPipelineBenchmark -Dbenchmark.orders=2000000 -DargLine=-Xmx8g
+ * </pre>
+ *
+ * <p>각 구성은 세 번 실행해 가장 빠른 시간을 씁니다. 배율은 같은 측정의 파싱 스레드 1개 대비이고, 코어 수보다 많은
+ * 스레드는 의미가 없습니다.</p>
+ */
+class OrderIngestPipelineBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8};
+    private static final int RUNS = 3;
+    // order.sync.pipeline의 기본값
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int CHUNK_BYTES = 256 * 1024;
+
+    private final DataTransformService transformer = new DataTransformService();
+
+    @Test
+    void benchmarkIngest() throws Exception {
+        int orderCount = Integer.getInteger("benchmark.orders", 2_000_000);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        transformer.writeOrdersAsJson(OrderTestDataGenerator.generateSequentialOrders(orderCount), buffer);
+        byte[] json = buffer.toByteArray();
+        buffer = null;
+
+        // JIT 워밍업
+        sequential(json, orderCount, false);
+        pipeline(json, orderCount, Runtime.getRuntime().availableProcessors(), false);
+
+        System.out.printf("주문 %,d개, %,d바이트, 코어 %d개%n",
+            orderCount, json.length, Runtime.getRuntime().availableProcessors());
+        measure("파싱·검증", json, orderCount, false);
+        measure("파싱·검증·저장", json, orderCount, true);
+    }
+
+    private void measure(String title, byte[] json, int orderCount, boolean store) throws Exception {
+        System.out.printf("%s%n  %-12s %10s %10s %8s%n", title, "구성", "ms", "MB/s", "배율");
+
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            best = Math.min(best, sequential(json, orderCount, store));
+        }
+        print("순차", json.length, best, Double.NaN);
+
+        long single = 0;
+        for (int threads : THREADS) {
+            best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                best = Math.min(best, pipeline(json, orderCount, threads, store));
+            }
+            if (threads == 1) {
+                single = best;
+            }
+            print("파이프라인 x" + threads, json.length, best, (double) single / best);
+        }
+    }
+
+    private long sequential(byte[] json, int orderCount, boolean store) throws Exception {
+        OrderRepository repository = new OrderRepository();
+        OrderBatchWriter writer = store ? new OrderBatchWriter(repository, true) : new CountingWriter();
+        long start = System.nanoTime();
+        int count = transformer.streamOrders(new ByteArrayInputStream(json), writer);
+        writer.flush();
+        long elapsed = System.nanoTime() - start;
+        assertEquals(orderCount, count);
+        assertEquals(store ? orderCount : 0, repository.count());
+        return elapsed;
+    }
+
+    private long pipeline(byte[] json, int orderCount, int threads, boolean store) throws Exception {
+        OrderRepository repository = new OrderRepository();
+        OrderBatchWriter writer = store ? new OrderBatchWriter(repository, true) : new CountingWriter();
+        try (OrderIngestPipeline pipeline = new OrderIngestPipeline(transformer, threads, QUEUE_CAPACITY,
+            CHUNK_BYTES)) {
+            long start = System.nanoTime();
+            int count = pipeline.ingest(new ByteArrayInputStream(json), () -> json.length, writer,
+                new SyncProgress());
+            long elapsed = System.nanoTime() - start;
+            assertEquals(orderCount, count);
+            assertEquals(orderCount, pipeline.getStats().parsedOrders());
+            assertEquals(store ? orderCount : 0, repository.count());
+            return elapsed;
+        }
+    }
+
+    private static void print(String name, int bytes, long nanos, double speedup) {
+        System.out.printf("  %-12s %,10d %,10.1f %8s%n", name, nanos / 1_000_000,
+            bytes / 1_048_576.0 / (nanos / 1e9), Double.isNaN(speedup) ? "-" : String.format("%.2f", speedup));
+    }
+
+    /**
+     * 주문을 저장하지 않고 세기만 하는 writer입니다. 저장 단계를 빼고 파싱·검증만 잴 때 씁니다.
+     */
+    private static final class CountingWriter extends OrderBatchWriter {
+
+        private long count;
+
+        CountingWriter() {
+            super(null);
+        }
+
+        @Override
+        public void accept(Order order) {
+            count++;
+        }
+
+        @Override
+        long getWrittenCount() {
+            return count;
+        }
+    }
+}
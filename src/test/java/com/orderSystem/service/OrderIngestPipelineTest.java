@@ -0,0 +1,104 @@
+package com.orderSystem.service;
+
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.util.CountingInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIngestPipelineTest {
+
+    private final OrderRepository repository = new OrderRepository();
+    private final OrderIngestPipeline pipeline = new OrderIngestPipeline(new DataTransformService(), 3, 2, 256);
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    void testStoresAllOrdersInArrayOrder() throws Exception {
+        // 같은 주문 ID가 뒤에 다시 나오면 뒤의 값이 남아야 합니다.
+        String json = ordersJson(500).replace("]", ",{\"orderId\":\"ORD-0\",\"customerName\":\"마지막\","
+            + "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"SHIPPING\"}]");
+        SyncProgress progress = new SyncProgress();
+        OrderBatchWriter writer = new OrderBatchWriter(repository, 100, true);
+        CountingInputStream counted = new CountingInputStream(stream(json));
+
+        int count = pipeline.ingest(counted, counted::getCount, writer, progress);
+
+        assertEquals(501, count);
+        assertEquals(500, repository.count());
+        assertEquals("마지막", repository.findById("ORD-0").getCustomerName());
+        assertEquals(OrderStatus.SHIPPING, repository.findById("ORD-0").getStatus());
+        assertEquals(501, progress.getOrdersParsed());
+        assertEquals(501, progress.getOrdersStored());
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, progress.getBytes());
+
+        OrderIngestPipeline.Stats stats = pipeline.getStats();
+        assertTrue(stats.fetchedChunks() > 10);
+        assertEquals(progress.getBytes(), stats.fetchedBytes());
+        assertEquals(501, stats.parsedOrders());
+        assertEquals(501, stats.storedOrders());
+        assertEquals(0, stats.parseQueueDepth());
+        assertEquals(0, stats.storeQueueDepth());
+        assertEquals(0, stats.activeRuns());
+    }
+
+    @Test
+    void testRejectsOrderWithoutIdAndStopsStages() throws Exception {
+        String json = ordersJson(200).replace("]", ",{\"customerName\":\"김영희\"}," + ordersJson(200).substring(1));
+        DataTransformException e = assertThrows(DataTransformException.class, () ->
+            pipeline.ingest(stream(json), () -> 0L, new OrderBatchWriter(repository, true), new SyncProgress()));
+
+        assertTrue(e.getMessage().contains("200번째"), e.getMessage());
+        assertEquals(1, pipeline.getStats().rejectedOrders());
+        assertEquals(0, pipeline.getStats().activeRuns());
+        // 받기 단계는 멈춘 뒤 남은 묶음을 치우고 끝납니다.
+        awaitTrue(() -> pipeline.getStats().storeQueueDepth() == 0 && pipeline.getStats().parseQueueDepth() == 0);
+    }
+
+    @Test
+    void testCancelledIngestStopsBeforeStoring() {
+        SyncProgress progress = new SyncProgress();
+        progress.cancel();
+
+        assertThrows(CancellationException.class, () -> pipeline.ingest(stream(ordersJson(100)), () -> 0L,
+            new OrderBatchWriter(repository, true), progress));
+        assertEquals(0, repository.count());
+    }
+
+    private static String ordersJson(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"orderId\":\"ORD-").append(i).append("\",\"customerName\":\"고객 \\\"").append(i % 7)
+                .append("\\\"\",\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 충족되지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package com.orderSystem.service;
+
+import com.orderSystem.exception.DataTransformException;
+import com.orderSystem.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIngestServiceTest {
+
+    private OrderRepository repository;
+    private OrderIngestService ingestService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OrderRepository();
+        ingestService = new OrderIngestService(repository, new DataTransformService());
+    }
+
+    @Test
+    void testIngestNdjsonInBatches() throws DataTransformException {
+        int orderCount = OrderBatchWriter.DEFAULT_BATCH_SIZE * 2 + 7;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < orderCount; i++) {
+            ndjson.append("{\"orderId\":\"ORD-").append(i).append("\",\"customerName\":\"홍길동\"}\n");
+        }
+
+        long saved = ingestService.ingestNdjson(toStream(ndjson.toString()));
+
+        assertEquals(orderCount, saved);
+        assertEquals(orderCount, repository.count());
+    }
+
+    @Test
+    void testIngestReportsSavedCountOnError() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < OrderBatchWriter.DEFAULT_BATCH_SIZE; i++) {
+            ndjson.append("{\"orderId\":\"ORD-").append(i).append("\"}\n");
+        }
+        ndjson.append("{\"orderId\":");
+
+        DataTransformException e = assertThrows(DataTransformException.class,
+            () -> ingestService.ingestNdjson(toStream(ndjson.toString())));
+        assertTrue(e.getMessage().contains("저장된 주문 " + OrderBatchWriter.DEFAULT_BATCH_SIZE + "개"));
+        assertEquals(OrderBatchWriter.DEFAULT_BATCH_SIZE, repository.count());
+    }
+
+    private ByteArrayInputStream toStream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
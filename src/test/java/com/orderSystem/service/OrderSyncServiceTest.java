@@ -1,14 +1,42 @@
 package com.orderSystem.service;
 
+import com.orderSystem.config.OrderStorageProperties;
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.config.StorageConfig;
+import com.orderSystem.connector.HttpDataConnector;
 import com.orderSystem.connector.MockHttpDataConnector;
+import com.orderSystem.connector.MockPagedDataConnector;
+import com.orderSystem.connector.PagedSource;
+import com.orderSystem.connector.Pagination;
 import com.orderSystem.domain.Order;
 import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.dto.PagedSyncResult;
+import com.orderSystem.dto.PushBatchResult;
+import com.orderSystem.dto.PushResult;
+import com.orderSystem.dto.SourceSyncResult;
 import com.orderSystem.exception.OrderSyncException;
+import com.orderSystem.repository.HeapOrderStore;
+import com.orderSystem.repository.OrderChangeFeed;
 import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.repository.OrderWriteAheadLog;
+import com.orderSystem.repository.PushWatermarkStore;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,7 +51,9 @@ class OrderSyncServiceTest {
         mockConnector = new MockHttpDataConnector();
         repository = new OrderRepository();
         transformer = new DataTransformService();
-        syncService = new OrderSyncService(mockConnector, repository, transformer);
+        OrderSyncProperties properties = new OrderSyncProperties();
+        properties.getPush().setRetryBackoff(Duration.ZERO);
+        syncService = new OrderSyncService(mockConnector, repository, transformer, properties);
     }
 
     @Test
@@ -50,8 +80,9 @@ class OrderSyncServiceTest {
             "]";
         mockConnector.setMockResponse(mockJson);
 
-        syncService.syncOrdersFromExternal("http://external-api.com/orders");
+        int syncedCount = syncService.syncOrdersFromExternal("http://external-api.com/orders");
 
+        assertEquals(2, syncedCount);
         assertEquals(2, repository.count());
         Order order1 = repository.findById("ORD-001");
         Order order2 = repository.findById("ORD-002");
@@ -85,9 +116,506 @@ class OrderSyncServiceTest {
         });
     }
 
+    @Test
+    void testSyncSingleOrderAsyncCompletesWithSavedOrder() {
+        mockConnector.setMockResponse("{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}");
+
+        Order order = syncService.syncSingleOrderAsync("http://external-api.com/order/1").join();
+
+        assertEquals("ORD-001", order.getOrderId());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testAsyncSyncFailureCompletesWithOrderSyncException() {
+        mockConnector.setFailure("Network timeout");
+
+        CompletableFuture<SourceSyncResult> future = syncService.syncOrdersFromExternalAsync("http://external-api.com/orders");
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(OrderSyncException.class, e.getCause());
+        assertEquals("외부 시스템 연결 실패", e.getCause().getMessage());
+    }
+
+    @Test
+    void testAsyncSyncRejectedWhenExecutorIsFull() {
+        mockConnector.setMockResponse("[]");
+        OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer,
+            new OrderSyncProperties(), task -> {
+                throw new RejectedExecutionException("full");
+            });
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> service.syncOrdersFromExternalAsync("http://external-api.com/orders").join());
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        e = assertThrows(CompletionException.class,
+            () -> service.pushOrdersAsync("http://external-api.com/orders", PushMode.FULL).join());
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    @Test
+    void testPagedSyncResumesFromLastCompletedPage() {
+        MockPagedDataConnector pagedConnector = new MockPagedDataConnector(35);
+        OrderSyncService service = new OrderSyncService(pagedConnector, repository, transformer);
+        PagedSource source = new PagedSource(Pagination.PAGE, "http://external-api.com/orders", 10);
+        pagedConnector.failOnce("page=2&");
+
+        PagedSyncResult failed = service.syncPagedAsync(source, true).join();
+
+        assertFalse(failed.isSuccess());
+        assertEquals(2, failed.getResumePage());
+        assertEquals(20, repository.count());
+        assertEquals(new PagedSource.Position(2, null), service.getPageCheckpoint(source));
+
+        pagedConnector.getRequestedUrls().clear();
+        PagedSyncResult resumed = service.syncPagedAsync(source, true).join();
+
+        assertTrue(resumed.isSuccess());
+        assertEquals(2, resumed.getStartPage());
+        assertEquals(2, resumed.getPageCount());
+        assertEquals(15, resumed.getOrderCount());
+        assertEquals(35, repository.count());
+        assertTrue(pagedConnector.getRequestedUrls().stream().noneMatch(url -> url.contains("page=0&")));
+        assertNull(service.getPageCheckpoint(source));
+    }
+
+    @Test
+    void testUnchangedSourceIsSkipped() throws Exception {
+        mockConnector.setMockResponse("[{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}]");
+        assertEquals(1, syncService.syncOrdersFromExternal("http://external-api.com/orders"));
+        long sequence = repository.getChangeFeed().lastSequence();
+
+        mockConnector.setNotModified(true);
+        SourceSyncResult result = syncService.syncOrdersFromExternalAsync("http://external-api.com/orders").join();
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isNotModified());
+        assertEquals(0, result.getOrderCount());
+        assertEquals(sequence, repository.getChangeFeed().lastSequence());
+    }
+
+    @Test
+    void testSyncAfterClearFetchesOrdersAgain() throws Exception {
+        byte[] body = ("[{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}]").getBytes(StandardCharsets.UTF_8);
+        AtomicInteger notModified = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/orders", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.getResponseHeaders().set("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/orders";
+            OrderSyncProperties properties = new OrderSyncProperties();
+            properties.getPull().setRecentSyncWindow(Duration.ofMinutes(1));
+            OrderSyncService service = new OrderSyncService(new HttpDataConnector(), repository, transformer,
+                properties);
+
+            assertEquals(1, service.syncOrdersFromExternalAsync(url).join().getInsertedCount());
+            assertTrue(service.syncOrdersFromExternalAsync(url).join().isShared());
+
+            repository.clear();
+            SourceSyncResult afterClear = service.syncOrdersFromExternalAsync(url).join();
+
+            assertFalse(afterClear.isNotModified());
+            assertFalse(afterClear.isShared());
+            assertEquals(1, afterClear.getInsertedCount());
+            assertEquals(1, repository.count());
+            assertEquals(0, notModified.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testRepeatedPullSkipsUnchangedOrders() throws Exception {
+        String url = "http://external-api.com/orders";
+        mockConnector.setMockResponse("[" +
+            "{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}," +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"김영희\"," +
+            "\"orderDate\":\"2024-01-16T14:30:00\",\"status\":\"PROCESSING\"}]");
+        SourceSyncResult first = syncService.syncOrdersFromExternalAsync(url).join();
+        assertEquals(2, first.getInsertedCount());
+        long sequence = repository.getChangeFeed().lastSequence();
+
+        mockConnector.setMockResponse("[" +
+            "{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}," +
+            "{\"orderId\":\"ORD-002\",\"customerName\":\"김영희\"," +
+            "\"orderDate\":\"2024-01-16T14:30:00\",\"status\":\"SHIPPING\"}," +
+            "{\"orderId\":\"ORD-003\",\"customerName\":\"이철수\"," +
+            "\"orderDate\":\"2024-01-17T09:00:00\",\"status\":\"PROCESSING\"}]");
+        SourceSyncResult second = syncService.syncOrdersFromExternalAsync(url).join();
+
+        assertEquals(3, second.getOrderCount());
+        assertEquals(1, second.getInsertedCount());
+        assertEquals(1, second.getUpdatedCount());
+        assertEquals(1, second.getUnchangedCount());
+        assertEquals(sequence + 2, repository.getChangeFeed().lastSequence());
+        assertEquals(1, repository.findById("ORD-001").getVersion());
+        assertEquals(2, repository.findById("ORD-002").getVersion());
+    }
+
+    @Test
+    void testPipelineIngestsArraysAndFallsBackForSingleOrder() throws Exception {
+        try (OrderIngestPipeline pipeline = new OrderIngestPipeline(transformer, 2, 2, 128)) {
+            OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer,
+                new OrderSyncProperties(), Runnable::run, pipeline, null);
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < 50; i++) {
+                json.append(i == 0 ? "" : ",").append("{\"orderId\":\"ORD-").append(i)
+                    .append("\",\"customerName\":\"홍길동\",\"orderDate\":\"2024-01-15T10:30:00\",")
+                    .append("\"status\":\"PROCESSING\"}");
+            }
+            mockConnector.setMockResponse(json.append(']').toString());
+
+            SourceSyncResult result = service.syncOrdersFromExternalAsync("http://external-api.com/orders").join();
+            assertEquals(50, result.getOrderCount());
+            assertEquals(50, result.getInsertedCount());
+            assertEquals(50, repository.count());
+            assertEquals(50, pipeline.getStats().storedOrders());
+
+            // 단일 객체는 파이프라인을 거치지 않고 읽습니다.
+            mockConnector.setMockResponse("{\"orderId\":\"ORD-100\",\"customerName\":\"김영희\"," +
+                "\"orderDate\":\"2024-01-16T14:30:00\",\"status\":\"SHIPPING\"}");
+            assertEquals(1, service.syncOrdersFromExternal("http://external-api.com/order/100"));
+            assertEquals(51, repository.count());
+            assertEquals(50, pipeline.getStats().storedOrders());
+        }
+    }
+
+    @Test
+    void testFailedIngestInvalidatesConditionalState() {
+        mockConnector.setMockResponse("[{\"orderId\":");
+
+        assertThrows(OrderSyncException.class, () -> syncService.syncOrdersFromExternal("http://external-api.com/orders"));
+        assertEquals(List.of("http://external-api.com/orders"), mockConnector.getInvalidatedUrls());
+    }
+
+    @Test
+    void testConcurrentSyncsOfSameUrlShareOneFetch() {
+        MockPagedDataConnector pagedConnector = new MockPagedDataConnector(5);
+        pagedConnector.setDeferResponses(true);
+        OrderSyncService service = new OrderSyncService(pagedConnector, repository, transformer);
+        String url = "http://partner.example.com/orders?offset=0&limit=10";
+
+        CompletableFuture<SourceSyncResult> first = service.syncOrdersFromExternalAsync(url);
+        CompletableFuture<SourceSyncResult> second = service.syncOrdersFromExternalAsync(url);
+        assertEquals(1, pagedConnector.getRequestedUrls().size());
+
+        pagedConnector.complete("offset=0");
+        assertEquals(5, first.join().getOrderCount());
+        assertFalse(first.join().isShared());
+        assertEquals(5, second.join().getOrderCount());
+        assertTrue(second.join().isShared());
+        assertEquals(5, repository.count());
+
+        // 끝난 뒤의 요청은 다시 가져옵니다.
+        CompletableFuture<SourceSyncResult> third = service.syncOrdersFromExternalAsync(url);
+        assertEquals(2, pagedConnector.getRequestedUrls().size());
+        pagedConnector.complete("offset=0");
+        assertFalse(third.join().isShared());
+    }
+
+    @Test
+    void testCancelledJobDoesNotFailCallersSharingItsFetch() throws Exception {
+        MockPagedDataConnector pagedConnector = new MockPagedDataConnector(5);
+        pagedConnector.setDeferResponses(true);
+        OrderSyncService service = new OrderSyncService(pagedConnector, repository, transformer);
+        String url = "http://partner.example.com/orders?offset=0&limit=10";
+
+        // 동기화 작업이 먼저 가져오기를 시작하고, 같은 URL의 다른 요청이 그 결과를 기다립니다.
+        SyncProgress progress = new SyncProgress();
+        CompletableFuture<SourceSyncResult> job = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.syncOrdersFromExternal(url, progress);
+            } catch (OrderSyncException e) {
+                throw new CompletionException(e);
+            }
+        });
+        while (pagedConnector.getRequestedUrls().isEmpty()) {
+            Thread.sleep(10);
+        }
+        CompletableFuture<SourceSyncResult> follower = service.syncSourceAsync(url);
+
+        progress.cancel();
+        CompletionException cancelled = assertThrows(CompletionException.class, job::join);
+        assertInstanceOf(CancellationException.class, cancelled.getCause());
+
+        // 기다리던 요청은 다시 가져온 결과를 받습니다.
+        assertEquals(2, pagedConnector.getRequestedUrls().size());
+        pagedConnector.complete("offset=0");
+        SourceSyncResult result = follower.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getOrderCount());
+        assertEquals(5, repository.count());
+
+        // 함께 기다리는 요청이 없으면 취소된 가져오기를 다음 요청이 이어받지 않습니다.
+        SyncProgress lone = new SyncProgress();
+        lone.cancel();
+        assertThrows(CancellationException.class, () -> service.syncOrdersFromExternal(url, lone));
+        CompletableFuture<SourceSyncResult> next = service.syncSourceAsync(url);
+        pagedConnector.complete("offset=0");
+        assertTrue(next.get(5, TimeUnit.SECONDS).isSuccess());
+    }
+
+    @Test
+    void testRecentSyncWindowSkipsRefetch() throws Exception {
+        mockConnector.setMockResponse("[{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}]");
+        OrderSyncProperties properties = new OrderSyncProperties();
+        properties.getPull().setRecentSyncWindow(Duration.ofMinutes(1));
+        OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer, properties);
+        String url = "http://external-api.com/orders";
+
+        assertEquals(1, service.syncOrdersFromExternal(url));
+        long sequence = repository.getChangeFeed().lastSequence();
+        SourceSyncResult again = service.syncOrdersFromExternalAsync(url).join();
+
+        assertTrue(again.isShared());
+        assertEquals(1, again.getOrderCount());
+        assertEquals(sequence, repository.getChangeFeed().lastSequence());
+        // 실패한 동기화는 기억하지 않습니다.
+        mockConnector.setFailure("Network timeout");
+        assertThrows(OrderSyncException.class, () -> service.syncOrdersFromExternal("http://external-api.com/other"));
+        assertThrows(OrderSyncException.class, () -> service.syncOrdersFromExternal("http://external-api.com/other"));
+    }
+
+    @Test
+    void testRecentSyncsExpireOnInsert() throws Exception {
+        mockConnector.setMockResponse("[{\"orderId\":\"ORD-001\",\"customerName\":\"홍길동\"," +
+            "\"orderDate\":\"2024-01-15T10:30:00\",\"status\":\"PROCESSING\"}]");
+        OrderSyncProperties properties = new OrderSyncProperties();
+        properties.getPull().setRecentSyncWindow(Duration.ofMillis(50));
+        OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer, properties);
+
+        // 예약 동기화처럼 URL이 매번 달라도 창이 지난 결과는 남지 않습니다.
+        for (int i = 0; i < 3; i++) {
+            service.syncOrdersFromExternal("http://external-api.com/orders?since=" + i);
+            Thread.sleep(60);
+        }
+        assertEquals(1, service.getRecentSyncCount());
+    }
+
     @Test
     void testSendEmptyOrderList() throws Exception {
         boolean result = syncService.sendOrdersToExternal("http://external-api.com/orders");
         assertFalse(result); // 빈 목록은 전송하지 않음
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeltaPushSendsOnlyChangedOrders() throws Exception {
+        String url = "http://external-api.com/orders";
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+
+        // 워터마크가 없으면 전체 전송
+        PushResult first = syncService.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.FULL, first.getMode());
+        assertEquals(2, first.getSentCount());
+
+        repository.updateStatus("ORD-001", OrderStatus.SHIPPING, OrderRepository.ANY_VERSION);
+        repository.save(new Order("ORD-003", "이철수", LocalDateTime.now(), OrderStatus.PROCESSING));
+        repository.delete("ORD-002");
+
+        PushResult delta = syncService.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.DELTA, delta.getMode());
+        assertEquals(2, delta.getSentCount());
+        String payload = mockConnector.getSentData().get(1);
+        assertTrue(payload.contains("ORD-001") && payload.contains("ORD-003"));
+        assertFalse(payload.contains("ORD-002"));
+
+        // 바뀐 것이 없으면 아무것도 보내지 않음
+        PushResult empty = syncService.pushOrders(url, PushMode.DELTA);
+        assertTrue(empty.isSuccess());
+        assertEquals(0, empty.getSentCount());
+        assertEquals(2, mockConnector.getSentData().size());
+    }
+
+    @Test
+    void testDeltaWatermarkAdvancesOnlyAfterAcknowledgement() throws Exception {
+        String url = "http://external-api.com/orders";
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        syncService.pushOrders(url, PushMode.FULL);
+        long watermark = syncService.getPushWatermark(url);
+
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+        mockConnector.setSendResult(false);
+        assertFalse(syncService.pushOrders(url, PushMode.DELTA).isSuccess());
+        assertEquals(watermark, syncService.getPushWatermark(url));
+
+        mockConnector.setSendResult(true);
+        PushResult retried = syncService.pushOrders(url, PushMode.DELTA);
+        assertEquals(1, retried.getSentCount());
+        assertTrue(retried.getWatermark() > watermark);
+        assertNull(syncService.getPushWatermark("http://other-target.com/orders"));
+    }
+
+    @Test
+    void testCancelledPushDoesNotAdvanceWatermark() {
+        String url = "http://external-api.com/orders";
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        SyncProgress progress = new SyncProgress();
+        progress.cancel();
+
+        assertThrows(CancellationException.class, () -> syncService.pushOrders(url, PushMode.FULL, progress));
+        assertTrue(mockConnector.getSentData().isEmpty());
+        assertNull(syncService.getPushWatermark(url));
+    }
+
+    @Test
+    void testDeltaFallsBackToFullAfterClearOrOverrun() throws Exception {
+        String url = "http://external-api.com/orders";
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        syncService.pushOrders(url, PushMode.FULL);
+
+        repository.clear();
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+        assertEquals(PushMode.FULL, syncService.pushOrders(url, PushMode.DELTA).getMode());
+
+        OrderRepository smallFeedRepository =
+            new OrderRepository(new HeapOrderStore(), true, new OrderChangeFeed(4), null, null);
+        OrderSyncService service = new OrderSyncService(mockConnector, smallFeedRepository, transformer);
+        smallFeedRepository.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        service.pushOrders(url, PushMode.FULL);
+        for (int i = 0; i < 10; i++) {
+            smallFeedRepository.save(new Order("ORD-" + i, "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+        PushResult overrun = service.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.FULL, overrun.getMode());
+        assertEquals(11, overrun.getSentCount());
+    }
+
+    @Test
+    void testDeltaFallsBackToFullWhenChangesExceedConfiguredFeedCapacity() throws Exception {
+        OrderStorageProperties storage = new OrderStorageProperties();
+        storage.setChangeFeedCapacity(16);
+        OrderRepository configured = new OrderRepository(new HeapOrderStore(), true,
+            new StorageConfig().orderChangeFeed(storage), null, null);
+        OrderSyncService service = new OrderSyncService(mockConnector, configured, transformer);
+        String url = "http://external-api.com/orders";
+        configured.save(new Order("ORD-000", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        service.pushOrders(url, PushMode.FULL);
+
+        // 용량만큼의 변경은 증분으로 보냄
+        for (int i = 1; i <= 16; i++) {
+            configured.save(new Order(String.format("ORD-%03d", i), "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+        PushResult delta = service.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.DELTA, delta.getMode());
+        assertEquals(16, delta.getSentCount());
+
+        // 하나라도 넘으면 전체 전송
+        for (int i = 0; i <= 16; i++) {
+            configured.updateStatus(String.format("ORD-%03d", i), OrderStatus.SHIPPING, OrderRepository.ANY_VERSION);
+        }
+        PushResult overrun = service.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.FULL, overrun.getMode());
+        assertEquals(17, overrun.getSentCount());
+    }
+
+    @Test
+    void testPushWatermarkSurvivesRestart(@TempDir Path directory) throws Exception {
+        String url = "http://external-api.com/orders";
+        Path logDirectory = directory.resolve("orders");
+        OrderWriteAheadLog log = openLog(logDirectory);
+        OrderRepository persisted = new OrderRepository(new HeapOrderStore(), true, new OrderChangeFeed(), log, null);
+        OrderSyncService service = newServiceWithWatermarks(persisted, directory);
+        persisted.save(new Order("ORD-001", "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        persisted.save(new Order("ORD-002", "김영희", LocalDateTime.now(), OrderStatus.SHIPPING));
+        long watermark = service.pushOrders(url, PushMode.FULL).getWatermark();
+        log.close();
+
+        // 재시작: 피드가 로그에 이어 순번을 발급하므로 기록된 워터마크로 증분 전송을 이어 감
+        log = openLog(logDirectory);
+        persisted = new OrderRepository(new HeapOrderStore(), true, new OrderChangeFeed(), log, null);
+        service = newServiceWithWatermarks(persisted, directory);
+        assertEquals(watermark, service.getPushWatermark(url));
+        persisted.save(new Order("ORD-003", "이철수", LocalDateTime.now(), OrderStatus.PROCESSING));
+        PushResult delta = service.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.DELTA, delta.getMode());
+        assertEquals(1, delta.getSentCount());
+        assertTrue(mockConnector.getSentData().get(1).contains("ORD-003"));
+
+        // 전송하지 않은 변경이 있던 채로 재시작하면 그 변경이 피드에 없으므로 전체 전송
+        persisted.save(new Order("ORD-004", "박민수", LocalDateTime.now(), OrderStatus.PROCESSING));
+        log.close();
+        log = openLog(logDirectory);
+        persisted = new OrderRepository(new HeapOrderStore(), true, new OrderChangeFeed(), log, null);
+        service = newServiceWithWatermarks(persisted, directory);
+        assertNull(service.getPushWatermark(url));
+        PushResult full = service.pushOrders(url, PushMode.DELTA);
+        assertEquals(PushMode.FULL, full.getMode());
+        assertEquals(4, full.getSentCount());
+        log.close();
+    }
+
+    private OrderSyncService newServiceWithWatermarks(OrderRepository repository, Path directory) throws Exception {
+        return new OrderSyncService(mockConnector, repository, transformer, new OrderSyncProperties(),
+            Runnable::run, null, new PushWatermarkStore(directory.resolve("sync")));
+    }
+
+    private static OrderWriteAheadLog openLog(Path directory) throws Exception {
+        return new OrderWriteAheadLog(directory, 1024 * 1024, 64 * 1024, Duration.ofMillis(5),
+            OrderWriteAheadLog.Durability.SYNC);
+    }
+
+    @Test
+    void testPushSendsBatchesAndRetriesOnlyFailedOnes() throws Exception {
+        OrderSyncProperties properties = new OrderSyncProperties();
+        properties.getPush().setBatchSize(10);
+        properties.getPush().setConcurrency(3);
+        properties.getPush().setRetryBackoff(Duration.ZERO);
+        OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer, properties);
+        for (int i = 0; i < 95; i++) {
+            repository.save(new Order(String.format("ORD-%03d", i), "홍길동",
+                LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+
+        mockConnector.rejectNextSends(2);
+        PushResult result = service.pushOrders("http://external-api.com/orders", PushMode.FULL);
+
+        assertTrue(result.isSuccess());
+        assertEquals(95, result.getSentCount());
+        assertEquals(10, result.getBatches().size());
+        assertEquals(12, result.getBatches().stream().mapToInt(PushBatchResult::getAttempts).sum());
+        assertEquals(10, mockConnector.getSentData().size());
+        for (int i = 0; i < 95; i++) {
+            String orderId = String.format("ORD-%03d", i);
+            assertEquals(1, mockConnector.getSentData().stream().filter(data -> data.contains(orderId)).count());
+        }
+    }
+
+    @Test
+    void testPushReportsBatchesThatKeepFailing() throws Exception {
+        OrderSyncProperties properties = new OrderSyncProperties();
+        properties.getPush().setBatchSize(2);
+        properties.getPush().setMaxRetries(1);
+        properties.getPush().setRetryBackoff(Duration.ZERO);
+        OrderSyncService service = new OrderSyncService(mockConnector, repository, transformer, properties);
+        for (int i = 0; i < 5; i++) {
+            repository.save(new Order("ORD-" + i, "홍길동", LocalDateTime.now(), OrderStatus.PROCESSING));
+        }
+
+        mockConnector.setSendResult(false);
+        PushResult result = service.pushOrders("http://external-api.com/orders", PushMode.FULL);
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getSentCount());
+        assertEquals(3, result.getFailedBatchCount());
+        assertTrue(result.getBatches().stream().allMatch(batch -> batch.getAttempts() == 2));
+        assertNull(service.getPushWatermark("http://external-api.com/orders"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.orderSystem.service;
+
+import com.orderSystem.connector.MockPagedDataConnector;
+import com.orderSystem.connector.PagedSource;
+import com.orderSystem.connector.Pagination;
+import com.orderSystem.exception.DataConnectorException;
+import com.orderSystem.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagedOrderPullerTest {
+
+    private MockPagedDataConnector connector;
+    private OrderRepository repository;
+    private PagedOrderPuller puller;
+
+    @BeforeEach
+    void setUp() {
+        connector = new MockPagedDataConnector(25);
+        repository = new OrderRepository();
+        puller = new PagedOrderPuller(connector, new DataTransformService(), repository, Runnable::run);
+    }
+
+    @Test
+    void testPullAllPaginationModes() {
+        for (Pagination pagination : Pagination.values()) {
+            repository.clear();
+            PagedOrderPuller.Run run = puller.pull(
+                new PagedSource(pagination, "http://partner/orders", 10), PagedSource.Position.FIRST, 2).join();
+
+            assertNull(run.getFailure(), pagination.name());
+            assertNull(run.getNext());
+            assertEquals(3, run.getPageCount(), pagination.name());
+            assertEquals(25, run.getOrderCount());
+            assertTrue(run.getBytes() > 0);
+            assertEquals(25, repository.count());
+        }
+    }
+
+    @Test
+    void testUpcomingPagesAreRequestedBeforeCurrentPageIsProcessed() {
+        connector.setDeferResponses(true);
+        CompletableFuture<PagedOrderPuller.Run> pending = puller.pull(
+            new PagedSource(Pagination.OFFSET, "http://partner/orders", 10), PagedSource.Position.FIRST, 2);
+
+        assertEquals(List.of("http://partner/orders?offset=0&limit=10", "http://partner/orders?offset=10&limit=10"),
+            connector.getRequestedUrls());
+
+        connector.complete("offset=0&");
+        assertEquals(10, repository.count());
+        assertEquals(3, connector.getRequestedUrls().size());
+
+        connector.complete("offset=10&");
+        connector.complete("offset=20&");
+        PagedOrderPuller.Run run = pending.join();
+        assertNull(run.getFailure());
+        assertEquals(25, repository.count());
+    }
+
+    @Test
+    void testFailureReportsResumePosition() {
+        connector.failOnce("cursor=c20");
+        PagedSource source = new PagedSource(Pagination.CURSOR, "http://partner/orders", 10);
+
+        PagedOrderPuller.Run failed = puller.pull(source, PagedSource.Position.FIRST, 2).join();
+
+        assertInstanceOf(DataConnectorException.class, failed.getFailure());
+        assertEquals(2, failed.getPageCount());
+        assertEquals(new PagedSource.Position(2, "c20"), failed.getNext());
+
+        PagedOrderPuller.Run resumed = puller.pull(source, failed.getNext(), 2).join();
+        assertNull(resumed.getFailure());
+        assertEquals(1, resumed.getPageCount());
+        assertEquals(25, repository.count());
+    }
+}
@@ -0,0 +1,101 @@
+package com.orderSystem.service;
+
+import com.orderSystem.connector.MockPagedDataConnector;
+import com.orderSystem.repository.OrderRepository;
+import com.orderSystem.repository.SyncWatermarkStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduledSyncServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T09:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final OrderRepository repository = new OrderRepository();
+    private final DataTransformService transformer = new DataTransformService();
+
+    @Test
+    void testIncrementalPullsSendPersistedWatermark() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(3);
+        ScheduledSyncService.Source source = source(Duration.ofMinutes(5), Duration.ofHours(1));
+
+        try (ScheduledSyncService scheduler = scheduler(connector, new SyncWatermarkStore(directory), source)) {
+            scheduler.runOnce("partner");
+        }
+        assertEquals(3, repository.count());
+        assertEquals("http://partner.example.com/orders?offset=0&limit=10", connector.getRequestedUrls().get(0));
+
+        // 재시작해도 워터마크를 이어 받아 전체를 다시 가져오지 않습니다.
+        SyncWatermarkStore reloaded = new SyncWatermarkStore(directory);
+        assertEquals(NOW, reloaded.get("partner"));
+        try (ScheduledSyncService scheduler = scheduler(connector, reloaded, source)) {
+            scheduler.runOnce("partner");
+        }
+        assertEquals("http://partner.example.com/orders?offset=0&limit=10&since=2024-03-01T08%3A59%3A55Z",
+            connector.getRequestedUrls().get(1));
+    }
+
+    @Test
+    void testFailedPullKeepsWatermark() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(3);
+        connector.failOnce("offset=0");
+        SyncWatermarkStore watermarks = new SyncWatermarkStore(directory);
+
+        try (ScheduledSyncService scheduler = scheduler(connector, watermarks,
+            source(Duration.ofMinutes(5), Duration.ofHours(1)))) {
+            long delay = scheduler.runOnce("partner");
+            assertEquals(Duration.ofMinutes(10).toMillis(), delay);
+            assertNull(watermarks.get("partner"));
+            assertEquals(0, repository.count());
+        }
+    }
+
+    @Test
+    void testEmptyResultsBackOffUntilDataArrives() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(0);
+        try (ScheduledSyncService scheduler = scheduler(connector, new SyncWatermarkStore(directory),
+            source(Duration.ofMinutes(1), Duration.ofMinutes(5)))) {
+            assertEquals(Duration.ofMinutes(2).toMillis(), scheduler.runOnce("partner"));
+            assertEquals(Duration.ofMinutes(4).toMillis(), scheduler.runOnce("partner"));
+            assertEquals(Duration.ofMinutes(5).toMillis(), scheduler.runOnce("partner"));
+            assertEquals(3, scheduler.getEmptyStreak("partner"));
+        }
+
+        ScheduledSyncService.Source source = source(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        assertEquals(Duration.ofMinutes(1).toMillis(), ScheduledSyncService.backoffMillis(source, 0));
+        assertEquals(Duration.ofMinutes(5).toMillis(), ScheduledSyncService.backoffMillis(source, 100));
+    }
+
+    @Test
+    void testRejectsDuplicateSourceNames() throws Exception {
+        SyncWatermarkStore watermarks = new SyncWatermarkStore(directory);
+        ScheduledSyncService.Source source = source(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduler(new MockPagedDataConnector(0), watermarks, source, source));
+        assertThrows(IllegalArgumentException.class, () -> new ScheduledSyncService.Source("partner",
+            "http://partner.example.com/orders", Duration.ZERO, 0, "since", Duration.ZERO, Duration.ZERO));
+    }
+
+    private ScheduledSyncService scheduler(MockPagedDataConnector connector, SyncWatermarkStore watermarks,
+        ScheduledSyncService.Source... sources) {
+        OrderSyncService syncService = new OrderSyncService(connector, repository, transformer);
+        return new ScheduledSyncService(syncService, watermarks, List.of(sources), 1,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static ScheduledSyncService.Source source(Duration interval, Duration maxBackoff) {
+        return new ScheduledSyncService.Source("partner", "http://partner.example.com/orders?offset=0&limit=10",
+            interval, 0, "since", Duration.ofSeconds(5), maxBackoff);
+    }
+}
@@ -0,0 +1,174 @@
+package com.orderSystem.service;
+
+import com.orderSystem.config.OrderSyncProperties;
+import com.orderSystem.connector.DataConnectorInterface;
+import com.orderSystem.connector.MockHttpDataConnector;
+import com.orderSystem.connector.MockPagedDataConnector;
+import com.orderSystem.domain.Order;
+import com.orderSystem.domain.OrderStatus;
+import com.orderSystem.dto.PushResult;
+import com.orderSystem.dto.SourceSyncResult;
+import com.orderSystem.dto.SyncJobStatus;
+import com.orderSystem.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncJobServiceTest {
+
+    private static final String PULL_URL = "http://external-api.com/orders?offset=0&limit=10";
+
+    private final OrderRepository repository = new OrderRepository();
+    private final DataTransformService transformer = new DataTransformService();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(4), new ThreadPoolExecutor.AbortPolicy());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPullJobReportsProgressAndResult() throws Exception {
+        SyncJobService jobs = jobService(new MockPagedDataConnector(10));
+
+        SyncJobService.Submission submission = jobs.submitPull(PULL_URL);
+        assertTrue(submission.created());
+        SyncJobStatus status = awaitFinished(jobs, submission.job().getId());
+
+        assertEquals(SyncJob.State.SUCCEEDED, status.getState());
+        assertEquals(10, status.getOrdersParsed());
+        assertEquals(10, status.getOrdersStored());
+        assertTrue(status.getBytes() > 0);
+        assertEquals(10, ((SourceSyncResult) status.getResult()).getOrderCount());
+        assertEquals(10, repository.count());
+        assertTrue(status.getMessage().startsWith("외부 시스템에서 10개의 주문을 저장했습니다."));
+    }
+
+    @Test
+    void testPullJobMessageCountsOnlyStoredOrders() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(10);
+        new OrderSyncService(connector, repository, transformer).syncOrdersFromExternal(PULL_URL);
+        SyncJobService jobs = jobService(connector);
+
+        SyncJobStatus status = awaitFinished(jobs, jobs.submitPull(PULL_URL).job().getId());
+
+        assertEquals(SyncJob.State.SUCCEEDED, status.getState());
+        assertEquals(10, ((SourceSyncResult) status.getResult()).getUnchangedCount());
+        assertEquals("외부 시스템에서 0개의 주문을 저장했습니다. (신규 0, 변경 0, 받은 10개 중 동일 10)",
+            status.getMessage());
+    }
+
+    @Test
+    void testPushJobReportsSentOrders() throws Exception {
+        repository.save(new Order("ORD-001", "홍길동", LocalDateTime.of(2024, 1, 15, 10, 30), OrderStatus.PROCESSING));
+        repository.save(new Order("ORD-002", "김영희", LocalDateTime.of(2024, 1, 16, 14, 30), OrderStatus.SHIPPING));
+        SyncJobService jobs = jobService(new MockHttpDataConnector());
+
+        SyncJobService.Submission submission = jobs.submitPush("http://external-api.com/receive", PushMode.FULL);
+        SyncJobStatus status = awaitFinished(jobs, submission.job().getId());
+
+        assertEquals(SyncJob.State.SUCCEEDED, status.getState());
+        assertEquals(PushMode.FULL, status.getMode());
+        assertEquals(2, status.getOrdersParsed());
+        assertEquals(2, status.getOrdersStored());
+        assertTrue(status.getBytes() > 0);
+        assertTrue(((PushResult) status.getResult()).isSuccess());
+    }
+
+    @Test
+    void testCancelWhileWaitingForResponse() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(10);
+        connector.setDeferResponses(true);
+        SyncJobService jobs = jobService(connector);
+
+        SyncJob job = jobs.submitPull(PULL_URL).job();
+        // 같은 URL의 가져오기는 새 작업을 만들지 않습니다.
+        SyncJobService.Submission again = jobs.submitPull(PULL_URL);
+        assertFalse(again.created());
+        assertSame(job, again.job());
+
+        awaitRequest(connector);
+        jobs.cancel(job.getId());
+        SyncJobStatus status = awaitFinished(jobs, job.getId());
+        assertEquals(SyncJob.State.CANCELLED, status.getState());
+        assertTrue(status.isCancelRequested());
+
+        // 늦게 온 응답은 저장하지 않습니다.
+        connector.complete("offset=0");
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testCancelQueuedJobRemovesItFromQueue() throws Exception {
+        MockPagedDataConnector connector = new MockPagedDataConnector(10);
+        connector.setDeferResponses(true);
+        SyncJobService jobs = jobService(connector);
+        SyncJob running = jobs.submitPull(PULL_URL).job();
+        awaitRequest(connector);
+
+        SyncJob queued = jobs.submitPush("http://external-api.com/receive", PushMode.DELTA).job();
+        assertEquals(SyncJob.State.QUEUED, queued.getState());
+        jobs.cancel(queued.getId());
+        assertEquals(SyncJob.State.CANCELLED, queued.getState());
+        assertTrue(executor.getQueue().isEmpty());
+
+        connector.complete("offset=0");
+        assertEquals(SyncJob.State.SUCCEEDED, awaitFinished(jobs, running.getId()).getState());
+        // 끝난 작업은 취소하지 않습니다.
+        assertFalse(jobs.cancel(running.getId()).toStatus().isCancelRequested());
+    }
+
+    @Test
+    void testFinishedJobsBeyondRetainedLimitAreForgotten() throws Exception {
+        OrderSyncService syncService = new OrderSyncService(new MockPagedDataConnector(1), repository, transformer);
+        SyncJobService jobs = new SyncJobService(syncService, executor, 1);
+
+        String first = jobs.submitPull("http://a.example.com/orders?offset=0&limit=1").job().getId();
+        awaitFinished(jobs, first);
+        String second = jobs.submitPull("http://b.example.com/orders?offset=0&limit=1").job().getId();
+        awaitFinished(jobs, second);
+
+        awaitTrue(() -> jobs.get(first) == null);
+        assertNotNull(jobs.get(second));
+    }
+
+    private SyncJobService jobService(DataConnectorInterface connector) {
+        OrderSyncService syncService = new OrderSyncService(connector, repository, transformer,
+            new OrderSyncProperties());
+        return new SyncJobService(syncService, executor, 10);
+    }
+
+    private static SyncJobStatus awaitFinished(SyncJobService jobs, String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            SyncJobStatus status = jobs.get(id).toStatus();
+            if (status.getState().isFinished()) {
+                return status;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + id);
+    }
+
+    private static void awaitRequest(MockPagedDataConnector connector) throws InterruptedException {
+        awaitTrue(() -> !connector.getRequestedUrls().isEmpty());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 충족되지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.orderSystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayScannerTest {
+
+    @Test
+    void testSplitsElementsIgnoringBracketsInsideStrings() throws IOException {
+        String json = " [ {\"orderId\":\"A,]}\",\"note\":\"say \\\"hi\\\" \\\\\"}, {\"items\":[1,[2,3]]} ,\"x\", 42 ,null]";
+
+        List<String> elements = elements(new JsonArrayScanner(trickle(json), 1_000_000));
+
+        assertEquals(List.of("{\"orderId\":\"A,]}\",\"note\":\"say \\\"hi\\\" \\\\\"}", "{\"items\":[1,[2,3]]} ",
+            "\"x\"", "42 ", "null"), elements);
+    }
+
+    @Test
+    void testCutsChunksAtElementBoundaries() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"orderId\":\"ORD-").append(i).append("\"}");
+        }
+        JsonArrayScanner scanner = new JsonArrayScanner(trickle(json.append(']').toString()), 64);
+
+        List<JsonArrayScanner.Chunk> chunks = new ArrayList<>();
+        JsonArrayScanner.Chunk chunk;
+        while ((chunk = scanner.next()) != null) {
+            chunks.add(chunk);
+        }
+        assertTrue(chunks.size() > 10);
+        long next = 0;
+        for (JsonArrayScanner.Chunk c : chunks) {
+            assertEquals(next, c.firstElement());
+            String text = new String(c.bytes(), 0, c.length(), StandardCharsets.UTF_8);
+            assertEquals(c.elementCount(), text.split("\n").length);
+            assertTrue(text.startsWith("{\"orderId\":\"ORD-" + next + "\"}"));
+            next += c.elementCount();
+        }
+        assertEquals(100, next);
+        assertNull(scanner.next());
+    }
+
+    @Test
+    void testRejectsMalformedArrays() {
+        assertThrows(IOException.class, () -> elements(scanner("[1,,2]")));
+        assertThrows(IOException.class, () -> elements(scanner("[1,2,]")));
+        assertThrows(IOException.class, () -> elements(scanner("[{\"a\":1}")));
+        assertThrows(IOException.class, () -> elements(scanner("{\"a\":1}")));
+    }
+
+    @Test
+    void testStartsWithArrayLeavesStreamUntouched() throws IOException {
+        InputStream array = new BufferedInputStream(new ByteArrayInputStream(" \n[]".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(JsonArrayScanner.startsWithArray(array));
+        assertEquals(' ', array.read());
+
+        assertFalse(JsonArrayScanner.startsWithArray(
+            new BufferedInputStream(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)))));
+        assertFalse(JsonArrayScanner.startsWithArray(new BufferedInputStream(new ByteArrayInputStream(new byte[0]))));
+        assertTrue(elements(scanner(" [ ] ")).isEmpty());
+    }
+
+    private static JsonArrayScanner scanner(String json) {
+        return new JsonArrayScanner(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), 1024);
+    }
+
+    private static List<String> elements(JsonArrayScanner scanner) throws IOException {
+        List<String> elements = new ArrayList<>();
+        JsonArrayScanner.Chunk chunk;
+        while ((chunk = scanner.next()) != null) {
+            String text = new String(chunk.bytes(), 0, chunk.length(), StandardCharsets.UTF_8);
+            for (String element : text.split("\n")) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * 요소가 읽기 경계에 걸치도록 3바이트씩만 돌려주는 스트림입니다.
+     */
+    private static InputStream trickle(String json) {
+        return new FilterInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 3));
+            }
+        };
+    }
+}
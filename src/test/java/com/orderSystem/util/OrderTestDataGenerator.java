@@ -16,8 +16,46 @@ public class OrderTestDataGenerator {
     };
 
     private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
     private static final Random random = new Random();
 
+    /**
+     * index번째 고정 주문을 생성합니다. 같은 index는 항상 같은 주문이 되므로 벤치마크 간 결과를 비교할 수 있습니다.
+     * ID는 {@code ORD-%08d}, 주문일시는 2024-01-01부터 index초 뒤이고, 고객명과 상태는 차례로 돌아갑니다.
+     *
+     * @param index 주문 순번 (0부터)
+     * @return 생성된 주문
+     */
+    public static Order sequentialOrder(int index) {
+        return sequentialOrder(index, CUSTOMER_NAMES[index % CUSTOMER_NAMES.length]);
+    }
+
+    /**
+     * {@link #sequentialOrder(int)}와 같지만 고객명을 직접 정합니다.
+     *
+     * @param index        주문 순번 (0부터)
+     * @param customerName 고객명
+     * @return 생성된 주문
+     */
+    public static Order sequentialOrder(int index, String customerName) {
+        return new Order(String.format("ORD-%08d", index), customerName,
+            BASE_DATE.plusSeconds(index), ORDER_STATUSES[index % ORDER_STATUSES.length]);
+    }
+
+    /**
+     * 0번부터 count개의 고정 주문({@link #sequentialOrder(int)})을 생성합니다.
+     *
+     * @param count 생성할 주문 개수
+     * @return 생성된 주문 리스트
+     */
+    public static List<Order> generateSequentialOrders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(sequentialOrder(i));
+        }
+        return orders;
+    }
+
     /**
      * 지정된 개수의 랜덤 주문을 생성합니다.
      *
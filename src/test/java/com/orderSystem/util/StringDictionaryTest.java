@@ -0,0 +1,66 @@
+package com.orderSystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringDictionaryTest {
+
+    @Test
+    void testEncodeAndDecode() {
+        StringDictionary dictionary = new StringDictionary();
+
+        int code = dictionary.encode("홍길동");
+        assertEquals(code, dictionary.encode(new String("홍길동")));
+        assertNotEquals(code, dictionary.encode("김영희"));
+        assertEquals("홍길동", dictionary.decode(code));
+        assertEquals(2, dictionary.size());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.decode(2));
+    }
+
+    @Test
+    void testCanonicalizeStopsRegisteringWhenFull() {
+        StringDictionary dictionary = new StringDictionary(1);
+        String first = dictionary.canonicalize(new String("홍길동"));
+
+        assertSame(first, dictionary.canonicalize(new String("홍길동")));
+        String other = new String("김영희");
+        assertSame(other, dictionary.canonicalize(other));
+        assertEquals(StringDictionary.NOT_FOUND, dictionary.tryEncode("김영희"));
+        assertEquals(1, dictionary.size());
+
+        StringDictionary.Stats stats = dictionary.getStats();
+        assertEquals(4, stats.lookups());
+        assertEquals(1, stats.hits());
+        assertEquals(0.25, stats.hitRatio());
+        assertTrue(stats.savedBytes() > 0);
+    }
+
+    @Test
+    void testConcurrentEncodeAssignsOneCodePerValue() throws InterruptedException {
+        StringDictionary dictionary = new StringDictionary();
+        Set<String> mismatches = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String value = "고객-" + (i % 1_000);
+                    if (!value.equals(dictionary.decode(dictionary.encode(value)))) {
+                        mismatches.add(value);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(mismatches.isEmpty());
+        assertEquals(1_000, dictionary.size());
+    }
+}